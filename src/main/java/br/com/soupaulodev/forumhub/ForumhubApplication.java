@@ -2,6 +2,7 @@ package br.com.soupaulodev.forumhub;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The main class for the ForumHub application.
@@ -13,6 +14,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @SpringBootApplication
+@EnableScheduling
 public class ForumhubApplication {
 
 	public static void main(String[] args) {
@@ -2,11 +2,74 @@ package br.com.soupaulodev.forumhub.config;
 
 import de.huxhorn.sulky.ulid.ULID;
 
+import java.time.Instant;
+
 public class UlidGenerator {
 
     private static final ULID ulid = new ULID();
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int TIMESTAMP_LENGTH = 10;
+    private static final int LENGTH = 26;
+    private static final long MAX_TIMESTAMP = (1L << 48) - 1;
 
     public static String generate() {
         return ulid.nextULID();
     }
+
+    /**
+     * Generates a ULID whose timestamp is the given instant, e.g. to key a row created at an earlier time.
+     *
+     * @param instant the instant, truncated to milliseconds
+     * @return a new ULID of the instant
+     */
+    public static String generate(Instant instant) {
+        return ulid.nextULID(instant.toEpochMilli());
+    }
+
+    /**
+     * Returns the smallest ULID with the given timestamp.
+     * <p>
+     * Every ULID generated at or after the instant compares greater than or equal to it, and every ULID generated
+     * before compares smaller, so it can bound range scans over ULID keys.
+     * </p>
+     *
+     * @param instant the instant, truncated to milliseconds
+     * @return the smallest ULID of the instant
+     * @throws IllegalArgumentException if the instant is before the epoch or beyond the ULID range
+     */
+    public static String lowerBound(Instant instant) {
+        long timestamp = instant.toEpochMilli();
+        if (timestamp < 0 || timestamp > MAX_TIMESTAMP) {
+            throw new IllegalArgumentException("Instant out of ULID range: " + instant);
+        }
+
+        char[] chars = new char[LENGTH];
+        for (int i = TIMESTAMP_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ENCODING[(int) (timestamp & 31)];
+            timestamp >>>= 5;
+        }
+        for (int i = TIMESTAMP_LENGTH; i < LENGTH; i++) {
+            chars[i] = ENCODING[0];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Checks whether the value is a well-formed ULID.
+     *
+     * @param value the value to check
+     * @return true if the value is a 26 character Crockford base32 ULID
+     */
+    public static boolean isValid(String value) {
+        if (value == null || value.length() != LENGTH || value.charAt(0) > '7') {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'A' && c <= 'Z') || c == 'I' || c == 'L' || c == 'O' || c == 'U') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,10 +1,17 @@
 package br.com.soupaulodev.forumhub.filters;
 
-import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import br.com.soupaulodev.forumhub.filters.ratelimit.DistributedRateLimiter;
+import br.com.soupaulodev.forumhub.filters.ratelimit.GcraRateLimiter;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RateLimitProperties;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RateLimiter;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RoutePolicyMatcher;
+import br.com.soupaulodev.forumhub.security.utils.TokenVerificationService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
  * Filter Configurations.
@@ -14,19 +21,26 @@ import org.springframework.data.redis.core.StringRedisTemplate;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class FilterConfig {
 
-    private final JwtUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;
+    private final TokenVerificationService tokenVerificationService;
 
-    public FilterConfig(JwtUtil jwtUtil, StringRedisTemplate redisTemplate) {
-        this.jwtUtil = jwtUtil;
-        this.redisTemplate = redisTemplate;
+    public FilterConfig(TokenVerificationService tokenVerificationService) {
+        this.tokenVerificationService = tokenVerificationService;
     }
 
     @Bean
-    public RateLimitFilter rateLimitFilter() {
-        return new RateLimitFilter(jwtUtil, redisTemplate);
+    public RateLimitFilter rateLimitFilter(GcraRateLimiter localRateLimiter,
+                                           ObjectProvider<DistributedRateLimiter> distributedRateLimiter,
+                                           RateLimitProperties rateLimitProperties,
+                                           @Value("${rate-limit.ip-limit:10}") int ipRateLimit) {
+        RateLimiter rateLimiter = distributedRateLimiter.getIfAvailable();
+        if (rateLimiter == null) {
+            rateLimiter = localRateLimiter;
+        }
+        return new RateLimitFilter(tokenVerificationService, rateLimiter, RoutePolicyMatcher.compile(rateLimitProperties),
+                ipRateLimit);
     }
 
     @Bean
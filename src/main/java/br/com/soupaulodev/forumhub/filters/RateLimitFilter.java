@@ -1,19 +1,16 @@
 package br.com.soupaulodev.forumhub.filters;
 
-import br.com.soupaulodev.forumhub.modules.exception.usecase.RateLimitExceededException;
-import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import br.com.soupaulodev.forumhub.filters.ratelimit.GcraLimit;
+import br.com.soupaulodev.forumhub.filters.ratelimit.GcraRateLimiter;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RateLimiter;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RoutePolicy;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RoutePolicyMatcher;
+import br.com.soupaulodev.forumhub.security.utils.TokenVerificationService;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -22,30 +19,36 @@ import java.util.Optional;
 
 /**
  * Rate Limit Filter.
+ * <p>
+ * Limits the requests of each client address, then charges each request to the bucket of its route, per user
+ * when authenticated and per address otherwise, with a {@link RateLimiter}: the per-node {@link GcraRateLimiter},
+ * or the cluster-wide one when distributed rate limiting is enabled.
+ * </p>
+ * <p>
+ * Rejected requests are answered here with {@link RejectedResponses}, without reaching the controllers. Requests
+ * carrying an expired, revoked or otherwise invalid token are charged as anonymous ones rather than rejected, as the
+ * {@link br.com.soupaulodev.forumhub.security.filters.JwtAuthenticationFilter} does, so the client can still log in
+ * or refresh its session and the security chain alone decides on authentication.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
-@Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;
+    private static final String IP_SCOPE = "ip";
 
-    @Value("${rate-limit.ip-limit}")
-    private int ipRateLimit;
-    @Value("${rate-limit.user-limit}")
-    private int userRateLimit;
+    private final TokenVerificationService tokenVerificationService;
+    private final RateLimiter rateLimiter;
+    private final RoutePolicyMatcher routePolicies;
+    private final GcraLimit ipLimit;
     private final Duration refillDuration = Duration.ofMinutes(1);
 
-    public RateLimitFilter(JwtUtil jwtUtil, StringRedisTemplate redisTemplate) {
-        this.jwtUtil = jwtUtil;
-        this.redisTemplate = redisTemplate;
-        validateRateLimits();
-    }
-
-    private void validateRateLimits() {
-        if (ipRateLimit <= 0) { ipRateLimit = 10; }
-        if (userRateLimit <= 0) { userRateLimit = 10; }
+    public RateLimitFilter(TokenVerificationService tokenVerificationService, RateLimiter rateLimiter,
+                           RoutePolicyMatcher routePolicies, int ipRateLimit) {
+        this.tokenVerificationService = tokenVerificationService;
+        this.rateLimiter = rateLimiter;
+        this.routePolicies = routePolicies;
+        this.ipLimit = GcraLimit.of(ipRateLimit > 0 ? ipRateLimit : 10, refillDuration);
     }
 
     @Override
@@ -53,54 +56,35 @@ public class RateLimitFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String clientIp = request.getRemoteAddr();
-        if (rateLimitCheck(clientIp, ipRateLimit, response)) {
+        if (rateLimitCheck(IP_SCOPE, clientIp, ipLimit, 1, response)) {
             return;
         }
 
-        Optional<String> jwtToken = extractJwtFromCookies(request);
-        if (jwtToken.isEmpty()) {
-            throw new UnauthorizedException("Unauthorized: Missing or invalid token.");
-        }
-
-        String userId;
-        try {
-            userId = jwtUtil.extractUserId(jwtToken.get());
-        } catch (Exception e) {
-            throw new UnauthorizedException("Unauthorized: Invalid token.");
-        }
-
-        if (rateLimitCheck(userId, userRateLimit, response)) {
-            return;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RoutePolicy policy = routePolicies.match(request.getMethod(), path);
+        if (policy != null) {
+            Optional<VerifiedToken> token;
+            try {
+                token = tokenVerificationService.verify(request);
+            } catch (Exception e) {
+                token = Optional.empty();
+            }
+            String key = token.map(VerifiedToken::userId).orElse(clientIp);
+            if (rateLimitCheck(policy.bucket(), key, policy.limit(), policy.cost(), response)) {
+                return;
+            }
         }
 
         chain.doFilter(request, response);
     }
 
-    protected boolean rateLimitCheck(String key, int limit, HttpServletResponse response) {
-        Bucket bucket = createOrGetBucket(key, limit);
-
-        if (bucket.tryConsume(1)) {
+    protected boolean rateLimitCheck(String scope, String key, GcraLimit limit, int cost,
+                                     HttpServletResponse response) throws IOException {
+        long retryAfterMillis = rateLimiter.tryAcquire(scope, key, limit, cost);
+        if (retryAfterMillis == 0) {
             return false;
-        } else {
-            throw new RateLimitExceededException();
-        }
-    }
-
-    protected Bucket createOrGetBucket(String key, int capacity) {
-        Bandwidth limit = Bandwidth.classic(capacity, Refill.greedy(capacity, refillDuration));
-
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
-    }
-
-    private Optional<String> extractJwtFromCookies(HttpServletRequest request) {
-        if (request.getCookies() == null) return Optional.empty();
-        for (Cookie cookie : request.getCookies()) {
-            if ("Authorization".equals(cookie.getName())) {
-                return Optional.of(cookie.getValue());
-            }
         }
-        return Optional.empty();
+        RejectedResponses.tooManyRequests(response, limit, retryAfterMillis);
+        return true;
     }
 }
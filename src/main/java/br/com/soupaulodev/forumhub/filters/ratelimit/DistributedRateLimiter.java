@@ -0,0 +1,211 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cluster-wide rate limiter spending tokens leased in small batches from a shared {@link TokenStore}.
+ * <p>
+ * Instead of one store round trip per request, each node takes up to the lease size of tokens for a key and
+ * spends them locally until they run out or the lease expires. Tokens left in an expired lease are given back, so
+ * an idle node does not hold on to capacity other nodes could use. Once the store rejects a key, the node keeps
+ * rejecting it locally until the next token is due.
+ * </p>
+ * <p>
+ * While the store is unreachable, leased tokens are still spent, and the remaining requests are handled according
+ * to the {@link RateLimitFailurePolicy}. After a failure the store is left alone for the backoff window, so requests
+ * do not each wait out its timeout; a single request then probes it again.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.distributed.enabled", havingValue = "true")
+public class DistributedRateLimiter implements RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DistributedRateLimiter.class);
+    private static final long STORE_SKIPPED = -1;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final TokenStore tokenStore;
+    private final RateLimiter fallback;
+    private final RateLimitFailurePolicy failurePolicy;
+    private final int leaseSize;
+    private final long leaseTtlMillis;
+    private final long storeBackoffMillis;
+    private final LongSupplier clock;
+    private final AtomicLong retryStoreAt = new AtomicLong();
+    private volatile boolean storeUnavailable;
+
+    @Autowired
+    public DistributedRateLimiter(TokenStore tokenStore,
+                                  GcraRateLimiter fallback,
+                                  @Value("${rate-limit.distributed.failure-policy:OPEN}") RateLimitFailurePolicy failurePolicy,
+                                  @Value("${rate-limit.distributed.lease-size:5}") int leaseSize,
+                                  @Value("${rate-limit.distributed.lease-ttl-ms:1000}") long leaseTtlMillis,
+                                  @Value("${rate-limit.distributed.store-backoff-ms:5000}") long storeBackoffMillis) {
+        this(tokenStore, fallback, failurePolicy, leaseSize, leaseTtlMillis, storeBackoffMillis,
+                System::currentTimeMillis);
+    }
+
+    DistributedRateLimiter(TokenStore tokenStore, RateLimiter fallback, RateLimitFailurePolicy failurePolicy,
+                           int leaseSize, long leaseTtlMillis, long storeBackoffMillis, LongSupplier clock) {
+        if (leaseSize <= 0 || leaseTtlMillis <= 0) {
+            throw new IllegalArgumentException("Rate limit lease size and ttl must be positive");
+        }
+        if (storeBackoffMillis < 0) {
+            throw new IllegalArgumentException("Rate limit store backoff must not be negative");
+        }
+        this.tokenStore = tokenStore;
+        this.fallback = fallback;
+        this.failurePolicy = failurePolicy;
+        this.leaseSize = leaseSize;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.storeBackoffMillis = storeBackoffMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(CharSequence scope, CharSequence key, GcraLimit limit, int cost) {
+        String bucket = scope + ":" + key;
+        while (true) {
+            Lease lease = leases.computeIfAbsent(bucket, b -> new Lease());
+            synchronized (lease) {
+                if (lease.retired) {
+                    continue;
+                }
+                try {
+                    long retryAfter = acquire(bucket, lease, limit, cost);
+                    if (retryAfter != STORE_SKIPPED) {
+                        return retryAfter;
+                    }
+                } catch (DataAccessException e) {
+                    storeFailed(e);
+                }
+                return storeUnavailable(scope, key, limit, cost);
+            }
+        }
+    }
+
+    /**
+     * Gives back the tokens of expired leases and forgets the keys without activity.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.distributed.lease-ttl-ms:1000}")
+    public void releaseExpired() {
+        long now = clock.getAsLong();
+        if (retryStoreAt.get() > now) {
+            return;
+        }
+        leases.forEach((bucket, lease) -> {
+            synchronized (lease) {
+                if (lease.expiresAt > now || lease.blockedUntil > now) {
+                    return;
+                }
+                leases.remove(bucket, lease);
+                lease.retired = true;
+                try {
+                    giveBack(bucket, lease);
+                } catch (DataAccessException e) {
+                    logger.debug("Cannot give back rate limit tokens of {}: {}", bucket, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private long acquire(String bucket, Lease lease, GcraLimit limit, int cost) {
+        long now = clock.getAsLong();
+        boolean storeBackingOff = retryStoreAt.get() > now;
+        if (lease.expiresAt <= now && !storeBackingOff) {
+            giveBack(bucket, lease);
+        }
+        if (lease.remaining >= cost) {
+            lease.remaining -= cost;
+            return 0;
+        }
+        if (lease.blockedUntil > now) {
+            return lease.blockedUntil - now;
+        }
+        if (storeBackingOff || !mayProbeStore(now)) {
+            return STORE_SKIPPED;
+        }
+
+        int requested = Math.max(cost, Math.min(leaseSize, limit.burst())) - lease.remaining;
+        TokenGrant grant = tokenStore.lease(bucket, limit, requested);
+        storeReachable();
+
+        if (grant.granted() > 0) {
+            lease.remaining += grant.granted();
+            lease.limit = limit;
+            lease.expiresAt = now + leaseTtlMillis;
+        }
+        if (lease.remaining >= cost) {
+            lease.remaining -= cost;
+            return 0;
+        }
+
+        long retryAfter = Math.max(1, grant.retryAfterMillis())
+                + (cost - lease.remaining - 1) * limit.emissionIntervalMillis();
+        lease.blockedUntil = now + retryAfter;
+        return retryAfter;
+    }
+
+    private void giveBack(String bucket, Lease lease) {
+        int unused = lease.remaining;
+        if (unused > 0) {
+            lease.remaining = 0;
+            tokenStore.release(bucket, lease.limit, unused);
+        }
+    }
+
+    /**
+     * Lets a single caller probe the store once its backoff window is over, pushing the window forward for the
+     * others until the probe succeeds.
+     */
+    private boolean mayProbeStore(long now) {
+        long retryAt = retryStoreAt.get();
+        return retryAt == 0 || retryStoreAt.compareAndSet(retryAt, now + storeBackoffMillis);
+    }
+
+    private void storeFailed(DataAccessException failure) {
+        retryStoreAt.set(clock.getAsLong() + storeBackoffMillis);
+        if (!storeUnavailable) {
+            storeUnavailable = true;
+            logger.warn("Rate limit store unavailable, failing {} for {} ms before retrying: {}",
+                    failurePolicy, storeBackoffMillis, failure.getMessage());
+        }
+    }
+
+    private long storeUnavailable(CharSequence scope, CharSequence key, GcraLimit limit, int cost) {
+        if (failurePolicy == RateLimitFailurePolicy.OPEN) {
+            return fallback.tryAcquire(scope, key, limit, cost);
+        }
+        return limit.emissionIntervalMillis() * cost;
+    }
+
+    private void storeReachable() {
+        retryStoreAt.set(0);
+        if (storeUnavailable) {
+            storeUnavailable = false;
+            logger.info("Rate limit store reachable again");
+        }
+    }
+
+    private static final class Lease {
+        private int remaining;
+        private long expiresAt;
+        private long blockedUntil;
+        private GcraLimit limit;
+        private boolean retired;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Parameters of a limit enforced by the {@link GcraRateLimiter}.
+ * <p>
+ * A limit of {@code n} requests per period admits one request every emission interval on average, plus bursts of
+ * up to {@code burst} requests when the key has been idle.
+ * </p>
+ *
+ * @param emissionIntervalMillis the time a request of cost 1 adds to the key, in milliseconds
+ * @param burst                  the number of requests of cost 1 admitted at once by an idle key
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record GcraLimit(long emissionIntervalMillis, int burst) {
+
+    public GcraLimit {
+        if (emissionIntervalMillis <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate limit interval and burst must be positive");
+        }
+    }
+
+    /**
+     * Creates a limit of a number of requests per period, all of which may be spent at once.
+     *
+     * @param limit  the number of requests per period
+     * @param period the period
+     * @return the limit
+     */
+    public static GcraLimit of(int limit, Duration period) {
+        return of(limit, period, limit);
+    }
+
+    /**
+     * Creates a limit of a number of requests per period, with a burst of a different size.
+     *
+     * @param limit  the number of requests per period
+     * @param period the period
+     * @param burst  the number of requests admitted at once by an idle key
+     * @return the limit
+     */
+    public static GcraLimit of(int limit, Duration period, int burst) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Rate limit must be positive");
+        }
+        return new GcraLimit(Math.max(1, period.toMillis() / limit), burst);
+    }
+
+    /**
+     * Returns how far ahead of the current time a key may be scheduled and still be admitted.
+     *
+     * @return the burst allowance, in milliseconds
+     */
+    public long allowanceMillis() {
+        return emissionIntervalMillis * burst;
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-node rate limiter implementing the generic cell rate algorithm over a fixed-size table of primitive longs.
+ * <p>
+ * The only state kept per key is its theoretical arrival time: the instant at which the key would be back to an
+ * empty allowance. A request is admitted when adding its cost keeps that instant within the burst allowance of the
+ * current time. Each slot packs a 24-bit fingerprint of the key hash with the arrival time, in milliseconds since
+ * the limiter started, so a check is a single compare-and-set and allocates nothing.
+ * </p>
+ * <p>
+ * Keys are placed by open addressing within a short probe window. A key whose arrival time is in the past holds no
+ * state worth keeping, so its slot may be taken by another key and is cleared by the periodic eviction. When every
+ * slot of a window is in use, the key closest to idle is replaced, which keeps memory bounded at the cost of
+ * resetting that key. Distinct keys sharing a fingerprint within a window share a limit, which is rare and only
+ * ever makes the limiter stricter.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class GcraRateLimiter implements RateLimiter {
+
+    private static final int PROBE_LENGTH = 8;
+    private static final int TAT_BITS = 40;
+    private static final long TAT_MASK = (1L << TAT_BITS) - 1;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final LongSupplier clock;
+    private final long origin;
+
+    @Autowired
+    public GcraRateLimiter(@Value("${rate-limit.capacity:1048576}") int capacity) {
+        this(capacity, System::currentTimeMillis);
+    }
+
+    GcraRateLimiter(int capacity, LongSupplier clock) {
+        if (capacity < PROBE_LENGTH || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Rate limiter capacity must be a power of two of at least " + PROBE_LENGTH);
+        }
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.clock = clock;
+        this.origin = clock.getAsLong() - 1;
+    }
+
+    @Override
+    public long tryAcquire(CharSequence scope, CharSequence key, GcraLimit limit, int cost) {
+        long hash = hash(scope, key);
+        int home = (int) hash & mask;
+        long fingerprint = fingerprint(hash);
+        long increment = limit.emissionIntervalMillis() * cost;
+        long allowance = limit.allowanceMillis();
+
+        while (true) {
+            long now = now();
+            int slot = -1;
+            long word = 0;
+            long tat = now;
+            int replaceable = -1;
+            long replaceableWord = 0;
+            long replaceableTat = Long.MAX_VALUE;
+
+            for (int i = 0; i < PROBE_LENGTH; i++) {
+                int candidate = (home + i) & mask;
+                long candidateWord = slots.get(candidate);
+                if (candidateWord != 0 && (candidateWord & ~TAT_MASK) == fingerprint) {
+                    slot = candidate;
+                    word = candidateWord;
+                    tat = Math.max(candidateWord & TAT_MASK, now);
+                    break;
+                }
+                long candidateTat = candidateWord & TAT_MASK;
+                if (candidateTat < replaceableTat) {
+                    replaceable = candidate;
+                    replaceableWord = candidateWord;
+                    replaceableTat = candidateTat;
+                }
+            }
+            if (slot < 0) {
+                slot = replaceable;
+                word = replaceableWord;
+            }
+
+            long newTat = tat + increment;
+            long excess = newTat - now - allowance;
+            if (excess > 0) {
+                return excess;
+            }
+            if (slots.compareAndSet(slot, word, fingerprint | newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Clears the slots of keys back to an empty allowance, so lookups of other keys stay short.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = now();
+        for (int slot = 0; slot < slots.length(); slot++) {
+            long word = slots.get(slot);
+            if (word != 0 && (word & TAT_MASK) <= now) {
+                slots.compareAndSet(slot, word, 0);
+            }
+        }
+    }
+
+    /**
+     * Counts the slots holding a key.
+     *
+     * @return the number of keys in the table
+     */
+    int size() {
+        int size = 0;
+        for (int slot = 0; slot < slots.length(); slot++) {
+            if (slots.get(slot) != 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private long now() {
+        return clock.getAsLong() - origin;
+    }
+
+    private static long hash(CharSequence scope, CharSequence key) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < scope.length(); i++) {
+            hash = (hash ^ scope.charAt(i)) * FNV_PRIME;
+        }
+        hash = (hash ^ 0xFFFF) * FNV_PRIME;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long fingerprint(long hash) {
+        long fingerprint = hash >>> TAT_BITS;
+        return (fingerprint == 0 ? 1 : fingerprint) << TAT_BITS;
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory {@link TokenStore} applying the same rules as the scripts of {@link RedisTokenStore}.
+ * <p>
+ * It only coordinates the limiters of a single process, standing in for Redis in tests and local runs.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class LocalTokenStore implements TokenStore {
+
+    private final Map<String, Long> arrivalTimes = new HashMap<>();
+    private final LongSupplier clock;
+
+    public LocalTokenStore() {
+        this(System::currentTimeMillis);
+    }
+
+    public LocalTokenStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized TokenGrant lease(String bucket, GcraLimit limit, int requested) {
+        long now = clock.getAsLong();
+        long interval = limit.emissionIntervalMillis();
+        long tat = Math.max(arrivalTimes.getOrDefault(bucket, now), now);
+
+        int granted = (int) Math.min(requested, Math.max(0, (limit.allowanceMillis() - (tat - now)) / interval));
+        tat += granted * interval;
+        if (granted > 0) {
+            arrivalTimes.put(bucket, tat);
+        }
+        return new TokenGrant(granted, Math.max(0, tat + interval - limit.allowanceMillis() - now));
+    }
+
+    @Override
+    public synchronized void release(String bucket, GcraLimit limit, int unused) {
+        Long tat = arrivalTimes.get(bucket);
+        if (tat == null) {
+            return;
+        }
+        long released = tat - unused * limit.emissionIntervalMillis();
+        if (released <= clock.getAsLong()) {
+            arrivalTimes.remove(bucket);
+        } else {
+            arrivalTimes.put(bucket, released);
+        }
+    }
+}
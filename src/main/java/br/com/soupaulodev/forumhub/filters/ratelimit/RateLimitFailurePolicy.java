@@ -0,0 +1,19 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+/**
+ * What the {@link DistributedRateLimiter} does while its {@link TokenStore} is unreachable.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum RateLimitFailurePolicy {
+
+    /**
+     * Admits requests within the per-node limits of the {@link GcraRateLimiter}.
+     */
+    OPEN,
+
+    /**
+     * Rejects every request that cannot be paid with tokens already leased.
+     */
+    CLOSED
+}
@@ -0,0 +1,69 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-route rate limit policies, bound from the {@code rate-limit} configuration.
+ * <p>
+ * A route costing more than the burst of its bucket could never be admitted, so such a configuration fails the
+ * binding, and with it the startup.
+ * </p>
+ *
+ * @param buckets the limits by bucket name
+ * @param routes  the routes charged to each bucket, the most specific pattern winning
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(@DefaultValue Map<String, Bucket> buckets,
+                                  @DefaultValue List<Route> routes) {
+
+    public RateLimitProperties {
+        for (Route route : routes) {
+            Bucket bucket = buckets.get(route.bucket());
+            if (bucket != null && route.cost() > bucket.burstOrLimit()) {
+                throw new IllegalArgumentException("Rate limit cost " + route.cost() + " of route " + route.pattern()
+                        + " exceeds the burst " + bucket.burstOrLimit() + " of bucket '" + route.bucket() + "'");
+            }
+        }
+    }
+
+    /**
+     * A limit shared by every route charged to it.
+     *
+     * @param limit  the number of tokens per period
+     * @param period the period over which the tokens refill
+     * @param burst  the number of tokens an idle key may spend at once, the limit if not set
+     */
+    public record Bucket(int limit,
+                         @DefaultValue("1m") Duration period,
+                         Integer burst) {
+
+        GcraLimit toLimit() {
+            return GcraLimit.of(limit, period, burstOrLimit());
+        }
+
+        int burstOrLimit() {
+            return burst != null ? burst : limit;
+        }
+    }
+
+    /**
+     * Requests charged to a bucket.
+     *
+     * @param pattern the path pattern, where {@code *} or {@code {name}} match one segment and a trailing
+     *                {@code **} matches any remaining segments
+     * @param methods the HTTP methods, every method if empty
+     * @param bucket  the name of the bucket
+     * @param cost    the tokens each request spends
+     */
+    public record Route(String pattern,
+                        @DefaultValue List<String> methods,
+                        String bucket,
+                        @DefaultValue("1") int cost) {
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+/**
+ * Admits or rejects requests against a {@link GcraLimit} per key.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public interface RateLimiter {
+
+    /**
+     * Admits or rejects a request of a key.
+     *
+     * @param scope the scope of the limit, keeping keys of different limits apart
+     * @param key   the key being limited, such as a client address or a user id
+     * @param limit the limit of the scope
+     * @param cost  the cost of the request, 1 for a plain request
+     * @return 0 if the request is admitted, otherwise the milliseconds until it would be
+     */
+    long tryAcquire(CharSequence scope, CharSequence key, GcraLimit limit, int cost);
+}
@@ -0,0 +1,53 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link TokenStore} keeping the arrival time of each bucket in Redis, shared by every node.
+ * <p>
+ * Buckets are taken from and given back with Lua scripts, so each operation is atomic, and arrival times are
+ * measured with the Redis clock so nodes with skewed clocks agree. Keys expire once the bucket is full again.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.distributed.enabled", havingValue = "true")
+public class RedisTokenStore implements TokenStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rate-limit-lease.lua"), List.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rate-limit-release.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public TokenGrant lease(String bucket, GcraLimit limit, int requested) {
+        List<?> result = redisTemplate.execute(LEASE_SCRIPT, List.of(KEY_PREFIX + bucket),
+                String.valueOf(limit.emissionIntervalMillis()),
+                String.valueOf(limit.allowanceMillis()),
+                String.valueOf(requested));
+        return new TokenGrant(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+    }
+
+    @Override
+    public void release(String bucket, GcraLimit limit, int unused) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + bucket),
+                String.valueOf(limit.emissionIntervalMillis()),
+                String.valueOf(unused));
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+/**
+ * The bucket and cost a request is charged.
+ *
+ * @param bucket the name of the bucket, used as the limiter scope
+ * @param limit  the limit of the bucket
+ * @param cost   the tokens the request spends
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record RoutePolicy(String bucket, GcraLimit limit, int cost) {
+}
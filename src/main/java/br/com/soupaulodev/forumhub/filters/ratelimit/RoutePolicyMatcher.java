@@ -0,0 +1,158 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Finds the {@link RoutePolicy} of a request among the configured routes.
+ * <p>
+ * The routes are compiled once into a tree of path segments per HTTP method, so matching walks the segments of the
+ * request path once whatever the number of routes. Literal segments take precedence over wildcards, and wildcards
+ * over a trailing {@code **}, so the most specific route wins regardless of the configuration order.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public final class RoutePolicyMatcher {
+
+    private static final List<String> ALL_METHODS = List.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+    private static final String ANY_SEGMENTS = "**";
+
+    private final Map<String, Node> roots;
+
+    private RoutePolicyMatcher(Map<String, Node> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * Compiles the configured routes.
+     *
+     * @param properties the rate limit configuration
+     * @return the matcher
+     * @throws IllegalArgumentException if a route is malformed, duplicated or charged to an unknown bucket
+     */
+    public static RoutePolicyMatcher compile(RateLimitProperties properties) {
+        Map<String, GcraLimit> limits = new HashMap<>();
+        properties.buckets().forEach((name, bucket) -> limits.put(name, bucket.toLimit()));
+
+        Map<String, Node> roots = new HashMap<>();
+        for (RateLimitProperties.Route route : properties.routes()) {
+            GcraLimit limit = limits.get(route.bucket());
+            if (limit == null) {
+                throw new IllegalArgumentException("Unknown rate limit bucket '" + route.bucket()
+                        + "' for route " + route.pattern());
+            }
+            if (route.cost() <= 0) {
+                throw new IllegalArgumentException("Rate limit cost must be positive for route " + route.pattern());
+            }
+
+            RoutePolicy policy = new RoutePolicy(route.bucket(), limit, route.cost());
+            List<String> segments = segments(route.pattern());
+            List<String> methods = route.methods().isEmpty() ? ALL_METHODS : route.methods();
+            for (String method : methods) {
+                roots.computeIfAbsent(method.toUpperCase(Locale.ROOT), m -> new Node())
+                        .insert(segments, 0, policy, route.pattern());
+            }
+        }
+        return new RoutePolicyMatcher(roots);
+    }
+
+    /**
+     * Finds the policy of a request.
+     *
+     * @param method the HTTP method
+     * @param path   the request path, without context path nor query string
+     * @return the policy of the most specific matching route, or null if no route matches
+     */
+    public RoutePolicy match(String method, String path) {
+        Node root = roots.get(method);
+        if (root == null) {
+            return null;
+        }
+        return root.match(path, skipSlashes(path, 0));
+    }
+
+    private static List<String> segments(String pattern) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : pattern.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        int anySegments = segments.indexOf(ANY_SEGMENTS);
+        if (anySegments >= 0 && anySegments != segments.size() - 1) {
+            throw new IllegalArgumentException("'**' must be the last segment of rate limit route " + pattern);
+        }
+        return segments;
+    }
+
+    private static int skipSlashes(String path, int from) {
+        while (from < path.length() && path.charAt(from) == '/') {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean isWildcard(String segment) {
+        return segment.equals("*") || segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private RoutePolicy exact;
+        private RoutePolicy anySegments;
+
+        private void insert(List<String> segments, int index, RoutePolicy policy, String pattern) {
+            if (index == segments.size()) {
+                exact = unique(exact, policy, pattern);
+                return;
+            }
+
+            String segment = segments.get(index);
+            if (segment.equals(ANY_SEGMENTS)) {
+                anySegments = unique(anySegments, policy, pattern);
+            } else if (isWildcard(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                wildcard.insert(segments, index + 1, policy, pattern);
+            } else {
+                literals.computeIfAbsent(segment, s -> new Node()).insert(segments, index + 1, policy, pattern);
+            }
+        }
+
+        private RoutePolicy match(String path, int from) {
+            if (from >= path.length()) {
+                return exact != null ? exact : anySegments;
+            }
+
+            int end = path.indexOf('/', from);
+            if (end < 0) {
+                end = path.length();
+            }
+            int next = skipSlashes(path, end);
+
+            RoutePolicy policy = null;
+            Node literal = literals.isEmpty() ? null : literals.get(path.substring(from, end));
+            if (literal != null) {
+                policy = literal.match(path, next);
+            }
+            if (policy == null && wildcard != null) {
+                policy = wildcard.match(path, next);
+            }
+            return policy != null ? policy : anySegments;
+        }
+
+        private static RoutePolicy unique(RoutePolicy existing, RoutePolicy policy, String pattern) {
+            if (existing != null) {
+                throw new IllegalArgumentException("Duplicate rate limit route " + pattern);
+            }
+            return policy;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+/**
+ * Tokens taken from a {@link TokenStore}.
+ *
+ * @param granted          the number of tokens granted, possibly fewer than requested
+ * @param retryAfterMillis the milliseconds until the next token is available after this grant
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record TokenGrant(int granted, long retryAfterMillis) {
+}
@@ -0,0 +1,32 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+/**
+ * Shared store of the theoretical arrival times of the {@link DistributedRateLimiter}.
+ * <p>
+ * Tokens are taken and given back in batches, each operation applied atomically on the bucket so nodes sharing
+ * the store never admit more than the limit together.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public interface TokenStore {
+
+    /**
+     * Takes up to a number of tokens from a bucket.
+     *
+     * @param bucket    the bucket, made of the limit scope and the limited key
+     * @param limit     the limit of the bucket
+     * @param requested the number of tokens wanted
+     * @return the tokens granted
+     */
+    TokenGrant lease(String bucket, GcraLimit limit, int requested);
+
+    /**
+     * Gives back tokens taken but not spent.
+     *
+     * @param bucket the bucket, made of the limit scope and the limited key
+     * @param limit  the limit of the bucket
+     * @param unused the number of tokens given back
+     */
+    void release(String bucket, GcraLimit limit, int unused);
+}
@@ -0,0 +1,11 @@
+package br.com.soupaulodev.forumhub.modules.activity;
+
+/**
+ * Kinds of activity tracked by {@link ActivityRates}.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum ActivityKind {
+    HIGH,
+    COMMENT
+}
@@ -0,0 +1,74 @@
+package br.com.soupaulodev.forumhub.modules.activity;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes the activity rates of the hottest topics and forums as Micrometer gauges.
+ * <p>
+ * Gauges are exposed as {@code forumhub.activity.rate}, tagged by entity type, activity kind, window and entity id.
+ * Only the most active entities of the last hour are published, and the set is replaced on every refresh so
+ * entities that cool down stop being reported.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class ActivityRateMetrics {
+
+    static final String METRIC_NAME = "forumhub.activity.rate";
+    private static final List<CounterTarget> TARGETS = List.of(CounterTarget.TOPIC, CounterTarget.FORUM);
+
+    private final ActivityRates activityRates;
+    private final int hottest;
+    private final List<Gauges> gauges = new ArrayList<>();
+
+    public ActivityRateMetrics(ActivityRates activityRates,
+                               MeterRegistry meterRegistry,
+                               @Value("${activity-rates.gauge-hottest:10}") int hottest) {
+        this.activityRates = activityRates;
+        this.hottest = hottest;
+
+        for (CounterTarget target : TARGETS) {
+            for (ActivityKind kind : ActivityKind.values()) {
+                MultiGauge gauge = MultiGauge.builder(METRIC_NAME)
+                        .tag("type", target.name().toLowerCase())
+                        .tag("kind", kind.name().toLowerCase())
+                        .description("Activity of the hottest entities within the window")
+                        .register(meterRegistry);
+                gauges.add(new Gauges(target, kind, gauge));
+            }
+        }
+    }
+
+    /**
+     * Replaces the published gauges with the current hottest entities.
+     */
+    @Scheduled(fixedDelayString = "${activity-rates.gauge-refresh-ms:15000}")
+    public void refresh() {
+        for (Gauges entry : gauges) {
+            Map<UUID, Long> ranking = activityRates.hottest(entry.target(), entry.kind(), ActivityWindow.HOUR, hottest);
+
+            List<MultiGauge.Row<?>> rows = new ArrayList<>(ranking.size() * ActivityWindow.values().length);
+            for (UUID id : ranking.keySet()) {
+                Map<ActivityWindow, Long> rates = activityRates.rates(entry.target(), id, entry.kind());
+                rates.forEach((window, rate) ->
+                        rows.add(MultiGauge.Row.of(Tags.of("id", id.toString(), "window", window.getLabel()), rate)));
+            }
+            entry.gauge().register(rows, true);
+        }
+    }
+
+    private record Gauges(CounterTarget target, ActivityKind kind, MultiGauge gauge) {
+    }
+}
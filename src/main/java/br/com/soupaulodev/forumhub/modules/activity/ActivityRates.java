@@ -0,0 +1,182 @@
+package br.com.soupaulodev.forumhub.modules.activity;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps per-entity sliding window rates of highs and comments, fed by the high and comment use cases.
+ * <p>
+ * Each tracked (entity, kind) pair costs one {@link SlidingWindowCounter} of constant size. Entities without
+ * activity for longer than the idle timeout are evicted periodically, and when the number of tracked entities
+ * reaches the configured maximum the least recently active ones are evicted first.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class ActivityRates {
+
+    private static final double TRIM_RATIO = 0.9;
+
+    private final Map<Key, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final int maxEntities;
+    private final long idleMillis;
+
+    @Autowired
+    public ActivityRates(@Value("${activity-rates.max-entities:100000}") int maxEntities,
+                         @Value("${activity-rates.idle-minutes:1440}") long idleMinutes) {
+        this(System::currentTimeMillis, maxEntities, idleMinutes);
+    }
+
+    ActivityRates(LongSupplier clock, int maxEntities, long idleMinutes) {
+        if (maxEntities <= 0) {
+            throw new IllegalArgumentException("Activity rates max entities must be positive");
+        }
+        this.clock = clock;
+        this.maxEntities = maxEntities;
+        this.idleMillis = idleMinutes * 60_000;
+    }
+
+    /**
+     * Records one unit of activity on an entity.
+     *
+     * @param target the entity type
+     * @param id     the entity id
+     * @param kind   the kind of activity
+     */
+    public void record(CounterTarget target, UUID id, ActivityKind kind) {
+        Key key = new Key(target, id, kind);
+        long now = clock.getAsLong();
+
+        SlidingWindowCounter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxEntities) {
+                trim();
+            }
+            counter = counters.computeIfAbsent(key, k -> new SlidingWindowCounter(now));
+        }
+        counter.record(now, 1);
+    }
+
+    /**
+     * Returns the activity of an entity within a window.
+     *
+     * @param target the entity type
+     * @param id     the entity id
+     * @param kind   the kind of activity
+     * @param window the window
+     * @return the amount of activity, zero for untracked entities
+     */
+    public long rate(CounterTarget target, UUID id, ActivityKind kind, ActivityWindow window) {
+        SlidingWindowCounter counter = counters.get(new Key(target, id, kind));
+        return counter == null ? 0 : counter.sum(clock.getAsLong(), window);
+    }
+
+    /**
+     * Returns the activity of an entity within every window.
+     *
+     * @param target the entity type
+     * @param id     the entity id
+     * @param kind   the kind of activity
+     * @return the amount of activity per window
+     */
+    public Map<ActivityWindow, Long> rates(CounterTarget target, UUID id, ActivityKind kind) {
+        SlidingWindowCounter counter = counters.get(new Key(target, id, kind));
+        long now = clock.getAsLong();
+        Map<ActivityWindow, Long> rates = new EnumMap<>(ActivityWindow.class);
+        for (ActivityWindow window : ActivityWindow.values()) {
+            rates.put(window, counter == null ? 0L : counter.sum(now, window));
+        }
+        return rates;
+    }
+
+    /**
+     * Returns the most active entities of a type within a window.
+     *
+     * @param target the entity type
+     * @param kind   the kind of activity
+     * @param window the window
+     * @param limit  the maximum number of entities
+     * @return the activity per entity id, most active first, without inactive entities
+     */
+    public Map<UUID, Long> hottest(CounterTarget target, ActivityKind kind, ActivityWindow window, int limit) {
+        long now = clock.getAsLong();
+        PriorityQueue<Map.Entry<UUID, Long>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+
+        counters.forEach((key, counter) -> {
+            if (key.target() != target || key.kind() != kind) {
+                return;
+            }
+            long sum = counter.sum(now, window);
+            if (sum <= 0) {
+                return;
+            }
+            if (top.size() < limit) {
+                top.add(Map.entry(key.id(), sum));
+            } else if (limit > 0 && top.peek().getValue() < sum) {
+                top.poll();
+                top.add(Map.entry(key.id(), sum));
+            }
+        });
+
+        List<Map.Entry<UUID, Long>> sorted = new ArrayList<>(top);
+        sorted.sort(Map.Entry.<UUID, Long>comparingByValue().reversed());
+        Map<UUID, Long> hottest = new LinkedHashMap<>();
+        sorted.forEach(entry -> hottest.put(entry.getKey(), entry.getValue()));
+        return hottest;
+    }
+
+    /**
+     * Evicts the entities without activity for longer than the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${activity-rates.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long idleSince = clock.getAsLong() - idleMillis;
+        counters.values().removeIf(counter -> counter.lastActivity() < idleSince);
+    }
+
+    /**
+     * Returns the number of tracked (entity, kind) pairs.
+     *
+     * @return the number of tracked pairs
+     */
+    int size() {
+        return counters.size();
+    }
+
+    private synchronized void trim() {
+        if (counters.size() < maxEntities) {
+            return;
+        }
+        evictIdle();
+
+        int excess = counters.size() - (int) (maxEntities * TRIM_RATIO);
+        if (excess <= 0) {
+            return;
+        }
+        counters.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastActivity()))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(counters::remove);
+    }
+
+    private record Key(CounterTarget target, UUID id, ActivityKind kind) {
+    }
+}
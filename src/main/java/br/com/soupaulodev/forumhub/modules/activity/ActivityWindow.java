@@ -0,0 +1,27 @@
+package br.com.soupaulodev.forumhub.modules.activity;
+
+/**
+ * Time windows over which activity rates are reported.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum ActivityWindow {
+    FIVE_MINUTES("5m"),
+    HOUR("1h"),
+    DAY("1d");
+
+    private final String label;
+
+    ActivityWindow(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the short label of the window, used as metric tag.
+     *
+     * @return the window label
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.soupaulodev.forumhub.modules.activity;
+
+/**
+ * Fixed-size sliding window counter made of two rings of buckets: the last 60 minutes and the last 24 hours.
+ * <p>
+ * Buckets are cleared lazily when the clock moves past them, so the memory per counter stays constant no matter
+ * how much activity is recorded. The day window has a one hour resolution: it covers the current hour and the
+ * 23 previous ones.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+final class SlidingWindowCounter {
+
+    static final int MINUTES = 60;
+    static final int HOURS = 24;
+    private static final int FIVE_MINUTES = 5;
+
+    private final int[] minutes = new int[MINUTES];
+    private final int[] hours = new int[HOURS];
+    private long currentMinute;
+    private volatile long lastActivity;
+
+    SlidingWindowCounter(long nowMillis) {
+        this.currentMinute = nowMillis / 60_000;
+        this.lastActivity = nowMillis;
+    }
+
+    /**
+     * Records activity at the given instant.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param amount    the amount of activity
+     */
+    synchronized void record(long nowMillis, int amount) {
+        advance(nowMillis / 60_000);
+        minutes[(int) (currentMinute % MINUTES)] += amount;
+        hours[(int) ((currentMinute / MINUTES) % HOURS)] += amount;
+        lastActivity = nowMillis;
+    }
+
+    /**
+     * Returns the activity recorded within the window ending at the given instant.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param window    the window
+     * @return the amount of activity within the window
+     */
+    synchronized long sum(long nowMillis, ActivityWindow window) {
+        advance(nowMillis / 60_000);
+        long sum = 0;
+        switch (window) {
+            case FIVE_MINUTES -> {
+                for (int i = 0; i < FIVE_MINUTES; i++) {
+                    sum += minutes[(int) ((currentMinute - i) % MINUTES)];
+                }
+            }
+            case HOUR -> {
+                for (int count : minutes) {
+                    sum += count;
+                }
+            }
+            case DAY -> {
+                for (int count : hours) {
+                    sum += count;
+                }
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns when activity was last recorded.
+     *
+     * @return the time of the last activity in milliseconds
+     */
+    long lastActivity() {
+        return lastActivity;
+    }
+
+    private void advance(long minute) {
+        if (minute <= currentMinute) {
+            return;
+        }
+
+        long elapsedMinutes = Math.min(minute - currentMinute, MINUTES);
+        for (long i = 1; i <= elapsedMinutes; i++) {
+            minutes[(int) ((currentMinute + i) % MINUTES)] = 0;
+        }
+
+        long currentHour = currentMinute / MINUTES;
+        long elapsedHours = Math.min(minute / MINUTES - currentHour, HOURS);
+        for (long i = 1; i <= elapsedHours; i++) {
+            hours[(int) ((currentHour + i) % HOURS)] = 0;
+        }
+
+        currentMinute = minute;
+    }
+}
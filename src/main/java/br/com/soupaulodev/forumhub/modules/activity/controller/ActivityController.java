@@ -0,0 +1,90 @@
+package br.com.soupaulodev.forumhub.modules.activity.controller;
+
+import br.com.soupaulodev.forumhub.modules.activity.ActivityKind;
+import br.com.soupaulodev.forumhub.modules.activity.ActivityWindow;
+import br.com.soupaulodev.forumhub.modules.activity.controller.dto.ActivityRankingResponseDTO;
+import br.com.soupaulodev.forumhub.modules.activity.controller.dto.ActivityRatesResponseDTO;
+import br.com.soupaulodev.forumhub.modules.activity.usecase.GetActivityRatesUseCase;
+import br.com.soupaulodev.forumhub.modules.activity.usecase.ListHottestUseCase;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller for handling activity rate queries.
+ * This class provides endpoints for reading the highs and comments received by topics and forums over the last
+ * five minutes, hour and day, and for ranking the most active ones.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@RestController
+@RequestMapping("/api/v1/activity")
+@Tag(name = "Activity", description = "Recent activity of topics and forums")
+public class ActivityController {
+
+    private final GetActivityRatesUseCase getActivityRatesUseCase;
+    private final ListHottestUseCase listHottestUseCase;
+
+    /**
+     * Constructs a new {@link ActivityController} with the specified use cases.
+     *
+     * @param getActivityRatesUseCase the use case for retrieving the activity of an entity
+     * @param listHottestUseCase      the use case for listing the most active entities
+     */
+    public ActivityController(GetActivityRatesUseCase getActivityRatesUseCase,
+                              ListHottestUseCase listHottestUseCase) {
+        this.getActivityRatesUseCase = getActivityRatesUseCase;
+        this.listHottestUseCase = listHottestUseCase;
+    }
+
+    /**
+     * Endpoint for retrieving the recent activity of a topic or forum.
+     *
+     * @param type the entity type, {@code TOPIC} or {@code FORUM}
+     * @param id   the entity id
+     * @return a {@link ResponseEntity} containing the highs and comments of the entity per window
+     */
+    @GetMapping("/{type}/{id}")
+    @Operation(summary = "Get the recent activity of a topic or forum")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Activity retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    public ResponseEntity<ActivityRatesResponseDTO> getActivity(@PathVariable CounterTarget type,
+                                                                @PathVariable UUID id) {
+        return ResponseEntity.ok(getActivityRatesUseCase.execute(type, id));
+    }
+
+    /**
+     * Endpoint for listing the most active topics or forums.
+     *
+     * @param type   the entity type, {@code TOPIC} or {@code FORUM}
+     * @param kind   the kind of activity to rank by
+     * @param window the window to rank within
+     * @param limit  the maximum number of entities to retrieve
+     * @return a {@link ResponseEntity} containing the most active entities, most active first
+     */
+    @GetMapping("/{type}/hottest")
+    @Operation(summary = "List the most active topics or forums")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking listed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    public ResponseEntity<List<ActivityRankingResponseDTO>> listHottest(@PathVariable CounterTarget type,
+                                                                        @RequestParam(defaultValue = "HIGH") ActivityKind kind,
+                                                                        @RequestParam(defaultValue = "HOUR") ActivityWindow window,
+                                                                        @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(listHottestUseCase.execute(type, kind, window, limit));
+    }
+}
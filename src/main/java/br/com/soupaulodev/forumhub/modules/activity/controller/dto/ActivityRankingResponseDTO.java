@@ -0,0 +1,13 @@
+package br.com.soupaulodev.forumhub.modules.activity.controller.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) representing an entry of an activity ranking.
+ *
+ * @param id    the entity id
+ * @param count the activity of the entity within the requested window
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record ActivityRankingResponseDTO(UUID id, long count) {
+}
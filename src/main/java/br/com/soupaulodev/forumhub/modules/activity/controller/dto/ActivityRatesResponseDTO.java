@@ -0,0 +1,22 @@
+package br.com.soupaulodev.forumhub.modules.activity.controller.dto;
+
+import br.com.soupaulodev.forumhub.modules.activity.ActivityWindow;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) representing the recent activity of a topic or forum.
+ *
+ * @param type     the entity type
+ * @param id       the entity id
+ * @param highs    the highs received per window
+ * @param comments the comments received per window
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record ActivityRatesResponseDTO(CounterTarget type,
+                                       UUID id,
+                                       Map<ActivityWindow, Long> highs,
+                                       Map<ActivityWindow, Long> comments) {
+}
@@ -0,0 +1,51 @@
+package br.com.soupaulodev.forumhub.modules.activity.usecase;
+
+import br.com.soupaulodev.forumhub.modules.activity.ActivityKind;
+import br.com.soupaulodev.forumhub.modules.activity.ActivityRates;
+import br.com.soupaulodev.forumhub.modules.activity.controller.dto.ActivityRatesResponseDTO;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use case for retrieving the recent activity of a topic or forum.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class GetActivityRatesUseCase {
+
+    private final ActivityRates activityRates;
+
+    /**
+     * Constructor
+     *
+     * @param activityRates activity rates
+     */
+    public GetActivityRatesUseCase(ActivityRates activityRates) {
+        this.activityRates = activityRates;
+    }
+
+    /**
+     * Executes the use case to retrieve the recent activity of a topic or forum.
+     *
+     * @param type the entity type
+     * @param id   the entity id
+     * @return the highs and comments of the entity per window
+     * @throws IllegalArgumentException if the type is neither a topic nor a forum
+     */
+    public ActivityRatesResponseDTO execute(CounterTarget type, UUID id) {
+        requireTracked(type);
+
+        return new ActivityRatesResponseDTO(type, id,
+                activityRates.rates(type, id, ActivityKind.HIGH),
+                activityRates.rates(type, id, ActivityKind.COMMENT));
+    }
+
+    static void requireTracked(CounterTarget type) {
+        if (type != CounterTarget.TOPIC && type != CounterTarget.FORUM) {
+            throw new IllegalArgumentException("Activity is only tracked for topics and forums");
+        }
+    }
+}
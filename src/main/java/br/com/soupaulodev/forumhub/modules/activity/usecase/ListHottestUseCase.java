@@ -0,0 +1,53 @@
+package br.com.soupaulodev.forumhub.modules.activity.usecase;
+
+import br.com.soupaulodev.forumhub.modules.activity.ActivityKind;
+import br.com.soupaulodev.forumhub.modules.activity.ActivityRates;
+import br.com.soupaulodev.forumhub.modules.activity.ActivityWindow;
+import br.com.soupaulodev.forumhub.modules.activity.controller.dto.ActivityRankingResponseDTO;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case for listing the most active topics or forums within a window.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ListHottestUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final ActivityRates activityRates;
+
+    /**
+     * Constructor
+     *
+     * @param activityRates activity rates
+     */
+    public ListHottestUseCase(ActivityRates activityRates) {
+        this.activityRates = activityRates;
+    }
+
+    /**
+     * Executes the use case to list the most active topics or forums.
+     *
+     * @param type   the entity type
+     * @param kind   the kind of activity to rank by
+     * @param window the window to rank within
+     * @param limit  the maximum number of entities to return
+     * @return the most active entities, most active first
+     * @throws IllegalArgumentException if the type is neither a topic nor a forum, or the limit is out of range
+     */
+    public List<ActivityRankingResponseDTO> execute(CounterTarget type, ActivityKind kind, ActivityWindow window, int limit) {
+        GetActivityRatesUseCase.requireTracked(type);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        return activityRates.hottest(type, kind, window, limit).entrySet().stream()
+                .map(entry -> new ActivityRankingResponseDTO(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -3,9 +3,11 @@ package br.com.soupaulodev.forumhub.modules.auth.controller;
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LoginUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LogoutUseCase;
+import br.com.soupaulodev.forumhub.modules.auth.usecase.RefreshTokenUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.SignUpUseCase;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserDetailsResponseDTO;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -16,6 +18,7 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,8 +28,8 @@ import java.util.Map;
 
 /**
  * Controller for handling authentication-related endpoints.
- * This controller provides endpoints for user login, registration (signup), and logout.
- * The authentication process is managed by interacting with the use cases for login, signup, and logout.
+ * This controller provides endpoints for user login, registration (signup), session refresh, and logout.
+ * The authentication process is managed by interacting with the use cases for login, signup, refresh, and logout.
  *
  * <p>
  * The {@link AuthController} is responsible for:
@@ -47,27 +50,31 @@ public class AuthController {
     private final LoginUseCase loginUseCase;
     private final SignUpUseCase signUpUseCase;
     private final LogoutUseCase logoutUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
 
     /**
      * Constructor for the AuthController.
-     * Initializes the controller with the necessary use cases for login, signup, and logout.
+     * Initializes the controller with the necessary use cases for login, signup, refresh, and logout.
      *
-     * @param loginUseCase  the use case for handling login operations
-     * @param signUpUseCase the use case for handling user signup operations
-     * @param logoutUseCase the use case for handling logout operations
+     * @param loginUseCase        the use case for handling login operations
+     * @param signUpUseCase       the use case for handling user signup operations
+     * @param logoutUseCase       the use case for handling logout operations
+     * @param refreshTokenUseCase the use case for handling session refresh operations
      */
     public AuthController(LoginUseCase loginUseCase,
                           SignUpUseCase signUpUseCase,
-                          LogoutUseCase logoutUseCase) {
+                          LogoutUseCase logoutUseCase,
+                          RefreshTokenUseCase refreshTokenUseCase) {
         this.loginUseCase = loginUseCase;
         this.signUpUseCase = signUpUseCase;
         this.logoutUseCase = logoutUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
     }
 
     /**
      * Endpoint for handling user login.
      * This method authenticates the user based on the provided credentials and returns a JWT token.
-     * The token is set in the response as a cookie.
+     * The token and the refresh token are set in the response as cookies.
      *
      * @param requestDTO the login request containing username and password
      * @param response   the HTTP response to which the JWT token will be added as a cookie
@@ -81,7 +88,7 @@ public class AuthController {
             @ApiResponse(responseCode = "401", description = "Invalid credentials")
     })
     public ResponseEntity<String> login(@Valid @RequestBody LoginRequestDTO requestDTO, HttpServletResponse response) {
-        response.addCookie(loginUseCase.execute(requestDTO));
+        loginUseCase.execute(requestDTO).forEach(response::addCookie);
 
         logger.info("User {} logged in successfully", requestDTO.username());
         return ResponseEntity.ok("User logged in successfully");
@@ -106,16 +113,41 @@ public class AuthController {
     public ResponseEntity<UserDetailsResponseDTO> signUp(@Valid @RequestBody UserCreateRequestDTO signUpRequest, HttpServletResponse response) {
         Map<String, Object> result = signUpUseCase.execute(signUpRequest);
         response.addCookie((Cookie) result.get("cookie"));
+        response.addCookie((Cookie) result.get("refreshCookie"));
 
         logger.info("User {} registered successfully", signUpRequest.username());
         return ResponseEntity.ok((UserDetailsResponseDTO) result.get("user"));
     }
 
+    /**
+     * Endpoint for renewing the JWT token of a session.
+     * This method exchanges the refresh token for a new JWT token and the next refresh token,
+     * both set in the response as cookies. A refresh token can only be used once.
+     *
+     * @param refreshToken the refresh token of the request, if any
+     * @param response     the HTTP response to which the new cookies will be added
+     * @return a ResponseEntity with status 200 (OK) if the session was refreshed
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh", description = "Exchange a refresh token for a new JWT token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Session refreshed successfully"),
+            @ApiResponse(responseCode = "401", description = "Missing, invalid, expired or reused refresh token")
+    })
+    public ResponseEntity<String> refresh(@CookieValue(name = CookieUtil.REFRESH_COOKIE, required = false) String refreshToken,
+                                          HttpServletResponse response) {
+        refreshTokenUseCase.execute(refreshToken).forEach(response::addCookie);
+
+        return ResponseEntity.ok("Session refreshed successfully");
+    }
+
     /**
      * Endpoint for handling user logout.
-     * This method invalidates the user's JWT token by clearing the associated cookie.
+     * This method revokes the user's JWT token and refresh tokens, and clears the associated cookies.
      *
-     * @param response the HTTP response in which the JWT cookie will be removed
+     * @param token        the JWT token of the request, if any
+     * @param refreshToken the refresh token of the request, if any
+     * @param response     the HTTP response in which the JWT cookie will be removed
      * @return a ResponseEntity with status 200 (OK) indicating the user has been logged out
      */
     @PostMapping("/logout")
@@ -123,8 +155,10 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User logged out successfully")
     })
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
-        response.addCookie(logoutUseCase.execute());
+    public ResponseEntity<Void> logout(@CookieValue(name = "JWT_TOKEN", required = false) String token,
+                                       @CookieValue(name = CookieUtil.REFRESH_COOKIE, required = false) String refreshToken,
+                                       HttpServletResponse response) {
+        logoutUseCase.execute(token, refreshToken).forEach(response::addCookie);
 
         logger.info("User logged out successfully");
         return ResponseEntity.ok().build();
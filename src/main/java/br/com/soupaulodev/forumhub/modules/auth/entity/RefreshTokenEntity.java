@@ -0,0 +1,165 @@
+package br.com.soupaulodev.forumhub.modules.auth.entity;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents a refresh token issued to a user.
+ * <p>
+ * The token itself is never stored, only its SHA-256 hash. Each refresh consumes the token and issues a new one in
+ * the same family, so the tokens of a session form a chain sharing the family id. A token presented after it was
+ * used reveals that the chain was copied, and the whole family is revoked.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Entity
+@Table(name = "tb_refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")})
+public class RefreshTokenEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 43)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 26)
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private UserEntity user;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * Default constructor.
+     * Initializes the id and createdAt fields.
+     */
+    public RefreshTokenEntity() {
+        this.id = UlidGenerator.generate();
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Constructs a new RefreshTokenEntity.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @param familyId  the id shared by the tokens of the session
+     * @param user      the user the token was issued to
+     * @param expiresAt when the token expires
+     */
+    public RefreshTokenEntity(String tokenHash, String familyId, UserEntity user, Instant expiresAt) {
+        this();
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Gets the unique identifier of the token.
+     *
+     * @return the unique identifier of the token
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the SHA-256 hash of the token.
+     *
+     * @return the hash of the token
+     */
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    /**
+     * Gets the id shared by the tokens of the session.
+     *
+     * @return the family id
+     */
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    /**
+     * Gets the user the token was issued to.
+     *
+     * @return the user
+     */
+    public UserEntity getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the date and time when the token expires.
+     *
+     * @return the expiration of the token
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Gets the date and time when the token was used, null while it was not.
+     *
+     * @return when the token was used
+     */
+    public Instant getUsedAt() {
+        return usedAt;
+    }
+
+    /**
+     * Gets the date and time when the token was issued.
+     *
+     * @return when the token was issued
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param obj the reference object with which to compare
+     * @return {@code true} if this object is the same as the obj argument; {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        RefreshTokenEntity that = (RefreshTokenEntity) obj;
+        return Objects.equals(this.id, that.id);
+    }
+
+    /**
+     * Returns the hash code value for this token.
+     *
+     * @return the hash code value for this token
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
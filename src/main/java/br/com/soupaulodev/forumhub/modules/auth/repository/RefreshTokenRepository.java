@@ -0,0 +1,64 @@
+package br.com.soupaulodev.forumhub.modules.auth.repository;
+
+import br.com.soupaulodev.forumhub.modules.auth.entity.RefreshTokenEntity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository for managing {@link RefreshTokenEntity} persistence.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    /**
+     * Finds a token by its hash, together with its user.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @return the token, or empty if no token has the hash
+     */
+    @Query("SELECT t FROM RefreshTokenEntity t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntity> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Marks a token as used unless it already was, in a single statement.
+     *
+     * @param id  the id of the token
+     * @param now the time of use
+     * @return 1 if the token was marked, 0 if it had already been used
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.usedAt = :now WHERE t.id = :id AND t.usedAt IS NULL")
+    int markUsed(@Param("id") String id, @Param("now") Instant now);
+
+    /**
+     * Deletes every token of a session.
+     *
+     * @param familyId the id shared by the tokens of the session
+     * @return the number of deleted tokens
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    /**
+     * Deletes the tokens expired at the given time.
+     *
+     * @param now the current time
+     * @return the number of deleted tokens
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,9 +1,12 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ServiceUnavailableException;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.password.PasswordHashingExecutor;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
 import jakarta.servlet.http.Cookie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,15 +17,18 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 
 /**
  * Use case responsible for handling the login process for the application.
  * <p>
  * This class processes login requests by authenticating user credentials.
- * If successful, it generates and returns a cookie containing a JWT token.
+ * If successful, it generates and returns a cookie containing a JWT token, and a cookie containing the
+ * refresh token that renews it without checking the password again.
  * It interacts with the AuthenticationManager for authentication and
  * UserRepository to retrieve user data. If authentication succeeds,
- * a JWT token is generated using the CookieUtil class.
+ * a JWT token is generated using the CookieUtil class. The password check runs on the
+ * {@link PasswordHashingExecutor}, ahead of signups and password changes.
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -34,33 +40,42 @@ public class LoginUseCase {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final CookieUtil cookieUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public LoginUseCase(UserRepository userRepository, AuthenticationManager authenticationManager, CookieUtil cookieUtil) {
+    public LoginUseCase(UserRepository userRepository, AuthenticationManager authenticationManager, CookieUtil cookieUtil,
+                        RefreshTokenService refreshTokenService, PasswordHashingExecutor passwordHashingExecutor) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.cookieUtil = cookieUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     /**
      * Executes the login process by authenticating the provided credentials
-     * and generating a JWT cookie if successful.
+     * and generating a JWT cookie and a refresh token cookie if successful.
      *
      * @param requestDTO The login request containing username and password.
-     * @return A Cookie containing the JWT token for the authenticated user.
+     * @return The cookies containing the JWT token and the refresh token for the authenticated user.
      * @throws BadCredentialsException   If authentication fails due to invalid credentials.
      * @throws UsernameNotFoundException If the user is not found in the database.
+     * @throws ServiceUnavailableException If the password cannot be checked in time because of the load.
      */
-    public Cookie execute(LoginRequestDTO requestDTO) {
+    public List<Cookie> execute(LoginRequestDTO requestDTO) {
         authenticateUser(requestDTO.username(), requestDTO.password());
         UserEntity user = getUserEntity(requestDTO.username());
         Cookie jwtCookie = cookieUtil.generateCookieWithToken(user);
+        Cookie refreshCookie = cookieUtil.generateRefreshCookie(refreshTokenService.issue(user),
+                refreshTokenService.expiration());
 
         logger.info("User {} successfully authenticated and cookie generated.", requestDTO.username());
-        return jwtCookie;
+        return List.of(jwtCookie, refreshCookie);
     }
 
     /**
-     * Authenticates the user credentials using the AuthenticationManager.
+     * Authenticates the user credentials using the AuthenticationManager, on the password hashing threads.
+     * A hash with an outdated strength is replaced there too, before the login completes.
      *
      * @param username The username of the user attempting to log in.
      * @param password The password of the user attempting to log in.
@@ -68,9 +83,10 @@ public class LoginUseCase {
      */
     private void authenticateUser(String username, String password) {
         try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(username, password)
-            );
+            passwordHashingExecutor.execute(PasswordHashingExecutor.Priority.LOGIN,
+                    () -> authenticationManager.authenticate(
+                            new UsernamePasswordAuthenticationToken(username, password)
+                    ));
             logger.debug("Authentication successful for username: {}", username);
         } catch (AuthenticationException ex) {
             logger.warn("Authentication failed for username: {}", username);
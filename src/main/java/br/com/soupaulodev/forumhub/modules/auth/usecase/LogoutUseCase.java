@@ -1,27 +1,37 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
+import br.com.soupaulodev.forumhub.security.revocation.TokenRevocationService;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.utils.TokenVerificationService;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
 import jakarta.servlet.http.Cookie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Handles the logout process by invalidating the user's JWT token.
  * <p>
- * The {@link LogoutUseCase} class manages the creation of a cookie with the name "JWT_TOKEN",
- * setting its value to null and its expiration time to 0, thereby logging the user out.
+ * The {@link LogoutUseCase} class revokes the token through the {@link TokenRevocationService}, so a copy of it
+ * is rejected until it expires, and manages the creation of a cookie with the name "JWT_TOKEN",
+ * setting its value to null and its expiration time to 0, thereby logging the user out. The refresh tokens of the
+ * session are deleted through the {@link RefreshTokenService} and their cookie is cleared the same way.
  * </p>
  * <p>
- * The generated cookie is marked as HttpOnly and Secure to enhance security,
+ * The generated cookies are marked as HttpOnly and Secure to enhance security,
  * ensuring it is transmitted only over HTTPS and cannot be accessed via JavaScript.
  * </p>
  *
  * <p><strong>Usage:</strong></p>
  * <pre>
- * LogoutUseCase logoutUseCase = new LogoutUseCase();
- * Cookie logoutCookie = logoutUseCase.execute();
+ * LogoutUseCase logoutUseCase = new LogoutUseCase(tokenVerificationService, tokenRevocationService,
+ *         refreshTokenService);
+ * List&lt;Cookie&gt; logoutCookies = logoutUseCase.execute(token, refreshToken);
  * </pre>
- * <p>This cookie can then be added to the HTTP response to log the user out.</p>
+ * <p>These cookies can then be added to the HTTP response to log the user out.</p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -30,24 +40,65 @@ public class LogoutUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(LogoutUseCase.class);
 
+    private final TokenVerificationService tokenVerificationService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Constructs a new instance of the {@link LogoutUseCase} class.
+     *
+     * @param tokenVerificationService The service verifying the token to revoke.
+     * @param tokenRevocationService   The service revoking the token.
+     * @param refreshTokenService      The service deleting the refresh tokens of the session.
+     */
+    public LogoutUseCase(TokenVerificationService tokenVerificationService,
+                         TokenRevocationService tokenRevocationService,
+                         RefreshTokenService refreshTokenService) {
+        this.tokenVerificationService = tokenVerificationService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenService = refreshTokenService;
+    }
+
     /**
-     * Generates an expired cookie to invalidate the JWT token.
+     * Revokes the JWT token and the refresh tokens of the session, and generates expired cookies to remove them.
      * <p>
-     * This method creates a new {@link Cookie} with the name "JWT_TOKEN",
+     * A missing, invalid, expired or already revoked token has nothing left to revoke, so only the cookie is
+     * cleared. This method creates a new {@link Cookie} with the name "JWT_TOKEN",
      * null value, and an expiration time of 0 seconds, effectively removing it
-     * from the client's browser upon inclusion in the HTTP response.
+     * from the client's browser upon inclusion in the HTTP response, followed by the same for the refresh token.
      * </p>
      *
-     * @return A {@link Cookie} configured to log the user out.
+     * @param token        The JWT token of the request, or null if the request has none.
+     * @param refreshToken The refresh token of the request, or null if the request has none.
+     * @return The cookies configured to log the user out, the JWT token cookie first.
      */
-    public Cookie execute() {
-        Cookie cookie = new Cookie("JWT_TOKEN", null);
+    public List<Cookie> execute(String token, String refreshToken) {
+        if (token != null && !token.isBlank()) {
+            VerifiedToken verified = null;
+            try {
+                verified = tokenVerificationService.verify(token);
+            } catch (RuntimeException e) {
+                logger.debug("Token not revoked on logout: {}", e.getMessage());
+            }
+            if (verified != null) {
+                tokenRevocationService.revoke(verified);
+            }
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+
+        logger.info("User logged out successfully. JWT token invalidated.");
+        return List.of(expiredCookie("JWT_TOKEN", "/"),
+                expiredCookie(CookieUtil.REFRESH_COOKIE, CookieUtil.REFRESH_COOKIE_PATH));
+    }
+
+    private static Cookie expiredCookie(String name, String path) {
+        Cookie cookie = new Cookie(name, null);
         cookie.setHttpOnly(true);
         cookie.setSecure(true);
         cookie.setMaxAge(0);
-        cookie.setPath("/");
-
-        logger.info("User logged out successfully. JWT token invalidated.");
+        cookie.setPath(path);
         return cookie;
     }
 }
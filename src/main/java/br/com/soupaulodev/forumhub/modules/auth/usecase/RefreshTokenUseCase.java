@@ -0,0 +1,62 @@
+package br.com.soupaulodev.forumhub.modules.auth.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
+import jakarta.servlet.http.Cookie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case responsible for renewing the access token of a session.
+ * <p>
+ * The refresh token is exchanged for a new JWT token and the next refresh token of the session, through the
+ * {@link RefreshTokenService}. Unlike a login, the password is not checked again, so renewing a session does not
+ * run BCrypt.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class RefreshTokenUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenUseCase.class);
+
+    private final RefreshTokenService refreshTokenService;
+    private final CookieUtil cookieUtil;
+
+    /**
+     * Constructs a {@link RefreshTokenUseCase} instance with the required dependencies.
+     *
+     * @param refreshTokenService Service rotating the refresh tokens.
+     * @param cookieUtil          Utility class for generating JWT cookies.
+     */
+    public RefreshTokenUseCase(RefreshTokenService refreshTokenService, CookieUtil cookieUtil) {
+        this.refreshTokenService = refreshTokenService;
+        this.cookieUtil = cookieUtil;
+    }
+
+    /**
+     * Exchanges a refresh token for a new JWT token and refresh token.
+     *
+     * @param refreshToken The refresh token of the request.
+     * @return The cookies containing the new JWT token and refresh token.
+     * @throws UnauthorizedException If the refresh token is missing, unknown, expired or was already used.
+     */
+    public List<Cookie> execute(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new UnauthorizedException("Refresh token is missing.");
+        }
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        Cookie jwtCookie = cookieUtil.generateCookieWithToken(rotation.user());
+        Cookie refreshCookie = cookieUtil.generateRefreshCookie(rotation.refreshToken(),
+                refreshTokenService.expiration());
+
+        logger.info("Session of user {} refreshed", rotation.user().getUsername());
+        return List.of(jwtCookie, refreshCookie);
+    }
+}
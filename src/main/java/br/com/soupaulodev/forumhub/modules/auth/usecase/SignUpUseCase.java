@@ -1,11 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExistsException;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ServiceUnavailableException;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.password.PasswordHashingExecutor;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
 import jakarta.servlet.http.Cookie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,7 +22,7 @@ import java.util.Map;
  * <p>
  * This use case ensures that new users can register in the system by checking
  * if the username is available, securely hashing their password, saving the user,
- * and generating a JWT token as a cookie upon successful registration.
+ * and generating a JWT token and a refresh token as cookies upon successful registration.
  * </p>
  * <p>
  * If the username already exists, a {@link ResourceAlreadyExistsException} is thrown.
@@ -35,6 +38,8 @@ public class SignUpUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CookieUtil cookieUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     /**
      * Constructs a {@link SignUpUseCase} instance with the required dependencies.
@@ -42,25 +47,32 @@ public class SignUpUseCase {
      * @param userRepository  Repository for interacting with user data.
      * @param passwordEncoder Encoder for securely hashing passwords.
      * @param cookieUtil      Utility class for generating JWT cookies.
+     * @param refreshTokenService Service issuing the refresh token of the new session.
+     * @param passwordHashingExecutor Executor running the password hashing off the request threads.
      */
     public SignUpUseCase(UserRepository userRepository,
                          PasswordEncoder passwordEncoder,
-                         CookieUtil cookieUtil) {
+                         CookieUtil cookieUtil,
+                         RefreshTokenService refreshTokenService,
+                         PasswordHashingExecutor passwordHashingExecutor) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.cookieUtil = cookieUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     /**
      * Registers a new user in the system.
      * <p>
      * This method verifies the availability of the username, securely encodes the password,
-     * and saves the user to the database. Upon success, it generates a JWT token cookie.
+     * and saves the user to the database. Upon success, it generates a JWT token cookie and a refresh token cookie.
      * </p>
      *
      * @param requestDTO The registration details (username, password, name, email).
-     * @return A map containing the created user details and a JWT cookie.
+     * @return A map containing the created user details, a JWT cookie and a refresh token cookie.
      * @throws ResourceAlreadyExistsException If the username is already taken.
+     * @throws ServiceUnavailableException If the password cannot be hashed in time because of the load.
      */
     public Map<String, Object> execute(UserCreateRequestDTO requestDTO) {
         validateUsernameAvailability(requestDTO.username());
@@ -69,12 +81,15 @@ public class SignUpUseCase {
         userRepository.save(user);
 
         Cookie jwtCookie = cookieUtil.generateCookieWithToken(user);
+        Cookie refreshCookie = cookieUtil.generateRefreshCookie(refreshTokenService.issue(user),
+                refreshTokenService.expiration());
 
         logger.info("User {} registered successfully", requestDTO.username());
 
         return Map.of(
                 "user", UserMapper.toDetailsResponseDTO(user),
-                "cookie", jwtCookie
+                "cookie", jwtCookie,
+                "refreshCookie", refreshCookie
         );
     }
 
@@ -100,7 +115,8 @@ public class SignUpUseCase {
     private UserEntity createUserEntity(UserCreateRequestDTO requestDTO) {
         UserEntity user = new UserEntity();
         user.setUsername(requestDTO.username());
-        user.setPassword(passwordEncoder.encode(requestDTO.password()));
+        user.setPassword(passwordHashingExecutor.execute(PasswordHashingExecutor.Priority.SIGNUP,
+                () -> passwordEncoder.encode(requestDTO.password())));
         user.setName(requestDTO.name());
         user.setEmail(requestDTO.email());
 
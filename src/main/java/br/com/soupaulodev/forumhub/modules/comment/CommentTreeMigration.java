@@ -0,0 +1,45 @@
+package br.com.soupaulodev.forumhub.modules.comment;
+
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentTreeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the {@code tb_comment_tree} paths of the comments created before the closure table existed on startup, and
+ * counts their replies.
+ * <p>
+ * Runs once per database: new comments get their paths when they are created, so later startups find nothing to
+ * write.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class CommentTreeMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentTreeMigration.class);
+
+    private final CommentTreeRepository commentTreeRepository;
+    private final CommentRepository commentRepository;
+
+    public CommentTreeMigration(CommentTreeRepository commentTreeRepository, CommentRepository commentRepository) {
+        this.commentTreeRepository = commentTreeRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long comments = commentTreeRepository.countCommentsWithoutPaths();
+        if (comments == 0) {
+            return;
+        }
+
+        int paths = commentTreeRepository.insertMissingPaths();
+        commentRepository.recountReplies();
+        logger.info("Wrote {} paths of {} comments to tb_comment_tree", paths, comments);
+    }
+}
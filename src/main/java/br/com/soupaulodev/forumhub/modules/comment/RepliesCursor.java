@@ -0,0 +1,83 @@
+package br.com.soupaulodev.forumhub.modules.comment;
+
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the replies to a comment, handed to clients as an opaque token: the replied comment and, past the
+ * first page, the last direct reply read, so the next page can seek straight past it.
+ *
+ * @param commentId the id of the replied comment
+ * @param after     the position of the last direct reply read, or null for the first page
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record RepliesCursor(UUID commentId, Cursor after) {
+
+    private static final int FIRST_PAGE_SIZE = 2 * Long.BYTES;
+    private static final int SIZE = FIRST_PAGE_SIZE + Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    public RepliesCursor {
+        if (commentId == null) {
+            throw new IllegalArgumentException("Replies cursor comment id cannot be null");
+        }
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(after == null ? FIRST_PAGE_SIZE : SIZE)
+                .putLong(commentId.getMostSignificantBits())
+                .putLong(commentId.getLeastSignificantBits());
+        if (after != null) {
+            buffer.putLong(after.at().getEpochSecond())
+                    .putInt(after.at().getNano())
+                    .putLong(after.id().getMostSignificantBits())
+                    .putLong(after.id().getLeastSignificantBits());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token made by {@link #encode()}.
+     *
+     * @param token the token
+     * @return the cursor
+     * @throws IllegalArgumentException if the token is not a replies cursor
+     */
+    public static RepliesCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != FIRST_PAGE_SIZE && bytes.length != SIZE) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        UUID commentId = new UUID(buffer.getLong(), buffer.getLong());
+        if (bytes.length == FIRST_PAGE_SIZE) {
+            return new RepliesCursor(commentId, null);
+        }
+
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new RepliesCursor(commentId,
+                new Cursor(Instant.ofEpochSecond(seconds, nanos), new UUID(buffer.getLong(), buffer.getLong())));
+    }
+}
@@ -4,6 +4,8 @@ import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateR
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import br.com.soupaulodev.forumhub.security.utils.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -11,7 +13,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,6 +28,7 @@ public class CommentController {
 
     private final CreateCommentUseCase createCommentUseCase;
     private final ListCommentsUseCase listCommentsUseCase;
+    private final ListRepliesUseCase listRepliesUseCase;
     private final UpdateCommentUseCase updateCommentUseCase;
     private final DeleteCommentUseCase deleteCommentUseCase;
     private final HighCommentUseCase highCommentUseCase;
@@ -37,6 +39,7 @@ public class CommentController {
      *
      * @param createCommentUseCase the use case for creating comments
      * @param listCommentsUseCase  the use case for listing comments
+     * @param listRepliesUseCase   the use case for listing the replies left out of a comment tree
      * @param updateCommentUseCase the use case for updating comments
      * @param deleteCommentUseCase the use case for deleting comments
      * @param highCommentUseCase   the use case for highing comments
@@ -44,12 +47,14 @@ public class CommentController {
      */
     public CommentController(CreateCommentUseCase createCommentUseCase,
                              ListCommentsUseCase listCommentsUseCase,
+                             ListRepliesUseCase listRepliesUseCase,
                              UpdateCommentUseCase updateCommentUseCase,
                              DeleteCommentUseCase deleteCommentUseCase,
                              HighCommentUseCase highCommentUseCase,
                              UnHighCommentUseCase unHighCommentUseCase) {
         this.createCommentUseCase = createCommentUseCase;
         this.listCommentsUseCase = listCommentsUseCase;
+        this.listRepliesUseCase = listRepliesUseCase;
         this.updateCommentUseCase = updateCommentUseCase;
         this.deleteCommentUseCase = deleteCommentUseCase;
         this.highCommentUseCase = highCommentUseCase;
@@ -73,22 +78,50 @@ public class CommentController {
     public ResponseEntity<CommentResponseDTO> createComment(@Valid
                                                             @RequestBody
                                                             CommentCreateRequestDTO requestDTO) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         return ResponseEntity.ok(createCommentUseCase.execute(requestDTO, authenticatedUserId));
     }
 
     /**
      * Endpoint for handling comment listing operations.
-     * This method lists all comments.
+     * This method lists the top-level comments, newest first, one page at a time; for authenticated callers each
+     * comment tells whether they highed it.
      *
-     * @return the response entity of CommentResponseDTO with status 200 (OK) and the list of comments
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @param size   the number of comments to retrieve per page
+     * @return the response entity of CommentResponseDTO with status 200 (OK) and the page of comments
      */
     @GetMapping("/all")
     @Operation(summary = "List all comments")
-    @ApiResponse(responseCode = "200", description = "Comments listed successfully")
-    public ResponseEntity<List<CommentResponseDTO>> listComments(@Valid @RequestParam(defaultValue = "0") @Min(0) int page,
-                                                                 @Valid @RequestParam(defaultValue = "5") @Min(5) int size) {
-        return ResponseEntity.ok(listCommentsUseCase.execute(page, size));
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Comments listed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<CommentResponseDTO>> listComments(@RequestParam(required = false) String cursor,
+                                                                          @Valid @RequestParam(defaultValue = "5") @Min(5) int size) {
+        return ResponseEntity.ok(listCommentsUseCase.execute(cursor, size, AuthenticatedUser.findId()));
+    }
+
+    /**
+     * Endpoint for handling reply listing operations.
+     * This method lists the direct replies to a comment, oldest first, one page at a time, given the replies cursor
+     * of the comment, with the first levels of their own replies; for authenticated callers each reply tells whether
+     * they highed it.
+     *
+     * @param cursor the replies cursor of the comment, or the cursor returned with the previous page
+     * @param size   the number of direct replies to retrieve per page
+     * @return the response entity of CommentResponseDTO with status 200 (OK) and the page of replies to the comment
+     */
+    @GetMapping("/replies")
+    @Operation(summary = "List the replies to a comment")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Replies listed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "Comment not found")
+    })
+    public ResponseEntity<CursorPageDTO<CommentResponseDTO>> listReplies(@RequestParam String cursor,
+                                                                         @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(listRepliesUseCase.execute(cursor, size, AuthenticatedUser.findId()));
     }
 
     /**
@@ -110,7 +143,7 @@ public class CommentController {
     public ResponseEntity<CommentResponseDTO> updateComment(@Valid @PathVariable
                                                             @org.hibernate.validator.constraints.UUID String id,
                                                             @RequestBody CommentUpdateRequestDTO requestDTO) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         return ResponseEntity.ok(updateCommentUseCase.execute(UUID.fromString(id), requestDTO, authenticatedUserId));
     }
 
@@ -129,7 +162,7 @@ public class CommentController {
             @ApiResponse(responseCode = "404", description = "Comment not found")
     })
     public ResponseEntity<Void> deleteComment(@Valid @PathVariable @org.hibernate.validator.constraints.UUID String id) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         deleteCommentUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -150,7 +183,7 @@ public class CommentController {
     @PostMapping("/high/{id}")
     public ResponseEntity<Void> highComment(@Valid @PathVariable("id")
                                                           @org.hibernate.validator.constraints.UUID String commentId) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         highCommentUseCase.execute(UUID.fromString(commentId), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -171,25 +204,8 @@ public class CommentController {
     @DeleteMapping("/unhigh/{id}")
     public ResponseEntity<Void> unHighComment(@Valid @PathVariable("id")
                                              @org.hibernate.validator.constraints.UUID String commentId) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         unHighCommentUseCase.execute(UUID.fromString(commentId), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * Retrieves the authenticated user's unique identifier.
-     *
-     * @return the authenticated user's unique identifier
-     */
-    private UUID getAuthenticatedUserId() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        if (principal instanceof UUID) {
-            return (UUID) principal;
-        } else if (principal instanceof String) {
-            return UUID.fromString((String) principal);
-        }
-
-        throw new IllegalStateException("Unexpected principal type: " + principal.getClass().getName());
-    }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.comment.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -9,6 +12,9 @@ import java.util.UUID;
  * <p>
  *     This class is used to capture the comment's information, including its content, user, topic, parent comment ID,
  *     replies, and creation and update timestamps. It is used to return the comment data in API responses.
+ *     Only the first levels of replies are returned: a comment whose replies were left out carries a
+ *     {@code repliesCursor} to load them. For authenticated callers, {@code highedByMe} tells whether they highed
+ *     the comment.
  * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
@@ -21,6 +27,76 @@ public record CommentResponseDTO (
     Long highs,
     UUID parentCommentId,
     List<CommentResponseDTO> replies,
+    Long repliesCount,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String repliesCursor,
     Instant createdAt,
-    Instant updatedAt
-) {}
+    Instant updatedAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Boolean highedByMe
+) {
+
+    public CommentResponseDTO(UUID id,
+                              String content,
+                              UUID user,
+                              UUID topic,
+                              Long highs,
+                              UUID parentCommentId,
+                              List<CommentResponseDTO> replies,
+                              Instant createdAt,
+                              Instant updatedAt) {
+        this(id, content, user, topic, highs, parentCommentId, replies,
+                replies == null ? 0L : (long) replies.size(), null, createdAt, updatedAt, null);
+    }
+
+    /**
+     * Creates the DTO of a comment whose replies are not loaded yet, as read by a projection query.
+     */
+    public CommentResponseDTO(UUID id,
+                              String content,
+                              UUID user,
+                              UUID topic,
+                              Long highs,
+                              UUID parentCommentId,
+                              Long repliesCount,
+                              Instant createdAt,
+                              Instant updatedAt) {
+        this(id, content, user, topic, highs, parentCommentId, List.of(), repliesCount, null, createdAt, updatedAt,
+                null);
+    }
+
+    /**
+     * Returns a copy of this DTO with another highs count, such as one including the highs not yet flushed.
+     *
+     * @param highs the number of highs the comment has
+     * @return the copy
+     */
+    public CommentResponseDTO withHighs(Long highs) {
+        return new CommentResponseDTO(id, content, user, topic, highs, parentCommentId, replies, repliesCount,
+                repliesCursor, createdAt, updatedAt, highedByMe);
+    }
+
+    /**
+     * Returns a copy of this DTO with the given replies.
+     *
+     * @param replies       the loaded replies to the comment
+     * @param repliesCursor the cursor loading the replies left out, or null if every reply is loaded
+     * @return the copy
+     */
+    public CommentResponseDTO withReplies(List<CommentResponseDTO> replies, String repliesCursor) {
+        return new CommentResponseDTO(id, content, user, topic, highs, parentCommentId, replies, repliesCount,
+                repliesCursor, createdAt, updatedAt, highedByMe);
+    }
+
+    /**
+     * Returns a copy of this DTO and its replies carrying the viewer state of the authenticated user.
+     *
+     * @param highedIds the ids of the comments the authenticated user highed
+     * @return the copy
+     */
+    public CommentResponseDTO withHighedByMe(Set<UUID> highedIds) {
+        List<CommentResponseDTO> flaggedReplies = replies == null ? null : replies.stream()
+                .map(reply -> reply.withHighedByMe(highedIds))
+                .toList();
+        return new CommentResponseDTO(id, content, user, topic, highs, parentCommentId, flaggedReplies, repliesCount,
+                repliesCursor, createdAt, updatedAt, highedIds.contains(id));
+    }
+}
@@ -3,6 +3,7 @@ package br.com.soupaulodev.forumhub.modules.comment.entity;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -22,7 +23,10 @@ import java.util.UUID;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_comment")
+@Table(name = "tb_comment", indexes = {
+        @Index(name = "idx_comment_topic_id", columnList = "topic_id"),
+        @Index(name = "idx_comment_parent_created_at_id", columnList = "parent_comment_id, created_at, id")
+})
 public class CommentEntity implements Serializable {
 
     @Serial
@@ -35,9 +39,13 @@ public class CommentEntity implements Serializable {
     @Column(nullable = false, length = 500)
     private String content;
 
-    @Column(name = "highs_count", nullable = false)
+    @Column(name = "highs_count", nullable = false, updatable = false)
     private Long highsCount = 0L;
 
+    @ColumnDefault("0")
+    @Column(name = "replies_count", nullable = false, updatable = false)
+    private Long repliesCount = 0L;
+
 
 
     @ManyToOne
@@ -152,17 +160,15 @@ public class CommentEntity implements Serializable {
     }
 
     /**
-     * Increments the number of highs count.
-     */
-    public void incrementHighs() {
-        this.highsCount++;
-    }
-
-    /**
-     * Decrements the number of highs count.
+     * Gets the number of direct replies to the comment.
+     * <p>
+     * The column is only written by relative updates when a reply is created or deleted, never from this field.
+     * </p>
+     *
+     * @return the number of direct replies to the comment
      */
-    public void decrementHighs() {
-        this.highsCount--;
+    public Long getRepliesCount() {
+        return repliesCount;
     }
 
     /**
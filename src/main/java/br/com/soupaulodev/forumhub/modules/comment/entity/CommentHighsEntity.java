@@ -19,7 +19,8 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_comment_highs")
+@Table(name = "tb_comment_highs", uniqueConstraints = @UniqueConstraint(
+        name = "uk_comment_highs_comment_user", columnNames = {"comment_id", "user_id"}))
 public class CommentHighsEntity {
 
     @Id
@@ -0,0 +1,92 @@
+package br.com.soupaulodev.forumhub.modules.comment.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.Objects;
+
+/**
+ * Represents a path of the comment hierarchy: a comment, one of its descendants and how many levels apart they are.
+ * <p>
+ * The hierarchy is kept as a closure table, with a row for every ancestor of every comment and one at depth zero
+ * for the comment itself, so the replies of a comment down to any number of levels are a single range of the
+ * {@code (ancestor_id, depth)} index instead of one query per level or per reply. The associations only declare the
+ * foreign keys, which remove the paths of a deleted comment in the database.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Entity
+@Table(name = "tb_comment_tree", indexes = {
+        @Index(name = "idx_comment_tree_ancestor_depth", columnList = "ancestor_id, depth, descendant_id"),
+        @Index(name = "idx_comment_tree_descendant", columnList = "descendant_id")
+})
+public class CommentTreeEntity {
+
+    @EmbeddedId
+    private CommentTreeId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ancestor_id", nullable = false, insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CommentEntity ancestor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "descendant_id", nullable = false, insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CommentEntity descendant;
+
+    @Column(nullable = false, updatable = false)
+    private int depth;
+
+    /**
+     * Default constructor, required by JPA.
+     */
+    protected CommentTreeEntity() {
+    }
+
+    /**
+     * Constructs the path from a comment to one of its descendants.
+     *
+     * @param id    the key of the path
+     * @param depth the number of levels between the ancestor and the descendant, zero for the comment itself
+     */
+    public CommentTreeEntity(CommentTreeId id, int depth) {
+        this.id = id;
+        this.depth = depth;
+    }
+
+    /**
+     * Gets the key of the path.
+     *
+     * @return the key of the path
+     */
+    public CommentTreeId getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of levels between the ancestor and the descendant.
+     *
+     * @return the number of levels between the ancestor and the descendant, zero for the comment itself
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        CommentTreeEntity that = (CommentTreeEntity) obj;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
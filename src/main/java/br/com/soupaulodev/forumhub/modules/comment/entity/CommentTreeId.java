@@ -0,0 +1,77 @@
+package br.com.soupaulodev.forumhub.modules.comment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of a {@link CommentTreeEntity}: the ancestor comment and one of its descendants.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Embeddable
+public class CommentTreeId implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private UUID ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private UUID descendantId;
+
+    /**
+     * Default constructor, required by JPA.
+     */
+    protected CommentTreeId() {
+    }
+
+    /**
+     * Constructs the key of the path from a comment to one of its descendants.
+     *
+     * @param ancestorId   the id of the ancestor comment
+     * @param descendantId the id of the descendant comment
+     */
+    public CommentTreeId(UUID ancestorId, UUID descendantId) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+    }
+
+    /**
+     * Gets the id of the ancestor comment.
+     *
+     * @return the id of the ancestor comment
+     */
+    public UUID getAncestorId() {
+        return ancestorId;
+    }
+
+    /**
+     * Gets the id of the descendant comment.
+     *
+     * @return the id of the descendant comment
+     */
+    public UUID getDescendantId() {
+        return descendantId;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        CommentTreeId that = (CommentTreeId) obj;
+        return Objects.equals(ancestorId, that.ancestorId) && Objects.equals(descendantId, that.descendantId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ancestorId, descendantId);
+    }
+}
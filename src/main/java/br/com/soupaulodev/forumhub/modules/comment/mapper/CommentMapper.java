@@ -1,17 +1,19 @@
 package br.com.soupaulodev.forumhub.modules.comment.mapper;
 
+import br.com.soupaulodev.forumhub.modules.comment.RepliesCursor;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
-import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
-import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
-import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -28,7 +30,21 @@ import java.util.UUID;
 @Component
 public class CommentMapper {
 
-    private CommentMapper() {}
+    /**
+     * The number of levels of replies returned with a comment.
+     */
+    public static final int REPLY_DEPTH = 3;
+
+    /**
+     * The maximum number of replies returned with a page of comments.
+     */
+    public static final int MAX_REPLIES = 500;
+
+    private final HighsCounter highsCounter;
+
+    public CommentMapper(HighsCounter highsCounter) {
+        this.highsCounter = highsCounter;
+    }
 
     /**
      * Converts a {@link CommentCreateRequestDTO} to a {@link CommentEntity}.
@@ -76,6 +92,8 @@ public class CommentMapper {
      * <p>
      * This method maps the comment entity, which contains the details of the comment,
      * to a corresponding {@link CommentResponseDTO} for returning to the client.
+     * The highs count includes the highs not yet flushed to the database.
+     * The replies are never loaded: a comment with replies carries the cursor to load them instead.
      * </p>
      *
      * @param commentEntity the {@link CommentEntity} containing comment data to be converted
@@ -83,23 +101,79 @@ public class CommentMapper {
      */
     public CommentResponseDTO toResponseDTO(CommentEntity commentEntity) {
 
-        UserResponseDTO user = UserMapper.toResponseDTO(commentEntity.getUser());
-        TopicResponseDTO topic = TopicMapper.toResponseDTO(commentEntity.getTopic());
         UUID parentComment = commentEntity.getParentComment() != null ? commentEntity.getParentComment().getId() : null;
 
-        List<CommentResponseDTO> replies = commentEntity.getReplies().stream()
-                .map(this::toResponseDTO)
-                .toList();
-
-        return new CommentResponseDTO(
+        CommentResponseDTO comment = new CommentResponseDTO(
                 commentEntity.getId(),
                 commentEntity.getContent(),
-                user.id(),
-                topic.id(),
-                commentEntity.getHighsCount(),
+                commentEntity.getUser().getId(),
+                commentEntity.getTopic().getId(),
+                highsCounter.read(CounterTarget.COMMENT, commentEntity.getId(), commentEntity.getHighsCount()),
                 parentComment,
-                replies,
+                commentEntity.getRepliesCount(),
                 commentEntity.getCreatedAt(),
                 commentEntity.getUpdatedAt());
+        return comment.withReplies(List.of(), isTruncated(comment, 0) ? repliesCursor(comment) : null);
+    }
+
+    /**
+     * Assembles comments and their replies, as read by projection queries, into trees.
+     * <p>
+     * The replies are grouped by parent in one pass and every comment is then visited once, so the trees are built
+     * in time linear in the number of comments. A comment whose replies were not all read, because they were deeper
+     * than {@link #REPLY_DEPTH} or past {@link #MAX_REPLIES}, is returned without replies and with the cursor
+     * to load them. The highs counts include the highs not yet flushed to the database.
+     * </p>
+     *
+     * @param comments the comments at the root of the trees
+     * @param replies  the replies to the comments, at any level, oldest first within a level
+     * @return the comments, in the same order, with their replies
+     */
+    public List<CommentResponseDTO> toTrees(List<CommentResponseDTO> comments, List<CommentResponseDTO> replies) {
+        Map<UUID, List<CommentResponseDTO>> repliesByParent = groupByParent(replies);
+        return comments.stream()
+                .map(comment -> attachReplies(comment, repliesByParent))
+                .toList();
+    }
+
+    /**
+     * Adds the highs not yet flushed to the database to a {@link CommentResponseDTO} read by a projection query.
+     * The replies of the DTO are left as they are.
+     *
+     * @param dto the {@link CommentResponseDTO} carrying the persisted highs count
+     * @return the {@link CommentResponseDTO} carrying the current highs count
+     */
+    public CommentResponseDTO withPendingHighs(CommentResponseDTO dto) {
+        return dto.withHighs(highsCounter.read(CounterTarget.COMMENT, dto.id(), dto.highs()));
+    }
+
+    private Map<UUID, List<CommentResponseDTO>> groupByParent(List<CommentResponseDTO> replies) {
+        Map<UUID, List<CommentResponseDTO>> repliesByParent = new HashMap<>();
+        replies.forEach(reply -> repliesByParent
+                .computeIfAbsent(reply.parentCommentId(), parentId -> new ArrayList<>())
+                .add(reply));
+        return repliesByParent;
+    }
+
+    private CommentResponseDTO attachReplies(CommentResponseDTO comment,
+                                             Map<UUID, List<CommentResponseDTO>> repliesByParent) {
+        List<CommentResponseDTO> loaded = repliesByParent.getOrDefault(comment.id(), List.of());
+        CommentResponseDTO withHighs = withPendingHighs(comment);
+        if (isTruncated(comment, loaded.size())) {
+            return withHighs.withReplies(List.of(), repliesCursor(comment));
+        }
+
+        List<CommentResponseDTO> replies = loaded.stream()
+                .map(reply -> attachReplies(reply, repliesByParent))
+                .toList();
+        return withHighs.withReplies(replies, null);
+    }
+
+    private static boolean isTruncated(CommentResponseDTO comment, int loadedReplies) {
+        return comment.repliesCount() != null && loadedReplies < comment.repliesCount();
+    }
+
+    private static String repliesCursor(CommentResponseDTO comment) {
+        return new RepliesCursor(comment.id(), null).encode();
     }
-}
\ No newline at end of file
+}
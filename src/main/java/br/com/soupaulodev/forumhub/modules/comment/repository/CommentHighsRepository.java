@@ -1,10 +1,18 @@
 package br.com.soupaulodev.forumhub.modules.comment.repository;
 
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentHighsEntity;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -16,4 +24,58 @@ import java.util.UUID;
 @Repository
 public interface CommentHighsRepository extends JpaRepository<CommentHighsEntity, String> {
     Optional<CommentHighsEntity> findByComment_IdAndUser_Id(UUID commentId, UUID userId);
+
+    /**
+     * Inserts a high unless the user already highed the comment, in a single statement.
+     *
+     * @param id        the id of the new high
+     * @param commentId the id of the comment
+     * @param userId    the id of the user
+     * @param now       the creation timestamp
+     * @return 1 if the high was inserted, 0 if it already existed
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_comment_highs (id, comment_id, user_id, created_at, updated_at)
+            VALUES (:id, :commentId, :userId, :now, :now)
+            ON CONFLICT (comment_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("commentId") UUID commentId,
+                       @Param("userId") UUID userId,
+                       @Param("now") Instant now);
+
+    /**
+     * Inserts a high unless the user already highed the comment.
+     *
+     * @param commentId the id of the comment
+     * @param userId    the id of the user
+     * @return true if the high was inserted, false if it already existed
+     */
+    default boolean insertIfAbsent(UUID commentId, UUID userId) {
+        return insertIfAbsent(UlidGenerator.generate(), commentId, userId, Instant.now()) > 0;
+    }
+
+    /**
+     * Deletes the high of the user on the comment, in a single statement.
+     *
+     * @param commentId the id of the comment
+     * @param userId    the id of the user
+     * @return the number of deleted highs, 0 if the user had not highed the comment
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CommentHighsEntity h WHERE h.comment.id = :commentId AND h.user.id = :userId")
+    int deleteIfPresent(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+    /**
+     * Returns which of the given comments the user highed, in a single query.
+     *
+     * @param userId   the id of the user
+     * @param commentIds the ids of the comments to check
+     * @return the ids of the highed comments
+     */
+    @Query("SELECT h.comment.id FROM CommentHighsEntity h WHERE h.user.id = :userId AND h.comment.id IN :commentIds")
+    Set<UUID> findHighedCommentIds(@Param("userId") UUID userId, @Param("commentIds") Collection<UUID> commentIds);
 }
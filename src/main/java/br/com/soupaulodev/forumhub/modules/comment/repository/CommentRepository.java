@@ -1,9 +1,17 @@
 package br.com.soupaulodev.forumhub.modules.comment.repository;
 
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,4 +19,109 @@ import java.util.UUID;
  */
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, UUID> {
-}
\ No newline at end of file
+
+    /**
+     * Reads the newest top-level comments, ordered by creation date and id, both descending.
+     *
+     * @param limit the maximum number of top-level comments to read
+     * @return the top-level comments
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO(
+                c.id, c.content, c.user.id, c.topic.id, c.highsCount, c.parentComment.id, c.repliesCount,
+                c.createdAt, c.updatedAt)
+            FROM CommentEntity c
+            WHERE c.parentComment IS NULL
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<CommentResponseDTO> findNewest(Limit limit);
+
+    /**
+     * Reads the top-level comments created before the given position, ordered by creation date and id, both descending.
+     * The position is sought on the {@code idx_comment_parent_created_at_id (parent_comment_id, created_at, id)} index,
+     * through its {@code parent_comment_id IS NULL} prefix, so the cost does not depend on its depth.
+     *
+     * @param createdAt the creation date of the last comment read
+     * @param id        the id of the last comment read
+     * @param limit     the maximum number of top-level comments to read
+     * @return the top-level comments
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO(
+                c.id, c.content, c.user.id, c.topic.id, c.highsCount, c.parentComment.id, c.repliesCount,
+                c.createdAt, c.updatedAt)
+            FROM CommentEntity c
+            WHERE (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) AND c.parentComment IS NULL
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<CommentResponseDTO> findNewestBefore(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Reads the oldest direct replies to a comment, ordered by creation date and id, both ascending.
+     *
+     * @param parentId the id of the replied comment
+     * @param limit    the maximum number of replies to read
+     * @return the replies, without their own replies
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO(
+                c.id, c.content, c.user.id, c.topic.id, c.highsCount, c.parentComment.id, c.repliesCount,
+                c.createdAt, c.updatedAt)
+            FROM CommentEntity c
+            WHERE c.parentComment.id = :parentId
+            ORDER BY c.createdAt, c.id
+            """)
+    List<CommentResponseDTO> findOldestReplies(@Param("parentId") UUID parentId, Limit limit);
+
+    /**
+     * Reads the direct replies to a comment created after the given position, ordered by creation date and id, both
+     * ascending.
+     * The position is sought on the {@code (parent_comment_id, created_at, id)} index, so the cost does not depend
+     * on its depth.
+     *
+     * @param parentId  the id of the replied comment
+     * @param createdAt the creation date of the last reply read
+     * @param id        the id of the last reply read
+     * @param limit     the maximum number of replies to read
+     * @return the replies, without their own replies
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO(
+                c.id, c.content, c.user.id, c.topic.id, c.highsCount, c.parentComment.id, c.repliesCount,
+                c.createdAt, c.updatedAt)
+            FROM CommentEntity c
+            WHERE c.parentComment.id = :parentId AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+            ORDER BY c.createdAt, c.id
+            """)
+    List<CommentResponseDTO> findOldestRepliesAfter(@Param("parentId") UUID parentId,
+                                                    @Param("createdAt") Instant createdAt,
+                                                    @Param("id") UUID id,
+                                                    Limit limit);
+
+    /**
+     * Adds a delta to the replies count of a comment, in a single relative update.
+     * The update is native because the column is not updatable through the entity.
+     *
+     * @param commentId the id of the comment
+     * @param delta     the number of replies created, negative if they were deleted
+     * @return the number of updated comments, 0 if the comment does not exist
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tb_comment SET replies_count = replies_count + :delta WHERE id = :commentId",
+            nativeQuery = true)
+    int addToRepliesCount(@Param("commentId") UUID commentId, @Param("delta") long delta);
+
+    /**
+     * Recounts the direct replies of every comment.
+     *
+     * @return the number of updated comments
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE tb_comment c
+            SET replies_count = (SELECT COUNT(*) FROM tb_comment r WHERE r.parent_comment_id = c.id)
+            """, nativeQuery = true)
+    int recountReplies();
+}
@@ -0,0 +1,133 @@
+package br.com.soupaulodev.forumhub.modules.comment.repository;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentTreeEntity;
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentTreeId;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for {@link CommentTreeEntity}, the closure table of the comment hierarchy.
+ * <p>
+ * The paths of a comment are written once, when it is created, by copying the paths of its parent; reading the
+ * replies of any number of comments down to a given depth is then a single range scan of the
+ * {@code (ancestor_id, depth)} index.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public interface CommentTreeRepository extends JpaRepository<CommentTreeEntity, CommentTreeId> {
+
+    /**
+     * Inserts the path from a comment to itself.
+     *
+     * @param commentId the id of the comment
+     * @return the number of inserted paths
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_comment_tree (ancestor_id, descendant_id, depth)
+            VALUES (:commentId, :commentId, 0)
+            ON CONFLICT (ancestor_id, descendant_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertSelfPath(@Param("commentId") UUID commentId);
+
+    /**
+     * Inserts the paths from every ancestor of a reply, its parent included, to the reply.
+     *
+     * @param commentId the id of the reply
+     * @param parentId  the id of the replied comment
+     * @return the number of inserted paths
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_comment_tree (ancestor_id, descendant_id, depth)
+            SELECT t.ancestor_id, :commentId, t.depth + 1
+            FROM tb_comment_tree t
+            WHERE t.descendant_id = :parentId
+            ON CONFLICT (ancestor_id, descendant_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertPathsUnder(@Param("commentId") UUID commentId, @Param("parentId") UUID parentId);
+
+    /**
+     * Inserts the paths of a new comment: to itself and, for a reply, from every ancestor.
+     * The comment must already be written.
+     *
+     * @param commentId the id of the comment
+     * @param parentId  the id of the replied comment, or null for a top-level comment
+     */
+    default void insertPaths(UUID commentId, UUID parentId) {
+        insertSelfPath(commentId);
+        if (parentId != null) {
+            insertPathsUnder(commentId, parentId);
+        }
+    }
+
+    /**
+     * Reads the replies to the given comments down to the given depth, level by level and oldest first within a
+     * level, without their own replies.
+     * The replies of every comment are one range of the {@code (ancestor_id, depth)} index, read by one statement.
+     *
+     * @param ancestorIds the ids of the replied comments
+     * @param depth       the number of levels of replies to read
+     * @param limit       the maximum number of replies to read
+     * @return the replies, each with the id of its parent
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO(
+                c.id, c.content, c.user.id, c.topic.id, c.highsCount, c.parentComment.id, c.repliesCount,
+                c.createdAt, c.updatedAt)
+            FROM CommentTreeEntity t JOIN t.descendant c
+            WHERE t.id.ancestorId IN :ancestorIds AND t.depth BETWEEN 1 AND :depth
+            ORDER BY t.depth, c.createdAt, c.id
+            """)
+    List<CommentResponseDTO> findDescendants(@Param("ancestorIds") Collection<UUID> ancestorIds,
+                                             @Param("depth") int depth,
+                                             Limit limit);
+
+    /**
+     * Counts the comments without a path to themselves, written before the closure table existed.
+     *
+     * @return the number of comments without paths
+     */
+    @Query(value = """
+            SELECT COUNT(*) FROM tb_comment c
+            WHERE NOT EXISTS (SELECT 1 FROM tb_comment_tree t WHERE t.ancestor_id = c.id AND t.descendant_id = c.id)
+            """, nativeQuery = true)
+    long countCommentsWithoutPaths();
+
+    /**
+     * Inserts every path of the comments without a path to themselves, walking up their parents.
+     *
+     * @return the number of inserted paths
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+                SELECT c.id, c.id, 0
+                FROM tb_comment c
+                WHERE NOT EXISTS (SELECT 1 FROM tb_comment_tree t WHERE t.ancestor_id = c.id AND t.descendant_id = c.id)
+                UNION ALL
+                SELECT a.parent_comment_id, p.descendant_id, p.depth + 1
+                FROM paths p JOIN tb_comment a ON a.id = p.ancestor_id
+                WHERE a.parent_comment_id IS NOT NULL
+            )
+            INSERT INTO tb_comment_tree (ancestor_id, descendant_id, depth)
+            SELECT ancestor_id, descendant_id, depth FROM paths
+            ON CONFLICT (ancestor_id, descendant_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissingPaths();
+}
@@ -1,16 +1,23 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
+import br.com.soupaulodev.forumhub.modules.activity.ActivityKind;
+import br.com.soupaulodev.forumhub.modules.activity.ActivityRates;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentTreeRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -28,42 +35,55 @@ public class CreateCommentUseCase {
 
     private final CommentMapper commentMapper;
     private final CommentRepository commentRepository;
+    private final CommentTreeRepository commentTreeRepository;
     private final UserRepository userRepository;
     private final TopicRepository topicRepository;
+    private final TrendingEngine trendingEngine;
+    private final ActivityRates activityRates;
+    private final ForumMembership forumMembership;
 
     public CreateCommentUseCase(CommentMapper commentMapper,
                                 CommentRepository commentRepository,
+                                CommentTreeRepository commentTreeRepository,
                                 UserRepository userRepository,
-                                TopicRepository topicRepository) {
+                                TopicRepository topicRepository,
+                                TrendingEngine trendingEngine,
+                                ActivityRates activityRates,
+                                ForumMembership forumMembership) {
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
+        this.commentTreeRepository = commentTreeRepository;
         this.userRepository = userRepository;
         this.topicRepository = topicRepository;
+        this.trendingEngine = trendingEngine;
+        this.activityRates = activityRates;
+        this.forumMembership = forumMembership;
     }
 
     /**
      * Creates a new comment for a specified topic.
      * <p>
      * Validates user permission, checks for the existence of the topic and parent comment (if applicable),
-     * and ensures the comment is associated with the correct topic.
+     * and ensures the comment is associated with the correct topic. Participation is checked through
+     * {@link ForumMembership}, so the user itself is never loaded: the comment only references it.
+     * Once the comment is written, its paths are added to the comment closure table, copied from those of the
+     * parent comment, and the replies count of the parent comment is incremented in place.
      * </p>
      *
      * @param requestDTO the data for the new comment
      * @param authenticatedUserId the UUID of the user creating the comment
      * @return a DTO containing the newly created comment's data
-     * @throws ResourceNotFoundException if the user, topic, or parent comment is not found
+     * @throws ResourceNotFoundException if the topic or parent comment is not found
      * @throws ForbiddenException if the user is not authorized to comment on the topic
      * @throws IllegalArgumentException if the parent comment is not from the specified topic
      */
+    @Transactional
     public CommentResponseDTO execute(CommentCreateRequestDTO requestDTO, UUID authenticatedUserId) {
 
-        UserEntity user = userRepository.findById(authenticatedUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found."));
-
         TopicEntity topic = topicRepository.findById(UUID.fromString(requestDTO.topicId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
 
-        if (!user.participatingInForum(topic.getForum())) {
+        if (!forumMembership.isParticipant(authenticatedUserId, topic.getForum().getId())) {
             throw new ForbiddenException("You are not allowed to create a comment for this topic.");
         }
 
@@ -77,11 +97,19 @@ public class CreateCommentUseCase {
             }
         }
 
+        UserEntity user = userRepository.getReferenceById(authenticatedUserId);
         CommentEntity newComment = commentMapper.toEntity(requestDTO, user, topic, parentComment);
-        commentRepository.save(newComment);
+        commentRepository.saveAndFlush(newComment);
+        commentTreeRepository.insertPaths(newComment.getId(), parentComment != null ? parentComment.getId() : null);
+        if (parentComment != null) {
+            commentRepository.addToRepliesCount(parentComment.getId(), 1);
+        }
 
         topic.incrementComments();
         topicRepository.save(topic);
+        trendingEngine.topicCommented(topic.getForum().getId(), topic.getId());
+        activityRates.record(CounterTarget.TOPIC, topic.getId(), ActivityKind.COMMENT);
+        activityRates.record(CounterTarget.FORUM, topic.getForum().getId(), ActivityKind.COMMENT);
 
         return commentMapper.toResponseDTO(newComment);
     }
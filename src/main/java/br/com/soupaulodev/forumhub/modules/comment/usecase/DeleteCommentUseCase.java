@@ -2,12 +2,14 @@ package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -21,31 +23,38 @@ import java.util.UUID;
 public class DeleteCommentUseCase {
 
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
     private final TopicRepository topicRepository;
+    private final ForumMembership forumMembership;
+    private final HighsMembershipIndex highsMembershipIndex;
 
     /**
      * Constructs a new DeleteCommentUsecase with the specified repository.
      *
      * @param commentRepository the repository for managing comments
-     * @param userRepository    the repository for managing users
      * @param topicRepository   the repository for managing topics
+     * @param forumMembership   the membership of users in forums
+     * @param highsMembershipIndex the index of the users who highed each comment
      */
     public DeleteCommentUseCase(CommentRepository commentRepository,
-                                UserRepository userRepository,
-                                TopicRepository topicRepository) {
+                                TopicRepository topicRepository,
+                                ForumMembership forumMembership,
+                                HighsMembershipIndex highsMembershipIndex) {
         this.commentRepository = commentRepository;
-        this.userRepository = userRepository;
         this.topicRepository = topicRepository;
+        this.forumMembership = forumMembership;
+        this.highsMembershipIndex = highsMembershipIndex;
     }
 
     /**
      * Executes the use case to delete a comment by its ID.
+     * The paths of the comment in the comment closure table are removed with it by the database, and the replies
+     * count of its parent comment is decremented in place.
      *
      * @param id the UUID of the comment to be deleted
-     * @throws ResourceNotFoundException if the comment, user or topic is not found
+     * @throws ResourceNotFoundException if the comment or topic is not found
      * @throws ForbiddenException        if the user is not allowed to delete the comment
      */
+    @Transactional
     public void execute(UUID id, UUID getAuthenticatedUserId) {
 
         CommentEntity commentFound = commentRepository.findById(id)
@@ -55,17 +64,18 @@ public class DeleteCommentUseCase {
             throw new ForbiddenException("You are not allowed to delete a comment for another user");
         }
 
-        UserEntity user = userRepository.findById(getAuthenticatedUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found."));
-
         TopicEntity topic = topicRepository.findById(commentFound.getTopic().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
-        if (!user.participatingInForum(topic.getForum())) {
+        if (!forumMembership.isParticipant(getAuthenticatedUserId, topic.getForum().getId())) {
             throw new ForbiddenException("You are not allowed to update a comment in a topic you do not participate in");
         }
 
         commentRepository.delete(commentFound);
+        if (commentFound.getParentComment() != null) {
+            commentRepository.addToRepliesCount(commentFound.getParentComment().getId(), -1);
+        }
         topic.decrementComments();
         topicRepository.save(topic);
+        highsMembershipIndex.evict(CounterTarget.COMMENT, id);
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
-import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
-import br.com.soupaulodev.forumhub.modules.comment.entity.CommentHighsEntity;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
-import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
@@ -19,45 +21,56 @@ import java.util.UUID;
 public class HighCommentUseCase {
 
     private final CommentHighsRepository commentHighsRepository;
-    private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
     /**
      * Constructor
      *
      * @param commentHighsRepository comment highs repository
-     * @param commentRepository comment repository
-     * @param userRepository user repository
+     * @param highEffects high effects
+     * @param highsWriteAheadLog highs write-ahead log
      */
     public HighCommentUseCase(CommentHighsRepository commentHighsRepository,
-                              CommentRepository commentRepository,
-                              UserRepository userRepository) {
+                              HighEffects highEffects,
+                              HighsWriteAheadLog highsWriteAheadLog) {
         this.commentHighsRepository = commentHighsRepository;
-        this.commentRepository = commentRepository;
-        this.userRepository = userRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
     /**
      * Use case to high a Comment
+     * <p>
+     * The high is inserted with a single conditional statement, and the highs count only moves
+     * when a row was actually inserted: the unique constraint alone decides whether the high is repeated, and
+     * the highs membership index is only updated from the outcome.
+     * While the database is unavailable, the high is deferred to the {@link HighsWriteAheadLog}
+     * and applied later by its replayer.
+     * </p>
      *
      * @param commentId comment id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the comment or the user does not exist, or the comment is already highed
      */
     public void execute(UUID commentId, UUID authenticatedUserId) {
-        commentHighsRepository.findByComment_IdAndUser_Id(commentId, authenticatedUserId)
-                .ifPresent(commentHighsEntity -> {
-                    throw new IllegalArgumentException("Comment already highed");
-                });
+        if (highsWriteAheadLog.deferIfPending(HighAction.HIGH, CounterTarget.COMMENT, commentId, authenticatedUserId)) {
+            return;
+        }
 
-        CommentEntity commentFound = commentRepository.findById(commentId).orElseThrow(
-                () -> new IllegalArgumentException("Comment not found")
-        );
+        boolean inserted;
+        try {
+            inserted = commentHighsRepository.insertIfAbsent(commentId, authenticatedUserId);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Comment not found");
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.HIGH, CounterTarget.COMMENT, commentId, authenticatedUserId);
+            return;
+        }
 
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(
-                () -> new IllegalArgumentException("Comment not found")
-        );
-
-        commentFound.incrementHighs();
-        commentHighsRepository.save(new CommentHighsEntity(commentFound, authenticatedUserEntity));
+        if (!inserted) {
+            throw new IllegalArgumentException("Comment already highed");
+        }
+        highEffects.highed(CounterTarget.COMMENT, commentId, authenticatedUserId);
     }
 }
@@ -1,16 +1,22 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
-import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentTreeRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Service class for listing comments.
@@ -22,23 +28,97 @@ public class ListCommentsUseCase {
 
     private final CommentMapper commentMapper;
     private final CommentRepository commentRepository;
+    private final CommentTreeRepository commentTreeRepository;
+    private final HighsMembershipIndex highsMembershipIndex;
+    private final CommentHighsRepository commentHighsRepository;
 
     public ListCommentsUseCase(CommentMapper commentMapper,
-                               CommentRepository commentRepository) {
+                               CommentRepository commentRepository,
+                               CommentTreeRepository commentTreeRepository,
+                               HighsMembershipIndex highsMembershipIndex,
+                               CommentHighsRepository commentHighsRepository) {
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
+        this.commentTreeRepository = commentTreeRepository;
+        this.highsMembershipIndex = highsMembershipIndex;
+        this.commentHighsRepository = commentHighsRepository;
     }
 
     /**
-     * Executes the use case to list all comments.
+     * Executes the use case to list a page of top-level comments, newest first, with the first levels of their
+     * replies.
      *
-     * @return the list of comments
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the number of comments per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @return the page of comments
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<CommentResponseDTO> execute(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<CommentEntity> entities = commentRepository.findAll(pageable);
-        return entities.getContent().stream().filter(comment -> comment.getParentComment() == null)
-                .map(commentMapper::toResponseDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CommentResponseDTO> execute(String cursor, int size) {
+        return execute(cursor, size, null);
+    }
+
+    /**
+     * Executes the use case to list a page of top-level comments, newest first, flagging the comments and replies
+     * highed by the viewer.
+     * <p>
+     * Pages are read with a keyset on the creation date and the id of the top-level comments instead of an offset,
+     * so any page costs a single range scan of the {@code (parent_comment_id, created_at, id)} index whatever its
+     * depth, no count is run, and every page is full rather than thinned by the replies it would have held.
+     * Comments and replies are read straight into their DTOs in a read-only transaction, so no comment, user or
+     * topic is loaded as an entity. The replies of the whole page, down to {@value CommentMapper#REPLY_DEPTH}
+     * levels and at most {@value CommentMapper#MAX_REPLIES} of them, are read by a single range query on the
+     * comment closure table and assembled in memory; the comments whose replies were left out carry the cursor to
+     * load them. The flags of the whole page, replies included, are read from the highs membership
+     * index for the comments whose bitmap is in memory, and from a single per-viewer query for the others.
+     * </p>
+     *
+     * @param cursor   the cursor returned with the previous page, or null for the first page
+     * @param size     the number of comments per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @param viewerId the authenticated user, or null for anonymous callers
+     * @return the page of comments
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CommentResponseDTO> execute(String cursor, int size, UUID viewerId) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor before = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CommentResponseDTO> rows = before == null
+                ? commentRepository.findNewest(limit)
+                : commentRepository.findNewestBefore(before.at(), before.id(), limit);
+
+        CursorPageDTO<CommentResponseDTO> page = CursorPageDTO
+                .of(rows, pageSize, comment -> new Cursor(comment.createdAt(), comment.id()));
+        CursorPageDTO<CommentResponseDTO> comments = new CursorPageDTO<>(withReplies(page.items()), page.next());
+        if (viewerId == null || comments.items().isEmpty()) {
+            return comments;
+        }
+
+        List<UUID> ids = new ArrayList<>();
+        comments.items().forEach(comment -> collectIds(comment, ids));
+        Set<UUID> highed = highsMembershipIndex.findHighed(CounterTarget.COMMENT, ids, viewerId,
+                commentIds -> commentHighsRepository.findHighedCommentIds(viewerId, commentIds));
+        return comments.map(comment -> comment.withHighedByMe(highed));
+    }
+
+    private List<CommentResponseDTO> withReplies(List<CommentResponseDTO> comments) {
+        if (comments.isEmpty()) {
+            return comments;
+        }
+
+        List<CommentResponseDTO> replies = commentTreeRepository.findDescendants(
+                comments.stream().map(CommentResponseDTO::id).toList(),
+                CommentMapper.REPLY_DEPTH,
+                Limit.of(CommentMapper.MAX_REPLIES));
+        return commentMapper.toTrees(comments, replies);
+    }
+
+    private void collectIds(CommentResponseDTO comment, List<UUID> ids) {
+        ids.add(comment.id());
+        if (comment.replies() != null) {
+            comment.replies().forEach(reply -> collectIds(reply, ids));
+        }
     }
 }
@@ -0,0 +1,117 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.RepliesCursor;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentTreeRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service class for listing the replies to a comment, such as the replies left out of a comment tree.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ListRepliesUseCase {
+
+    private final CommentMapper commentMapper;
+    private final CommentRepository commentRepository;
+    private final CommentTreeRepository commentTreeRepository;
+    private final HighsMembershipIndex highsMembershipIndex;
+    private final CommentHighsRepository commentHighsRepository;
+
+    public ListRepliesUseCase(CommentMapper commentMapper,
+                              CommentRepository commentRepository,
+                              CommentTreeRepository commentTreeRepository,
+                              HighsMembershipIndex highsMembershipIndex,
+                              CommentHighsRepository commentHighsRepository) {
+        this.commentMapper = commentMapper;
+        this.commentRepository = commentRepository;
+        this.commentTreeRepository = commentTreeRepository;
+        this.highsMembershipIndex = highsMembershipIndex;
+        this.commentHighsRepository = commentHighsRepository;
+    }
+
+    /**
+     * Executes the use case to list a page of the direct replies to the comment a replies cursor points to, oldest
+     * first, flagging the replies highed by the viewer.
+     * <p>
+     * The direct replies are read with a keyset on their creation date and id, sought on the
+     * {@code (parent_comment_id, created_at, id)} index past the last reply of the previous page, so every reply
+     * is reachable whatever their number. Their own replies, down to {@value CommentMapper#REPLY_DEPTH} levels
+     * below the comment and at most {@value CommentMapper#MAX_REPLIES} of them, are read by a single range query
+     * on the comment closure table and assembled in memory, like the replies of a page of comments; the replies
+     * whose own replies were left out carry the cursor to load them.
+     * </p>
+     *
+     * @param cursor   the replies cursor of the comment, or the cursor returned with the previous page
+     * @param size     the number of direct replies per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @param viewerId the authenticated user, or null for anonymous callers
+     * @return the page of direct replies, with their own replies and the cursor of the next page if there is one
+     * @throws IllegalArgumentException  if the cursor is invalid
+     * @throws ResourceNotFoundException if the comment does not exist
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CommentResponseDTO> execute(String cursor, int size, UUID viewerId) {
+        RepliesCursor position = RepliesCursor.decode(cursor);
+        UUID commentId = position.commentId();
+        int pageSize = CursorPageDTO.pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CommentResponseDTO> rows = position.after() == null
+                ? commentRepository.findOldestReplies(commentId, limit)
+                : commentRepository.findOldestRepliesAfter(commentId, position.after().at(), position.after().id(),
+                limit);
+        if (rows.isEmpty() && !commentRepository.existsById(commentId)) {
+            throw new ResourceNotFoundException("Comment not found.");
+        }
+
+        List<CommentResponseDTO> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String next = rows.size() > pageSize
+                ? new RepliesCursor(commentId, new Cursor(page.getLast().createdAt(), page.getLast().id())).encode()
+                : null;
+        CursorPageDTO<CommentResponseDTO> replies = new CursorPageDTO<>(withReplies(page), next);
+        if (viewerId == null || replies.items().isEmpty()) {
+            return replies;
+        }
+
+        List<UUID> ids = new ArrayList<>();
+        replies.items().forEach(reply -> collectIds(reply, ids));
+        Set<UUID> highed = highsMembershipIndex.findHighed(CounterTarget.COMMENT, ids, viewerId,
+                commentIds -> commentHighsRepository.findHighedCommentIds(viewerId, commentIds));
+        return replies.map(reply -> reply.withHighedByMe(highed));
+    }
+
+    private List<CommentResponseDTO> withReplies(List<CommentResponseDTO> replies) {
+        if (replies.isEmpty()) {
+            return replies;
+        }
+
+        List<CommentResponseDTO> nested = commentTreeRepository.findDescendants(
+                replies.stream().map(CommentResponseDTO::id).toList(),
+                CommentMapper.REPLY_DEPTH - 1,
+                Limit.of(CommentMapper.MAX_REPLIES));
+        return commentMapper.toTrees(replies, nested);
+    }
+
+    private void collectIds(CommentResponseDTO comment, List<UUID> ids) {
+        ids.add(comment.id());
+        if (comment.replies() != null) {
+            comment.replies().forEach(reply -> collectIds(reply, ids));
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
-import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
@@ -15,38 +20,53 @@ import java.util.UUID;
 public class UnHighCommentUseCase {
 
     private final CommentHighsRepository commentHighsRepository;
-    private final CommentRepository commentRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
     /**
      * Constructor
      *
      * @param commentHighsRepository comment highs repository
-     * @param commentRepository comment repository
+     * @param highEffects high effects
+     * @param highsWriteAheadLog highs write-ahead log
      */
     public UnHighCommentUseCase(CommentHighsRepository commentHighsRepository,
-                                CommentRepository commentRepository) {
+                                HighEffects highEffects,
+                                HighsWriteAheadLog highsWriteAheadLog) {
         this.commentHighsRepository = commentHighsRepository;
-        this.commentRepository = commentRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
     /**
-     * Execute the use case
+     * Use case to unhigh a Comment
+     * <p>
+     * The high is removed with a single statement, and the highs count only moves
+     * when a row was actually deleted.
+     * While the database is unavailable, the unhigh is deferred to the {@link HighsWriteAheadLog}
+     * and applied later by its replayer.
+     * </p>
      *
      * @param commentId comment id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the comment is not highed by the user
      */
     public void execute(UUID commentId, UUID authenticatedUserId) {
-        commentHighsRepository.findByComment_IdAndUser_Id(commentId, authenticatedUserId)
-                .ifPresentOrElse(
-                        commentHighsRepository::delete,
-                    () -> {
-                        throw new IllegalArgumentException("Comment not highed");
-                    }
-                );
-
-        commentRepository.findById(commentId).ifPresent((comment) -> {
-            comment.decrementHighs();
-            commentRepository.save(comment);
-        });
+        if (highsWriteAheadLog.deferIfPending(HighAction.UNHIGH, CounterTarget.COMMENT, commentId, authenticatedUserId)) {
+            return;
+        }
+
+        int deleted;
+        try {
+            deleted = commentHighsRepository.deleteIfPresent(commentId, authenticatedUserId);
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.UNHIGH, CounterTarget.COMMENT, commentId, authenticatedUserId);
+            return;
+        }
+
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Comment not highed");
+        }
+        highEffects.unHighed(CounterTarget.COMMENT, commentId, authenticatedUserId);
     }
 }
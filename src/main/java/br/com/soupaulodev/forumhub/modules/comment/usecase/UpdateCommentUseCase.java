@@ -7,10 +7,9 @@ import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -24,17 +23,17 @@ public class UpdateCommentUseCase {
 
     private final CommentMapper commentMapper;
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
     private final TopicRepository topicRepository;
+    private final ForumMembership forumMembership;
 
     public UpdateCommentUseCase(CommentMapper commentMapper,
                                 CommentRepository commentRepository,
-                                UserRepository userRepository,
-                                TopicRepository topicRepository) {
+                                TopicRepository topicRepository,
+                                ForumMembership forumMembership) {
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
-        this.userRepository = userRepository;
         this.topicRepository = topicRepository;
+        this.forumMembership = forumMembership;
     }
 
     /**
@@ -43,7 +42,7 @@ public class UpdateCommentUseCase {
      * @param id         the UUID of the comment to be updated
      * @param requestDTO the DTO containing the updated comment data
      * @return the response DTO with the updated comment data
-     * @throws ResourceNotFoundException if the comment, user or topic is not found
+     * @throws ResourceNotFoundException if the comment or topic is not found
      * @throws IllegalArgumentException  if the new content is the same as the old content or if the content is empty
      * @throws ForbiddenException        if the user is not allowed to update the comment
      */
@@ -63,12 +62,9 @@ public class UpdateCommentUseCase {
             throw new ForbiddenException("You are not allowed to update a comment for another user");
         }
 
-        UserEntity user = userRepository.findById(authenticatedUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found."));
-
         TopicEntity topic = topicRepository.findById(commentFound.getTopic().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
-        if (!user.participatingInForum(topic.getForum())) {
+        if (!forumMembership.isParticipant(authenticatedUserId, topic.getForum().getId())) {
             throw new ForbiddenException("You are not allowed to update a comment for this topic");
         }
 
@@ -0,0 +1,66 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+/**
+ * Denormalized counter columns and the child tables their true values are derived from.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum CounterColumn {
+
+    FORUM_TOPICS("tb_forum", "topics_count", "tb_topic", "forum_id", null),
+    TOPIC_COMMENTS("tb_topic", "comments_count", "tb_comment", "topic_id", null),
+    FORUM_PARTICIPANTS("tb_forum", "participants_count", "tb_forum_members", "forum_id", null),
+    COMMENT_REPLIES("tb_comment", "replies_count", "tb_comment", "parent_comment_id", null),
+    FORUM_HIGHS("tb_forum", "highs_count", "tb_forum_highs", "forum_id", CounterTarget.FORUM),
+    TOPIC_HIGHS("tb_topic", "highs_count", "tb_topic_highs", "topic_id", CounterTarget.TOPIC),
+    COMMENT_HIGHS("tb_comment", "highs_count", "tb_comment_highs", "comment_id", CounterTarget.COMMENT),
+    USER_HIGHS("tb_user", "highs_count", "tb_user_highs", "highed_user_id", CounterTarget.USER);
+
+    private final String table;
+    private final String column;
+    private final String childTable;
+    private final String childColumn;
+    private final CounterTarget highsTarget;
+
+    CounterColumn(String table, String column, String childTable, String childColumn, CounterTarget highsTarget) {
+        this.table = table;
+        this.column = column;
+        this.childTable = childTable;
+        this.childColumn = childColumn;
+        this.highsTarget = highsTarget;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String getChildTable() {
+        return childTable;
+    }
+
+    public String getChildColumn() {
+        return childColumn;
+    }
+
+    /**
+     * Returns the {@link HighsCounter} target buffering writes to this column, if any.
+     *
+     * @return the highs target, or {@code null} when the column is written synchronously
+     */
+    public CounterTarget getHighsTarget() {
+        return highsTarget;
+    }
+
+    /**
+     * Returns whether the column is maintained by the write-behind {@link HighsCounter}.
+     *
+     * @return true if writes to the column are buffered
+     */
+    public boolean isWriteBehind() {
+        return highsTarget != null;
+    }
+}
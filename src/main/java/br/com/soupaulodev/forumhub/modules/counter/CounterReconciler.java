@@ -0,0 +1,201 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+import br.com.soupaulodev.forumhub.modules.counter.repository.CounterReconciliationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Recomputes the denormalized counters from their child tables and corrects the rows that drifted.
+ * <p>
+ * Each column is scanned in keyset-ordered chunks, so memory stays bounded by the chunk size whatever the size of
+ * the table. Corrections are only written if the counter did not change since it was read, and counters maintained
+ * by the write-behind {@link HighsCounter} are read twice, a settle delay apart, so deltas still waiting to be
+ * flushed are not mistaken for drift.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class CounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterReconciler.class);
+
+    private final CounterReconciliationRepository repository;
+    private final HighsCounter highsCounter;
+    private final int chunkSize;
+    private final long settleMillis;
+    private final int sampleSize;
+    private final boolean correct;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Constructor
+     *
+     * @param repository   the repository reading and correcting the counters
+     * @param highsCounter the counter holding the unflushed highs
+     * @param chunkSize    the number of rows read per chunk
+     * @param settleMillis the delay before a drifted write-behind counter is read again
+     * @param sampleSize   the maximum number of drifted rows kept in each report
+     * @param correct      whether drifted rows are corrected or only reported
+     */
+    @Autowired
+    public CounterReconciler(CounterReconciliationRepository repository,
+                             HighsCounter highsCounter,
+                             @Value("${counter-reconciliation.chunk-size:1000}") int chunkSize,
+                             @Value("${counter-reconciliation.settle-ms:3000}") long settleMillis,
+                             @Value("${counter-reconciliation.sample-size:20}") int sampleSize,
+                             @Value("${counter-reconciliation.correct:true}") boolean correct) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Reconciliation chunk size must be positive");
+        }
+        this.repository = repository;
+        this.highsCounter = highsCounter;
+        this.chunkSize = chunkSize;
+        this.settleMillis = settleMillis;
+        this.sampleSize = sampleSize;
+        this.correct = correct;
+    }
+
+    /**
+     * Reconciles every counter column and logs a drift report for each one.
+     * Does nothing if a reconciliation is already running.
+     */
+    @Scheduled(cron = "${counter-reconciliation.cron:0 30 3 * * *}")
+    public void reconcileAll() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Counter reconciliation already running, skipping");
+            return;
+        }
+
+        try {
+            for (CounterColumn column : CounterColumn.values()) {
+                ReconciliationReport report = reconcile(column);
+                log(report);
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Reconciles a single counter column.
+     *
+     * @param column the column to reconcile
+     * @return the drift report of the column
+     */
+    public ReconciliationReport reconcile(CounterColumn column) {
+        long startedAt = System.nanoTime();
+        long scanned = 0;
+        long drifted = 0;
+        long corrected = 0;
+        long deferred = 0;
+        long netDrift = 0;
+        List<CounterSnapshot> samples = new ArrayList<>();
+
+        UUID cursor = null;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<CounterSnapshot> chunk = repository.scan(column, cursor, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            scanned += chunk.size();
+            cursor = chunk.get(chunk.size() - 1).id();
+
+            List<CounterSnapshot> candidates = new ArrayList<>();
+            for (CounterSnapshot snapshot : chunk) {
+                if (snapshot.drift() == 0) {
+                    continue;
+                }
+                if (hasUnflushedDelta(column, snapshot.id())) {
+                    deferred++;
+                } else {
+                    candidates.add(snapshot);
+                }
+            }
+
+            List<CounterSnapshot> confirmed = column.isWriteBehind() ? settle(column, candidates) : candidates;
+            deferred += candidates.size() - confirmed.size();
+
+            for (CounterSnapshot snapshot : confirmed) {
+                drifted++;
+                netDrift += snapshot.drift();
+                if (samples.size() < sampleSize) {
+                    samples.add(snapshot);
+                }
+            }
+
+            if (correct) {
+                int applied = repository.applyCorrections(column, confirmed);
+                corrected += applied;
+                deferred += confirmed.size() - applied;
+            }
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        return new ReconciliationReport(column, scanned, drifted, corrected, deferred, netDrift,
+                List.copyOf(samples), Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private boolean hasUnflushedDelta(CounterColumn column, UUID id) {
+        return column.isWriteBehind() && highsCounter.pending(column.getHighsTarget(), id) != 0;
+    }
+
+    /**
+     * Reads the drifted rows again after the settle delay and keeps the ones that did not move, so deltas that
+     * were in flight on any node during the first read had the time to land.
+     */
+    private List<CounterSnapshot> settle(CounterColumn column, List<CounterSnapshot> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        if (settleMillis > 0) {
+            try {
+                Thread.sleep(settleMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+        }
+
+        Map<UUID, CounterSnapshot> rechecked = repository.recheck(column,
+                        candidates.stream().map(CounterSnapshot::id).toList()).stream()
+                .collect(Collectors.toMap(CounterSnapshot::id, Function.identity()));
+
+        return candidates.stream()
+                .filter(snapshot -> snapshot.equals(rechecked.get(snapshot.id())))
+                .filter(snapshot -> !hasUnflushedDelta(column, snapshot.id()))
+                .toList();
+    }
+
+    private void log(ReconciliationReport report) {
+        if (report.drifted() == 0) {
+            logger.info("Reconciled {}: scanned={}, no drift, deferred={} in {} ms", report.column(),
+                    report.scanned(), report.deferred(), report.elapsed().toMillis());
+            return;
+        }
+
+        logger.warn("Reconciled {}: scanned={}, drifted={}, corrected={}, deferred={}, netDrift={} in {} ms, samples={}",
+                report.column(), report.scanned(), report.drifted(), report.corrected(), report.deferred(),
+                report.netDrift(), report.elapsed().toMillis(), report.samples());
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+import java.util.UUID;
+
+/**
+ * Stored and recomputed value of a counter column for a single row, read in the same statement.
+ *
+ * @param id     the row id
+ * @param stored the value stored in the counter column
+ * @param actual the value recomputed from the child table
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record CounterSnapshot(UUID id, long stored, long actual) {
+
+    /**
+     * Returns how far the stored value is behind the recomputed one.
+     *
+     * @return the difference between the actual and the stored value
+     */
+    public long drift() {
+        return actual - stored;
+    }
+}
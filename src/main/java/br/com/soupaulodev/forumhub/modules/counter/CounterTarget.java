@@ -0,0 +1,62 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+/**
+ * Entities whose {@code highs_count} column is maintained by the {@link HighsCounter}.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum CounterTarget {
+
+    FORUM("tb_forum", "tb_forum_highs", "forum_id", "user_id"),
+    TOPIC("tb_topic", "tb_topic_highs", "topic_id", "user_id"),
+    COMMENT("tb_comment", "tb_comment_highs", "comment_id", "user_id"),
+    USER("tb_user", "tb_user_highs", "highed_user_id", "highing_user_id");
+
+    private final String table;
+    private final String highsTable;
+    private final String highsTargetColumn;
+    private final String highsUserColumn;
+
+    CounterTarget(String table, String highsTable, String highsTargetColumn, String highsUserColumn) {
+        this.table = table;
+        this.highsTable = highsTable;
+        this.highsTargetColumn = highsTargetColumn;
+        this.highsUserColumn = highsUserColumn;
+    }
+
+    /**
+     * Returns the table holding the {@code highs_count} column of this target.
+     *
+     * @return the table name
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the table recording who highed this target.
+     *
+     * @return the highs table name
+     */
+    public String getHighsTable() {
+        return highsTable;
+    }
+
+    /**
+     * Returns the column of the highs table referencing the highed target.
+     *
+     * @return the target column name
+     */
+    public String getHighsTargetColumn() {
+        return highsTargetColumn;
+    }
+
+    /**
+     * Returns the column of the highs table referencing the user who gave the high.
+     *
+     * @return the user column name
+     */
+    public String getHighsUserColumn() {
+        return highsUserColumn;
+    }
+}
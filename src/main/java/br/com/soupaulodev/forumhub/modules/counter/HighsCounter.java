@@ -0,0 +1,164 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind accumulator for high/unhigh deltas.
+ * <p>
+ * High and unhigh operations record a delta here instead of doing a read-modify-write on the owning row.
+ * Deltas are kept per {@link CounterTarget} in a {@link ConcurrentHashMap}, so concurrent updates of different
+ * ids only contend on their own bin, and are periodically flushed to the database by the
+ * {@link HighsCounterFlusher}. Deltas that were drained but not yet committed are kept in flight, so that
+ * {@link #read(CounterTarget, UUID, Long)} stays read-your-writes on this node during a flush.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsCounter {
+
+    private final Map<CounterTarget, ConcurrentHashMap<UUID, Long>> pending = new EnumMap<>(CounterTarget.class);
+    private final Map<CounterTarget, ConcurrentHashMap<UUID, Long>> inFlight = new EnumMap<>(CounterTarget.class);
+
+    public HighsCounter() {
+        for (CounterTarget target : CounterTarget.values()) {
+            pending.put(target, new ConcurrentHashMap<>());
+            inFlight.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Records a high on the given target.
+     *
+     * @param target the counter target
+     * @param id the target id
+     */
+    public void increment(CounterTarget target, UUID id) {
+        add(target, id, 1L);
+    }
+
+    /**
+     * Records an unhigh on the given target.
+     *
+     * @param target the counter target
+     * @param id the target id
+     */
+    public void decrement(CounterTarget target, UUID id) {
+        add(target, id, -1L);
+    }
+
+    /**
+     * Adds a delta to the given target, dropping the entry when it cancels out.
+     *
+     * @param target the counter target
+     * @param id the target id
+     * @param delta the delta to add
+     */
+    public void add(CounterTarget target, UUID id, long delta) {
+        if (target == null || id == null) {
+            throw new IllegalArgumentException("Counter target and id cannot be null");
+        }
+        if (delta != 0) {
+            pending.get(target).merge(id, delta, HighsCounter::sumOrRemove);
+        }
+    }
+
+    /**
+     * Returns the delta of the given target that is not yet persisted.
+     *
+     * @param target the counter target
+     * @param id the target id
+     * @return the unflushed delta, including deltas currently being flushed
+     */
+    public long pending(CounterTarget target, UUID id) {
+        if (id == null) {
+            return 0L;
+        }
+        return pending.get(target).getOrDefault(id, 0L) + inFlight.get(target).getOrDefault(id, 0L);
+    }
+
+    /**
+     * Returns the persisted count plus the unflushed delta of the given target.
+     *
+     * @param target the counter target
+     * @param id the target id
+     * @param persisted the count loaded from the database, may be null
+     * @return the current count
+     */
+    public Long read(CounterTarget target, UUID id, Long persisted) {
+        long base = persisted == null ? 0L : persisted;
+        return Math.max(0L, base + pending(target, id));
+    }
+
+    /**
+     * Moves up to {@code max} pending deltas of the given target in flight and returns them.
+     * <p>
+     * The caller must either {@link #acknowledge(CounterTarget, Map)} the batch once it is persisted or
+     * {@link #restore(CounterTarget, Map)} it if persisting failed.
+     * </p>
+     *
+     * @param target the counter target
+     * @param max the maximum number of entries to drain
+     * @return the drained deltas keyed by id
+     */
+    public Map<UUID, Long> drain(CounterTarget target, int max) {
+        ConcurrentHashMap<UUID, Long> source = pending.get(target);
+        ConcurrentHashMap<UUID, Long> flight = inFlight.get(target);
+        Map<UUID, Long> batch = new HashMap<>();
+
+        Iterator<UUID> ids = source.keySet().iterator();
+        while (ids.hasNext() && batch.size() < max) {
+            UUID id = ids.next();
+            Long delta = source.remove(id);
+            if (delta != null && delta != 0) {
+                flight.merge(id, delta, HighsCounter::sumOrRemove);
+                batch.put(id, delta);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Releases a drained batch after it was persisted.
+     *
+     * @param target the counter target
+     * @param batch the batch returned by {@link #drain(CounterTarget, int)}
+     */
+    public void acknowledge(CounterTarget target, Map<UUID, Long> batch) {
+        ConcurrentHashMap<UUID, Long> flight = inFlight.get(target);
+        batch.forEach((id, delta) -> flight.merge(id, -delta, HighsCounter::sumOrRemove));
+    }
+
+    /**
+     * Puts a drained batch back in the pending deltas after persisting it failed.
+     *
+     * @param target the counter target
+     * @param batch the batch returned by {@link #drain(CounterTarget, int)}
+     */
+    public void restore(CounterTarget target, Map<UUID, Long> batch) {
+        ConcurrentHashMap<UUID, Long> source = pending.get(target);
+        batch.forEach((id, delta) -> source.merge(id, delta, HighsCounter::sumOrRemove));
+        acknowledge(target, batch);
+    }
+
+    /**
+     * Returns whether any delta is waiting to be flushed.
+     *
+     * @return true if there are pending deltas
+     */
+    public boolean hasPending() {
+        return pending.values().stream().anyMatch(deltas -> !deltas.isEmpty());
+    }
+
+    private static Long sumOrRemove(Long current, Long delta) {
+        long sum = current + delta;
+        return sum == 0 ? null : sum;
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+import br.com.soupaulodev.forumhub.modules.counter.repository.HighsCounterRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Periodically flushes the {@link HighsCounter} deltas to the database.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsCounterFlusher {
+
+    private static final Logger logger = LoggerFactory.getLogger(HighsCounterFlusher.class);
+
+    private final HighsCounter highsCounter;
+    private final HighsCounterRepository highsCounterRepository;
+
+    @Value("${highs-counter.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${highs-counter.max-batches-per-flush:20}")
+    private int maxBatchesPerFlush = 20;
+
+    public HighsCounterFlusher(HighsCounter highsCounter, HighsCounterRepository highsCounterRepository) {
+        this.highsCounter = highsCounter;
+        this.highsCounterRepository = highsCounterRepository;
+    }
+
+    /**
+     * Flushes a bounded number of batches per target.
+     */
+    @Scheduled(fixedDelayString = "${highs-counter.flush-interval-ms:1000}")
+    public void flush() {
+        flush(maxBatchesPerFlush);
+    }
+
+    /**
+     * Drains every pending delta before the application shuts down.
+     */
+    @PreDestroy
+    public void drain() {
+        logger.info("Draining pending highs deltas before shutdown");
+        flush(Integer.MAX_VALUE);
+    }
+
+    private synchronized void flush(int maxBatches) {
+        for (CounterTarget target : CounterTarget.values()) {
+            for (int i = 0; i < maxBatches; i++) {
+                Map<UUID, Long> batch = highsCounter.drain(target, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                try {
+                    highsCounterRepository.applyDeltas(target, batch);
+                    highsCounter.acknowledge(target, batch);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to flush {} highs deltas for {}", batch.size(), target, e);
+                    highsCounter.restore(target, batch);
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Summary of a reconciliation pass over a single counter column.
+ *
+ * @param column    the reconciled column
+ * @param scanned   the number of rows scanned
+ * @param drifted   the number of rows whose stored value did not match the recomputed one
+ * @param corrected the number of rows rewritten with the recomputed value
+ * @param deferred  the number of rows left for the next pass because they changed while being checked
+ * @param netDrift  the sum of the drift of every drifted row
+ * @param samples   a bounded sample of the drifted rows
+ * @param elapsed   the time spent on the pass
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record ReconciliationReport(CounterColumn column,
+                                   long scanned,
+                                   long drifted,
+                                   long corrected,
+                                   long deferred,
+                                   long netDrift,
+                                   List<CounterSnapshot> samples,
+                                   Duration elapsed) {
+}
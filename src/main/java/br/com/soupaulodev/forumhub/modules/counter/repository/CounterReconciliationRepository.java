@@ -0,0 +1,117 @@
+package br.com.soupaulodev.forumhub.modules.counter.repository;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterColumn;
+import br.com.soupaulodev.forumhub.modules.counter.CounterSnapshot;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository reading counter columns next to their recomputed values and writing corrections back.
+ * <p>
+ * Every read is a single statement, so the stored and recomputed values of a row always come from the same
+ * snapshot, and every scan is bounded by a keyset on the primary key instead of an offset.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public class CounterReconciliationRepository {
+
+    private static final RowMapper<CounterSnapshot> SNAPSHOT_MAPPER = (rs, rowNum) -> new CounterSnapshot(
+            rs.getObject("id", UUID.class),
+            rs.getLong("stored"),
+            rs.getLong("actual"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CounterReconciliationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reads the next chunk of rows after the given id together with their recomputed counts.
+     *
+     * @param column the counter column
+     * @param after  the last id of the previous chunk, or {@code null} to start from the beginning
+     * @param limit  the maximum number of rows to read
+     * @return the snapshots ordered by id
+     */
+    public List<CounterSnapshot> scan(CounterColumn column, UUID after, int limit) {
+        String chunk = "SELECT id, COALESCE(" + column.getColumn() + ", 0) AS stored FROM " + column.getTable()
+                + (after == null ? "" : " WHERE id > ?")
+                + " ORDER BY id LIMIT ?";
+        Object[] args = after == null ? new Object[]{limit} : new Object[]{after, limit};
+
+        return jdbcTemplate.query(aggregate(column, chunk), SNAPSHOT_MAPPER, args);
+    }
+
+    /**
+     * Reads the given rows again together with their recomputed counts.
+     *
+     * @param column the counter column
+     * @param ids    the ids to read
+     * @return the snapshots ordered by id
+     */
+    public List<CounterSnapshot> recheck(CounterColumn column, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String chunk = "SELECT id, COALESCE(" + column.getColumn() + ", 0) AS stored FROM " + column.getTable()
+                + " WHERE id IN (" + placeholders + ")";
+
+        return jdbcTemplate.query(aggregate(column, chunk), SNAPSHOT_MAPPER, ids.toArray());
+    }
+
+    /**
+     * Overwrites the counter column with the recomputed values in a single batch.
+     * <p>
+     * A row is only rewritten if its counter still holds the value it had when it was read, so a concurrent
+     * increment or flush is never overwritten; such rows are simply left for the next pass. Rows are updated in
+     * id order so concurrent writers lock them in the same order.
+     * </p>
+     *
+     * @param column      the counter column
+     * @param corrections the snapshots holding the expected and recomputed values
+     * @return the number of rows rewritten
+     */
+    @Transactional
+    public int applyCorrections(CounterColumn column, List<CounterSnapshot> corrections) {
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE " + column.getTable() + " SET " + column.getColumn() + " = ?"
+                + " WHERE id = ? AND COALESCE(" + column.getColumn() + ", 0) = ?";
+
+        List<Object[]> args = new ArrayList<>(corrections.size());
+        corrections.stream()
+                .sorted(Comparator.comparing(CounterSnapshot::id))
+                .forEach(snapshot -> args.add(new Object[]{snapshot.actual(), snapshot.id(), snapshot.stored()}));
+
+        int updated = 0;
+        for (int rows : jdbcTemplate.batchUpdate(sql, args)) {
+            updated += Math.max(rows, 0);
+        }
+        return updated;
+    }
+
+    private String aggregate(CounterColumn column, String chunk) {
+        return "WITH chunk AS (" + chunk + ")"
+                + " SELECT chunk.id, chunk.stored, COUNT(child." + column.getChildColumn() + ") AS actual"
+                + " FROM chunk LEFT JOIN " + column.getChildTable() + " child"
+                + " ON child." + column.getChildColumn() + " = chunk.id"
+                + " GROUP BY chunk.id, chunk.stored"
+                + " ORDER BY chunk.id";
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.soupaulodev.forumhub.modules.counter.repository;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository applying accumulated highs deltas with batched relative updates.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public class HighsCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HighsCounterRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds the given deltas to the {@code highs_count} column of the target table in a single batch.
+     * <p>
+     * Rows are updated in id order so concurrent flushes on different nodes lock them in the same order.
+     * </p>
+     *
+     * @param target the counter target
+     * @param deltas the deltas keyed by id
+     */
+    @Transactional
+    public void applyDeltas(CounterTarget target, Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String sql = "UPDATE " + target.getTable()
+                + " SET highs_count = GREATEST(COALESCE(highs_count, 0) + ?, 0) WHERE id = ?";
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> args.add(new Object[]{entry.getValue(), entry.getKey()}));
+
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+}
@@ -3,6 +3,7 @@ package br.com.soupaulodev.forumhub.modules.exception;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.*;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -109,6 +110,19 @@ public class ExceptionHandlerController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
+    /**
+     * Handles ServiceUnavailableException.
+     *
+     * @param e the exception to handle
+     * @return a ResponseEntity with a service unavailable status, a retry hint and the exception message
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handleServiceUnavailableException(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
     /**
      * Handles UnauthorizedException.
      *
@@ -1,12 +1,15 @@
 package br.com.soupaulodev.forumhub.modules.exception.usecase;
 
+/**
+ * Thrown when a client exceeds its rate limit, without a stack trace as throttled requests arrive in bursts.
+ */
 public class RateLimitExceededException extends RuntimeException {
 
     public RateLimitExceededException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public RateLimitExceededException() {
-        super("Rate limit exceeded. Try again later.");
+        this("Rate limit exceeded. Try again later.");
     }
 }
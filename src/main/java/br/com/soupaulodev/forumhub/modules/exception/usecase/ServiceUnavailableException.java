@@ -0,0 +1,15 @@
+package br.com.soupaulodev.forumhub.modules.exception.usecase;
+
+/**
+ * Thrown when a request is shed for lack of capacity, without a stack trace that would add to the load being shed.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+
+    public ServiceUnavailableException() {
+        this("Server is busy. Try again later.");
+    }
+}
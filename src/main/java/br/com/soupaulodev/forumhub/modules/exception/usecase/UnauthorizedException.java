@@ -1,7 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.exception.usecase;
 
+/**
+ * Thrown when a request carries no valid credentials, without a stack trace since the caller only needs the message.
+ */
 public class UnauthorizedException extends RuntimeException {
     public UnauthorizedException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
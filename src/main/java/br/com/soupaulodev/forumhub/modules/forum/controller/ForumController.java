@@ -1,16 +1,18 @@
 package br.com.soupaulodev.forumhub.modules.forum.controller;
 
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateRequestDTO;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumMemberResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import br.com.soupaulodev.forumhub.security.utils.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -31,6 +33,8 @@ import java.util.UUID;
  *         <li>Handling forum listing requests.</li>
  *         <li>Handling forum update requests.</li>
  *         <li>Handling forum deletion requests.</li>
+ *         <li>Handling trending forums requests.</li>
+ *         <li>Handling forum join, leave and member listing requests.</li>
  *     </ul>
  * </p>
  *
@@ -48,6 +52,10 @@ public class ForumController {
     private final DeleteForumUseCase deleteForumUseCase;
     private final HighForumUseCase highForumUseCase;
     private final UnHighForumUseCase unHighForumUseCase;
+    private final ListTrendingForumsUseCase listTrendingForumsUseCase;
+    private final JoinForumUseCase joinForumUseCase;
+    private final LeaveForumUseCase leaveForumUseCase;
+    private final ListForumMembersUseCase listForumMembersUseCase;
 
     /**
      * Constructs a new {@link ForumController} with the specified use cases.
@@ -59,6 +67,10 @@ public class ForumController {
      * @param deleteForumUseCase {@link DeleteForumUseCase} the use case for deleting forums
      * @param highForumUseCase {@link HighForumUseCase} the use case for high forums
      * @param unHighForumUseCase {@link UnHighForumUseCase} the use case for unhigh forums
+     * @param listTrendingForumsUseCase {@link ListTrendingForumsUseCase} the use case for listing trending forums
+     * @param joinForumUseCase {@link JoinForumUseCase} the use case for joining forums
+     * @param leaveForumUseCase {@link LeaveForumUseCase} the use case for leaving forums
+     * @param listForumMembersUseCase {@link ListForumMembersUseCase} the use case for listing the members of forums
      */
     public ForumController(CreateForumUseCase createForumUseCase,
                            ListForumsUseCase listForumsUseCase,
@@ -66,7 +78,11 @@ public class ForumController {
                            UpdateForumUseCase updateForumUseCase,
                            DeleteForumUseCase deleteForumUseCase,
                            HighForumUseCase highForumUseCase,
-                           UnHighForumUseCase unHighForumUseCase) {
+                           UnHighForumUseCase unHighForumUseCase,
+                           ListTrendingForumsUseCase listTrendingForumsUseCase,
+                           JoinForumUseCase joinForumUseCase,
+                           LeaveForumUseCase leaveForumUseCase,
+                           ListForumMembersUseCase listForumMembersUseCase) {
         this.createForumUseCase = createForumUseCase;
         this.listForumsUseCase = listForumsUseCase;
         this.getForumUseCase = getForumUseCase;
@@ -74,6 +90,10 @@ public class ForumController {
         this.deleteForumUseCase = deleteForumUseCase;
         this.highForumUseCase = highForumUseCase;
         this.unHighForumUseCase = unHighForumUseCase;
+        this.listTrendingForumsUseCase = listTrendingForumsUseCase;
+        this.joinForumUseCase = joinForumUseCase;
+        this.leaveForumUseCase = leaveForumUseCase;
+        this.listForumMembersUseCase = listForumMembersUseCase;
     }
 
     /**
@@ -91,7 +111,7 @@ public class ForumController {
             @ApiResponse(responseCode = "409", description = "Forum already exists")
     })
     public ResponseEntity<ForumResponseDTO> createForum(@Valid @RequestBody ForumCreateRequestDTO requestDTO) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         ForumResponseDTO responseDTO = createForumUseCase.execute(requestDTO, authenticatedUserId);
 
         URI uri = URI.create("/forums/" + responseDTO.id());
@@ -100,19 +120,40 @@ public class ForumController {
 
     /**
      * Endpoint for handling listing of forums with pagination support.
-     * This method lists forums with pagination support and returns the list of forums.
+     * This method lists forums, newest first, one page at a time.
+     * For authenticated callers, each forum tells whether they highed it.
      *
-     * @param page {@link Integer} the page number to retrieve
-     * @param size {@link Integer} the number of forums to retrieve per page
-     * @return a {@link ResponseEntity} of {@link List} of {@link ForumResponseDTO} with status 200 (OK) and the list of forums
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @param size   {@link Integer} the number of forums to retrieve per page
+     * @return a {@link ResponseEntity} of {@link CursorPageDTO} of {@link ForumResponseDTO} with status 200 (OK) and the page of forums
      */
     @GetMapping("/all")
     @Operation(summary = "List all forums")
-    @ApiResponse(responseCode = "200", description = "Forums listed")
-    public ResponseEntity<List<ForumResponseDTO>> listForums(@RequestParam(defaultValue = "0") int page,
-                                                             @RequestParam(defaultValue = "10") int size) {
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Forums listed"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<ForumResponseDTO>> listForums(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(listForumsUseCase.execute(cursor, size, AuthenticatedUser.findId()));
+    }
 
-        return ResponseEntity.ok(listForumsUseCase.execute(page, size));
+    /**
+     * Endpoint for handling listing of trending forums.
+     * This method lists the forums with the most recent activity and returns them from the hottest one.
+     *
+     * @param limit {@link Integer} the maximum number of forums to retrieve
+     * @return a {@link ResponseEntity} of {@link List} of {@link ForumResponseDTO} with status 200 (OK) and the trending forums
+     */
+    @GetMapping("/trending")
+    @Operation(summary = "List trending forums")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trending forums listed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    public ResponseEntity<List<ForumResponseDTO>> listTrendingForums(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(listTrendingForumsUseCase.execute(limit));
     }
 
     /**
@@ -157,7 +198,7 @@ public class ForumController {
                                                         @Valid
                                                         @RequestBody
                                                         ForumUpdateRequestDTO forumRequestDTO) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         return ResponseEntity.ok(updateForumUseCase.execute(UUID.fromString(id), forumRequestDTO, authenticatedUserId));
     }
 
@@ -179,7 +220,7 @@ public class ForumController {
                                             @PathVariable
                                             @org.hibernate.validator.constraints.UUID
                                             String id) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         deleteForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -200,7 +241,7 @@ public class ForumController {
     @PostMapping("/high/{id}")
     public ResponseEntity<Void> highForum(@Valid @PathVariable("id")
                                           @org.hibernate.validator.constraints.UUID String id) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         highForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -221,25 +262,72 @@ public class ForumController {
     @DeleteMapping("/unhigh/{id}")
     public ResponseEntity<Void> unHighForum(@Valid @PathVariable("id")
                                           @org.hibernate.validator.constraints.UUID String id) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         unHighForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
 
     /**
-     * Retrieves the authenticated user's unique identifier.
+     * Endpoint for handling forum join operations.
+     * This method makes the authenticated user a member of a forum by its unique identifier.
+     * Joining a forum the user already is a member of changes nothing.
      *
-     * @return the authenticated user's unique identifier
+     * @param id the forum's unique identifier to be joined
+     * @return a response entity with status 204 (No Content)
      */
-    private UUID getAuthenticatedUserId() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    @Operation(summary = "Join forum by ID", description = "Join a forum by its unique identifier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Forum joined, or already joined"),
+            @ApiResponse(responseCode = "404", description = "Forum not found")
+    })
+    @PostMapping("/join/{id}")
+    public ResponseEntity<Void> joinForum(@Valid @PathVariable("id")
+                                          @org.hibernate.validator.constraints.UUID String id) {
+        UUID authenticatedUserId = AuthenticatedUser.getId();
+        joinForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
+        return ResponseEntity.noContent().build();
+    }
 
-        if (principal instanceof UUID) {
-            return (UUID) principal;
-        } else if (principal instanceof String) {
-            return UUID.fromString((String) principal);
-        }
+    /**
+     * Endpoint for handling forum leave operations.
+     * This method removes the authenticated user from the members of a forum by its unique identifier.
+     * Leaving a forum the user is not a member of changes nothing.
+     *
+     * @param id the forum's unique identifier to be left
+     * @return a response entity with status 204 (No Content)
+     */
+    @Operation(summary = "Leave forum by ID", description = "Leave a forum by its unique identifier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Forum left, or not joined"),
+            @ApiResponse(responseCode = "404", description = "Forum not found")
+    })
+    @DeleteMapping("/leave/{id}")
+    public ResponseEntity<Void> leaveForum(@Valid @PathVariable("id")
+                                           @org.hibernate.validator.constraints.UUID String id) {
+        UUID authenticatedUserId = AuthenticatedUser.getId();
+        leaveForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
+        return ResponseEntity.noContent().build();
+    }
 
-        throw new IllegalStateException("Unexpected principal type: " + principal.getClass().getName());
+    /**
+     * Endpoint for handling forum member listing.
+     * This method lists the members of a forum in join order, one page at a time.
+     *
+     * @param id     the forum's unique identifier
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @param size   the number of members to retrieve per page
+     * @return a {@link ResponseEntity} of {@link CursorPageDTO} of {@link ForumMemberResponseDTO} with status 200 (OK)
+     */
+    @GetMapping("/{id}/members")
+    @Operation(summary = "List forum members")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Forum members listed"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "Forum not found")
+    })
+    public ResponseEntity<CursorPageDTO<ForumMemberResponseDTO>> listForumMembers(@PathVariable UUID id,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(listForumMembersUseCase.execute(id, cursor, size));
     }
 }
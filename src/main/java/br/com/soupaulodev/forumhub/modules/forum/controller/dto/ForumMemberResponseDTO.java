@@ -0,0 +1,30 @@
+package br.com.soupaulodev.forumhub.modules.forum.controller.dto;
+
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) representing a member of a forum in the member listing.
+ *
+ * @param id       the unique identifier of the user
+ * @param name     the name of the user
+ * @param username the username of the user
+ * @param joinedAt the date the user joined the forum
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record ForumMemberResponseDTO(UUID id,
+                                     String name,
+                                     String username,
+                                     Instant joinedAt) {
+
+    /**
+     * Returns the position of this member in the listing, ordered by join date and user id.
+     *
+     * @return the cursor of this member
+     */
+    public Cursor cursor() {
+        return new Cursor(joinedAt, id);
+    }
+}
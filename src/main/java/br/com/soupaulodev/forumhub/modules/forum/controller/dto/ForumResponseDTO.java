@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.modules.forum.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -20,6 +22,7 @@ import java.util.UUID;
  * @param topicCount   the number of topics in the forum
  * @param createdAt    the creation date of the forum
  * @param updatedAt    the last update date of the forum
+ * @param highedByMe   whether the authenticated user highed the forum, omitted for anonymous callers
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 public record ForumResponseDTO(UUID id,
@@ -30,5 +33,40 @@ public record ForumResponseDTO(UUID id,
                                int participants,
                                Long topicCount,
                                Instant createdAt,
-                               Instant updatedAt) {
+                               Instant updatedAt,
+                               @JsonInclude(JsonInclude.Include.NON_NULL) Boolean highedByMe) {
+
+    public ForumResponseDTO(UUID id,
+                            String name,
+                            String description,
+                            UUID owner,
+                            Long highs,
+                            int participants,
+                            Long topicCount,
+                            Instant createdAt,
+                            Instant updatedAt) {
+        this(id, name, description, owner, highs, participants, topicCount, createdAt, updatedAt, null);
+    }
+
+    /**
+     * Returns a copy of this DTO with another highs count, such as one including the highs not yet flushed.
+     *
+     * @param highs the number of highs in the forum
+     * @return the copy
+     */
+    public ForumResponseDTO withHighs(Long highs) {
+        return new ForumResponseDTO(id, name, description, owner, highs, participants, topicCount, createdAt,
+                updatedAt, highedByMe);
+    }
+
+    /**
+     * Returns a copy of this DTO carrying the viewer state of the authenticated user.
+     *
+     * @param highedByMe whether the authenticated user highed the forum
+     * @return the copy
+     */
+    public ForumResponseDTO withHighedByMe(Boolean highedByMe) {
+        return new ForumResponseDTO(id, name, description, owner, highs, participants, topicCount, createdAt,
+                updatedAt, highedByMe);
+    }
 }
\ No newline at end of file
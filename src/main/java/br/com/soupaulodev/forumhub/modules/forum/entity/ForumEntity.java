@@ -4,6 +4,7 @@ import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
 import jakarta.transaction.Transactional;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -24,7 +25,7 @@ import java.util.UUID;
  * @author <a href="http://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_forum")
+@Table(name = "tb_forum", indexes = @Index(name = "idx_forum_created_at_id", columnList = "created_at, id"))
 @Transactional
 public class ForumEntity implements Serializable {
 
@@ -40,24 +41,24 @@ public class ForumEntity implements Serializable {
     @Column(nullable = false, length = 50)
     private String description;
 
-    @Column(name = "highs_count", nullable = false)
+    @Column(name = "highs_count", nullable = false, updatable = false)
     private Long highsCount = 0L;
 
     @Column(name = "topics_count", nullable = false)
     private Long topicsCount = 0L;
 
+    @ColumnDefault("0")
+    @Column(name = "participants_count", nullable = false)
+    private Long participantsCount = 0L;
 
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private UserEntity owner;
 
     @OneToMany(mappedBy = "forum", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<ForumHighsEntity> highs = new ArrayList<>();
 
-    @ManyToMany(mappedBy = "participatingForums", fetch = FetchType.EAGER)
-    private final List<UserEntity> participants = new ArrayList<>();
-
     @OneToMany(mappedBy = "forum", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private final List<TopicEntity> topics = new ArrayList<>();
 
@@ -161,16 +162,6 @@ public class ForumEntity implements Serializable {
      */
     public Long getHighsCount() { return highsCount; }
 
-    /**
-     * Increments the number of highs count.
-     */
-    public void incrementHighs() { this.highsCount++; }
-
-    /**
-     * Decrements the number of highs count.
-     */
-    public void decrementHighs() { this.highsCount--; }
-
     /**
      * Gets the number of topics in the forum.
      *
@@ -188,6 +179,27 @@ public class ForumEntity implements Serializable {
      */
     public void decrementTopicsCount() { this.topicsCount--; }
 
+    /**
+     * Gets the number of participants of the forum.
+     * <p>
+     * The count is kept in its own column, next to the memberships in {@link ForumMemberEntity}, so reading it
+     * never loads the participants.
+     * </p>
+     *
+     * @return the number of participants of the forum.
+     */
+    public Long getParticipantsCount() { return participantsCount; }
+
+    /**
+     * Increments the number of participants count.
+     */
+    public void incrementParticipantsCount() { this.participantsCount++; }
+
+    /**
+     * Decrements the number of participants count.
+     */
+    public void decrementParticipantsCount() { this.participantsCount--; }
+
     /**
      * Gets the owner of the forum.
      *
@@ -231,39 +243,6 @@ public class ForumEntity implements Serializable {
         return highs;
     }
 
-    /**
-     * Gets the participants of the forum.
-     *
-     * @return the participants of the forum.
-     */
-    public List<UserEntity> getParticipants() {
-        return participants;
-    }
-
-    /**
-     * Adds a participant to the forum.
-     *
-     * @param user the user to add as a participant.
-     */
-    public void addParticipant(UserEntity user) {
-        if (!participants.contains(user)) {
-            participants.add(user);
-            user.addParticipatingForum(this);
-        }
-    }
-
-    /**
-     * Removes a participant from the forum.
-     *
-     * @param user the user to remove as a participant.
-     */
-    public void removeParticipant(UserEntity user) {
-        if (participants.contains(user)) {
-            participants.remove(user);
-            user.removeParticipatingForum(this);
-        }
-    }
-
     /**
      * Gets the topics in the forum.
      *
@@ -350,9 +329,7 @@ public class ForumEntity implements Serializable {
                 ", description='" + description + '\'' +
                 ", highsCount=" + highsCount +
                 ", topicsCount=" + topicsCount +
-                ", owner=" + owner +
-                ", participants=" + participants +
-                ", topics=" + topics +
+                ", participantsCount=" + participantsCount +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
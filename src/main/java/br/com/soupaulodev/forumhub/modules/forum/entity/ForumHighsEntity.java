@@ -18,7 +18,8 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_forum_highs")
+@Table(name = "tb_forum_highs", uniqueConstraints = @UniqueConstraint(
+        name = "uk_forum_highs_forum_user", columnNames = {"forum_id", "user_id"}))
 public class ForumHighsEntity {
 
     @Id
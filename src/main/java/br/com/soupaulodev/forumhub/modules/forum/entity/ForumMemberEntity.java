@@ -0,0 +1,93 @@
+package br.com.soupaulodev.forumhub.modules.forum.entity;
+
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents the membership of a user in a forum.
+ * <p>
+ * Memberships are rows of their own keyed by forum and user, instead of collections on {@link ForumEntity} and
+ * {@link UserEntity}, so joining, leaving and checking a membership are single statements on the primary key and
+ * neither side is ever loaded. The associations only declare the foreign keys, which remove the memberships of a
+ * deleted forum or user in the database.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Entity
+@Table(name = "tb_forum_members", indexes = {
+        @Index(name = "idx_forum_members_forum_joined", columnList = "forum_id, joined_at, user_id"),
+        @Index(name = "idx_forum_members_user", columnList = "user_id")
+})
+public class ForumMemberEntity {
+
+    @EmbeddedId
+    private ForumMemberId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "forum_id", nullable = false, insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ForumEntity forum;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private UserEntity user;
+
+    @Column(name = "joined_at", nullable = false, updatable = false)
+    private Instant joinedAt;
+
+    /**
+     * Default constructor, required by JPA.
+     */
+    protected ForumMemberEntity() {
+    }
+
+    /**
+     * Constructs the membership of a user in a forum, joined now.
+     *
+     * @param id the key of the membership
+     */
+    public ForumMemberEntity(ForumMemberId id) {
+        this.id = id;
+        this.joinedAt = Instant.now();
+    }
+
+    /**
+     * Gets the key of the membership.
+     *
+     * @return the key of the membership
+     */
+    public ForumMemberId getId() {
+        return id;
+    }
+
+    /**
+     * Gets the timestamp when the user joined the forum.
+     *
+     * @return the timestamp when the user joined the forum
+     */
+    public Instant getJoinedAt() {
+        return joinedAt;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        ForumMemberEntity that = (ForumMemberEntity) obj;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.soupaulodev.forumhub.modules.forum.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of a {@link ForumMemberEntity}: the forum first, so the members of a forum are one range
+ * of the primary key index, and the user second.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Embeddable
+public class ForumMemberId implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "forum_id", nullable = false)
+    private UUID forumId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * Default constructor, required by JPA.
+     */
+    protected ForumMemberId() {
+    }
+
+    /**
+     * Constructs the key of the membership of a user in a forum.
+     *
+     * @param forumId the id of the forum
+     * @param userId  the id of the user
+     */
+    public ForumMemberId(UUID forumId, UUID userId) {
+        this.forumId = forumId;
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the id of the forum.
+     *
+     * @return the id of the forum
+     */
+    public UUID getForumId() {
+        return forumId;
+    }
+
+    /**
+     * Gets the id of the user.
+     *
+     * @return the id of the user
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        ForumMemberId that = (ForumMemberId) obj;
+        return Objects.equals(forumId, that.forumId) && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(forumId, userId);
+    }
+}
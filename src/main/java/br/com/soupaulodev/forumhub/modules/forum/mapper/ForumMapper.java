@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.modules.forum.mapper;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumUpdateRequestDTO;
@@ -21,6 +23,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class ForumMapper {
 
+    private final HighsCounter highsCounter;
+
+    public ForumMapper(HighsCounter highsCounter) {
+        this.highsCounter = highsCounter;
+    }
+
     /**
      * Converts a {@link ForumCreateRequestDTO} to a {@link ForumEntity}.
      * <p>
@@ -70,6 +78,8 @@ public class ForumMapper {
      * This method maps a {@link ForumEntity} to a {@link ForumResponseDTO}, which contains
      * forum data that is ready to be sent as a response to API calls. The response DTO
      * provides a simplified view of the forum, hiding sensitive information and internal details.
+     * The highs count includes the highs not yet flushed to the database, and the participants count is read from
+     * its column, so neither the participants nor the owner are loaded.
      * </p>
      *
      * @param entity the {@link ForumEntity} object containing forum data to be converted
@@ -84,11 +94,21 @@ public class ForumMapper {
                 entity.getName(),
                 entity.getDescription(),
                 entity.getOwner().getId(),
-                entity.getHighsCount(),
-                entity.getParticipants().size(),
+                highsCounter.read(CounterTarget.FORUM, entity.getId(), entity.getHighsCount()),
+                entity.getParticipantsCount().intValue(),
                 entity.getTopicsCount(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
     }
+
+    /**
+     * Adds the highs not yet flushed to the database to a {@link ForumResponseDTO} read by a projection query.
+     *
+     * @param dto the {@link ForumResponseDTO} carrying the persisted highs count
+     * @return the {@link ForumResponseDTO} carrying the current highs count
+     */
+    public ForumResponseDTO withPendingHighs(ForumResponseDTO dto) {
+        return dto.withHighs(highsCounter.read(CounterTarget.FORUM, dto.id(), dto.highs()));
+    }
 }
@@ -1,10 +1,18 @@
 package br.com.soupaulodev.forumhub.modules.forum.repository;
 
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -16,4 +24,58 @@ import java.util.UUID;
 @Repository
 public interface ForumHighsRepository extends JpaRepository<ForumHighsEntity, String> {
     Optional<ForumHighsEntity> findByForum_IdAndUser_Id(UUID forumId, UUID userId);
+
+    /**
+     * Inserts a high unless the user already highed the forum, in a single statement.
+     *
+     * @param id        the id of the new high
+     * @param forumId   the id of the forum
+     * @param userId    the id of the user
+     * @param now       the creation timestamp
+     * @return 1 if the high was inserted, 0 if it already existed
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_forum_highs (id, forum_id, user_id, created_at, updated_at)
+            VALUES (:id, :forumId, :userId, :now, :now)
+            ON CONFLICT (forum_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("forumId") UUID forumId,
+                       @Param("userId") UUID userId,
+                       @Param("now") Instant now);
+
+    /**
+     * Inserts a high unless the user already highed the forum.
+     *
+     * @param forumId the id of the forum
+     * @param userId  the id of the user
+     * @return true if the high was inserted, false if it already existed
+     */
+    default boolean insertIfAbsent(UUID forumId, UUID userId) {
+        return insertIfAbsent(UlidGenerator.generate(), forumId, userId, Instant.now()) > 0;
+    }
+
+    /**
+     * Deletes the high of the user on the forum, in a single statement.
+     *
+     * @param forumId the id of the forum
+     * @param userId  the id of the user
+     * @return the number of deleted highs, 0 if the user had not highed the forum
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ForumHighsEntity h WHERE h.forum.id = :forumId AND h.user.id = :userId")
+    int deleteIfPresent(@Param("forumId") UUID forumId, @Param("userId") UUID userId);
+
+    /**
+     * Returns which of the given forums the user highed, in a single query.
+     *
+     * @param userId   the id of the user
+     * @param forumIds the ids of the forums to check
+     * @return the ids of the highed forums
+     */
+    @Query("SELECT h.forum.id FROM ForumHighsEntity h WHERE h.user.id = :userId AND h.forum.id IN :forumIds")
+    Set<UUID> findHighedForumIds(@Param("userId") UUID userId, @Param("forumIds") Collection<UUID> forumIds);
 }
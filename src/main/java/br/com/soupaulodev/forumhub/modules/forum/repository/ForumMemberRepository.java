@@ -0,0 +1,109 @@
+package br.com.soupaulodev.forumhub.modules.forum.repository;
+
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumMemberResponseDTO;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumMemberEntity;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumMemberId;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for {@link ForumMemberEntity}.
+ * <p>
+ * Every method is a single statement on the primary key or on the {@code (forum_id, joined_at, user_id)} index;
+ * none of them loads a forum or a user entity.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public interface ForumMemberRepository extends JpaRepository<ForumMemberEntity, ForumMemberId> {
+
+    /**
+     * Inserts a membership unless the user already is a member of the forum, in a single statement.
+     *
+     * @param forumId the id of the forum
+     * @param userId  the id of the user
+     * @param now     the join timestamp
+     * @return 1 if the membership was inserted, 0 if it already existed
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_forum_members (forum_id, user_id, joined_at)
+            VALUES (:forumId, :userId, :now)
+            ON CONFLICT (forum_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("forumId") UUID forumId,
+                       @Param("userId") UUID userId,
+                       @Param("now") Instant now);
+
+    /**
+     * Inserts a membership unless the user already is a member of the forum.
+     *
+     * @param forumId the id of the forum
+     * @param userId  the id of the user
+     * @return true if the membership was inserted, false if it already existed
+     */
+    default boolean insertIfAbsent(UUID forumId, UUID userId) {
+        return insertIfAbsent(forumId, userId, Instant.now()) > 0;
+    }
+
+    /**
+     * Deletes the membership of the user in the forum, in a single statement.
+     *
+     * @param forumId the id of the forum
+     * @param userId  the id of the user
+     * @return the number of deleted memberships, 0 if the user was not a member of the forum
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ForumMemberEntity m WHERE m.id.forumId = :forumId AND m.id.userId = :userId")
+    int deleteIfPresent(@Param("forumId") UUID forumId, @Param("userId") UUID userId);
+
+    /**
+     * Reads the first members of a forum, in join order.
+     *
+     * @param forumId the id of the forum
+     * @param limit   the maximum number of members to read
+     * @return the members
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumMemberResponseDTO(
+                u.id, u.name, u.username, m.joinedAt)
+            FROM ForumMemberEntity m JOIN m.user u
+            WHERE m.id.forumId = :forumId
+            ORDER BY m.joinedAt, m.id.userId
+            """)
+    List<ForumMemberResponseDTO> findMembers(@Param("forumId") UUID forumId, Limit limit);
+
+    /**
+     * Reads the members of a forum that joined after the given position, in join order.
+     *
+     * @param forumId  the id of the forum
+     * @param joinedAt the join timestamp of the last member read
+     * @param userId   the id of the last member read
+     * @param limit    the maximum number of members to read
+     * @return the members
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumMemberResponseDTO(
+                u.id, u.name, u.username, m.joinedAt)
+            FROM ForumMemberEntity m JOIN m.user u
+            WHERE m.id.forumId = :forumId
+              AND (m.joinedAt > :joinedAt OR (m.joinedAt = :joinedAt AND m.id.userId > :userId))
+            ORDER BY m.joinedAt, m.id.userId
+            """)
+    List<ForumMemberResponseDTO> findMembersAfter(@Param("forumId") UUID forumId,
+                                                  @Param("joinedAt") Instant joinedAt,
+                                                  @Param("userId") UUID userId,
+                                                  Limit limit);
+}
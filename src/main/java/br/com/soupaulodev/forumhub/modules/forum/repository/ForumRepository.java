@@ -1,9 +1,19 @@
 package br.com.soupaulodev.forumhub.modules.forum.repository;
 
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,4 +30,95 @@ public interface ForumRepository extends JpaRepository<ForumEntity, UUID> {
      * @return a {@link Boolean} indicating whether a forum with the specified name exists
      */
     Boolean existsByName(String name);
+
+    /**
+     * Adds a delta to the participants count of a forum, in a single relative update.
+     *
+     * @param forumId the id of the forum
+     * @param delta   the number of participants that joined, negative if they left
+     * @return the number of updated forums, 0 if the forum does not exist
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ForumEntity f SET f.participantsCount = f.participantsCount + :delta WHERE f.id = :forumId")
+    int addToParticipantsCount(@Param("forumId") UUID forumId, @Param("delta") long delta);
+
+    /**
+     * Decrements the participants count of every forum the user is a member of, before the user is deleted and
+     * their memberships with them.
+     *
+     * @param userId the id of the user
+     * @return the number of updated forums
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ForumEntity f SET f.participantsCount = f.participantsCount - 1
+            WHERE f.id IN (SELECT m.id.forumId FROM ForumMemberEntity m WHERE m.id.userId = :userId)
+            """)
+    int decrementParticipantsCountOfMember(@Param("userId") UUID userId);
+
+    /**
+     * Reads the newest forums, ordered by creation date and id, both descending.
+     *
+     * @param limit the maximum number of forums to read
+     * @return the forums
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO(
+                f.id, f.name, f.description, f.owner.id, f.highsCount, CAST(f.participantsCount AS Integer),
+                f.topicsCount, f.createdAt, f.updatedAt)
+            FROM ForumEntity f
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<ForumResponseDTO> findNewest(Limit limit);
+
+    /**
+     * Reads the forums created before the given position, ordered by creation date and id, both descending.
+     * The position is sought on the {@code (created_at, id)} index, so the cost does not depend on its depth.
+     *
+     * @param createdAt the creation date of the last forum read
+     * @param id        the id of the last forum read
+     * @param limit     the maximum number of forums to read
+     * @return the forums
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO(
+                f.id, f.name, f.description, f.owner.id, f.highsCount, CAST(f.participantsCount AS Integer),
+                f.topicsCount, f.createdAt, f.updatedAt)
+            FROM ForumEntity f
+            WHERE (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id))
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<ForumResponseDTO> findNewestBefore(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Reads a forum as a {@link ForumResponseDTO}, selecting only the columns it needs.
+     *
+     * @param id the id of the forum
+     * @return the forum, or empty if it does not exist
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO(
+                f.id, f.name, f.description, f.owner.id, f.highsCount, CAST(f.participantsCount AS Integer),
+                f.topicsCount, f.createdAt, f.updatedAt)
+            FROM ForumEntity f
+            WHERE f.id = :id
+            """)
+    Optional<ForumResponseDTO> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Reads forums as {@link ForumResponseDTO}s, selecting only the columns they need, in no particular order.
+     *
+     * @param ids the ids of the forums
+     * @return the forums that exist
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO(
+                f.id, f.name, f.description, f.owner.id, f.highsCount, CAST(f.participantsCount AS Integer),
+                f.topicsCount, f.createdAt, f.updatedAt)
+            FROM ForumEntity f
+            WHERE f.id IN :ids
+            """)
+    List<ForumResponseDTO> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -6,7 +6,9 @@ import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateReque
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
@@ -22,18 +24,27 @@ public class CreateForumUseCase {
 
     private final ForumRepository forumRepository;
     private final UserRepository userRepository;
+    private final ForumMemberRepository forumMemberRepository;
     private final ForumMapper forumMapper;
+    private final ForumMembership forumMembership;
 
     public CreateForumUseCase(ForumRepository forumRepository,
                               UserRepository userRepository,
-                              ForumMapper forumMapper) {
+                              ForumMemberRepository forumMemberRepository,
+                              ForumMapper forumMapper,
+                              ForumMembership forumMembership) {
         this.forumRepository = forumRepository;
         this.userRepository = userRepository;
+        this.forumMemberRepository = forumMemberRepository;
         this.forumMapper = forumMapper;
+        this.forumMembership = forumMembership;
     }
 
     /**
      * Executes the use case to create a new forum.
+     * <p>
+     * The owner joins the forum as its first member, once the forum is written.
+     * </p>
      *
      * @param requestDTO the data transfer object containing the forum creation data
      * @return the response data transfer {@link ForumResponseDTO} object containing the created forum data
@@ -50,10 +61,12 @@ public class CreateForumUseCase {
         }
 
         ForumEntity forum = forumMapper.toEntity(requestDTO, user);
-        forum.addParticipant(user);
+        forum.incrementParticipantsCount();
         user.addOwnedForum(forum);
 
-        userRepository.save(user);
+        userRepository.saveAndFlush(user);
+        forumMemberRepository.insertIfAbsent(forum.getId(), user.getId());
+        forumMembership.joined(user.getId(), forum.getId());
         return forumMapper.toResponseDTO(forum);
     }
 }
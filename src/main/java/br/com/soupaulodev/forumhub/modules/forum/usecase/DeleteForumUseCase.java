@@ -1,9 +1,13 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
@@ -18,20 +22,33 @@ public class DeleteForumUseCase {
 
     private final ForumRepository forumRepository;
     private final UserRepository userRepository;
+    private final ForumMembership forumMembership;
+    private final HighsMembershipIndex highsMembershipIndex;
+    private final TrendingEngine trendingEngine;
 
     /**
      * Constructs a new DeleteForumUsecase with the specified repository.
      *
      * @param forumRepository the repository for managing forums
+     * @param forumMembership the membership of users in forums
+     * @param highsMembershipIndex the index of the users who highed each forum
+     * @param trendingEngine the trending rankings the forum is dropped from
      */
     public DeleteForumUseCase(ForumRepository forumRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              ForumMembership forumMembership,
+                              HighsMembershipIndex highsMembershipIndex,
+                              TrendingEngine trendingEngine) {
         this.forumRepository = forumRepository;
         this.userRepository = userRepository;
+        this.forumMembership = forumMembership;
+        this.highsMembershipIndex = highsMembershipIndex;
+        this.trendingEngine = trendingEngine;
     }
 
     /**
      * Executes the use case to delete a forum by its unique identifier.
+     * The memberships of the forum are deleted with it by the database.
      *
      * @param id                  the unique identifier of the forum to be deleted
      * @param authenticatedUserId the unique identifier of the authenticated user
@@ -50,9 +67,10 @@ public class DeleteForumUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found."));
 
         owner.removeOwnedForum(forumDB);
-        owner.removeParticipatingForum(forumDB);
         forumDB.removeOwner();
-        forumDB.removeParticipant(owner);
         forumRepository.delete(forumDB);
+        forumMembership.left(owner.getId(), forumDB.getId());
+        highsMembershipIndex.evict(CounterTarget.FORUM, forumDB.getId());
+        trendingEngine.forumDeleted(forumDB.getId());
     }
 }
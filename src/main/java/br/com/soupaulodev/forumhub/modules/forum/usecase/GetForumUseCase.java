@@ -2,10 +2,10 @@ package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -26,16 +26,18 @@ public class GetForumUseCase {
 
     /**
      * Executes the use case to retrieve the details of a forum by its unique identifier.
+     * The forum is read straight into its DTO in a read-only transaction, without loading its owner.
      *
      * @param id the unique identifier of the forum
      * @return the response data transfer object containing the forum details
      * @throws ResourceNotFoundException if the forum with the specified ID is not found
      */
+    @Transactional(readOnly = true)
     public ForumResponseDTO execute(UUID id) {
 
-        ForumEntity forumFound = forumRepository.findById(id)
+        ForumResponseDTO forumFound = forumRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Forum not found."));
 
-        return forumMapper.toResponseDTO(forumFound);
+        return forumMapper.withPendingHighs(forumFound);
     }
 }
@@ -1,12 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
-import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
@@ -19,32 +21,56 @@ import java.util.UUID;
 public class HighForumUseCase {
 
     private final ForumHighsRepository forumHighsRepository;
-    private final ForumRepository forumRepository;
-    private final UserRepository userRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
+    /**
+     * Constructor
+     *
+     * @param forumHighsRepository forum highs repository
+     * @param highEffects high effects
+     * @param highsWriteAheadLog highs write-ahead log
+     */
     public HighForumUseCase(ForumHighsRepository forumHighsRepository,
-                            ForumRepository forumRepository,
-                            UserRepository userRepository) {
+                            HighEffects highEffects,
+                            HighsWriteAheadLog highsWriteAheadLog) {
         this.forumHighsRepository = forumHighsRepository;
-        this.forumRepository = forumRepository;
-        this.userRepository = userRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
+    /**
+     * Use case to high a forum
+     * <p>
+     * The high is inserted with a single conditional statement, and the highs count only moves
+     * when a row was actually inserted: the unique constraint alone decides whether the high is repeated, and
+     * the highs membership index is only updated from the outcome.
+     * While the database is unavailable, the high is deferred to the {@link HighsWriteAheadLog}
+     * and applied later by its replayer.
+     * </p>
+     *
+     * @param forumId forum id
+     * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the forum or the user does not exist, or the forum is already highed
+     */
     public void execute(UUID forumId, UUID authenticatedUserId) {
-        forumHighsRepository.findByForum_IdAndUser_Id(forumId, authenticatedUserId)
-                .ifPresent(userHighsEntity -> {
-                    throw new IllegalArgumentException("Forum already highed");
-                });
+        if (highsWriteAheadLog.deferIfPending(HighAction.HIGH, CounterTarget.FORUM, forumId, authenticatedUserId)) {
+            return;
+        }
 
-        ForumEntity forumFound = forumRepository.findById(forumId).orElseThrow(
-                () -> new IllegalArgumentException("Forum not found")
-        );
+        boolean inserted;
+        try {
+            inserted = forumHighsRepository.insertIfAbsent(forumId, authenticatedUserId);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Forum not found");
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.HIGH, CounterTarget.FORUM, forumId, authenticatedUserId);
+            return;
+        }
 
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(
-                () -> new IllegalArgumentException("Forum not found")
-        );
-
-        forumFound.incrementHighs();
-        forumHighsRepository.save(new ForumHighsEntity(forumFound, authenticatedUserEntity));
+        if (!inserted) {
+            throw new IllegalArgumentException("Forum already highed");
+        }
+        highEffects.highed(CounterTarget.FORUM, forumId, authenticatedUserId);
     }
 }
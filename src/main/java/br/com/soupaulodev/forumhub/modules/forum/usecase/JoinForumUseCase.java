@@ -0,0 +1,63 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use case to join a forum
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class JoinForumUseCase {
+
+    private final ForumMemberRepository forumMemberRepository;
+    private final ForumRepository forumRepository;
+    private final ForumMembership forumMembership;
+
+    /**
+     * Constructor
+     *
+     * @param forumMemberRepository forum member repository
+     * @param forumRepository forum repository
+     * @param forumMembership forum membership
+     */
+    public JoinForumUseCase(ForumMemberRepository forumMemberRepository,
+                            ForumRepository forumRepository,
+                            ForumMembership forumMembership) {
+        this.forumMemberRepository = forumMemberRepository;
+        this.forumRepository = forumRepository;
+        this.forumMembership = forumMembership;
+    }
+
+    /**
+     * Use case to join a forum
+     * <p>
+     * The membership is inserted with a single conditional statement, and the participants count only moves when a
+     * row was actually inserted, so joining a forum twice is a no-op.
+     * Neither the forum nor the user is loaded.
+     * </p>
+     *
+     * @param forumId forum id
+     * @param authenticatedUserId authenticated user id
+     * @throws ResourceNotFoundException if the forum does not exist
+     */
+    @Transactional
+    public void execute(UUID forumId, UUID authenticatedUserId) {
+        if (!forumRepository.existsById(forumId)) {
+            throw new ResourceNotFoundException("Forum not found.");
+        }
+
+        if (!forumMemberRepository.insertIfAbsent(forumId, authenticatedUserId)) {
+            return;
+        }
+        forumRepository.addToParticipantsCount(forumId, 1);
+        forumMembership.joined(authenticatedUserId, forumId);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use case to leave a forum
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class LeaveForumUseCase {
+
+    private final ForumMemberRepository forumMemberRepository;
+    private final ForumRepository forumRepository;
+    private final ForumMembership forumMembership;
+
+    /**
+     * Constructor
+     *
+     * @param forumMemberRepository forum member repository
+     * @param forumRepository forum repository
+     * @param forumMembership forum membership
+     */
+    public LeaveForumUseCase(ForumMemberRepository forumMemberRepository,
+                             ForumRepository forumRepository,
+                             ForumMembership forumMembership) {
+        this.forumMemberRepository = forumMemberRepository;
+        this.forumRepository = forumRepository;
+        this.forumMembership = forumMembership;
+    }
+
+    /**
+     * Use case to leave a forum
+     * <p>
+     * The membership is removed with a single statement on its primary key, and the participants count only
+     * moves when a row was actually deleted, so leaving a forum the user is not a member of is a no-op.
+     * </p>
+     *
+     * @param forumId forum id
+     * @param authenticatedUserId authenticated user id
+     * @throws ResourceNotFoundException if the forum does not exist
+     */
+    @Transactional
+    public void execute(UUID forumId, UUID authenticatedUserId) {
+        if (!forumRepository.existsById(forumId)) {
+            throw new ResourceNotFoundException("Forum not found.");
+        }
+
+        if (forumMemberRepository.deleteIfPresent(forumId, authenticatedUserId) == 0) {
+            return;
+        }
+        forumRepository.addToParticipantsCount(forumId, -1);
+        forumMembership.left(authenticatedUserId, forumId);
+    }
+}
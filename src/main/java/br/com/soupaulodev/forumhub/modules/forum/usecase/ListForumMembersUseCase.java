@@ -0,0 +1,58 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumMemberResponseDTO;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for listing the members of a forum, in join order.
+ */
+@Service
+public class ListForumMembersUseCase {
+
+    private final ForumMemberRepository forumMemberRepository;
+    private final ForumRepository forumRepository;
+
+    public ListForumMembersUseCase(ForumMemberRepository forumMemberRepository,
+                                   ForumRepository forumRepository) {
+        this.forumMemberRepository = forumMemberRepository;
+        this.forumRepository = forumRepository;
+    }
+
+    /**
+     * Executes the use case to list a page of the members of a forum.
+     * <p>
+     * Pages are read with a keyset on the join date and the user id instead of an offset, so any page costs a
+     * single range scan of the members index whatever its depth, and no count is run.
+     * </p>
+     *
+     * @param forumId the forum id
+     * @param cursor  the cursor returned with the previous page, or null for the first page
+     * @param size    the number of members per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @return the page of members, with the cursor of the next page if there is one
+     * @throws ResourceNotFoundException if the forum does not exist
+     * @throws IllegalArgumentException  if the cursor is invalid
+     */
+    public CursorPageDTO<ForumMemberResponseDTO> execute(UUID forumId, String cursor, int size) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ForumMemberResponseDTO> members = after == null
+                ? forumMemberRepository.findMembers(forumId, limit)
+                : forumMemberRepository.findMembersAfter(forumId, after.at(), after.id(), limit);
+
+        if (members.isEmpty() && after == null && !forumRepository.existsById(forumId)) {
+            throw new ResourceNotFoundException("Forum not found.");
+        }
+        return CursorPageDTO.of(members, pageSize, ForumMemberResponseDTO::cursor);
+    }
+}
@@ -1,45 +1,91 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
- * Use case for listing forums with pagination support.
+ * Use case for listing forums, newest first, one page at a time.
  */
 @Service
 public class ListForumsUseCase {
 
     private final ForumRepository forumRepository;
+    private final HighsMembershipIndex highsMembershipIndex;
+    private final ForumHighsRepository forumHighsRepository;
     private final ForumMapper forumMapper;
 
     public ListForumsUseCase(ForumRepository forumRepository,
+                             HighsMembershipIndex highsMembershipIndex,
+                             ForumHighsRepository forumHighsRepository,
                              ForumMapper forumMapper) {
         this.forumRepository = forumRepository;
+        this.highsMembershipIndex = highsMembershipIndex;
+        this.forumHighsRepository = forumHighsRepository;
         this.forumMapper = forumMapper;
     }
 
     /**
-     * Executes the use case to list forums with pagination support.
+     * Executes the use case to list a page of forums.
      *
-     * @param page the page number to retrieve
-     * @return a list of ForumResponseDTO containing the forum data
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the number of forums per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @return the page of forums, with the cursor of the next page if there is one
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<ForumResponseDTO> execute(int page, int size) {
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ForumResponseDTO> execute(String cursor, int size) {
+        return execute(cursor, size, null);
+    }
+
+    /**
+     * Executes the use case to list a page of forums, flagging the forums highed by the viewer.
+     * <p>
+     * Pages are read with a keyset on the creation date and the id instead of an offset, so any page costs a
+     * single range scan of the {@code (created_at, id)} index whatever its depth, and no count is run.
+     * The forums are read straight into their DTOs, in a read-only transaction, so no entity is managed.
+     * The flags of the whole page are read from the highs membership index for the forums whose bitmap is in
+     * memory, and from a single per-viewer query for the others.
+     * </p>
+     *
+     * @param cursor   the cursor returned with the previous page, or null for the first page
+     * @param size     the number of forums per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @param viewerId the authenticated user, or null for anonymous callers
+     * @return the page of forums, with the cursor of the next page if there is one
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ForumResponseDTO> execute(String cursor, int size, UUID viewerId) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor before = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ForumResponseDTO> rows = before == null
+                ? forumRepository.findNewest(limit)
+                : forumRepository.findNewestBefore(before.at(), before.id(), limit);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<ForumEntity> entities = forumRepository.findAll(pageable);
+        CursorPageDTO<ForumResponseDTO> forums = CursorPageDTO
+                .of(rows, pageSize, forum -> new Cursor(forum.createdAt(), forum.id()))
+                .map(forumMapper::withPendingHighs);
+        if (viewerId == null || forums.items().isEmpty()) {
+            return forums;
+        }
 
-        return entities.getContent().stream()
-                .map(forumMapper::toResponseDTO)
-                .toList();
+        Set<UUID> highed = highsMembershipIndex.findHighed(CounterTarget.FORUM,
+                forums.items().stream().map(ForumResponseDTO::id).toList(), viewerId,
+                forumIds -> forumHighsRepository.findHighedForumIds(viewerId, forumIds));
+        return forums.map(forum -> forum.withHighedByMe(highed.contains(forum.id())));
     }
 }
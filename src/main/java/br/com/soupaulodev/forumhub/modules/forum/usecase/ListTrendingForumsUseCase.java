@@ -0,0 +1,74 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
+import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for listing the trending forums.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ListTrendingForumsUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final TrendingEngine trendingEngine;
+    private final ForumRepository forumRepository;
+    private final ForumMapper forumMapper;
+
+    /**
+     * Constructs a new {@link ListTrendingForumsUseCase} with the specified dependencies.
+     *
+     * @param trendingEngine  the engine ranking trending forums
+     * @param forumRepository the repository for managing forums
+     * @param forumMapper     the mapper for converting forums to DTOs
+     */
+    public ListTrendingForumsUseCase(TrendingEngine trendingEngine,
+                                     ForumRepository forumRepository,
+                                     ForumMapper forumMapper) {
+        this.trendingEngine = trendingEngine;
+        this.forumRepository = forumRepository;
+        this.forumMapper = forumMapper;
+    }
+
+    /**
+     * Executes the use case to list the trending forums.
+     * The ranked forums are read straight into their DTOs with a single statement, in a read-only transaction.
+     *
+     * @param limit the maximum number of forums to return
+     * @return a {@link List} of {@link ForumResponseDTO} ordered from the hottest forum
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<ForumResponseDTO> execute(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<UUID> ranking = trendingEngine.trendingForums(limit);
+        if (ranking.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, ForumResponseDTO> forums = forumRepository.findResponsesByIdIn(ranking).stream()
+                .collect(Collectors.toMap(ForumResponseDTO::id, Function.identity()));
+
+        return ranking.stream()
+                .map(forums::get)
+                .filter(Objects::nonNull)
+                .map(forumMapper::withPendingHighs)
+                .toList();
+    }
+}
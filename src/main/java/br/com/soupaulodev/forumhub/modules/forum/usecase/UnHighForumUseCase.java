@@ -1,8 +1,13 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
-import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
@@ -15,31 +20,53 @@ import java.util.UUID;
 public class UnHighForumUseCase {
 
     private final ForumHighsRepository forumHighsRepository;
-    private final ForumRepository forumRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
+    /**
+     * Constructor
+     *
+     * @param forumHighsRepository forum highs repository
+     * @param highEffects high effects
+     * @param highsWriteAheadLog highs write-ahead log
+     */
     public UnHighForumUseCase(ForumHighsRepository forumHighsRepository,
-                            ForumRepository forumRepository) {
+                              HighEffects highEffects,
+                              HighsWriteAheadLog highsWriteAheadLog) {
         this.forumHighsRepository = forumHighsRepository;
-        this.forumRepository = forumRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
     /**
      * Use case to unhigh a forum
+     * <p>
+     * The high is removed with a single statement, and the highs count only moves
+     * when a row was actually deleted.
+     * While the database is unavailable, the unhigh is deferred to the {@link HighsWriteAheadLog}
+     * and applied later by its replayer.
+     * </p>
      *
      * @param forumId forum id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the forum is not highed by the user
      */
     public void execute(UUID forumId, UUID authenticatedUserId) {
-        forumHighsRepository.findByForum_IdAndUser_Id(forumId, authenticatedUserId)
-                .ifPresentOrElse(
-                        forumHighsRepository::delete,
-                    () -> {
-                        throw new IllegalArgumentException("Forum not highed");
-                    }
-                );
-        forumRepository.findById(forumId).ifPresent((forum) -> {
-            forum.decrementHighs();
-            forumRepository.save(forum);
-        });
+        if (highsWriteAheadLog.deferIfPending(HighAction.UNHIGH, CounterTarget.FORUM, forumId, authenticatedUserId)) {
+            return;
+        }
+
+        int deleted;
+        try {
+            deleted = forumHighsRepository.deleteIfPresent(forumId, authenticatedUserId);
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.UNHIGH, CounterTarget.FORUM, forumId, authenticatedUserId);
+            return;
+        }
+
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Forum not highed");
+        }
+        highEffects.unHighed(CounterTarget.FORUM, forumId, authenticatedUserId);
     }
 }
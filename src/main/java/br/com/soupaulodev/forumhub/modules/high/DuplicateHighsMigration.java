@@ -0,0 +1,52 @@
+package br.com.soupaulodev.forumhub.modules.high;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.repository.DuplicateHighsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes the duplicate highs of a user on a target on startup, and takes them off the highs count of the target.
+ * <p>
+ * Runs before the entity manager factory is built: the schema update adds the unique constraints of the highs tables
+ * there, and cannot add them while duplicates are left. Once the constraints exist, later startups find nothing to
+ * delete.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class DuplicateHighsMigration implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateHighsMigration.class);
+
+    private final DuplicateHighsRepository repository;
+
+    public DuplicateHighsMigration(DuplicateHighsRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (CounterTarget target : CounterTarget.values()) {
+            long deleted = repository.deleteDuplicateHighs(target);
+            if (deleted >= 0) {
+                logger.info("Deleted {} duplicate highs from {}", deleted, target.getHighsTable());
+            }
+        }
+    }
+
+    /**
+     * Makes the entity manager factory depend on the migration, so the schema update runs after it.
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnMigration() {
+            super(DuplicateHighsMigration.class);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.soupaulodev.forumhub.modules.high;
+
+import br.com.soupaulodev.forumhub.modules.activity.ActivityKind;
+import br.com.soupaulodev.forumhub.modules.activity.ActivityRates;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Propagates a persisted high or unhigh to the in-memory views derived from the highs tables:
+ * the write-behind counters, the membership index, the trending rankings and the activity rates.
+ * <p>
+ * Must only be called for rows actually inserted or deleted, so the views move exactly once per change.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighEffects {
+
+    private final HighsCounter highsCounter;
+    private final HighsMembershipIndex highsMembershipIndex;
+    private final TrendingEngine trendingEngine;
+    private final ActivityRates activityRates;
+
+    /**
+     * Constructor
+     *
+     * @param highsCounter highs counter
+     * @param highsMembershipIndex highs membership index
+     * @param trendingEngine trending engine
+     * @param activityRates activity rates
+     */
+    public HighEffects(HighsCounter highsCounter,
+                       HighsMembershipIndex highsMembershipIndex,
+                       TrendingEngine trendingEngine,
+                       ActivityRates activityRates) {
+        this.highsCounter = highsCounter;
+        this.highsMembershipIndex = highsMembershipIndex;
+        this.trendingEngine = trendingEngine;
+        this.activityRates = activityRates;
+    }
+
+    /**
+     * Propagates a persisted high.
+     *
+     * @param type the target type
+     * @param id the highed target
+     * @param userId the user who gave the high
+     */
+    public void highed(CounterTarget type, UUID id, UUID userId) {
+        highsCounter.increment(type, id);
+        highsMembershipIndex.highed(type, id, userId);
+        if (type == CounterTarget.TOPIC) {
+            trendingEngine.topicHighed(id);
+            activityRates.record(type, id, ActivityKind.HIGH);
+        } else if (type == CounterTarget.FORUM) {
+            trendingEngine.forumHighed(id);
+            activityRates.record(type, id, ActivityKind.HIGH);
+        }
+    }
+
+    /**
+     * Propagates a persisted unhigh.
+     *
+     * @param type the target type
+     * @param id the unhighed target
+     * @param userId the user who removed the high
+     */
+    public void unHighed(CounterTarget type, UUID id, UUID userId) {
+        highsCounter.decrement(type, id);
+        highsMembershipIndex.unHighed(type, id, userId);
+        if (type == CounterTarget.TOPIC) {
+            trendingEngine.topicUnHighed(id);
+        } else if (type == CounterTarget.FORUM) {
+            trendingEngine.forumUnHighed(id);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.soupaulodev.forumhub.modules.high.controller;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighBatchRequestDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighBatchResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighsPageResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.usecase.ApplyHighsBatchUseCase;
+import br.com.soupaulodev.forumhub.modules.high.usecase.ExportHighsInRangeUseCase;
+import br.com.soupaulodev.forumhub.modules.high.usecase.ListHighsInRangeUseCase;
+import br.com.soupaulodev.forumhub.security.utils.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Controller for handling bulk high operations.
+ * This class provides endpoints for applying many highs and unhighs, over any target type, in a single request,
+ * and for scanning or exporting the highs given within a time range.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@RestController
+@RequestMapping("/api/v1/highs")
+@Tag(name = "High", description = "Bulk operations related to highs")
+public class HighController {
+
+    private final ApplyHighsBatchUseCase applyHighsBatchUseCase;
+    private final ListHighsInRangeUseCase listHighsInRangeUseCase;
+    private final ExportHighsInRangeUseCase exportHighsInRangeUseCase;
+
+    /**
+     * Constructs a new {@link HighController} with the specified use cases.
+     *
+     * @param applyHighsBatchUseCase    the use case for applying a batch of highs
+     * @param listHighsInRangeUseCase   the use case for listing the highs within a time range
+     * @param exportHighsInRangeUseCase the use case for exporting the highs within a time range
+     */
+    public HighController(ApplyHighsBatchUseCase applyHighsBatchUseCase,
+                          ListHighsInRangeUseCase listHighsInRangeUseCase,
+                          ExportHighsInRangeUseCase exportHighsInRangeUseCase) {
+        this.applyHighsBatchUseCase = applyHighsBatchUseCase;
+        this.listHighsInRangeUseCase = listHighsInRangeUseCase;
+        this.exportHighsInRangeUseCase = exportHighsInRangeUseCase;
+    }
+
+    /**
+     * Endpoint for handling bulk high and unhigh operations.
+     * Every operation gets its own result, so a missing target does not fail the whole batch.
+     *
+     * @param request the operations to apply
+     * @return a {@link ResponseEntity} containing the outcome of every operation
+     */
+    @Operation(summary = "Apply a batch of highs", description = "High and unhigh forums, topics, comments and users in a single request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch applied"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<HighBatchResponseDTO> applyBatch(@Valid @RequestBody HighBatchRequestDTO request) {
+        UUID authenticatedUserId = AuthenticatedUser.getId();
+        return ResponseEntity.ok(applyHighsBatchUseCase.execute(request, authenticatedUserId));
+    }
+
+    /**
+     * Endpoint for listing the highs given within a time range, oldest first.
+     * Pages are chained with the returned cursor. Restricted to administrators, since highs tell who highed what.
+     *
+     * @param type   the target type
+     * @param from   the inclusive start of the range
+     * @param to     the exclusive end of the range, defaults to now
+     * @param cursor the cursor returned with the previous page
+     * @param size   the maximum number of highs to retrieve
+     * @return a {@link ResponseEntity} containing the page of highs and the cursor of the next one
+     */
+    @Operation(summary = "List highs within a time range", description = "Scan the highs of a target type by creation time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Highs listed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/{type}")
+    public ResponseEntity<HighsPageResponseDTO> listHighs(@PathVariable CounterTarget type,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(listHighsInRangeUseCase.execute(type, from, to, cursor, size));
+    }
+
+    /**
+     * Endpoint for exporting, as CSV, every high given within a time range.
+     * Restricted to administrators, since highs tell who highed what.
+     *
+     * @param type the target type
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range, defaults to now
+     * @return a {@link ResponseEntity} streaming the highs as CSV, oldest first
+     */
+    @Operation(summary = "Export highs within a time range", description = "Stream the highs of a target type as CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Highs exported"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/{type}/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportHighs(@PathVariable CounterTarget type,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        Instant end = to == null ? Instant.now() : to;
+        exportHighsInRangeUseCase.validate(from, end);
+
+        StreamingResponseBody body = out -> exportHighsInRangeUseCase.execute(type, from, end, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(body);
+    }
+}
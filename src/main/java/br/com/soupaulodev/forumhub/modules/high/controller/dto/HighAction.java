@@ -0,0 +1,11 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+/**
+ * Action of a high operation.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum HighAction {
+    HIGH,
+    UNHIGH
+}
@@ -0,0 +1,24 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) representing the request body of a high batch.
+ * <p>
+ * Operations are applied in order, so when several operations target the same item only the last one is kept.
+ * </p>
+ *
+ * @param operations the operations to apply
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighBatchRequestDTO(
+        @NotEmpty
+        @Size(max = 100)
+        List<@Valid @NotNull HighOperationRequestDTO> operations
+) {
+}
@@ -0,0 +1,13 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) representing the response body of a high batch.
+ *
+ * @param applied the number of operations applied
+ * @param results the outcome of each operation, in request order
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighBatchResponseDTO(int applied, List<HighOperationResultDTO> results) {
+}
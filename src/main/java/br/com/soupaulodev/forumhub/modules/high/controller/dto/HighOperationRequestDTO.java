@@ -0,0 +1,26 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.UUID;
+
+/**
+ * DTO (Data Transfer Object) representing a single operation of a high batch.
+ *
+ * @param type   the type of the target
+ * @param id     the unique identifier of the target
+ * @param action whether the target is highed or unhighed
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighOperationRequestDTO(
+        @NotNull
+        CounterTarget type,
+
+        @NotNull
+        @UUID
+        String id,
+
+        @NotNull
+        HighAction action
+) {
+}
@@ -0,0 +1,20 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) representing the outcome of a single operation of a high batch.
+ *
+ * @param type   the type of the target
+ * @param id     the unique identifier of the target
+ * @param action the requested action
+ * @param status the outcome of the operation
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighOperationResultDTO(CounterTarget type,
+                                     UUID id,
+                                     HighAction action,
+                                     HighOperationStatus status) {
+}
@@ -0,0 +1,23 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+/**
+ * Outcome of a single operation of a high batch.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum HighOperationStatus {
+    /** The high or unhigh was applied. */
+    APPLIED,
+    /** The target was already highed by the user. */
+    ALREADY_HIGHED,
+    /** The target was not highed by the user. */
+    NOT_HIGHED,
+    /** The target does not exist. */
+    NOT_FOUND,
+    /** A later operation of the batch on the same target replaced this one. */
+    SUPERSEDED,
+    /** The user is not allowed to high the target, e.g. themselves. */
+    FORBIDDEN,
+    /** The database is unavailable; the operation was logged and will be applied once it is back. */
+    DEFERRED
+}
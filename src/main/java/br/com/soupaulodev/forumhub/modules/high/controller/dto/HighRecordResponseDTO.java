@@ -0,0 +1,16 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) representing a single high.
+ *
+ * @param id        the ULID of the high
+ * @param targetId  the unique identifier of the highed forum, topic, comment or user
+ * @param userId    the unique identifier of the user who gave the high
+ * @param createdAt when the high was given
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighRecordResponseDTO(String id, UUID targetId, UUID userId, Instant createdAt) {
+}
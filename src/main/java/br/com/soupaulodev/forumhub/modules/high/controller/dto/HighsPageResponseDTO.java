@@ -0,0 +1,13 @@
+package br.com.soupaulodev.forumhub.modules.high.controller.dto;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) representing a page of highs within a time range.
+ *
+ * @param highs      the highs of the page, oldest first
+ * @param nextCursor the cursor of the next page, or null when the range is exhausted
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighsPageResponseDTO(List<HighRecordResponseDTO> highs, String nextCursor) {
+}
@@ -0,0 +1,15 @@
+package br.com.soupaulodev.forumhub.modules.high.log;
+
+/**
+ * When the highs log forces appended records to disk.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum FsyncPolicy {
+    /** Every append is forced before it is acknowledged. */
+    ALWAYS,
+    /** Appends are forced periodically, so a crash may lose the last interval. */
+    INTERVAL,
+    /** Appends are left to the operating system, which survives process crashes but not power loss. */
+    NONE
+}
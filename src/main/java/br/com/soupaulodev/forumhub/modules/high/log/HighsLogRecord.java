@@ -0,0 +1,19 @@
+package br.com.soupaulodev.forumhub.modules.high.log;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+
+import java.util.UUID;
+
+/**
+ * A high or unhigh waiting in the highs log to be applied to the database.
+ *
+ * @param action    whether the target is highed or unhighed
+ * @param target    the target type
+ * @param targetId  the target id
+ * @param userId    the user giving or removing the high
+ * @param timestamp when the operation was accepted, in milliseconds
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighsLogRecord(HighAction action, CounterTarget target, UUID targetId, UUID userId, long timestamp) {
+}
@@ -0,0 +1,102 @@
+package br.com.soupaulodev.forumhub.modules.high.log;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.repository.HighsBatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies the records of the {@link HighsWriteAheadLog} to the database, in order, once it is reachable again.
+ * <p>
+ * Records are applied with the same conditional statements as the batch endpoint, so replaying a record twice,
+ * e.g. after a crash between applying it and checkpointing, leaves the highs unchanged. The derived views are only
+ * updated for rows actually inserted or deleted. Highs are stamped with the time their record was accepted, not
+ * the time of the replay. Records that can never succeed, such as highs on a deleted
+ * target, are dropped; replay stops at the first record failing because the database is still unreachable.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsLogReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HighsLogReplayer.class);
+
+    private final HighsWriteAheadLog highsLog;
+    private final HighsBatchRepository highsBatchRepository;
+    private final HighEffects highEffects;
+    private final int batchSize;
+
+    public HighsLogReplayer(HighsWriteAheadLog highsLog,
+                            HighsBatchRepository highsBatchRepository,
+                            HighEffects highEffects,
+                            @Value("${highs-log.replay-batch-size:500}") int batchSize) {
+        this.highsLog = highsLog;
+        this.highsBatchRepository = highsBatchRepository;
+        this.highEffects = highEffects;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Applies the pending records until the log is empty or the database fails.
+     */
+    @Scheduled(fixedDelayString = "${highs-log.replay-interval-ms:1000}")
+    public void replay() {
+        if (!highsLog.isEnabled()) {
+            return;
+        }
+
+        List<HighsLogRecord> batch;
+        while (!(batch = highsLog.peek(batchSize)).isEmpty()) {
+            int applied = 0;
+            for (HighsLogRecord record : batch) {
+                try {
+                    apply(record);
+                } catch (DataAccessException | TransactionException e) {
+                    if (HighsWriteAheadLog.isDatabaseUnavailable(e)) {
+                        highsLog.acknowledge(applied);
+                        logger.debug("Database still unavailable, {} highs left to replay", highsLog.pending());
+                        return;
+                    }
+                    logger.warn("Dropping highs log record {}: {}", record, e.getMessage());
+                }
+                applied++;
+            }
+            highsLog.acknowledge(applied);
+        }
+    }
+
+    private void apply(HighsLogRecord record) {
+        CounterTarget target = record.target();
+        UUID targetId = record.targetId();
+        UUID userId = record.userId();
+
+        if (record.action() == HighAction.HIGH) {
+            if (target == CounterTarget.USER && targetId.equals(userId)) {
+                return;
+            }
+            Set<UUID> inserted = highsBatchRepository.insertAll(target, userId, List.of(targetId),
+                    Instant.ofEpochMilli(record.timestamp()));
+            if (!inserted.isEmpty()) {
+                highEffects.highed(target, targetId, userId);
+            }
+        } else {
+            Set<UUID> deleted = highsBatchRepository.deleteAll(target, userId, List.of(targetId));
+            if (!deleted.isEmpty()) {
+                highEffects.unHighed(target, targetId, userId);
+            }
+        }
+    }
+}
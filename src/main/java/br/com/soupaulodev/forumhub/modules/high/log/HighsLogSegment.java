@@ -0,0 +1,163 @@
+package br.com.soupaulodev.forumhub.modules.high.log;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * A memory-mapped, append-only file of fixed-size highs log records.
+ * <p>
+ * Each record is 48 bytes: a CRC32C of the rest of the record, a magic byte, the action and target ordinals,
+ * the target and user ids and the timestamp. The file is preallocated with zeros, so the end of the log is the
+ * first slot whose magic or checksum does not match, which also discards a record torn by a crash.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+final class HighsLogSegment implements Closeable {
+
+    static final int RECORD_SIZE = 48;
+    private static final byte MAGIC = 'H';
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int writeOffset;
+
+    private HighsLogSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Opens a segment, creating it with the given size if it does not exist, and finds the end of its records.
+     *
+     * @param path     the segment file
+     * @param sequence the sequence of the segment
+     * @param size     the size of a new segment in bytes
+     * @return the opened segment
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static HighsLogSegment open(Path path, long sequence, int size) throws IOException {
+        long existing = Files.exists(path) ? Files.size(path) : 0;
+        int capacity = (int) (Math.max(existing, size) / RECORD_SIZE * RECORD_SIZE);
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        HighsLogSegment segment = new HighsLogSegment(sequence, path, channel, buffer, capacity);
+        while (segment.writeOffset < capacity && segment.read(segment.writeOffset) != null) {
+            segment.writeOffset += RECORD_SIZE;
+        }
+        return segment;
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param record the record to append
+     * @return false if the segment is full
+     */
+    boolean append(HighsLogRecord record) {
+        if (writeOffset + RECORD_SIZE > capacity) {
+            return false;
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(RECORD_SIZE);
+        bytes.putInt(0)
+                .put(MAGIC)
+                .put((byte) record.action().ordinal())
+                .put((byte) record.target().ordinal())
+                .put((byte) 0)
+                .putLong(record.targetId().getMostSignificantBits())
+                .putLong(record.targetId().getLeastSignificantBits())
+                .putLong(record.userId().getMostSignificantBits())
+                .putLong(record.userId().getLeastSignificantBits())
+                .putLong(record.timestamp());
+        bytes.putInt(0, checksum(bytes.array()));
+
+        buffer.put(writeOffset, bytes.array());
+        writeOffset += RECORD_SIZE;
+        return true;
+    }
+
+    /**
+     * Reads the record at an offset.
+     *
+     * @param offset the offset of the record
+     * @return the record, or null if the slot holds no valid record
+     */
+    HighsLogRecord read(int offset) {
+        byte[] bytes = new byte[RECORD_SIZE];
+        buffer.get(offset, bytes);
+        ByteBuffer record = ByteBuffer.wrap(bytes);
+
+        if (record.get(4) != MAGIC || record.getInt(0) != checksum(bytes)) {
+            return null;
+        }
+        int action = record.get(5) & 0xFF;
+        int target = record.get(6) & 0xFF;
+        if (action >= HighAction.values().length || target >= CounterTarget.values().length) {
+            return null;
+        }
+
+        return new HighsLogRecord(
+                HighAction.values()[action],
+                CounterTarget.values()[target],
+                new UUID(record.getLong(8), record.getLong(16)),
+                new UUID(record.getLong(24), record.getLong(32)),
+                record.getLong(40));
+    }
+
+    /**
+     * Forces the appended records to disk.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int writeOffset() {
+        return writeOffset;
+    }
+
+    /**
+     * Closes and deletes the segment.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 4, RECORD_SIZE - 4);
+        return (int) crc.getValue();
+    }
+}
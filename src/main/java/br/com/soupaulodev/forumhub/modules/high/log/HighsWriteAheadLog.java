@@ -0,0 +1,343 @@
+package br.com.soupaulodev.forumhub.modules.high.log;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Local write-ahead log of highs and unhighs that could not be written to the database.
+ * <p>
+ * When a high or unhigh fails because the database is unreachable, the use case appends it here and acknowledges
+ * the request instead of failing it. From then on, and until {@link HighsLogReplayer} has applied every logged
+ * record, new highs and unhighs are appended too, without waiting on the database, so they are applied in the
+ * order they were accepted.
+ * </p>
+ * <p>
+ * Records live in memory-mapped segment files of fixed size under the configured directory, which must survive
+ * restarts: the application fails to start if it cannot be created or written. Replayed segments are
+ * deleted, and the replay position is checkpointed so a restart resumes where it stopped. Appends are refused once
+ * the configured disk budget is used, in which case the request fails as it did before.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsWriteAheadLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(HighsWriteAheadLog.class);
+    private static final String SEGMENT_PREFIX = "highs-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT = "checkpoint";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final FsyncPolicy fsyncPolicy;
+    private final LongSupplier clock;
+
+    private final Deque<HighsLogSegment> segments = new ArrayDeque<>();
+    private FileChannel checkpoint;
+    private int readOffset;
+    private long pending;
+    private boolean dirty;
+    private volatile boolean deferring;
+
+    @Autowired
+    public HighsWriteAheadLog(@Value("${highs-log.enabled:true}") boolean enabled,
+                              @Value("${highs-log.directory:data/highs-log}") String directory,
+                              @Value("${highs-log.segment-bytes:4194304}") int segmentBytes,
+                              @Value("${highs-log.max-bytes:67108864}") long maxBytes,
+                              @Value("${highs-log.fsync:INTERVAL}") FsyncPolicy fsyncPolicy) {
+        this(enabled, Path.of(directory), segmentBytes, maxBytes, fsyncPolicy, System::currentTimeMillis);
+    }
+
+    HighsWriteAheadLog(boolean enabled, Path directory, int segmentBytes, long maxBytes, FsyncPolicy fsyncPolicy,
+                       LongSupplier clock) {
+        if (segmentBytes < HighsLogSegment.RECORD_SIZE) {
+            throw new IllegalArgumentException("Highs log segments must hold at least one record");
+        }
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = (int) Math.max(2, maxBytes / segmentBytes);
+        this.fsyncPolicy = fsyncPolicy;
+        this.clock = clock;
+
+        if (enabled) {
+            try {
+                recover();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open the highs log in " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a failure means the database is unreachable, as opposed to the operation being invalid.
+     *
+     * @param failure the failure of a database write
+     * @return true if the write may succeed once the database is back
+     */
+    public static boolean isDatabaseUnavailable(Throwable failure) {
+        return failure instanceof TransientDataAccessException
+                || failure instanceof RecoverableDataAccessException
+                || failure instanceof DataAccessResourceFailureException
+                || failure instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * Appends the operation if earlier operations are still waiting in the log, so it is applied after them.
+     *
+     * @param action   whether the target is highed or unhighed
+     * @param target   the target type
+     * @param targetId the target id
+     * @param userId   the user giving or removing the high
+     * @return true if the operation was logged, false if it must be written to the database directly
+     */
+    public boolean deferIfPending(HighAction action, CounterTarget target, UUID targetId, UUID userId) {
+        return enabled && deferring && append(new HighsLogRecord(action, target, targetId, userId, clock.getAsLong()));
+    }
+
+    /**
+     * Appends the operation if its database write failed because the database is unreachable, or rethrows the
+     * failure otherwise.
+     *
+     * @param failure  the failure of the database write
+     * @param action   whether the target is highed or unhighed
+     * @param target   the target type
+     * @param targetId the target id
+     * @param userId   the user giving or removing the high
+     * @throws RuntimeException the failure, if the operation could not be logged
+     */
+    public void deferOrRethrow(RuntimeException failure, HighAction action, CounterTarget target,
+                               UUID targetId, UUID userId) {
+        if (!enabled || !isDatabaseUnavailable(failure)) {
+            throw failure;
+        }
+        boolean wasDeferring = deferring;
+        if (!append(new HighsLogRecord(action, target, targetId, userId, clock.getAsLong()))) {
+            throw failure;
+        }
+        if (!wasDeferring) {
+            logger.warn("Database unavailable, deferring highs to the local log: {}", failure.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether the log is enabled.
+     *
+     * @return true if the log is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of records waiting to be replayed.
+     *
+     * @return the number of pending records
+     */
+    public synchronized long pending() {
+        return pending;
+    }
+
+    /**
+     * Reads, without consuming them, the oldest records waiting to be replayed.
+     *
+     * @param max the maximum number of records
+     * @return the records, oldest first
+     */
+    synchronized List<HighsLogRecord> peek(int max) {
+        List<HighsLogRecord> records = new ArrayList<>();
+        int offset = readOffset;
+        for (HighsLogSegment segment : segments) {
+            for (; offset < segment.writeOffset() && records.size() < max; offset += HighsLogSegment.RECORD_SIZE) {
+                records.add(segment.read(offset));
+            }
+            if (records.size() == max) {
+                break;
+            }
+            offset = 0;
+        }
+        return records;
+    }
+
+    /**
+     * Consumes the oldest records, deleting the segments fully replayed and checkpointing the position.
+     * Once every record is consumed, operations go back to the database directly.
+     *
+     * @param count the number of records replayed
+     */
+    synchronized void acknowledge(int count) {
+        if (count <= 0) {
+            return;
+        }
+        readOffset += count * HighsLogSegment.RECORD_SIZE;
+        pending -= count;
+
+        try {
+            while (segments.size() > 1 && readOffset >= segments.peekFirst().writeOffset()) {
+                HighsLogSegment replayed = segments.pollFirst();
+                readOffset -= replayed.writeOffset();
+                replayed.delete();
+            }
+            writeCheckpoint();
+        } catch (IOException e) {
+            logger.error("Cannot checkpoint the highs log", e);
+        }
+
+        if (pending == 0) {
+            deferring = false;
+            logger.info("Highs log replayed, writing highs to the database again");
+        }
+    }
+
+    /**
+     * Forces the appended records to disk when the fsync policy is {@link FsyncPolicy#INTERVAL}.
+     */
+    @Scheduled(fixedDelayString = "${highs-log.fsync-interval-ms:200}")
+    public synchronized void flush() {
+        if (enabled && dirty && fsyncPolicy == FsyncPolicy.INTERVAL) {
+            segments.getLast().force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * Forces the pending records to disk and closes the segments.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (!enabled) {
+            return;
+        }
+        for (HighsLogSegment segment : segments) {
+            try {
+                segment.force();
+                segment.close();
+            } catch (IOException e) {
+                logger.warn("Cannot close highs log segment {}", segment.sequence(), e);
+            }
+        }
+        try {
+            checkpoint.close();
+        } catch (IOException e) {
+            logger.warn("Cannot close the highs log checkpoint", e);
+        }
+    }
+
+    private synchronized boolean append(HighsLogRecord record) {
+        HighsLogSegment active = segments.getLast();
+        if (!active.append(record)) {
+            if (segments.size() >= maxSegments) {
+                logger.error("Highs log is full, {} segments of {} bytes", maxSegments, segmentBytes);
+                return false;
+            }
+            try {
+                active.force();
+                active = HighsLogSegment.open(segmentPath(active.sequence() + 1), active.sequence() + 1, segmentBytes);
+            } catch (IOException e) {
+                logger.error("Cannot open a new highs log segment", e);
+                return false;
+            }
+            segments.addLast(active);
+            active.append(record);
+        }
+
+        pending++;
+        deferring = true;
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            active.force();
+        } else {
+            dirty = true;
+        }
+        return true;
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        if (!Files.isWritable(directory)) {
+            throw new IOException("The highs log directory is not writable");
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long sequence = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            segments.addLast(HighsLogSegment.open(file, sequence, segmentBytes));
+        }
+        if (segments.isEmpty()) {
+            segments.addLast(HighsLogSegment.open(segmentPath(1), 1, segmentBytes));
+        }
+
+        checkpoint = FileChannel.open(directory.resolve(CHECKPOINT),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer position = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        if (checkpoint.read(position, 0) == position.capacity()) {
+            long sequence = position.getLong(0);
+            int offset = position.getInt(Long.BYTES);
+            while (segments.size() > 1 && segments.peekFirst().sequence() < sequence) {
+                segments.pollFirst().delete();
+            }
+            if (segments.peekFirst().sequence() == sequence) {
+                readOffset = Math.min(offset, segments.peekFirst().writeOffset());
+            }
+        }
+
+        for (HighsLogSegment segment : segments) {
+            pending += segment.writeOffset() / HighsLogSegment.RECORD_SIZE;
+        }
+        pending -= readOffset / HighsLogSegment.RECORD_SIZE;
+        deferring = pending > 0;
+        if (deferring) {
+            logger.warn("Highs log holds {} records to replay", pending);
+        }
+    }
+
+    private void writeCheckpoint() throws IOException {
+        ByteBuffer position = ByteBuffer.allocate(Long.BYTES + Integer.BYTES)
+                .putLong(segments.peekFirst().sequence())
+                .putInt(readOffset)
+                .flip();
+        checkpoint.write(position, 0);
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            checkpoint.force(false);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.soupaulodev.forumhub.modules.high.repository;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository deleting the duplicate highs written before the highs tables had a unique constraint on the target
+ * and the user.
+ * <p>
+ * It runs before the entity manager factory is built, so it goes through JDBC only and every change is a single
+ * statement, atomic without a transaction manager.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public class DuplicateHighsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DuplicateHighsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Deletes every high of a user on a target but the oldest one, and takes the deleted highs off the highs count
+     * of their targets, in a single statement.
+     *
+     * @param target the target type
+     * @return the number of duplicate highs deleted, or -1 if the highs table does not exist yet or already has its
+     * unique constraint
+     */
+    public long deleteDuplicateHighs(CounterTarget target) {
+        Integer tables = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE LOWER(table_name) = ? AND table_schema = current_schema()
+                """, Integer.class, target.getHighsTable());
+        if (tables == null || tables == 0) {
+            return -1;
+        }
+
+        Integer uniqueConstraints = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.table_constraints
+                WHERE LOWER(table_name) = ? AND constraint_type = 'UNIQUE' AND table_schema = current_schema()
+                """, Integer.class, target.getHighsTable());
+        if (uniqueConstraints != null && uniqueConstraints > 0) {
+            return -1;
+        }
+
+        String sql = "WITH deleted AS ("
+                + " DELETE FROM " + target.getHighsTable() + " h USING " + target.getHighsTable() + " k"
+                + " WHERE h." + target.getHighsTargetColumn() + " = k." + target.getHighsTargetColumn()
+                + " AND h." + target.getHighsUserColumn() + " = k." + target.getHighsUserColumn()
+                + " AND h.id > k.id"
+                + " RETURNING h." + target.getHighsTargetColumn() + " AS target_id)"
+                + " UPDATE " + target.getTable() + " t SET highs_count = GREATEST(t.highs_count - d.duplicates, 0)"
+                + " FROM (SELECT target_id, COUNT(*) AS duplicates FROM deleted GROUP BY target_id) d"
+                + " WHERE t.id = d.target_id"
+                + " RETURNING d.duplicates";
+
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).sum();
+    }
+}
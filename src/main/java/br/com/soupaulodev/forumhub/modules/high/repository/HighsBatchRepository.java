@@ -0,0 +1,140 @@
+package br.com.soupaulodev.forumhub.modules.high.repository;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repository applying highs and unhighs of a single user to many targets, one statement per batch.
+ * <p>
+ * Targets are processed in id order so concurrent batches lock the highs rows in the same order. Each statement
+ * returns the targets it actually changed, so highs skipped by a conflict and unhighs matching no row are never
+ * counted.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public class HighsBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HighsBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns which of the given targets exist, in a single query.
+     *
+     * @param target    the target type
+     * @param targetIds the ids to check
+     * @return the ids of the existing targets
+     */
+    public Set<UUID> findExistingIds(CounterTarget target, Collection<UUID> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(targetIds.size(), "?"));
+        String sql = "SELECT id FROM " + target.getTable() + " WHERE id IN (" + placeholders + ")";
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql, UUID.class, targetIds.toArray()));
+    }
+
+    /**
+     * Highs every given target on behalf of the user, skipping the targets already highed or deleted meanwhile,
+     * in a single statement returning the targets it actually inserted.
+     *
+     * @param target    the target type
+     * @param userId    the user giving the highs
+     * @param targetIds the targets to high
+     * @return the ids of the targets actually highed
+     */
+    @Transactional
+    public Set<UUID> insertAll(CounterTarget target, UUID userId, Collection<UUID> targetIds) {
+        return insertAll(target, userId, targetIds, Instant.now());
+    }
+
+    /**
+     * Highs every given target on behalf of the user as of the given instant, which sets the creation date of the
+     * highs and the timestamp of their ULID ids.
+     *
+     * @param target    the target type
+     * @param userId    the user giving the highs
+     * @param targetIds the targets to high
+     * @param highedAt  when the highs were given
+     * @return the ids of the targets actually highed
+     */
+    @Transactional
+    public Set<UUID> insertAll(CounterTarget target, UUID userId, Collection<UUID> targetIds, Instant highedAt) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<UUID> ordered = targetIds.stream().sorted().toList();
+        String values = String.join(", ", Collections.nCopies(ordered.size(), "(?, ?)"));
+        String sql = "INSERT INTO " + target.getHighsTable()
+                + " (id, " + target.getHighsTargetColumn() + ", " + target.getHighsUserColumn()
+                + ", created_at, updated_at)"
+                + " SELECT v.id, v.target_id, ?, ?, ? FROM (VALUES " + values + ") AS v (id, target_id)"
+                + " JOIN " + target.getTable() + " t ON t.id = v.target_id"
+                + " ORDER BY v.target_id"
+                + " ON CONFLICT (" + target.getHighsTargetColumn() + ", " + target.getHighsUserColumn()
+                + ") DO NOTHING"
+                + " RETURNING " + target.getHighsTargetColumn();
+
+        Timestamp timestamp = Timestamp.from(highedAt);
+        List<Object> args = new ArrayList<>(ordered.size() * 2 + 3);
+        args.add(userId);
+        args.add(timestamp);
+        args.add(timestamp);
+        for (UUID targetId : ordered) {
+            args.add(UlidGenerator.generate(highedAt));
+            args.add(targetId);
+        }
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql, UUID.class, args.toArray()));
+    }
+
+    /**
+     * Removes the highs of the user from every given target, in a single statement returning the targets it
+     * actually unhighed.
+     *
+     * @param target    the target type
+     * @param userId    the user who gave the highs
+     * @param targetIds the targets to unhigh
+     * @return the ids of the targets actually unhighed
+     */
+    @Transactional
+    public Set<UUID> deleteAll(CounterTarget target, UUID userId, Collection<UUID> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<UUID> ordered = targetIds.stream().sorted().toList();
+        String placeholders = String.join(", ", Collections.nCopies(ordered.size(), "?"));
+        String sql = "DELETE FROM " + target.getHighsTable()
+                + " WHERE id IN (SELECT id FROM " + target.getHighsTable()
+                + " WHERE " + target.getHighsUserColumn() + " = ? AND " + target.getHighsTargetColumn()
+                + " IN (" + placeholders + ") ORDER BY " + target.getHighsTargetColumn() + " FOR UPDATE)"
+                + " RETURNING " + target.getHighsTargetColumn();
+
+        List<Object> args = new ArrayList<>(ordered.size() + 1);
+        args.add(userId);
+        args.addAll(ordered);
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql, UUID.class, args.toArray()));
+    }
+}
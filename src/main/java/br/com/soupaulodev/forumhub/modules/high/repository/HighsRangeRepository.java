@@ -0,0 +1,86 @@
+package br.com.soupaulodev.forumhub.modules.high.repository;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighRecordResponseDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Repository scanning highs by time range over their ULID primary key.
+ * <p>
+ * High ids are ULIDs, whose string order is their creation order, so a time range maps to a primary key range and
+ * is answered by the primary key index, without an index on {@code created_at}. Pages are read by keyset on the id,
+ * so every page costs the same no matter how deep the scan is.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public class HighsRangeRepository {
+
+    private static final RowMapper<HighRecordResponseDTO> ROW_MAPPER = (rs, rowNum) -> new HighRecordResponseDTO(
+            rs.getString("id"),
+            rs.getObject("target_id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HighsRangeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns a page of highs with ids in {@code [fromId, toId)}, oldest first.
+     *
+     * @param target  the target type
+     * @param fromId  the inclusive lower ULID bound
+     * @param afterId the id of the last high of the previous page, or null for the first page
+     * @param toId    the exclusive upper ULID bound
+     * @param limit   the maximum number of highs
+     * @return the highs of the page
+     */
+    public List<HighRecordResponseDTO> findPage(CounterTarget target, String fromId, String afterId, String toId, int limit) {
+        String sql = "SELECT id, " + target.getHighsTargetColumn() + " AS target_id, "
+                + target.getHighsUserColumn() + " AS user_id, created_at"
+                + " FROM " + target.getHighsTable()
+                + " WHERE id >= ? AND id < ?" + (afterId == null ? "" : " AND id > ?")
+                + " ORDER BY id LIMIT ?";
+
+        Object[] args = afterId == null
+                ? new Object[]{fromId, toId, limit}
+                : new Object[]{fromId, toId, afterId, limit};
+        return jdbcTemplate.query(sql, ROW_MAPPER, args);
+    }
+
+    /**
+     * Streams every high with an id in {@code [fromId, toId)}, oldest first, one page at a time.
+     *
+     * @param target   the target type
+     * @param fromId   the inclusive lower ULID bound
+     * @param toId     the exclusive upper ULID bound
+     * @param pageSize the number of highs read per query
+     * @param consumer receives every high
+     * @return the number of highs streamed
+     */
+    public long forEachInRange(CounterTarget target, String fromId, String toId, int pageSize,
+                               Consumer<HighRecordResponseDTO> consumer) {
+        long count = 0;
+        String afterId = null;
+        List<HighRecordResponseDTO> page;
+        do {
+            page = findPage(target, fromId, afterId, toId, pageSize);
+            page.forEach(consumer);
+            count += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == pageSize);
+        return count;
+    }
+}
@@ -0,0 +1,179 @@
+package br.com.soupaulodev.forumhub.modules.high.usecase;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighBatchRequestDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighBatchResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighOperationRequestDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighOperationResultDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighOperationStatus;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
+import br.com.soupaulodev.forumhub.modules.high.repository.HighsBatchRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use case to apply a batch of highs and unhighs of a single user.
+ * <p>
+ * Operations are deduplicated per target, keeping the last one, then grouped by target type so each group costs
+ * one existence query and one JDBC batch instead of one round trip per operation. While the database is
+ * unavailable, operations are deferred to the {@link HighsWriteAheadLog} like single highs.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ApplyHighsBatchUseCase {
+
+    private final HighsBatchRepository highsBatchRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
+
+    /**
+     * Constructor
+     *
+     * @param highsBatchRepository highs batch repository
+     * @param highEffects high effects
+     * @param highsWriteAheadLog highs write-ahead log
+     */
+    public ApplyHighsBatchUseCase(HighsBatchRepository highsBatchRepository,
+                                  HighEffects highEffects,
+                                  HighsWriteAheadLog highsWriteAheadLog) {
+        this.highsBatchRepository = highsBatchRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
+    }
+
+    /**
+     * Use case to apply a batch of highs and unhighs
+     *
+     * @param request the operations to apply
+     * @param authenticatedUserId authenticated user id
+     * @return the outcome of every operation, in request order
+     */
+    public HighBatchResponseDTO execute(HighBatchRequestDTO request, UUID authenticatedUserId) {
+        List<HighOperationRequestDTO> operations = request.operations();
+        HighOperationStatus[] statuses = new HighOperationStatus[operations.size()];
+
+        Map<Target, Integer> lastByTarget = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            HighOperationRequestDTO operation = operations.get(i);
+            Integer previous = lastByTarget.put(new Target(operation.type(), UUID.fromString(operation.id())), i);
+            if (previous != null) {
+                statuses[previous] = HighOperationStatus.SUPERSEDED;
+            }
+        }
+
+        Map<CounterTarget, Map<UUID, Integer>> highs = new EnumMap<>(CounterTarget.class);
+        Map<CounterTarget, Map<UUID, Integer>> unHighs = new EnumMap<>(CounterTarget.class);
+        lastByTarget.forEach((target, index) -> {
+            if (operations.get(index).action() == HighAction.UNHIGH) {
+                unHighs.computeIfAbsent(target.type(), t -> new LinkedHashMap<>()).put(target.id(), index);
+            } else if (target.type() == CounterTarget.USER && target.id().equals(authenticatedUserId)) {
+                statuses[index] = HighOperationStatus.FORBIDDEN;
+            } else {
+                highs.computeIfAbsent(target.type(), t -> new LinkedHashMap<>()).put(target.id(), index);
+            }
+        });
+
+        highs.forEach((type, all) -> {
+            Map<UUID, Integer> group = deferIfPending(HighAction.HIGH, type, all, authenticatedUserId, statuses);
+            if (group.isEmpty()) {
+                return;
+            }
+
+            Set<UUID> existing;
+            Set<UUID> inserted;
+            try {
+                existing = highsBatchRepository.findExistingIds(type, group.keySet());
+                List<UUID> candidates = group.keySet().stream().filter(existing::contains).toList();
+                inserted = candidates.isEmpty()
+                        ? Set.of()
+                        : highsBatchRepository.insertAll(type, authenticatedUserId, candidates);
+            } catch (DataAccessException | TransactionException e) {
+                deferOrRethrow(e, HighAction.HIGH, type, group, authenticatedUserId, statuses);
+                return;
+            }
+
+            group.forEach((id, index) -> {
+                if (inserted.contains(id)) {
+                    statuses[index] = HighOperationStatus.APPLIED;
+                    highEffects.highed(type, id, authenticatedUserId);
+                } else {
+                    statuses[index] = existing.contains(id)
+                            ? HighOperationStatus.ALREADY_HIGHED
+                            : HighOperationStatus.NOT_FOUND;
+                }
+            });
+        });
+
+        unHighs.forEach((type, all) -> {
+            Map<UUID, Integer> group = deferIfPending(HighAction.UNHIGH, type, all, authenticatedUserId, statuses);
+            if (group.isEmpty()) {
+                return;
+            }
+
+            Set<UUID> deleted;
+            try {
+                deleted = highsBatchRepository.deleteAll(type, authenticatedUserId, group.keySet());
+            } catch (DataAccessException | TransactionException e) {
+                deferOrRethrow(e, HighAction.UNHIGH, type, group, authenticatedUserId, statuses);
+                return;
+            }
+
+            group.forEach((id, index) -> {
+                if (deleted.contains(id)) {
+                    statuses[index] = HighOperationStatus.APPLIED;
+                    highEffects.unHighed(type, id, authenticatedUserId);
+                } else {
+                    statuses[index] = HighOperationStatus.NOT_HIGHED;
+                }
+            });
+        });
+
+        List<HighOperationResultDTO> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            HighOperationRequestDTO operation = operations.get(i);
+            results.add(new HighOperationResultDTO(
+                    operation.type(), UUID.fromString(operation.id()), operation.action(), statuses[i]));
+        }
+        int applied = (int) Arrays.stream(statuses).filter(s -> s == HighOperationStatus.APPLIED).count();
+
+        return new HighBatchResponseDTO(applied, results);
+    }
+
+    private Map<UUID, Integer> deferIfPending(HighAction action, CounterTarget type, Map<UUID, Integer> group,
+                                              UUID userId, HighOperationStatus[] statuses) {
+        Map<UUID, Integer> remaining = new LinkedHashMap<>();
+        group.forEach((id, index) -> {
+            if (highsWriteAheadLog.deferIfPending(action, type, id, userId)) {
+                statuses[index] = HighOperationStatus.DEFERRED;
+            } else {
+                remaining.put(id, index);
+            }
+        });
+        return remaining;
+    }
+
+    private void deferOrRethrow(RuntimeException failure, HighAction action, CounterTarget type,
+                                Map<UUID, Integer> group, UUID userId, HighOperationStatus[] statuses) {
+        group.forEach((id, index) -> {
+            highsWriteAheadLog.deferOrRethrow(failure, action, type, id, userId);
+            statuses[index] = HighOperationStatus.DEFERRED;
+        });
+    }
+
+    private record Target(CounterTarget type, UUID id) {
+    }
+}
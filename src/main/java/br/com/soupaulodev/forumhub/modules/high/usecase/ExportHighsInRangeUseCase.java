@@ -0,0 +1,85 @@
+package br.com.soupaulodev.forumhub.modules.high.usecase;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.repository.HighsRangeRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Use case for exporting, as CSV, every high given within a time range.
+ * <p>
+ * Highs are read and written one page at a time, so exports over long ranges keep a constant memory footprint.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ExportHighsInRangeUseCase {
+
+    static final int PAGE_SIZE = 1000;
+    static final String HEADER = "id,target_id,user_id,created_at";
+
+    private final HighsRangeRepository highsRangeRepository;
+
+    /**
+     * Constructor
+     *
+     * @param highsRangeRepository highs range repository
+     */
+    public ExportHighsInRangeUseCase(HighsRangeRepository highsRangeRepository) {
+        this.highsRangeRepository = highsRangeRepository;
+    }
+
+    /**
+     * Validates the range before the export starts streaming.
+     *
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range, or null for now
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public void validate(Instant from, Instant to) {
+        HighsRange.of(from, to);
+    }
+
+    /**
+     * Use case to export the highs given within a time range, oldest first
+     *
+     * @param type the target type
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range, or null for now
+     * @param out  the stream the CSV is written to
+     * @return the number of exported highs
+     * @throws IllegalArgumentException if the range is invalid
+     * @throws IOException if the CSV cannot be written
+     */
+    public long execute(CounterTarget type, Instant from, Instant to, OutputStream out) throws IOException {
+        HighsRange range = HighsRange.of(from, to);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+
+        long exported;
+        try {
+            exported = highsRangeRepository.forEachInRange(type, range.fromId(), range.toId(), PAGE_SIZE, high -> {
+                try {
+                    writer.write(high.id() + ',' + high.targetId() + ',' + high.userId() + ',' + high.createdAt() + '\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        return exported;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.soupaulodev.forumhub.modules.high.usecase;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+
+import java.time.Instant;
+
+/**
+ * Time range of a highs scan, translated into ULID bounds.
+ *
+ * @param fromId the inclusive lower ULID bound
+ * @param toId   the exclusive upper ULID bound
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+record HighsRange(String fromId, String toId) {
+
+    /**
+     * Translates {@code [from, to)} into ULID bounds.
+     *
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range, or null for now
+     * @return the ULID bounds of the range
+     * @throws IllegalArgumentException if the range is empty or out of the ULID range
+     */
+    static HighsRange of(Instant from, Instant to) {
+        Instant end = to == null ? Instant.now() : to;
+        if (from == null || !from.isBefore(end)) {
+            throw new IllegalArgumentException("The start of the range must be before its end");
+        }
+        return new HighsRange(UlidGenerator.lowerBound(from), UlidGenerator.lowerBound(end));
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.soupaulodev.forumhub.modules.high.usecase;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighRecordResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighsPageResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.repository.HighsRangeRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Use case for listing, page by page, the highs given within a time range.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ListHighsInRangeUseCase {
+
+    static final int MAX_SIZE = 1000;
+
+    private final HighsRangeRepository highsRangeRepository;
+
+    /**
+     * Constructor
+     *
+     * @param highsRangeRepository highs range repository
+     */
+    public ListHighsInRangeUseCase(HighsRangeRepository highsRangeRepository) {
+        this.highsRangeRepository = highsRangeRepository;
+    }
+
+    /**
+     * Use case to list a page of the highs given within a time range, oldest first
+     *
+     * @param type   the target type
+     * @param from   the inclusive start of the range
+     * @param to     the exclusive end of the range, or null for now
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the maximum number of highs in the page
+     * @return the page of highs and the cursor of the next one
+     * @throws IllegalArgumentException if the range, the cursor or the size is invalid
+     */
+    public HighsPageResponseDTO execute(CounterTarget type, Instant from, Instant to, String cursor, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_SIZE);
+        }
+        if (cursor != null && !UlidGenerator.isValid(cursor)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        HighsRange range = HighsRange.of(from, to);
+
+        List<HighRecordResponseDTO> highs = highsRangeRepository.findPage(
+                type, range.fromId(), cursor, range.toId(), size + 1);
+        if (highs.size() <= size) {
+            return new HighsPageResponseDTO(highs, null);
+        }
+
+        List<HighRecordResponseDTO> page = highs.subList(0, size);
+        return new HighsPageResponseDTO(List.copyOf(page), page.get(size - 1).id());
+    }
+}
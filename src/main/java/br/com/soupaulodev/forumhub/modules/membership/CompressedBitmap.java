@@ -0,0 +1,251 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of non-negative integers, laid out like a roaring bitmap.
+ * <p>
+ * Values are split by their high 16 bits into chunks. A sparse chunk stores its low 16 bits as a sorted
+ * {@code char} array and switches to a fixed 8 KiB bitset once it holds more than {@value #ARRAY_MAX_SIZE}
+ * values, so memory follows the number of members instead of the largest value.
+ * </p>
+ * <p>
+ * Not thread-safe: callers must synchronize access.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+final class CompressedBitmap {
+
+    static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITSET_WORDS = 1 << 10;
+
+    private char[] keys = new char[0];
+    private Object[] chunks = new Object[0];
+    private int chunkCount;
+    private long cardinality;
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value the value, must be non-negative
+     * @return true if the value was not already present
+     */
+    boolean add(int value) {
+        checkValue(value);
+        char key = (char) (value >>> 16);
+        char low = (char) value;
+
+        int index = Arrays.binarySearch(keys, 0, chunkCount, key);
+        if (index < 0) {
+            insertChunk(-index - 1, key, new char[]{low});
+            cardinality++;
+            return true;
+        }
+
+        Object chunk = chunks[index];
+        if (chunk instanceof long[] words) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) != 0) {
+                return false;
+            }
+            words[low >>> 6] |= mask;
+            cardinality++;
+            return true;
+        }
+
+        char[] values = (char[]) chunk;
+        int size = arraySize(values);
+        int position = Arrays.binarySearch(values, 0, size, low);
+        if (position >= 0) {
+            return false;
+        }
+        position = -position - 1;
+
+        if (size == ARRAY_MAX_SIZE) {
+            long[] words = toBitset(values, size);
+            words[low >>> 6] |= 1L << low;
+            chunks[index] = words;
+        } else {
+            char[] grown = size == values.length - 1
+                    ? Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, size * 2) + 1)
+                    : values;
+            System.arraycopy(grown, position, grown, position + 1, size - position);
+            grown[position] = low;
+            grown[grown.length - 1] = (char) (size + 1);
+            chunks[index] = grown;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Removes a value from the set.
+     *
+     * @param value the value
+     * @return true if the value was present
+     */
+    boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        char key = (char) (value >>> 16);
+        char low = (char) value;
+
+        int index = Arrays.binarySearch(keys, 0, chunkCount, key);
+        if (index < 0) {
+            return false;
+        }
+
+        Object chunk = chunks[index];
+        if (chunk instanceof long[] words) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                return false;
+            }
+            words[low >>> 6] &= ~mask;
+            cardinality--;
+            int remaining = bitsetCardinality(words);
+            if (remaining <= ARRAY_MAX_SIZE) {
+                chunks[index] = toArray(words, remaining);
+            }
+            return true;
+        }
+
+        char[] values = (char[]) chunk;
+        int size = arraySize(values);
+        int position = Arrays.binarySearch(values, 0, size, low);
+        if (position < 0) {
+            return false;
+        }
+        if (size == 1) {
+            removeChunk(index);
+        } else {
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            chunks[index] = shrinkIfSparse(values, size - 1);
+        }
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * Checks whether a value is in the set.
+     *
+     * @param value the value
+     * @return true if the value is present
+     */
+    boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, chunkCount, (char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+
+        char low = (char) value;
+        Object chunk = chunks[index];
+        if (chunk instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        char[] values = (char[]) chunk;
+        return Arrays.binarySearch(values, 0, arraySize(values), low) >= 0;
+    }
+
+    /**
+     * Returns the number of values in the set.
+     *
+     * @return the cardinality
+     */
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Returns an estimate of the heap used by the set, in bytes.
+     *
+     * @return the estimated size
+     */
+    long sizeInBytes() {
+        long size = keys.length * 2L + chunks.length * 8L;
+        for (int i = 0; i < chunkCount; i++) {
+            size += chunks[i] instanceof long[] ? BITSET_WORDS * 8L : ((char[]) chunks[i]).length * 2L;
+        }
+        return size;
+    }
+
+    /*
+     * Array chunks keep their size in their last slot so a chunk is a single allocation.
+     */
+    private static int arraySize(char[] values) {
+        return values[values.length - 1];
+    }
+
+    private static char[] shrinkIfSparse(char[] values, int size) {
+        int capacity = values.length - 1;
+        if (capacity > 8 && size * 4 < capacity) {
+            values = Arrays.copyOf(values, size * 2 + 1);
+        }
+        values[values.length - 1] = (char) size;
+        return values;
+    }
+
+    private void insertChunk(int index, char key, char[] values) {
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+
+        char[] chunk = Arrays.copyOf(values, values.length + 1);
+        chunk[chunk.length - 1] = (char) values.length;
+        keys[index] = key;
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    private static long[] toBitset(char[] values, int size) {
+        long[] words = new long[BITSET_WORDS];
+        for (int i = 0; i < size; i++) {
+            words[values[i] >>> 6] |= 1L << values[i];
+        }
+        return words;
+    }
+
+    private static char[] toArray(long[] words, int size) {
+        char[] values = new char[size + 1];
+        int position = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                values[position++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        values[size] = (char) size;
+        return values;
+    }
+
+    private static int bitsetCardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Bitmap values must be non-negative");
+        }
+    }
+}
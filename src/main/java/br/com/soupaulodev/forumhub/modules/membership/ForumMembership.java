@@ -0,0 +1,173 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import br.com.soupaulodev.forumhub.modules.membership.repository.ForumMembershipRepository;
+import br.com.soupaulodev.forumhub.security.utils.TokenAuthenticationDetails;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Answers "does this user participate in this forum?" without loading the user and its forums.
+ * <p>
+ * Access tokens carry a {@link MembershipDigest} of the forums of their user, read from the database when the
+ * token is issued. A digest is trusted to grant access until the user joins or leaves a forum: each change is
+ * recorded with its time, and digests older than the last change of their user are ignored. Requests without a
+ * usable digest, or for a forum missing from it, are answered from a size-bounded cache of digests, loaded with a
+ * single query on the participants table and dropped whenever the user joins or leaves a forum.
+ * </p>
+ * <p>
+ * Changes are only known to the node that made them. Another node keeps trusting older tokens for at most the
+ * lifetime of an access token, and its cached digest until it expires, like {@link HighsMembershipIndex}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class ForumMembership {
+
+    private final ForumMembershipRepository repository;
+    private final int tokenMaxForums;
+    private final LongSupplier clock;
+    private final Cache<UUID, MembershipDigest> digests;
+    private final Cache<UUID, Long> changes;
+
+    /**
+     * Constructor
+     *
+     * @param repository       the repository reading the forums of a user
+     * @param maxUsers         the maximum number of users whose digest is kept in memory
+     * @param expireAfterWrite how long, in minutes, a cached digest is trusted before being reloaded
+     * @param tokenMaxForums   the maximum number of forums of a digest carried in an access token
+     * @param tokenExpiration  the lifetime of an access token in seconds, for which changes are remembered
+     */
+    @Autowired
+    public ForumMembership(ForumMembershipRepository repository,
+                           @Value("${forum-membership.max-users:100000}") long maxUsers,
+                           @Value("${forum-membership.expire-after-write-minutes:10}") long expireAfterWrite,
+                           @Value("${forum-membership.token-max-forums:16}") int tokenMaxForums,
+                           @Value("${jwt.expiration}") long tokenExpiration) {
+        this(repository, maxUsers, Duration.ofMinutes(expireAfterWrite), tokenMaxForums,
+                Duration.ofSeconds(tokenExpiration), System::currentTimeMillis);
+    }
+
+    ForumMembership(ForumMembershipRepository repository,
+                    long maxUsers,
+                    Duration expireAfterWrite,
+                    int tokenMaxForums,
+                    Duration tokenExpiration,
+                    LongSupplier clock) {
+        this.repository = repository;
+        this.tokenMaxForums = tokenMaxForums;
+        this.clock = clock;
+        this.digests = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        // Not size-bounded: evicting a change early would make older tokens trusted again.
+        this.changes = Caffeine.newBuilder()
+                .expireAfterWrite(tokenExpiration)
+                .build();
+    }
+
+    /**
+     * Reads the forums of a user from the database, to be carried in a new access token.
+     *
+     * @param userId the user id
+     * @return the digest of the forums of the user, or null if the user participates in too many forums
+     *         for the digest to fit in a token
+     */
+    public MembershipDigest snapshot(UUID userId) {
+        MembershipDigest digest = load(userId);
+        digests.put(userId, digest);
+        return digest.size() <= tokenMaxForums ? digest : null;
+    }
+
+    /**
+     * Checks whether a user participates in a forum.
+     * <p>
+     * The digest of the access token of the current request is used when it belongs to the user and is newer
+     * than the last change of the user's forums; otherwise the cached digest of the user is.
+     * </p>
+     *
+     * @param userId  the user id
+     * @param forumId the forum id
+     * @return true if the user participates in the forum
+     */
+    public boolean isParticipant(UUID userId, UUID forumId) {
+        MembershipDigest fromToken = tokenDigest(userId);
+        if (fromToken != null && fromToken.contains(forumId) && fromToken.version() > lastChange(userId)) {
+            return true;
+        }
+        return digests.get(userId, this::load).contains(forumId);
+    }
+
+    /**
+     * Records that a user joined a forum, once the current transaction, if any, commits.
+     *
+     * @param userId  the user id
+     * @param forumId the forum id
+     */
+    public void joined(UUID userId, UUID forumId) {
+        afterCommit(() -> changed(userId));
+    }
+
+    /**
+     * Records that a user left a forum, once the current transaction, if any, commits.
+     * Access tokens issued before are no longer trusted for the user's forums.
+     *
+     * @param userId  the user id
+     * @param forumId the forum id
+     */
+    public void left(UUID userId, UUID forumId) {
+        afterCommit(() -> changed(userId));
+    }
+
+    private void changed(UUID userId) {
+        changes.put(userId, clock.getAsLong());
+        digests.invalidate(userId);
+    }
+
+    private long lastChange(UUID userId) {
+        Long changedAt = changes.getIfPresent(userId);
+        return changedAt != null ? changedAt : Long.MIN_VALUE;
+    }
+
+    private MembershipDigest load(UUID userId) {
+        long version = clock.getAsLong();
+        return MembershipDigest.of(version, repository.findForumIds(userId));
+    }
+
+    private static MembershipDigest tokenDigest(UUID userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !(authentication.getDetails() instanceof TokenAuthenticationDetails details)) {
+            return null;
+        }
+        VerifiedToken token = details.token();
+        return userId.toString().equals(token.userId()) ? token.membership() : null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.membership.repository.HighsMembershipRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-memory index answering "has this user highed this target?" without a database round trip.
+ * <p>
+ * Each target gets a {@link CompressedBitmap} of user ordinals, built lazily from its highs table on the first
+ * {@link #isHighed} check of the target and then kept up to date by the high and unhigh use cases. Bitmaps are
+ * held in a size-bounded cache, so only the targets being looked at stay in memory. Writes made on other nodes are
+ * picked up when the bitmap expires and is rebuilt, and the bitmap of a deleted target is dropped with it.
+ * Each bitmap remembers the {@link UserOrdinals#watermark() watermark} of the ordinals when it was loaded: a user
+ * evicted from the {@link UserOrdinals} comes back with an ordinal above it, so a clear bit for that ordinal says
+ * nothing until the high of that user is checked once in the database, or written through this node. The bits of
+ * the ordinals given up are left in place, never read again, and dropped when the bitmap is rebuilt, so no bitmap
+ * is scanned on eviction.
+ * It only serves read-side flags: a listing is answered from the bitmaps already in memory, and the targets
+ * without one go to a per-viewer query on the highs tables, which stay authoritative.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsMembershipIndex {
+
+    private final HighsMembershipRepository repository;
+    private final UserOrdinals userOrdinals;
+    private final Cache<Key, Membership> bitmaps;
+
+    /**
+     * Constructor
+     *
+     * @param repository        the repository streaming the highs of a target
+     * @param userOrdinals      the dictionary of user ordinals
+     * @param maxTargets        the maximum number of targets kept in memory
+     * @param expireAfterWrite  how long a bitmap is trusted before being rebuilt
+     */
+    @Autowired
+    public HighsMembershipIndex(HighsMembershipRepository repository,
+                                UserOrdinals userOrdinals,
+                                @Value("${highs-membership.max-targets:10000}") long maxTargets,
+                                @Value("${highs-membership.expire-after-write-minutes:10}") long expireAfterWrite) {
+        this(repository, userOrdinals, Caffeine.newBuilder()
+                .maximumSize(maxTargets)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWrite))
+                .build());
+    }
+
+    HighsMembershipIndex(HighsMembershipRepository repository,
+                         UserOrdinals userOrdinals,
+                         Cache<Key, Membership> bitmaps) {
+        this.repository = repository;
+        this.userOrdinals = userOrdinals;
+        this.bitmaps = bitmaps;
+    }
+
+    /**
+     * Checks whether a user highed a target, loading the target's bitmap if needed.
+     *
+     * @param target   the high target
+     * @param targetId the target id
+     * @param userId   the user id
+     * @return true if the user highed the target
+     */
+    public boolean isHighed(CounterTarget target, UUID targetId, UUID userId) {
+        Membership membership = bitmaps.get(new Key(target, targetId), this::load);
+        int ordinal = userOrdinals.ordinal(userId);
+        Boolean highed = membership.highedBy(ordinal);
+        if (highed == null) {
+            highed = repository.existsHigh(target, targetId, userId);
+            membership.resolve(ordinal, highed);
+        }
+        return highed;
+    }
+
+    /**
+     * Returns which of the given targets a user highed. The targets whose bitmap is in memory and knows the user
+     * are answered from it; the others are handed to the lookup in a single call, so no bitmap is loaded to answer
+     * a listing.
+     *
+     * @param target    the high target
+     * @param targetIds the target ids
+     * @param userId    the user id
+     * @param lookup    the per-viewer query answering the targets without a bitmap in memory
+     * @return the ids of the targets the user highed
+     */
+    public Set<UUID> findHighed(CounterTarget target, Collection<UUID> targetIds, UUID userId,
+                                Function<Collection<UUID>, Set<UUID>> lookup) {
+        int ordinal = userOrdinals.find(userId);
+        Set<UUID> highed = new HashSet<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID targetId : targetIds) {
+            Membership membership = ordinal == UserOrdinals.UNKNOWN
+                    ? null : bitmaps.getIfPresent(new Key(target, targetId));
+            Boolean highedBy = membership == null ? null : membership.highedBy(ordinal);
+            if (highedBy == null) {
+                missing.add(targetId);
+            } else if (highedBy) {
+                highed.add(targetId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            highed.addAll(lookup.apply(missing));
+        }
+        return highed;
+    }
+
+    /**
+     * Records a high in the target's bitmap if it is loaded.
+     * A bitmap being loaded concurrently is updated once the load completes.
+     *
+     * @param target   the high target
+     * @param targetId the target id
+     * @param userId   the user who highed the target
+     */
+    public void highed(CounterTarget target, UUID targetId, UUID userId) {
+        int ordinal = userOrdinals.ordinal(userId);
+        bitmaps.asMap().computeIfPresent(new Key(target, targetId), (key, membership) -> {
+            membership.resolve(ordinal, true);
+            return membership;
+        });
+    }
+
+    /**
+     * Records an unhigh in the target's bitmap if it is loaded.
+     *
+     * @param target   the high target
+     * @param targetId the target id
+     * @param userId   the user who unhighed the target
+     */
+    public void unHighed(CounterTarget target, UUID targetId, UUID userId) {
+        int ordinal = userOrdinals.find(userId);
+        if (ordinal == UserOrdinals.UNKNOWN) {
+            return;
+        }
+        bitmaps.asMap().computeIfPresent(new Key(target, targetId), (key, membership) -> {
+            membership.resolve(ordinal, false);
+            return membership;
+        });
+    }
+
+    /**
+     * Drops the bitmap of a target, e.g. after the target was deleted.
+     *
+     * @param target   the high target
+     * @param targetId the target id
+     */
+    public void evict(CounterTarget target, UUID targetId) {
+        bitmaps.invalidate(new Key(target, targetId));
+    }
+
+    private Membership load(Key key) {
+        int watermark = userOrdinals.watermark();
+        CompressedBitmap bitmap = new CompressedBitmap();
+        repository.forEachHighingUser(key.target(), key.targetId(),
+                userId -> bitmap.add(userOrdinals.ordinal(userId)));
+        return new Membership(bitmap, new CompressedBitmap(), watermark);
+    }
+
+    record Key(CounterTarget target, UUID targetId) {
+    }
+
+    /**
+     * The bitmap of a target, with the ordinal watermark taken before it was loaded and the ordinals above it
+     * whose clear bit was confirmed since.
+     */
+    record Membership(CompressedBitmap highs, CompressedBitmap confirmed, int watermark) {
+
+        /**
+         * @return whether the user highed the target, or null if the user got its ordinal after the load and its
+         * high may have been left under an ordinal it gave up
+         */
+        synchronized Boolean highedBy(int ordinal) {
+            if (highs.contains(ordinal)) {
+                return true;
+            }
+            return ordinal < watermark || confirmed.contains(ordinal) ? false : null;
+        }
+
+        synchronized void resolve(int ordinal, boolean highed) {
+            if (highed) {
+                highs.add(ordinal);
+            } else {
+                highs.remove(ordinal);
+                if (ordinal >= watermark) {
+                    confirmed.add(ordinal);
+                }
+            }
+        }
+    }
+}
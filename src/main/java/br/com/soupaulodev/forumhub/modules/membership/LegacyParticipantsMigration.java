@@ -0,0 +1,36 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import br.com.soupaulodev.forumhub.modules.membership.repository.ForumMembershipRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the memberships of the legacy {@code forum_participants} join table to {@code tb_forum_members} on startup.
+ * <p>
+ * Runs once per database: the legacy table is dropped by the migration, so later startups find nothing to move.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class LegacyParticipantsMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyParticipantsMigration.class);
+
+    private final ForumMembershipRepository repository;
+
+    public LegacyParticipantsMigration(ForumMembershipRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int moved = repository.migrateLegacyParticipants();
+        if (moved >= 0) {
+            logger.info("Moved {} memberships from forum_participants to tb_forum_members", moved);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the forums a user participates in, small enough to travel inside an access token.
+ * <p>
+ * Forum ids are kept as a sorted array of their two 64-bit halves, so a lookup is a binary search and the
+ * encoded form is just the version followed by 16 bytes per forum. The version is the time, in epoch
+ * milliseconds, at which the snapshot was read from the database; it tells {@link ForumMembership} whether
+ * the user joined or left a forum after the snapshot was taken.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public final class MembershipDigest {
+
+    private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    private final long version;
+    private final long[] forums;
+
+    private MembershipDigest(long version, long[] forums) {
+        this.version = version;
+        this.forums = forums;
+    }
+
+    /**
+     * Creates the digest of the given forums.
+     *
+     * @param version  the time the forums were read, in epoch milliseconds
+     * @param forumIds the ids of the forums the user participates in
+     * @return the digest
+     */
+    public static MembershipDigest of(long version, Collection<UUID> forumIds) {
+        UUID[] sorted = forumIds.stream().distinct().sorted().toArray(UUID[]::new);
+        long[] forums = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            forums[2 * i] = sorted[i].getMostSignificantBits();
+            forums[2 * i + 1] = sorted[i].getLeastSignificantBits();
+        }
+        return new MembershipDigest(version, forums);
+    }
+
+    /**
+     * Decodes a digest produced by {@link #encode()}.
+     *
+     * @param encoded the encoded digest
+     * @return the digest
+     * @throws IllegalArgumentException if the value is not an encoded digest
+     */
+    public static MembershipDigest decode(String encoded) {
+        byte[] bytes = decoder.decode(encoded);
+        if (bytes.length < Long.BYTES || (bytes.length - Long.BYTES) % (2 * Long.BYTES) != 0) {
+            throw new IllegalArgumentException("Invalid membership digest.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long version = buffer.getLong();
+        long[] forums = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(forums);
+        for (int i = 2; i < forums.length; i += 2) {
+            if (compare(forums, i - 2, forums[i], forums[i + 1]) >= 0) {
+                throw new IllegalArgumentException("Invalid membership digest.");
+            }
+        }
+        return new MembershipDigest(version, forums);
+    }
+
+    /**
+     * Encodes the digest as a URL-safe string.
+     *
+     * @return the encoded digest
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * (1 + forums.length));
+        buffer.putLong(version);
+        buffer.asLongBuffer().put(forums);
+        return encoder.encodeToString(buffer.array());
+    }
+
+    /**
+     * Checks whether the snapshot includes a forum.
+     *
+     * @param forumId the forum id
+     * @return true if the user participated in the forum when the snapshot was taken
+     */
+    public boolean contains(UUID forumId) {
+        long msb = forumId.getMostSignificantBits();
+        long lsb = forumId.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(forums, 2 * mid, msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the time the snapshot was taken.
+     *
+     * @return the version, in epoch milliseconds
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the number of forums in the snapshot.
+     *
+     * @return the number of forums
+     */
+    public int size() {
+        return forums.length / 2;
+    }
+
+    /**
+     * Compares forum ids the way {@link UUID#compareTo(UUID)} does, so arrays sorted as UUIDs stay searchable.
+     */
+    private static int compare(long[] forums, int index, long msb, long lsb) {
+        int cmp = Long.compare(forums[index], msb);
+        return cmp != 0 ? cmp : Long.compare(forums[index + 1], lsb);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MembershipDigest other && version == other.version && Arrays.equals(forums, other.forums);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(version) + Arrays.hashCode(forums);
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dictionary assigning dense integer ordinals to user ids, so users can be stored in a {@link CompressedBitmap}.
+ * <p>
+ * Ordinals are local to this node and only ever handed out in increasing order, never reused. The dictionary is
+ * held in a size-bounded cache, so only the users seen lately stay in memory; a user evicted from it gets a new
+ * ordinal, above the current {@link #watermark()}, when seen again.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class UserOrdinals {
+
+    static final int UNKNOWN = -1;
+
+    private final Cache<UUID, Integer> ordinals;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Constructor
+     *
+     * @param maxUsers the maximum number of users kept in memory
+     */
+    public UserOrdinals(@Value("${highs-membership.max-users:1000000}") long maxUsers) {
+        this.ordinals = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    /**
+     * Returns the ordinal of a user, assigning one if the user has none yet.
+     *
+     * @param userId the user id
+     * @return the user ordinal
+     */
+    public int ordinal(UUID userId) {
+        return ordinals.get(userId, id -> {
+            int assigned = next.getAndIncrement();
+            if (assigned < 0) {
+                throw new IllegalStateException("User ordinals exhausted");
+            }
+            return assigned;
+        });
+    }
+
+    /**
+     * Returns the ordinal of a user without assigning one.
+     *
+     * @param userId the user id
+     * @return the user ordinal, or {@value #UNKNOWN} if the user has none
+     */
+    public int find(UUID userId) {
+        Integer ordinal = ordinals.getIfPresent(userId);
+        return ordinal == null ? UNKNOWN : ordinal;
+    }
+
+    /**
+     * Returns the ordinal the next user will get. Every ordinal handed out from now on is at least this value.
+     *
+     * @return the ordinal watermark
+     */
+    public int watermark() {
+        return next.get();
+    }
+}
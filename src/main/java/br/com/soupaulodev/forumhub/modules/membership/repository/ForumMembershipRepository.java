@@ -0,0 +1,64 @@
+package br.com.soupaulodev.forumhub.modules.membership.repository;
+
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository reading the forums a user participates in straight from the members table, without loading entities.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public class ForumMembershipRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ForumMembershipRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Finds the id of every forum the given user participates in.
+     *
+     * @param userId the user id
+     * @return the forum ids
+     */
+    public List<UUID> findForumIds(UUID userId) {
+        return jdbcTemplate.query("SELECT forum_id FROM tb_forum_members WHERE user_id = ?",
+                (rs, rowNum) -> rs.getObject(1, UUID.class), userId);
+    }
+
+    /**
+     * Moves the memberships of the legacy {@code forum_participants} join table, which had no primary key, to
+     * {@code tb_forum_members}, recounts the participants of every forum and drops the legacy table.
+     *
+     * @return the number of memberships moved, or -1 if there is no legacy table
+     */
+    @Transactional
+    public int migrateLegacyParticipants() {
+        Integer legacyTables = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE LOWER(table_name) = 'forum_participants' AND table_schema = current_schema()
+                """, Integer.class);
+        if (legacyTables == null || legacyTables == 0) {
+            return -1;
+        }
+
+        int moved = jdbcTemplate.update("""
+                INSERT INTO tb_forum_members (forum_id, user_id, joined_at)
+                SELECT DISTINCT p.forum_id, p.user_id, f.created_at
+                FROM forum_participants p JOIN tb_forum f ON f.id = p.forum_id
+                ON CONFLICT (forum_id, user_id) DO NOTHING
+                """);
+        jdbcTemplate.update("""
+                UPDATE tb_forum f
+                SET participants_count = (SELECT COUNT(*) FROM tb_forum_members m WHERE m.forum_id = f.id)
+                """);
+        jdbcTemplate.execute("DROP TABLE forum_participants");
+        return moved;
+    }
+}
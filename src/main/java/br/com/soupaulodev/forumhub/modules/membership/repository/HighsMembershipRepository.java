@@ -0,0 +1,54 @@
+package br.com.soupaulodev.forumhub.modules.membership.repository;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Repository streaming the users who highed a target, used to build membership bitmaps, and checking single highs
+ * the bitmaps cannot answer.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public class HighsMembershipRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HighsMembershipRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams the id of every user who highed the given target, without materializing the whole list.
+     *
+     * @param target   the high target
+     * @param targetId the target id
+     * @param consumer the consumer receiving each user id
+     */
+    public void forEachHighingUser(CounterTarget target, UUID targetId, Consumer<UUID> consumer) {
+        String sql = "SELECT " + target.getHighsUserColumn() + " FROM " + target.getHighsTable()
+                + " WHERE " + target.getHighsTargetColumn() + " = ?";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(rs.getObject(1, UUID.class)), targetId);
+    }
+
+    /**
+     * Checks whether a user highed the given target.
+     *
+     * @param target   the high target
+     * @param targetId the target id
+     * @param userId   the user id
+     * @return true if the user highed the target
+     */
+    public boolean existsHigh(CounterTarget target, UUID targetId, UUID userId) {
+        String sql = "SELECT EXISTS (SELECT 1 FROM " + target.getHighsTable()
+                + " WHERE " + target.getHighsTargetColumn() + " = ? AND " + target.getHighsUserColumn() + " = ?)";
+
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, targetId, userId));
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.soupaulodev.forumhub.modules.pagination;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page in a listing ordered by a timestamp and an id, handed to clients as an opaque
+ * token so the next page can seek straight past it instead of skipping every preceding row.
+ *
+ * @param at the timestamp of the last row
+ * @param id the id of the last row, breaking ties between rows with the same timestamp
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record Cursor(Instant at, UUID id) {
+
+    private static final int SIZE = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    public Cursor {
+        if (at == null || id == null) {
+            throw new IllegalArgumentException("Cursor timestamp and id cannot be null");
+        }
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE)
+                .putLong(at.getEpochSecond())
+                .putInt(at.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token made by {@link #encode()}.
+     *
+     * @param token the token, or null for the first page
+     * @return the cursor, or null if the token is null or blank
+     * @throws IllegalArgumentException if the token is not a cursor
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != SIZE) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new Cursor(Instant.ofEpochSecond(seconds, nanos), new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
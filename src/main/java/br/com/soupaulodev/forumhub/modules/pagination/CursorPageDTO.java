@@ -0,0 +1,59 @@
+package br.com.soupaulodev.forumhub.modules.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Data transfer object for a page of a listing read with a {@link Cursor}.
+ *
+ * @param items the items of the page
+ * @param next  the cursor of the next page, or null if this is the last page
+ * @param <T>   the type of the items
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record CursorPageDTO<T>(List<T> items, String next) {
+
+    /**
+     * The largest number of items a page may hold.
+     */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Clamps a requested page size between 1 and {@value #MAX_SIZE}.
+     *
+     * @param size the requested page size
+     * @return the page size to read
+     */
+    public static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from rows read with a limit of one more than the page size, the extra row only telling
+     * whether there is a next page.
+     *
+     * @param rows     the rows read, at most {@code size + 1}
+     * @param size     the page size
+     * @param cursorOf the cursor of a row
+     * @param <T>      the type of the items
+     * @return the page
+     */
+    public static <T> CursorPageDTO<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPageDTO<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)).encode());
+    }
+
+    /**
+     * Maps the items of the page, keeping its cursor.
+     *
+     * @param mapper the mapping of an item
+     * @param <R>    the type of the mapped items
+     * @return the mapped page
+     */
+    public <R> CursorPageDTO<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPageDTO<>(items.stream().<R>map(mapper).toList(), next);
+    }
+}
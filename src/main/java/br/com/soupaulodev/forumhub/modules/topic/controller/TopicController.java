@@ -1,19 +1,18 @@
 package br.com.soupaulodev.forumhub.modules.topic.controller;
 
-import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.usecase.*;
+import br.com.soupaulodev.forumhub.security.utils.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -34,6 +33,7 @@ import java.util.UUID;
  *         <li>Handling topic listing requests.</li>
  *         <li>Handling topic update requests.</li>
  *         <li>Handling topic deletion requests.</li>
+ *         <li>Handling trending topics requests.</li>
  *     </ul>
  * </p>
  *
@@ -51,6 +51,7 @@ public class TopicController {
     private final DeleteTopicUseCase deleteTopicUseCase;
     private final HighTopicUseCase highTopicUseCase;
     private final UnHighTopicUseCase unHighTopicUseCase;
+    private final ListTrendingTopicsUseCase listTrendingTopicsUseCase;
 
     /**
      * Constructs a new {@link TopicController} with the specified use cases.
@@ -62,6 +63,7 @@ public class TopicController {
      * @param deleteTopicUseCase     the use case for deleting a topic
      * @param highTopicUseCase       the use case for high a topic
      * @param unHighTopicUseCase     the use case for unHigh a topic
+     * @param listTrendingTopicsUseCase the use case for listing trending topics
      */
     public TopicController(CreateTopicUseCase createTopicUseCase,
                            ListTopicsUseCase listTopicsUseCase,
@@ -69,7 +71,8 @@ public class TopicController {
                            UpdateTopicUseCase updateTopicUseCase,
                            DeleteTopicUseCase deleteTopicUseCase,
                            HighTopicUseCase highTopicUseCase,
-                           UnHighTopicUseCase unHighTopicUseCase) {
+                           UnHighTopicUseCase unHighTopicUseCase,
+                           ListTrendingTopicsUseCase listTrendingTopicsUseCase) {
         this.createTopicUseCase = createTopicUseCase;
         this.getTopicDetailsUseCase = getTopicDetailsUseCase;
         this.listTopicsUseCase = listTopicsUseCase;
@@ -77,6 +80,7 @@ public class TopicController {
         this.deleteTopicUseCase = deleteTopicUseCase;
         this.highTopicUseCase = highTopicUseCase;
         this.unHighTopicUseCase = unHighTopicUseCase;
+        this.listTrendingTopicsUseCase = listTrendingTopicsUseCase;
     }
 
     /**
@@ -94,7 +98,7 @@ public class TopicController {
             @ApiResponse(responseCode = "409", description = "Topic already exists")
     })
     public ResponseEntity<TopicResponseDTO> createTopic(@Valid @RequestBody TopicCreateRequestDTO requestDTO) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         TopicResponseDTO responseDTO = createTopicUseCase.execute(requestDTO, authenticatedUserId);
 
         URI location = URI.create("/topics/" + responseDTO.id());
@@ -120,23 +124,47 @@ public class TopicController {
 
     /**
      * Endpoint for handling listing of topics with pagination support.
-     * This method lists topics with pagination support and returns the list of topics.
+     * This method lists topics, newest first, one page at a time.
+     * For authenticated callers, each topic tells whether they highed it.
      *
-     * @param page {@link Integer} the page number to retrieve
-     * @param size {@link Integer} the number of topics to retrieve per page
-     * @return a {@link ResponseEntity} of {@link List} of {@link ForumResponseDTO} with status 200 (OK) and the list of topics
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @param size   {@link Integer} the number of topics to retrieve per page
+     * @return a {@link ResponseEntity} of {@link CursorPageDTO} of {@link TopicResponseDTO} with status 200 (OK) and the page of topics
      */
     @GetMapping("/all")
     @Operation(summary = "List all topics with pagination support")
-    @ApiResponse(responseCode = "200", description = "Topics found")
-    public ResponseEntity<List<TopicResponseDTO>> listForumsPageable(@Valid
-                                                                     @RequestParam(defaultValue = "0")
-                                                                     @Min(value = 0, message = "Page number must be greater than or equal to 0")
-                                                                     int page,
-                                                                     @Valid
-                                                                     @RequestParam(defaultValue = "10")
-                                                                     int size) {
-        return ResponseEntity.ok(listTopicsUseCase.execute(page, size));
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Topics found"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageDTO<TopicResponseDTO>> listForumsPageable(@RequestParam(required = false)
+                                                                              String cursor,
+                                                                              @Valid
+                                                                              @RequestParam(defaultValue = "10")
+                                                                              int size) {
+        return ResponseEntity.ok(listTopicsUseCase.execute(cursor, size, AuthenticatedUser.findId()));
+    }
+
+    /**
+     * Endpoint for handling listing of trending topics.
+     * This method lists the topics with the most recent activity, optionally restricted to a single forum.
+     *
+     * @param forumId the forum's unique identifier to restrict the ranking to, or {@code null} for all forums
+     * @param limit   {@link Integer} the maximum number of topics to retrieve
+     * @return a {@link ResponseEntity} of {@link List} of {@link TopicResponseDTO} with status 200 (OK) and the trending topics
+     */
+    @GetMapping("/trending")
+    @Operation(summary = "List trending topics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trending topics found"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    public ResponseEntity<List<TopicResponseDTO>> listTrendingTopics(@Valid
+                                                                     @RequestParam(required = false)
+                                                                     @org.hibernate.validator.constraints.UUID String forumId,
+                                                                     @RequestParam(defaultValue = "10") int limit) {
+        UUID forum = forumId == null ? null : UUID.fromString(forumId);
+        return ResponseEntity.ok(listTrendingTopicsUseCase.execute(forum, limit));
     }
 
     /**
@@ -159,7 +187,7 @@ public class TopicController {
                                                         @org.hibernate.validator.constraints.UUID String id,
                                                         @Valid @RequestBody
                                                         TopicUpdateRequestDTO requestDTO) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
 
         return ResponseEntity.ok(updateTopicUseCase.execute(UUID.fromString(id), requestDTO, authenticatedUserId));
     }
@@ -179,7 +207,7 @@ public class TopicController {
             @ApiResponse(responseCode = "404", description = "Topic not found")
     })
     public ResponseEntity<Void> deleteTopic(@Valid @PathVariable @org.hibernate.validator.constraints.UUID String id) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         deleteTopicUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -199,7 +227,7 @@ public class TopicController {
     })
     @PostMapping("/high/{id}")
     public ResponseEntity<Void> highTopic(@Valid @PathVariable("id") @org.hibernate.validator.constraints.UUID String topicId) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         highTopicUseCase.execute(UUID.fromString(topicId), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -219,25 +247,8 @@ public class TopicController {
     })
     @DeleteMapping("/unhigh/{id}")
     public ResponseEntity<Void> unHighTopic(@Valid @PathVariable("id") @org.hibernate.validator.constraints.UUID String topicId) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         unHighTopicUseCase.execute(UUID.fromString(topicId), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * Retrieves the authenticated user's unique identifier.
-     *
-     * @return the authenticated user's unique identifier
-     */
-    private UUID getAuthenticatedUserId() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        if (principal instanceof UUID) {
-            return (UUID) principal;
-        } else if (principal instanceof String) {
-            return UUID.fromString((String) principal);
-        }
-
-        throw new IllegalStateException("Unexpected principal type: " + principal.getClass().getName());
-    }
 }
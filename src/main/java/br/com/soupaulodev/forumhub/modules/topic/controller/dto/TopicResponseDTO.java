@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.modules.topic.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -21,6 +23,7 @@ import java.util.UUID;
  * @param commentCount    the number of comments the topic has
  * @param createdAt       the creation date of the topic
  * @param updatedAt       the last update date of the topic
+ * @param highedByMe      whether the authenticated user highed the topic, omitted for anonymous callers
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 public record TopicResponseDTO(
@@ -33,6 +36,42 @@ public record TopicResponseDTO(
         Long highs,
         Long commentCount,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Boolean highedByMe
 ) {
+
+    public TopicResponseDTO(UUID id,
+                            String title,
+                            String content,
+                            UUID forumId,
+                            UUID creatorId,
+                            String creatorUsername,
+                            Long highs,
+                            Long commentCount,
+                            Instant createdAt,
+                            Instant updatedAt) {
+        this(id, title, content, forumId, creatorId, creatorUsername, highs, commentCount, createdAt, updatedAt, null);
+    }
+
+    /**
+     * Returns a copy of this DTO with another highs count, such as one including the highs not yet flushed.
+     *
+     * @param highs the number of highs the topic has
+     * @return the copy
+     */
+    public TopicResponseDTO withHighs(Long highs) {
+        return new TopicResponseDTO(id, title, content, forumId, creatorId, creatorUsername, highs, commentCount,
+                createdAt, updatedAt, highedByMe);
+    }
+
+    /**
+     * Returns a copy of this DTO carrying the viewer state of the authenticated user.
+     *
+     * @param highedByMe whether the authenticated user highed the topic
+     * @return the copy
+     */
+    public TopicResponseDTO withHighedByMe(Boolean highedByMe) {
+        return new TopicResponseDTO(id, title, content, forumId, creatorId, creatorUsername, highs, commentCount,
+                createdAt, updatedAt, highedByMe);
+    }
 }
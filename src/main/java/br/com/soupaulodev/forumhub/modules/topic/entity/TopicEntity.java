@@ -24,7 +24,10 @@ import java.util.UUID;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_topic")
+@Table(name = "tb_topic", indexes = {
+        @Index(name = "idx_topic_forum_id", columnList = "forum_id"),
+        @Index(name = "idx_topic_created_at_id", columnList = "created_at, id")
+})
 public class TopicEntity implements Serializable {
 
     @Serial
@@ -39,7 +42,7 @@ public class TopicEntity implements Serializable {
     @Column(nullable = false, length = 500)
     private String content;
 
-    @Column(name = "highs_count")
+    @Column(name = "highs_count", updatable = false)
     private Long highsCount = 0L;
 
     @Column(name = "comments_count")
@@ -173,20 +176,6 @@ public class TopicEntity implements Serializable {
         return highsCount;
     }
 
-    /**
-     * Increments the number of highs count.
-     */
-    public void incrementHighs() {
-        this.highsCount++;
-    }
-
-    /**
-     * Decrements the number of highs count.
-     */
-    public void decrementHighs() {
-        this.highsCount--;
-    }
-
     /**
      * Gets the number of comments count.
      *
@@ -18,7 +18,8 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_topic_highs")
+@Table(name = "tb_topic_highs", uniqueConstraints = @UniqueConstraint(
+        name = "uk_topic_highs_topic_user", columnNames = {"topic_id", "user_id"}))
 public class TopicHighsEntity {
 
     @Id
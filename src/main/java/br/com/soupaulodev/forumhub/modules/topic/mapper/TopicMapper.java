@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.modules.topic.mapper;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
@@ -48,12 +50,13 @@ public class TopicMapper {
     }
 
     /**
-     * Converts a TopicEntity to a TopicResponseDTO.
+     * Converts a TopicEntity to a TopicResponseDTO, adding the highs not yet flushed to the database.
      *
-     * @param topic the TopicEntity to be converted
+     * @param topic        the TopicEntity to be converted
+     * @param highsCounter the counter holding the unflushed highs
      * @return the TopicResponseDTO created from the entity
      */
-    public static TopicResponseDTO toResponseDTO(TopicEntity topic) {
+    public static TopicResponseDTO toResponseDTO(TopicEntity topic, HighsCounter highsCounter) {
         return new TopicResponseDTO(
                 topic.getId(),
                 topic.getTitle(),
@@ -61,7 +64,7 @@ public class TopicMapper {
                 topic.getForum().getId(),
                 topic.getCreator().getId(),
                 topic.getCreator().getUsername(),
-                topic.getHighsCount(),
+                highsCounter.read(CounterTarget.TOPIC, topic.getId(), topic.getHighsCount()),
                 topic.getCommentsCount(),
                 topic.getCreatedAt(),
                 topic.getUpdatedAt()
@@ -69,12 +72,13 @@ public class TopicMapper {
     }
 
     /**
-     * Converts a TopicEntity to a TopicDetailsResponseDTO.
+     * Converts a TopicEntity to a TopicDetailsResponseDTO, adding the highs not yet flushed to the database.
      *
-     * @param topic the TopicEntity to be converted
+     * @param topic        the TopicEntity to be converted
+     * @param highsCounter the counter holding the unflushed highs
      * @return the TopicDetailsResponseDTO created from the entity
      */
-    public static TopicDetailsResponseDTO toDetailsResponseDTO(TopicEntity topic) {
+    public static TopicDetailsResponseDTO toDetailsResponseDTO(TopicEntity topic, HighsCounter highsCounter) {
         return new TopicDetailsResponseDTO(
                 topic.getId(),
                 topic.getTitle(),
@@ -82,7 +86,7 @@ public class TopicMapper {
                 topic.getForum().getId(),
                 topic.getCreator().getId(),
                 topic.getCreator().getUsername(),
-                topic.getHighsCount(),
+                highsCounter.read(CounterTarget.TOPIC, topic.getId(), topic.getHighsCount()),
                 topic.getCommentsCount(),
                 List.of(), //TODO - Convert TopicMapper to Spring Component and inject CommentMapper
 //                topic.getComments().stream().map(CommentMapper::toResponseDTO).toList(),
@@ -90,4 +94,15 @@ public class TopicMapper {
                 topic.getUpdatedAt()
         );
     }
+
+    /**
+     * Adds the highs not yet flushed to the database to a TopicResponseDTO read by a projection query.
+     *
+     * @param dto          the TopicResponseDTO carrying the persisted highs count
+     * @param highsCounter the counter holding the unflushed highs
+     * @return the TopicResponseDTO carrying the current highs count
+     */
+    public static TopicResponseDTO withPendingHighs(TopicResponseDTO dto, HighsCounter highsCounter) {
+        return dto.withHighs(highsCounter.read(CounterTarget.TOPIC, dto.id(), dto.highs()));
+    }
 }
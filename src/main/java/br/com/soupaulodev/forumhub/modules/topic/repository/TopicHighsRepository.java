@@ -1,10 +1,18 @@
 package br.com.soupaulodev.forumhub.modules.topic.repository;
 
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicHighsEntity;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -16,4 +24,58 @@ import java.util.UUID;
 @Repository
 public interface TopicHighsRepository extends JpaRepository<TopicHighsEntity, String> {
     Optional<TopicHighsEntity> findByTopic_IdAndUser_Id(UUID topicId, UUID userId);
+
+    /**
+     * Inserts a high unless the user already highed the topic, in a single statement.
+     *
+     * @param id        the id of the new high
+     * @param topicId   the id of the topic
+     * @param userId    the id of the user
+     * @param now       the creation timestamp
+     * @return 1 if the high was inserted, 0 if it already existed
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_topic_highs (id, topic_id, user_id, created_at, updated_at)
+            VALUES (:id, :topicId, :userId, :now, :now)
+            ON CONFLICT (topic_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("topicId") UUID topicId,
+                       @Param("userId") UUID userId,
+                       @Param("now") Instant now);
+
+    /**
+     * Inserts a high unless the user already highed the topic.
+     *
+     * @param topicId the id of the topic
+     * @param userId  the id of the user
+     * @return true if the high was inserted, false if it already existed
+     */
+    default boolean insertIfAbsent(UUID topicId, UUID userId) {
+        return insertIfAbsent(UlidGenerator.generate(), topicId, userId, Instant.now()) > 0;
+    }
+
+    /**
+     * Deletes the high of the user on the topic, in a single statement.
+     *
+     * @param topicId the id of the topic
+     * @param userId  the id of the user
+     * @return the number of deleted highs, 0 if the user had not highed the topic
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TopicHighsEntity h WHERE h.topic.id = :topicId AND h.user.id = :userId")
+    int deleteIfPresent(@Param("topicId") UUID topicId, @Param("userId") UUID userId);
+
+    /**
+     * Returns which of the given topics the user highed, in a single query.
+     *
+     * @param userId   the id of the user
+     * @param topicIds the ids of the topics to check
+     * @return the ids of the highed topics
+     */
+    @Query("SELECT h.topic.id FROM TopicHighsEntity h WHERE h.user.id = :userId AND h.topic.id IN :topicIds")
+    Set<UUID> findHighedTopicIds(@Param("userId") UUID userId, @Param("topicIds") Collection<UUID> topicIds);
 }
@@ -1,9 +1,17 @@
 package br.com.soupaulodev.forumhub.modules.topic.repository;
 
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,4 +22,62 @@ import java.util.UUID;
  */
 @Repository
 public interface TopicRepository extends JpaRepository<TopicEntity, UUID> {
+
+    /**
+     * Finds the id of the forum a topic belongs to, without loading the topic.
+     *
+     * @param id the topic id
+     * @return the forum id, or empty if the topic does not exist
+     */
+    @Query("SELECT t.forum.id FROM TopicEntity t WHERE t.id = :id")
+    Optional<UUID> findForumIdById(@Param("id") UUID id);
+
+    /**
+     * Reads the newest topics, ordered by creation date and id, both descending.
+     *
+     * @param limit the maximum number of topics to read
+     * @return the topics
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO(
+                t.id, t.title, t.content, t.forum.id, u.id, u.username, t.highsCount, t.commentsCount,
+                t.createdAt, t.updatedAt)
+            FROM TopicEntity t JOIN t.creator u
+            ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<TopicResponseDTO> findNewest(Limit limit);
+
+    /**
+     * Reads the topics created before the given position, ordered by creation date and id, both descending.
+     * The position is sought on the {@code (created_at, id)} index, so the cost does not depend on its depth.
+     *
+     * @param createdAt the creation date of the last topic read
+     * @param id        the id of the last topic read
+     * @param limit     the maximum number of topics to read
+     * @return the topics
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO(
+                t.id, t.title, t.content, t.forum.id, u.id, u.username, t.highsCount, t.commentsCount,
+                t.createdAt, t.updatedAt)
+            FROM TopicEntity t JOIN t.creator u
+            WHERE (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+            ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<TopicResponseDTO> findNewestBefore(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Reads topics as {@link TopicResponseDTO}s, selecting only the columns they need, in no particular order.
+     *
+     * @param ids the ids of the topics
+     * @return the topics that exist
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO(
+                t.id, t.title, t.content, t.forum.id, u.id, u.username, t.highsCount, t.commentsCount,
+                t.createdAt, t.updatedAt)
+            FROM TopicEntity t JOIN t.creator u
+            WHERE t.id IN :ids
+            """)
+    List<TopicResponseDTO> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
 }
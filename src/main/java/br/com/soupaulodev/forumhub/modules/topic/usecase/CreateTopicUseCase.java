@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
@@ -8,6 +9,7 @@ import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
@@ -25,6 +27,8 @@ public class CreateTopicUseCase {
     private final TopicRepository topicRepository;
     private final ForumRepository forumRepository;
     private final UserRepository userRepository;
+    private final TrendingEngine trendingEngine;
+    private final HighsCounter highsCounter;
 
     /**
      * Constructs a new CreateTopicUsecase with the specified repositories.
@@ -32,13 +36,19 @@ public class CreateTopicUseCase {
      * @param topicRepository the repository for managing topics
      * @param forumRepository the repository for managing forums
      * @param userRepository  the repository for managing users
+     * @param trendingEngine  the engine ranking trending topics and forums
+     * @param highsCounter    the counter holding the unflushed highs
      */
     public CreateTopicUseCase(TopicRepository topicRepository,
                               ForumRepository forumRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              TrendingEngine trendingEngine,
+                              HighsCounter highsCounter) {
         this.topicRepository = topicRepository;
         this.forumRepository = forumRepository;
         this.userRepository = userRepository;
+        this.trendingEngine = trendingEngine;
+        this.highsCounter = highsCounter;
     }
 
     /**
@@ -63,7 +73,8 @@ public class CreateTopicUseCase {
 
         forum.incrementTopicsCount();
         forumRepository.save(forum);
+        trendingEngine.topicCreated(forum.getId(), topicSaved.getId());
 
-        return TopicMapper.toResponseDTO(topicSaved);
+        return TopicMapper.toResponseDTO(topicSaved, highsCounter);
     }
 }
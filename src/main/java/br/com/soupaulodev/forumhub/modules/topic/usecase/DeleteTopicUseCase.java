@@ -1,11 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
@@ -22,6 +25,8 @@ public class DeleteTopicUseCase {
     private final TopicRepository topicRepository;
     private final ForumRepository forumRepository;
     private final UserRepository userRepository;
+    private final HighsMembershipIndex highsMembershipIndex;
+    private final TrendingEngine trendingEngine;
 
     /**
      * Constructs a new DeleteTopicUsecase with the specified repository.
@@ -29,14 +34,20 @@ public class DeleteTopicUseCase {
      * @param topicRepository the repository for managing topics
      * @param forumRepository the repository for managing forums
      * @param userRepository   the repository for managing users
+     * @param highsMembershipIndex the index of the users who highed each topic
+     * @param trendingEngine the trending rankings the topic is dropped from
      *
      */
     public DeleteTopicUseCase(TopicRepository topicRepository,
                               ForumRepository forumRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              HighsMembershipIndex highsMembershipIndex,
+                              TrendingEngine trendingEngine) {
         this.topicRepository = topicRepository;
         this.forumRepository = forumRepository;
         this.userRepository = userRepository;
+        this.highsMembershipIndex = highsMembershipIndex;
+        this.trendingEngine = trendingEngine;
     }
 
     /**
@@ -62,5 +73,7 @@ public class DeleteTopicUseCase {
 
         topicRepository.delete(topicDB);
         forumRepository.save(forumFound);
+        highsMembershipIndex.evict(CounterTarget.TOPIC, id);
+        trendingEngine.topicDeleted(forumFound.getId(), id);
     }
 }
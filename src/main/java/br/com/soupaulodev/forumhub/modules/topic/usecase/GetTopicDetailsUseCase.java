@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
@@ -18,14 +19,17 @@ import java.util.UUID;
 public class GetTopicDetailsUseCase {
 
     private final TopicRepository topicRepository;
+    private final HighsCounter highsCounter;
 
     /**
      * Constructs a new GetTopicUsecase with the specified repository.
      *
      * @param topicRepository the repository for managing topics
+     * @param highsCounter    the counter holding the unflushed highs
      */
-    public GetTopicDetailsUseCase(TopicRepository topicRepository) {
+    public GetTopicDetailsUseCase(TopicRepository topicRepository, HighsCounter highsCounter) {
         this.topicRepository = topicRepository;
+        this.highsCounter = highsCounter;
     }
 
     /**
@@ -43,6 +47,6 @@ public class GetTopicDetailsUseCase {
         topicFound.getComments();
         topicFound.getCreator();
 
-        return TopicMapper.toDetailsResponseDTO(topicFound);
+        return TopicMapper.toDetailsResponseDTO(topicFound, highsCounter);
     }
 }
@@ -1,12 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
-import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
-import br.com.soupaulodev.forumhub.modules.topic.entity.TopicHighsEntity;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicHighsRepository;
-import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
@@ -19,45 +21,56 @@ import java.util.UUID;
 public class HighTopicUseCase {
 
     private final TopicHighsRepository topicHighsRepository;
-    private final TopicRepository topicRepository;
-    private final UserRepository userRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
     /**
      * Constructor
      *
      * @param topicHighsRepository topic highs repository
-     * @param topicRepository topic repository
-     * @param userRepository user repository
+     * @param highEffects high effects
+     * @param highsWriteAheadLog highs write-ahead log
      */
     public HighTopicUseCase(TopicHighsRepository topicHighsRepository,
-                            TopicRepository topicRepository,
-                            UserRepository userRepository) {
+                            HighEffects highEffects,
+                            HighsWriteAheadLog highsWriteAheadLog) {
         this.topicHighsRepository = topicHighsRepository;
-        this.topicRepository = topicRepository;
-        this.userRepository = userRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
     /**
      * Use case to high a Topic
+     * <p>
+     * The high is inserted with a single conditional statement, and the highs count only moves
+     * when a row was actually inserted: the unique constraint alone decides whether the high is repeated, and
+     * the highs membership index is only updated from the outcome.
+     * While the database is unavailable, the high is deferred to the {@link HighsWriteAheadLog}
+     * and applied later by its replayer.
+     * </p>
      *
      * @param topicId topic id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the topic or the user does not exist, or the topic is already highed
      */
     public void execute(UUID topicId, UUID authenticatedUserId) {
-        topicHighsRepository.findByTopic_IdAndUser_Id(topicId, authenticatedUserId)
-                .ifPresent(userHighsEntity -> {
-                    throw new IllegalArgumentException("Topic already highed");
-                });
+        if (highsWriteAheadLog.deferIfPending(HighAction.HIGH, CounterTarget.TOPIC, topicId, authenticatedUserId)) {
+            return;
+        }
 
-        TopicEntity topicFound = topicRepository.findById(topicId).orElseThrow(
-                () -> new IllegalArgumentException("Topic not found")
-        );
+        boolean inserted;
+        try {
+            inserted = topicHighsRepository.insertIfAbsent(topicId, authenticatedUserId);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Topic not found");
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.HIGH, CounterTarget.TOPIC, topicId, authenticatedUserId);
+            return;
+        }
 
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(
-                () -> new IllegalArgumentException("Topic not found")
-        );
-
-        topicFound.incrementHighs();
-        topicHighsRepository.save(new TopicHighsEntity(topicFound, authenticatedUserEntity));
+        if (!inserted) {
+            throw new IllegalArgumentException("Topic already highed");
+        }
+        highEffects.highed(CounterTarget.TOPIC, topicId, authenticatedUserId);
     }
 }
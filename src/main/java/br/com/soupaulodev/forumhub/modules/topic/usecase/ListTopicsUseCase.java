@@ -1,19 +1,24 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
-import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicHighsRepository;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
- * Use case for listing topics with pagination support.
+ * Use case for listing topics, newest first, one page at a time.
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -21,29 +26,78 @@ import java.util.List;
 public class ListTopicsUseCase {
 
     private final TopicRepository topicRepository;
+    private final HighsMembershipIndex highsMembershipIndex;
+    private final TopicHighsRepository topicHighsRepository;
+    private final HighsCounter highsCounter;
 
     /**
      * Constructs a new {@link ListTopicsUseCase} with the specified repository.
      *
-     * @param topicRepository the repository for managing topics
+     * @param topicRepository      the repository for managing topics
+     * @param highsMembershipIndex the index of the users who highed each topic
+     * @param topicHighsRepository the repository for managing topic highs
+     * @param highsCounter         the counter holding the unflushed highs
      */
-    public ListTopicsUseCase(TopicRepository topicRepository) {
+    public ListTopicsUseCase(TopicRepository topicRepository,
+                             HighsMembershipIndex highsMembershipIndex,
+                             TopicHighsRepository topicHighsRepository,
+                             HighsCounter highsCounter) {
         this.topicRepository = topicRepository;
+        this.highsMembershipIndex = highsMembershipIndex;
+        this.topicHighsRepository = topicHighsRepository;
+        this.highsCounter = highsCounter;
     }
 
     /**
-     * Executes the use case to list topics with pagination support.
+     * Executes the use case to list a page of topics.
      *
-     * @param page the page number to retrieve
-     * @return a {@link List} of {@link TopicResponseDTO} containing the topic data
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the number of topics per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @return a {@link CursorPageDTO} of {@link TopicResponseDTO} containing the topic data
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<TopicResponseDTO> execute(int page, int size) {
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TopicResponseDTO> execute(String cursor, int size) {
+        return execute(cursor, size, null);
+    }
+
+    /**
+     * Executes the use case to list a page of topics, flagging the topics highed by the viewer.
+     * <p>
+     * Pages are read with a keyset on the creation date and the id instead of an offset, so any page costs a
+     * single range scan of the {@code (created_at, id)} index whatever its depth, and no count is run.
+     * The topics are read straight into their DTOs, joined with their creators in the same statement and in a
+     * read-only transaction, so neither their forums nor their creators are loaded as entities.
+     * The flags of the whole page are read from the highs membership index for the topics whose bitmap is in
+     * memory, and from a single per-viewer query for the others.
+     * </p>
+     *
+     * @param cursor   the cursor returned with the previous page, or {@code null} for the first page
+     * @param size     the number of topics per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @param viewerId the authenticated user, or {@code null} for anonymous callers
+     * @return a {@link CursorPageDTO} of {@link TopicResponseDTO} containing the topic data
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TopicResponseDTO> execute(String cursor, int size, UUID viewerId) {
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor before = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TopicResponseDTO> rows = before == null
+                ? topicRepository.findNewest(limit)
+                : topicRepository.findNewestBefore(before.at(), before.id(), limit);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<TopicEntity> entities = topicRepository.findAll(pageable);
+        CursorPageDTO<TopicResponseDTO> topics = CursorPageDTO
+                .of(rows, pageSize, topic -> new Cursor(topic.createdAt(), topic.id()))
+                .map(topic -> TopicMapper.withPendingHighs(topic, highsCounter));
+        if (viewerId == null || topics.items().isEmpty()) {
+            return topics;
+        }
 
-        return entities.getContent().stream()
-                .map(TopicMapper::toResponseDTO)
-                .toList();
+        Set<UUID> highed = highsMembershipIndex.findHighed(CounterTarget.TOPIC,
+                topics.items().stream().map(TopicResponseDTO::id).toList(), viewerId,
+                topicIds -> topicHighsRepository.findHighedTopicIds(viewerId, topicIds));
+        return topics.map(topic -> topic.withHighedByMe(highed.contains(topic.id())));
     }
 }
@@ -0,0 +1,77 @@
+package br.com.soupaulodev.forumhub.modules.topic.usecase;
+
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
+import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for listing the trending topics, globally or within a single forum.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ListTrendingTopicsUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final TrendingEngine trendingEngine;
+    private final TopicRepository topicRepository;
+    private final HighsCounter highsCounter;
+
+    /**
+     * Constructs a new {@link ListTrendingTopicsUseCase} with the specified dependencies.
+     *
+     * @param trendingEngine  the engine ranking trending topics
+     * @param topicRepository the repository for managing topics
+     * @param highsCounter    the counter holding the unflushed highs
+     */
+    public ListTrendingTopicsUseCase(TrendingEngine trendingEngine,
+                                     TopicRepository topicRepository,
+                                     HighsCounter highsCounter) {
+        this.trendingEngine = trendingEngine;
+        this.topicRepository = topicRepository;
+        this.highsCounter = highsCounter;
+    }
+
+    /**
+     * Executes the use case to list the trending topics.
+     * The ranked topics are read straight into their DTOs with a single statement, joined with their creators,
+     * in a read-only transaction.
+     *
+     * @param forumId the forum to restrict the ranking to, or {@code null} for the global ranking
+     * @param limit   the maximum number of topics to return
+     * @return a {@link List} of {@link TopicResponseDTO} ordered from the hottest topic
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<TopicResponseDTO> execute(UUID forumId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<UUID> ranking = trendingEngine.trendingTopics(forumId, limit);
+        if (ranking.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, TopicResponseDTO> topics = topicRepository.findResponsesByIdIn(ranking).stream()
+                .collect(Collectors.toMap(TopicResponseDTO::id, Function.identity()));
+
+        return ranking.stream()
+                .map(topics::get)
+                .filter(Objects::nonNull)
+                .map(topic -> TopicMapper.withPendingHighs(topic, highsCounter))
+                .toList();
+    }
+}
@@ -1,13 +1,18 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicHighsRepository;
-import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
 /**
- * Use case to unhigh a topic
+ * Use case to unhigh a Topic
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -15,37 +20,53 @@ import java.util.UUID;
 public class UnHighTopicUseCase {
 
     private final TopicHighsRepository topicHighsRepository;
-    private final TopicRepository topicRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
     /**
      * Constructor
      *
      * @param topicHighsRepository topic highs repository
-     * @param topicRepository      topic repository
+     * @param highEffects high effects
+     * @param highsWriteAheadLog highs write-ahead log
      */
     public UnHighTopicUseCase(TopicHighsRepository topicHighsRepository,
-                              TopicRepository topicRepository) {
+                              HighEffects highEffects,
+                              HighsWriteAheadLog highsWriteAheadLog) {
         this.topicHighsRepository = topicHighsRepository;
-        this.topicRepository = topicRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
     /**
-     * Execute the use case
+     * Use case to unhigh a Topic
+     * <p>
+     * The high is removed with a single statement, and the highs count only moves
+     * when a row was actually deleted.
+     * While the database is unavailable, the unhigh is deferred to the {@link HighsWriteAheadLog}
+     * and applied later by its replayer.
+     * </p>
      *
-     * @param topicId             topic id
+     * @param topicId topic id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the topic is not highed by the user
      */
     public void execute(UUID topicId, UUID authenticatedUserId) {
-        topicHighsRepository.findByTopic_IdAndUser_Id(topicId, authenticatedUserId)
-                .ifPresentOrElse(
-                        topicHighsRepository::delete,
-                        () -> {
-                            throw new IllegalArgumentException("Topic not highed");
-                        }
-                );
-        topicRepository.findById(topicId).ifPresent((topicEntity) -> {
-            topicEntity.decrementHighs();
-            topicRepository.save(topicEntity);
-        });
+        if (highsWriteAheadLog.deferIfPending(HighAction.UNHIGH, CounterTarget.TOPIC, topicId, authenticatedUserId)) {
+            return;
+        }
+
+        int deleted;
+        try {
+            deleted = topicHighsRepository.deleteIfPresent(topicId, authenticatedUserId);
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.UNHIGH, CounterTarget.TOPIC, topicId, authenticatedUserId);
+            return;
+        }
+
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Topic not highed");
+        }
+        highEffects.unHighed(CounterTarget.TOPIC, topicId, authenticatedUserId);
     }
 }
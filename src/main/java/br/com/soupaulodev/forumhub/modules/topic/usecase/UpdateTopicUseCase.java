@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
@@ -22,14 +23,17 @@ import java.util.UUID;
 public class UpdateTopicUseCase {
 
     private final TopicRepository topicRepository;
+    private final HighsCounter highsCounter;
 
     /**
      * Constructs a new UpdateTopicUsecase with the specified repository.
      *
      * @param topicRepository the repository for managing topics
+     * @param highsCounter    the counter holding the unflushed highs
      */
-    public UpdateTopicUseCase(TopicRepository topicRepository) {
+    public UpdateTopicUseCase(TopicRepository topicRepository, HighsCounter highsCounter) {
         this.topicRepository = topicRepository;
+        this.highsCounter = highsCounter;
     }
 
     /**
@@ -66,6 +70,6 @@ public class UpdateTopicUseCase {
         topicFound.setContent(requestDTO.content() != null ? requestDTO.content() : topicFound.getContent());
         topicFound.setUpdatedAt(Instant.now());
 
-        return TopicMapper.toResponseDTO(topicRepository.save(topicFound));
+        return TopicMapper.toResponseDTO(topicRepository.save(topicFound), highsCounter);
     }
 }
@@ -0,0 +1,128 @@
+package br.com.soupaulodev.forumhub.modules.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Bounded, incrementally maintained ranking of ids by score.
+ * <p>
+ * Scores are kept in a {@link TreeSet} ordered by score, so updating an id and reading the top entries are
+ * logarithmic and do not require recomputing the ranking. When the tracker is full, a new id only gets in
+ * by beating the lowest tracked score, which is then evicted.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class TopKTracker {
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::id);
+
+    private final int capacity;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private TreeSet<Entry> ranking = new TreeSet<>(RANKING);
+
+    TopKTracker(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a delta to the score of an id, dropping the id once its score is no longer positive.
+     *
+     * @param id the id
+     * @param delta the delta to add
+     */
+    synchronized void add(UUID id, double delta) {
+        Entry current = entries.get(id);
+        double score = (current == null ? 0 : current.score()) + delta;
+
+        if (current != null) {
+            ranking.remove(current);
+            entries.remove(id);
+        }
+        if (score <= 0) {
+            return;
+        }
+        if (current == null && entries.size() >= capacity) {
+            Entry lowest = ranking.last();
+            if (lowest.score() >= score) {
+                return;
+            }
+            ranking.pollLast();
+            entries.remove(lowest.id());
+        }
+
+        Entry entry = new Entry(id, score);
+        entries.put(id, entry);
+        ranking.add(entry);
+    }
+
+    /**
+     * Removes an id from the ranking.
+     *
+     * @param id the id
+     */
+    synchronized void remove(UUID id) {
+        Entry current = entries.remove(id);
+        if (current != null) {
+            ranking.remove(current);
+        }
+    }
+
+    /**
+     * Returns the highest scored entries.
+     *
+     * @param limit the maximum number of entries
+     * @return the entries in descending score order
+     */
+    synchronized List<Entry> top(int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Entry> iterator = ranking.iterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /**
+     * Multiplies every score by the given factor, which keeps the ranking order, and drops the ids whose score
+     * falls below the given minimum.
+     *
+     * @param factor the positive factor
+     * @param minScore the lowest score kept
+     */
+    synchronized void rescale(double factor, double minScore) {
+        TreeSet<Entry> rescaled = new TreeSet<>(RANKING);
+        for (Entry entry : ranking) {
+            Entry scaled = new Entry(entry.id(), entry.score() * factor);
+            if (scaled.score() < minScore) {
+                entries.remove(scaled.id());
+                continue;
+            }
+            entries.put(scaled.id(), scaled);
+            rescaled.add(scaled);
+        }
+        ranking = rescaled;
+    }
+
+    /**
+     * Tells whether no id is ranked.
+     *
+     * @return true if the ranking is empty
+     */
+    synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    record Entry(UUID id, double score) {
+    }
+}
@@ -0,0 +1,276 @@
+package br.com.soupaulodev.forumhub.modules.trending;
+
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps time-decayed trending rankings of topics, globally and per forum, and of forums.
+ * <p>
+ * Activity events (highs, comments and topic creation) add a weight to the score of the topic and of its forum.
+ * Scores decay exponentially with the configured half-life. To avoid touching every score as time passes,
+ * weights are recorded with forward decay: an event at time {@code t} adds {@code weight * e^(lambda * (t - landmark))},
+ * which keeps the order of older scores unchanged, and reads divide by {@code e^(lambda * (now - landmark))}.
+ * The landmark is moved forward, rescaling every tracker, before the exponent can overflow. The rescale drops the
+ * ids whose score has decayed away, and the per-forum trackers left empty, so forums without recent activity do not
+ * keep a tracker. Deleted topics and forums are dropped from the rankings right away.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class TrendingEngine {
+
+    static final double HIGH_WEIGHT = 1.0;
+    static final double COMMENT_WEIGHT = 2.0;
+    static final double TOPIC_CREATED_WEIGHT = 1.0;
+    static final double FORUM_ACTIVITY_FACTOR = 0.5;
+
+    private static final double REBASE_EXPONENT = 50.0;
+    private static final double MIN_SCORE = 1e-6;
+    private static final int TOPIC_FORUM_CACHE_SIZE = 10_000;
+
+    private final TopicRepository topicRepository;
+    private final LongSupplier clock;
+    private final double lambda;
+    private final int capacity;
+
+    private final TopKTracker globalTopics;
+    private final TopKTracker forums;
+    private final Map<UUID, TopKTracker> forumTopics = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> topicForums = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, UUID> eldest) {
+                    return size() > TOPIC_FORUM_CACHE_SIZE;
+                }
+            });
+
+    private final ReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private volatile long landmark;
+
+    @Autowired
+    public TrendingEngine(TopicRepository topicRepository,
+                          @Value("${trending.half-life-minutes:360}") long halfLifeMinutes,
+                          @Value("${trending.capacity:500}") int capacity) {
+        this(topicRepository, System::currentTimeMillis, halfLifeMinutes, capacity);
+    }
+
+    TrendingEngine(TopicRepository topicRepository, LongSupplier clock, long halfLifeMinutes, int capacity) {
+        if (halfLifeMinutes <= 0) {
+            throw new IllegalArgumentException("Trending half-life must be positive");
+        }
+        this.topicRepository = topicRepository;
+        this.clock = clock;
+        this.lambda = Math.log(2) / (halfLifeMinutes * 60_000.0);
+        this.capacity = capacity;
+        this.globalTopics = new TopKTracker(capacity);
+        this.forums = new TopKTracker(capacity);
+        this.landmark = clock.getAsLong();
+    }
+
+    /**
+     * Records the creation of a topic.
+     *
+     * @param forumId the forum of the topic
+     * @param topicId the created topic
+     */
+    public void topicCreated(UUID forumId, UUID topicId) {
+        topicForums.put(topicId, forumId);
+        recordTopicActivity(forumId, topicId, TOPIC_CREATED_WEIGHT);
+    }
+
+    /**
+     * Records a comment on a topic.
+     *
+     * @param forumId the forum of the topic
+     * @param topicId the commented topic
+     */
+    public void topicCommented(UUID forumId, UUID topicId) {
+        topicForums.put(topicId, forumId);
+        recordTopicActivity(forumId, topicId, COMMENT_WEIGHT);
+    }
+
+    /**
+     * Records a high on a topic.
+     *
+     * @param topicId the highed topic
+     */
+    public void topicHighed(UUID topicId) {
+        UUID forumId = resolveForum(topicId);
+        if (forumId != null) {
+            recordTopicActivity(forumId, topicId, HIGH_WEIGHT);
+        }
+    }
+
+    /**
+     * Records an unhigh on a topic.
+     *
+     * @param topicId the unhighed topic
+     */
+    public void topicUnHighed(UUID topicId) {
+        UUID forumId = resolveForum(topicId);
+        if (forumId != null) {
+            recordTopicActivity(forumId, topicId, -HIGH_WEIGHT);
+        }
+    }
+
+    /**
+     * Records a high on a forum.
+     *
+     * @param forumId the highed forum
+     */
+    public void forumHighed(UUID forumId) {
+        record(forums, forumId, HIGH_WEIGHT);
+    }
+
+    /**
+     * Records an unhigh on a forum.
+     *
+     * @param forumId the unhighed forum
+     */
+    public void forumUnHighed(UUID forumId) {
+        record(forums, forumId, -HIGH_WEIGHT);
+    }
+
+    /**
+     * Drops a deleted topic from the rankings.
+     *
+     * @param forumId the forum of the topic
+     * @param topicId the deleted topic
+     */
+    public void topicDeleted(UUID forumId, UUID topicId) {
+        topicForums.remove(topicId);
+        globalTopics.remove(topicId);
+        TopKTracker perForum = forumTopics.get(forumId);
+        if (perForum != null) {
+            perForum.remove(topicId);
+        }
+    }
+
+    /**
+     * Drops a deleted forum, and the topics deleted with it, from the rankings.
+     *
+     * @param forumId the deleted forum
+     */
+    public void forumDeleted(UUID forumId) {
+        forums.remove(forumId);
+        TopKTracker perForum = forumTopics.remove(forumId);
+        if (perForum != null) {
+            perForum.top(capacity).forEach(entry -> globalTopics.remove(entry.id()));
+        }
+        synchronized (topicForums) {
+            topicForums.entrySet().removeIf(entry -> {
+                if (!entry.getValue().equals(forumId)) {
+                    return false;
+                }
+                globalTopics.remove(entry.getKey());
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Returns the ids of the trending topics.
+     *
+     * @param forumId the forum to rank topics in, or null for all forums
+     * @param limit the maximum number of topics
+     * @return the topic ids, most trending first
+     */
+    public List<UUID> trendingTopics(UUID forumId, int limit) {
+        TopKTracker tracker = forumId == null ? globalTopics : forumTopics.get(forumId);
+        return tracker == null ? List.of() : ids(tracker, limit);
+    }
+
+    /**
+     * Returns the ids of the trending forums.
+     *
+     * @param limit the maximum number of forums
+     * @return the forum ids, most trending first
+     */
+    public List<UUID> trendingForums(int limit) {
+        return ids(forums, limit);
+    }
+
+    private void recordTopicActivity(UUID forumId, UUID topicId, double weight) {
+        rebaseIfNeeded();
+        landmarkLock.readLock().lock();
+        try {
+            TopKTracker perForum = forumTopics.computeIfAbsent(forumId, id -> new TopKTracker(capacity));
+            double scaled = scaled(weight);
+            globalTopics.add(topicId, scaled);
+            perForum.add(topicId, scaled);
+            forums.add(forumId, scaled * FORUM_ACTIVITY_FACTOR);
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    private void record(TopKTracker tracker, UUID id, double weight) {
+        rebaseIfNeeded();
+        landmarkLock.readLock().lock();
+        try {
+            tracker.add(id, scaled(weight));
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    private double scaled(double weight) {
+        return weight * Math.exp(lambda * (clock.getAsLong() - landmark));
+    }
+
+    private void rebaseIfNeeded() {
+        long now = clock.getAsLong();
+        if (lambda * (now - landmark) > REBASE_EXPONENT) {
+            rebase(now);
+        }
+    }
+
+    private void rebase(long now) {
+        landmarkLock.writeLock().lock();
+        try {
+            if (lambda * (now - landmark) <= REBASE_EXPONENT) {
+                return;
+            }
+            double factor = Math.exp(-lambda * (now - landmark));
+            globalTopics.rescale(factor, MIN_SCORE);
+            forums.rescale(factor, MIN_SCORE);
+            forumTopics.values().removeIf(tracker -> {
+                tracker.rescale(factor, MIN_SCORE);
+                return tracker.isEmpty();
+            });
+            landmark = now;
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    private List<UUID> ids(TopKTracker tracker, int limit) {
+        return tracker.top(limit).stream()
+                .map(TopKTracker.Entry::id)
+                .toList();
+    }
+
+    private UUID resolveForum(UUID topicId) {
+        UUID forumId = topicForums.get(topicId);
+        if (forumId == null) {
+            forumId = topicRepository.findForumIdById(topicId).orElse(null);
+            if (forumId != null) {
+                topicForums.put(topicId, forumId);
+            }
+        }
+        return forumId;
+    }
+}
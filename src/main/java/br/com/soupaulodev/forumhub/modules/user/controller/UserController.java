@@ -3,6 +3,8 @@ package br.com.soupaulodev.forumhub.modules.user.controller;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import br.com.soupaulodev.forumhub.security.utils.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -10,10 +12,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -62,10 +62,11 @@ public class UserController {
     @Operation(summary = "Get all users", description = "Retrieve all users data with pagination")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users data retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
     })
-    public ResponseEntity<List<UserResponseDTO>> listUsers(@RequestParam(defaultValue = "0") @Min(0) int page,
-                                                           @RequestParam(defaultValue = "10") @Min(5) int size) {
-        return ResponseEntity.ok(listUsersUseCase.execute(page, size));
+    public ResponseEntity<CursorPageDTO<UserResponseDTO>> listUsers(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "10") @Min(5) int size) {
+        return ResponseEntity.ok(listUsersUseCase.execute(cursor, size));
     }
 
     @PutMapping("/{id}")
@@ -78,7 +79,7 @@ public class UserController {
     })
     public ResponseEntity<UserResponseDTO> updateUser(@PathVariable("id") String id,
                                                       @RequestBody @Valid UserUpdateRequestDTO requestDTO) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         return ResponseEntity.ok(updateUserUseCase.execute(UUID.fromString(id), requestDTO, authenticatedUserId));
     }
 
@@ -90,7 +91,7 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "User not found"),
     })
     public ResponseEntity<Void> deleteUser(@PathVariable("id") String id) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         deleteUserUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -103,7 +104,7 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "User not found"),
     })
     public ResponseEntity<Void> highUser(@PathVariable("id") String highedUserId) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         highUserUseCase.execute(UUID.fromString(highedUserId), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
@@ -116,24 +117,9 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "User not found"),
     })
     public ResponseEntity<Void> unHighUser(@PathVariable("id") String highedUserId) {
-        UUID authenticatedUserId = getAuthenticatedUserId();
+        UUID authenticatedUserId = AuthenticatedUser.getId();
         unHighUserUseCase.execute(UUID.fromString(highedUserId), authenticatedUserId);
 
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * Retrieves the authenticated user's unique identifier from the security context.
-     */
-    private UUID getAuthenticatedUserId() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        if (principal instanceof UUID) {
-            return (UUID) principal;
-        } else if (principal instanceof String) {
-            return UUID.fromString((String) principal);
-        }
-
-        throw new IllegalStateException("Unexpected principal type: " + principal.getClass().getName());
-    }
 }
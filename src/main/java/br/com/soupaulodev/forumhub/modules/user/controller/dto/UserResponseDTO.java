@@ -24,4 +24,14 @@ public record UserResponseDTO(UUID id,
                               Long highs,
                               Instant createdAt,
                               Instant updatedAt) {
+
+    /**
+     * Returns a copy of this DTO with another highs count, such as one including the highs not yet flushed.
+     *
+     * @param highs the number of highs the user has received
+     * @return the copy
+     */
+    public UserResponseDTO withHighs(Long highs) {
+        return new UserResponseDTO(id, name, username, highs, createdAt, updatedAt);
+    }
 }
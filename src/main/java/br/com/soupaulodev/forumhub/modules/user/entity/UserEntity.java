@@ -7,6 +7,7 @@ import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicHighsEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -28,7 +29,7 @@ import java.util.UUID;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_user")
+@Table(name = "tb_user", indexes = @Index(name = "idx_user_created_at_id", columnList = "created_at, id"))
 public class UserEntity implements Serializable {
 
     @Serial
@@ -49,17 +50,18 @@ public class UserEntity implements Serializable {
     @Column(nullable = false)
     private String password;
 
-    @Column(name = "highs_count")
+    @Column(name = "highs_count", updatable = false)
     private Long highsCount = 0L;
 
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'USER'")
+    @Column(nullable = false, length = 20)
+    private UserRole role = UserRole.USER;
+
 
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private final List<ForumEntity> ownedForums = new ArrayList<>();
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(name = "forum_participants", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "forum_id"))
-    private final List<ForumEntity> participatingForums = new ArrayList<>();
-
     @OneToMany(mappedBy = "highingUser", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private final List<UserHighsEntity> highsInUsers = new ArrayList<>();
 
@@ -219,14 +221,23 @@ public class UserEntity implements Serializable {
     public Long getHighsCount() { return highsCount; }
 
     /**
-     * Increments the number of highs count.
+     * Gets the role of the user.
+     *
+     * @return the role of the user.
      */
-    public void incrementHighs() { this.highsCount++; }
+    public UserRole getRole() {
+        return role;
+    }
 
     /**
-     * Decrements the number of highs count.
+     * Sets the role of the user.
+     * The role is carried by the access tokens, so it applies from the next token issued to the user.
+     *
+     * @param role the new role to set.
      */
-    public void decrementHighs() { this.highsCount--; }
+    public void setRole(UserRole role) {
+        this.role = role;
+    }
 
     /**
      * Gets the list of forums owned by the user.
@@ -265,45 +276,6 @@ public class UserEntity implements Serializable {
         }
     }
 
-    /**
-     * Checks if the user owns a specific forum.
-     *
-     * @param forum the forum to check for ownership.
-     * @return true if the user owns the forum, false otherwise.
-     */
-    public boolean participatingInForum(ForumEntity forum) { return participatingForums.contains(forum); }
-
-    /**
-     * Gets the list of forums in which the user is a participant.
-     *
-     * @return {@link List} of {@link ForumEntity} the list of forums in which the user is a participant.
-     */
-    public List<ForumEntity> getParticipatingForums() { return participatingForums; }
-
-    /**
-     * Adds a forum to the user's participating forums collection.
-     *
-     * @param forum {@link ForumEntity} the forum to add to the user's participating forums.
-     */
-    public void addParticipatingForum(ForumEntity forum) {
-        if (!participatingForums.contains(forum)) {
-            participatingForums.add(forum);
-            forum.addParticipant(this);
-        }
-    }
-
-    /**
-     * Removes a forum from the user's participating forums collection.
-     *
-     * @param forum {@link ForumEntity} the forum to remove from the user's participating forums.
-     */
-    public void removeParticipatingForum(ForumEntity forum) {
-        if (!participatingForums.contains(forum)) {
-            participatingForums.remove(forum);
-            forum.removeParticipant(this);
-        }
-    }
-
     /**
      * Gets the list of highs made by the user in other users.
      *
@@ -23,7 +23,8 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_user_highs")
+@Table(name = "tb_user_highs", uniqueConstraints = @UniqueConstraint(
+        name = "uk_user_highs_highed_highing", columnNames = {"highed_user_id", "highing_user_id"}))
 public class UserHighsEntity {
 
     @Id
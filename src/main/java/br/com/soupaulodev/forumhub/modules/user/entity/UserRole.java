@@ -0,0 +1,13 @@
+package br.com.soupaulodev.forumhub.modules.user.entity;
+
+/**
+ * Role of a user, granted to their requests as the {@code ROLE_} authority of the same name.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum UserRole {
+    /** A member of the forums. */
+    USER,
+    /** An operator of the forums, allowed into the admin and analytics endpoints. */
+    ADMIN
+}
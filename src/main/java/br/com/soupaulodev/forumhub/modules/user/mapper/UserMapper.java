@@ -1,8 +1,12 @@
 package br.com.soupaulodev.forumhub.modules.user.mapper;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.*;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 
+import java.util.List;
+
 /**
  * Mapper class for converting between {@link UserEntity} and Data Transfer Objects (DTOs).
  * <p>
@@ -60,30 +64,64 @@ public class UserMapper {
      * This method maps a {@link UserEntity} to a {@link UserResponseDTO}, which contains
      * user data that is ready to be sent in the response of an API call. The response DTO
      * typically includes information such as the user ID, name, username, email, and timestamps.
+     * The highs count includes the highs not yet flushed to the database.
      * </p>
      *
      * @param entity the {@link UserEntity} object containing user data to be converted.
+     * @param highsCounter the {@link HighsCounter} holding the unflushed highs.
      * @return the corresponding {@link UserResponseDTO} with the user's details.
      */
-    public static UserResponseDTO toResponseDTO(UserEntity entity) {
+    public static UserResponseDTO toResponseDTO(UserEntity entity, HighsCounter highsCounter) {
         return new UserResponseDTO(
                 entity.getId(),
                 entity.getName(),
                 entity.getUsername(),
-                entity.getHighsCount(),
+                highsCounter.read(CounterTarget.USER, entity.getId(), entity.getHighsCount()),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
     }
 
+    /**
+     * Adds the highs not yet flushed to the database to a {@link UserResponseDTO} read by a projection query.
+     *
+     * @param dto the {@link UserResponseDTO} carrying the persisted highs count.
+     * @param highsCounter the {@link HighsCounter} holding the unflushed highs.
+     * @return the {@link UserResponseDTO} carrying the current highs count.
+     */
+    public static UserResponseDTO withPendingHighs(UserResponseDTO dto, HighsCounter highsCounter) {
+        return dto.withHighs(highsCounter.read(CounterTarget.USER, dto.id(), dto.highs()));
+    }
+
+    /**
+     * Converts a {@link UserEntity} that participates in no forum yet, such as a user that just signed up,
+     * to a {@link UserDetailsResponseDTO}.
+     *
+     * @param entity the {@link UserEntity} object containing user data to be converted.
+     * @return the corresponding {@link UserDetailsResponseDTO} with the user's details.
+     */
     public static UserDetailsResponseDTO toDetailsResponseDTO(UserEntity entity) {
+        return toDetailsResponseDTO(entity, List.of());
+    }
+
+    /**
+     * Converts a {@link UserEntity} to a {@link UserDetailsResponseDTO}.
+     * <p>
+     * Memberships are not held by the entity, so the forums the user participates in are read separately.
+     * </p>
+     *
+     * @param entity         the {@link UserEntity} object containing user data to be converted.
+     * @param participatesIn the forums the user participates in.
+     * @return the corresponding {@link UserDetailsResponseDTO} with the user's details.
+     */
+    public static UserDetailsResponseDTO toDetailsResponseDTO(UserEntity entity, List<ParticipatesInDTO> participatesIn) {
         return new UserDetailsResponseDTO(
                 entity.getId(),
                 entity.getName(),
                 entity.getUsername(),
                 entity.getEmail(),
                 entity.getOwnedForums().stream().map(OwnerOfDTO::from).toList(),
-                entity.getParticipatingForums().stream().map(ParticipatesInDTO::from).toList(),
+                participatesIn,
                 entity.getHighsCount(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
@@ -1,9 +1,15 @@
 package br.com.soupaulodev.forumhub.modules.user.repository;
 
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserHighsEntity;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,4 +30,51 @@ public interface UserHighsRepository extends JpaRepository<UserHighsEntity, Stri
      * @return an {@link Optional} containing the {@link UserHighsEntity} if found, or empty if no match is found
      */
     Optional<UserHighsEntity> findByHighedUser_IdAndHighingUser_Id(UUID highedUserId, UUID highingUserId);
+
+    /**
+     * Inserts a high unless the highing user already highed the highed user, in a single statement.
+     *
+     * @param id            the id of the new high
+     * @param highedUserId  the ID of the user who is the recipient of the high
+     * @param highingUserId the ID of the user giving the high
+     * @param now           the creation timestamp
+     * @return 1 if the high was inserted, 0 if it already existed
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_user_highs (id, highed_user_id, highing_user_id, created_at, updated_at)
+            VALUES (:id, :highedUserId, :highingUserId, :now, :now)
+            ON CONFLICT (highed_user_id, highing_user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("highedUserId") UUID highedUserId,
+                       @Param("highingUserId") UUID highingUserId,
+                       @Param("now") Instant now);
+
+    /**
+     * Inserts a high unless the highing user already highed the highed user.
+     *
+     * @param highedUserId  the ID of the user who is the recipient of the high
+     * @param highingUserId the ID of the user giving the high
+     * @return true if the high was inserted, false if it already existed
+     */
+    default boolean insertIfAbsent(UUID highedUserId, UUID highingUserId) {
+        return insertIfAbsent(UlidGenerator.generate(), highedUserId, highingUserId, Instant.now()) > 0;
+    }
+
+    /**
+     * Deletes the high given by the highing user to the highed user, in a single statement.
+     *
+     * @param highedUserId  the ID of the user who is the recipient of the high
+     * @param highingUserId the ID of the user giving the high
+     * @return the number of deleted highs, 0 if no high was found between the users
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM UserHighsEntity h
+            WHERE h.highedUser.id = :highedUserId AND h.highingUser.id = :highingUserId
+            """)
+    int deleteIfPresent(@Param("highedUserId") UUID highedUserId, @Param("highingUserId") UUID highingUserId);
 }
@@ -1,9 +1,15 @@
 package br.com.soupaulodev.forumhub.modules.user.repository;
 
+import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,4 +37,36 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      * @return true if a user with the given username exists, otherwise false
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Reads the newest users, ordered by creation date and id, both descending.
+     *
+     * @param limit the maximum number of users to read
+     * @return the users
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO(
+                u.id, u.name, u.username, u.highsCount, u.createdAt, u.updatedAt)
+            FROM UserEntity u
+            ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserResponseDTO> findNewest(Limit limit);
+
+    /**
+     * Reads the users created before the given position, ordered by creation date and id, both descending.
+     * The position is sought on the {@code (created_at, id)} index, so the cost does not depend on its depth.
+     *
+     * @param createdAt the creation date of the last user read
+     * @param id        the id of the last user read
+     * @param limit     the maximum number of users to read
+     * @return the users
+     */
+    @Query("""
+            SELECT new br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO(
+                u.id, u.name, u.username, u.highsCount, u.createdAt, u.updatedAt)
+            FROM UserEntity u
+            WHERE (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id))
+            ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserResponseDTO> findNewestBefore(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
 }
@@ -1,9 +1,13 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -29,14 +33,22 @@ public class DeleteUserUseCase {
     private static final Logger logger = LoggerFactory.getLogger(DeleteUserUseCase.class);
 
     private final UserRepository userRepository;
+    private final ForumRepository forumRepository;
+    private final HighsMembershipIndex highsMembershipIndex;
 
     /**
      * Constructs a new {@link DeleteUserUseCase}.
      *
-     * @param userRepository the repository responsible for deleting user data from the database
+     * @param userRepository  the repository responsible for deleting user data from the database
+     * @param forumRepository the repository holding the participants count of the forums of the user
+     * @param highsMembershipIndex the index of the users who highed each user
      */
-    public DeleteUserUseCase(UserRepository userRepository) {
+    public DeleteUserUseCase(UserRepository userRepository,
+                             ForumRepository forumRepository,
+                             HighsMembershipIndex highsMembershipIndex) {
         this.userRepository = userRepository;
+        this.forumRepository = forumRepository;
+        this.highsMembershipIndex = highsMembershipIndex;
     }
 
     /**
@@ -45,6 +57,8 @@ public class DeleteUserUseCase {
      * This method deletes a user from the database using the provided unique identifier.
      * If the user is found and user is authenticated, the user is deleted from the database.
      * If no user with the given ID is found, a {@link ResourceNotFoundException} is thrown.
+     * The memberships of the user are deleted with it by the database, after the participants count of their
+     * forums is decremented.
      * </p>
      *
      * @param id                  the user's unique identifier of type {@link UUID}
@@ -52,6 +66,7 @@ public class DeleteUserUseCase {
      * @throws ResourceNotFoundException if no user with the given ID is found
      * @throws ForbiddenException        if the authenticated user is not allowed to delete the user
      */
+    @Transactional
     public void execute(UUID id, UUID authenticatedUserId) {
         UserEntity userDB = userRepository.findById(id)
                 .orElseThrow(() -> {
@@ -65,6 +80,8 @@ public class DeleteUserUseCase {
         }
 
         logger.info("Deleting user with ID {}", id);
+        forumRepository.decrementParticipantsCountOfMember(id);
         userRepository.delete(userDB);
+        highsMembershipIndex.evict(CounterTarget.USER, id);
     }
 }
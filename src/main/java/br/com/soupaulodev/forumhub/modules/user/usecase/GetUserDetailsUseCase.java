@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
@@ -33,9 +34,11 @@ public class GetUserDetailsUseCase {
     private static final Logger logger =  LoggerFactory.getLogger(GetUserDetailsUseCase.class);
 
     private final UserRepository userRepository;
+    private final HighsCounter highsCounter;
 
-    public GetUserDetailsUseCase(UserRepository userRepository) {
+    public GetUserDetailsUseCase(UserRepository userRepository, HighsCounter highsCounter) {
         this.userRepository = userRepository;
+        this.highsCounter = highsCounter;
     }
 
     /**
@@ -58,6 +61,6 @@ public class GetUserDetailsUseCase {
                 });
 
         logger.info("User with ID {} found.", id);
-        return UserMapper.toResponseDTO(userEntity);
+        return UserMapper.toResponseDTO(userEntity, highsCounter);
     }
 }
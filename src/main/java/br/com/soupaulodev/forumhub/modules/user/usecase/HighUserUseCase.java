@@ -1,15 +1,19 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExistsException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserHighsEntity;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
@@ -25,12 +29,15 @@ public class HighUserUseCase {
     private static final Logger logger = LoggerFactory.getLogger(HighUserUseCase.class);
 
     private final UserHighsRepository userHighsRepository;
-    private final UserRepository userRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
     public HighUserUseCase(UserHighsRepository userHighsRepository,
-                           UserRepository userRepository) {
+                           HighEffects highEffects,
+                           HighsWriteAheadLog highsWriteAheadLog) {
         this.userHighsRepository = userHighsRepository;
-        this.userRepository = userRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
     /**
@@ -40,9 +47,7 @@ public class HighUserUseCase {
      * @param authenticatedUserId the UUID of the authenticated user giving the "high"
      * @throws IllegalArgumentException if the user tries to "high" themselves,
      * @throws ResourceAlreadyExistsException if the user has already "highed" the user to be "highed"
-     * @throws ResourceNotFoundException if:
-     *              - the user to be "highed" is not found,
-     *              - the authenticated user is not found
+     * @throws ResourceNotFoundException if the user to be "highed" or the authenticated user is not found
      * @throws UnauthorizedException if the user is not authenticated.
      */
     public void execute(UUID highedUser, UUID authenticatedUserId) {
@@ -56,24 +61,27 @@ public class HighUserUseCase {
             throw new IllegalArgumentException("User cannot high himself");
         }
 
-        userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId)
-                .ifPresent(userHighsEntity -> {
-                    logger.warn("User with ID {} already highed", authenticatedUserId);
-                    throw new ResourceAlreadyExistsException("User already highed");
-                });
+        if (highsWriteAheadLog.deferIfPending(HighAction.HIGH, CounterTarget.USER, highedUser, authenticatedUserId)) {
+            return;
+        }
 
-        UserEntity highedUserEntity = userRepository.findById(highedUser).orElseThrow(() -> {
-                    logger.error("User to be highed with ID {} not found", highedUser);
-                    return new ResourceNotFoundException("User not found");
-                });
+        boolean inserted;
+        try {
+            inserted = userHighsRepository.insertIfAbsent(highedUser, authenticatedUserId);
+        } catch (DataIntegrityViolationException e) {
+            logger.error("User to be highed with ID {} or user with ID {} not found", highedUser, authenticatedUserId);
+            throw new ResourceNotFoundException("User not found");
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.HIGH, CounterTarget.USER, highedUser, authenticatedUserId);
+            return;
+        }
 
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(() -> {
-            logger.error("User with ID {} not found", authenticatedUserId);
-            return new ResourceNotFoundException("User not found");
-        });
+        if (!inserted) {
+            logger.warn("User with ID {} already highed", authenticatedUserId);
+            throw new ResourceAlreadyExistsException("User already highed");
+        }
 
-        highedUserEntity.incrementHighs();
         logger.info("User with ID {} highed user with ID {}", authenticatedUserId, highedUser);
-        userHighsRepository.save(new UserHighsEntity(highedUserEntity, authenticatedUserEntity));
+        highEffects.highed(CounterTarget.USER, highedUser, authenticatedUserId);
     }
 }
@@ -1,24 +1,23 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Use case for retrieving a paginated list of all users.
  * <p>
- * This service fetches users from the repository with pagination and sorting based on creation date.
+ * This service fetches users from the repository one page at a time, newest first.
  * The returned list excludes sensitive information, such as emails, and provides a structured response.
  * </p>
  *
@@ -30,36 +29,44 @@ public class ListUsersUseCase {
     private static final Logger logger = LoggerFactory.getLogger(ListUsersUseCase.class);
 
     private final UserRepository userRepository;
+    private final HighsCounter highsCounter;
 
-    public ListUsersUseCase(UserRepository userRepository) {
+    public ListUsersUseCase(UserRepository userRepository, HighsCounter highsCounter) {
         this.userRepository = userRepository;
+        this.highsCounter = highsCounter;
     }
 
     /**
-     * Retrieves a paginated list of users.
+     * Retrieves a page of users.
      * <p>
-     * This method retrieves users from the repository, paginated by the given parameters (page, size),
-     * and sorted by the creation date in descending order. It returns a list of user data transfer objects (DTOs),
-     * with email information excluded.
+     * Users are sorted by the creation date in descending order and read with a keyset on the creation date and
+     * the id instead of an offset, so any page costs a single range scan of the {@code (created_at, id)} index
+     * whatever its depth, and no count is run. The users are read straight into their data transfer objects (DTOs),
+     * with email information excluded, in a read-only transaction.
      * </p>
      *
-     * @param page the page number to retrieve (0-based index)
-     * @param size the number of users per page
-     * @return a list of {@link UserResponseDTO} containing user details, excluding emails
-     * @throws IllegalArgumentException if the page or size parameters are invalid (negative or zero)
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the number of users per page, at most {@value CursorPageDTO#MAX_SIZE}
+     * @return a page of {@link UserResponseDTO} containing user details, excluding emails
+     * @throws IllegalArgumentException if the size is not positive or the cursor is invalid
      */
-    public List<UserResponseDTO> execute(int page, int size) {
-        if (page < 0 || size <= 0) {
-            logger.error("Invalid page or size parameters: page={}, size={}", page, size);
-            throw new IllegalArgumentException("Page and size must be positive numbers.");
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserResponseDTO> execute(String cursor, int size) {
+        if (size <= 0) {
+            logger.error("Invalid size parameter: size={}", size);
+            throw new IllegalArgumentException("Size must be a positive number.");
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<UserEntity> entities = userRepository.findAll(pageable);
+        int pageSize = CursorPageDTO.pageSize(size);
+        Cursor before = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
 
-        logger.info("Retrieved {} users from page {} with size {}", entities.getNumberOfElements(), page, size);
-        return entities.getContent().stream()
-                .map(UserMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        List<UserResponseDTO> rows = before == null
+                ? userRepository.findNewest(limit)
+                : userRepository.findNewestBefore(before.at(), before.id(), limit);
+
+        logger.info("Retrieved {} users with size {}", Math.min(rows.size(), pageSize), pageSize);
+        return CursorPageDTO.of(rows, pageSize, user -> new Cursor(user.createdAt(), user.id()))
+                .map(user -> UserMapper.withPendingHighs(user, highsCounter));
     }
 }
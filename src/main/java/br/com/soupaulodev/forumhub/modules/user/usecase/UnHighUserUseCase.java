@@ -1,12 +1,17 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 
 import java.util.UUID;
 
@@ -22,12 +27,15 @@ public class UnHighUserUseCase {
     private static final Logger logger = LoggerFactory.getLogger(UnHighUserUseCase.class);
 
     private final UserHighsRepository userHighsRepository;
-    private final UserRepository userRepository;
+    private final HighEffects highEffects;
+    private final HighsWriteAheadLog highsWriteAheadLog;
 
     public UnHighUserUseCase(UserHighsRepository userHighsRepository,
-                             UserRepository userRepository) {
+                             HighEffects highEffects,
+                             HighsWriteAheadLog highsWriteAheadLog) {
         this.userHighsRepository = userHighsRepository;
-        this.userRepository = userRepository;
+        this.highEffects = highEffects;
+        this.highsWriteAheadLog = highsWriteAheadLog;
     }
 
     /**
@@ -50,19 +58,24 @@ public class UnHighUserUseCase {
             throw new IllegalArgumentException("User cannot unhigh himself");
         }
 
-        userHighsRepository.findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId)
-                .ifPresentOrElse(
-                    (userHighsEntity) -> {
-                        logger.info("User with ID {} unhighed", unHighedUser);
-                        userHighsRepository.delete(userHighsEntity);
-                    }, () -> {
-                        logger.warn("User with ID {} not highed", unHighedUser);
-                        throw new ResourceNotFoundException("User not highed");
-                    }
-                );
-        userRepository.findById(unHighedUser).ifPresent(userEntity -> {
-            userEntity.decrementHighs();
-            userRepository.save(userEntity);
-        });
+        if (highsWriteAheadLog.deferIfPending(HighAction.UNHIGH, CounterTarget.USER, unHighedUser, authenticatedUserId)) {
+            return;
+        }
+
+        int deleted;
+        try {
+            deleted = userHighsRepository.deleteIfPresent(unHighedUser, authenticatedUserId);
+        } catch (DataAccessException | TransactionException e) {
+            highsWriteAheadLog.deferOrRethrow(e, HighAction.UNHIGH, CounterTarget.USER, unHighedUser, authenticatedUserId);
+            return;
+        }
+
+        if (deleted == 0) {
+            logger.warn("User with ID {} not highed", unHighedUser);
+            throw new ResourceNotFoundException("User not highed");
+        }
+
+        logger.info("User with ID {} unhighed", unHighedUser);
+        highEffects.unHighed(CounterTarget.USER, unHighedUser, authenticatedUserId);
     }
 }
@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
@@ -7,6 +8,7 @@ import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserUpdateRequest
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.password.PasswordHashingExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -36,16 +38,25 @@ public class UpdateUserUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final HighsCounter highsCounter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     /**
      * Constructs a new {@link UpdateUserUseCase}.
      *
      * @param userRepository  the repository responsible for updating user data in the database
      * @param passwordEncoder the password encoder used to securely hash user passwords
+     * @param highsCounter    the counter holding the highs not yet flushed to the database
+     * @param passwordHashingExecutor the executor running the password hashing off the request threads
      */
-    public UpdateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UpdateUserUseCase(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             HighsCounter highsCounter,
+                             PasswordHashingExecutor passwordHashingExecutor) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.highsCounter = highsCounter;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
 
@@ -93,10 +104,13 @@ public class UpdateUserUseCase {
         userDB.setName(requestDTO.name() != null ? requestDTO.name() : userDB.getName());
         userDB.setUsername(requestDTO.username() != null ? requestDTO.username() : userDB.getUsername());
         userDB.setEmail(requestDTO.email() != null ? requestDTO.email() : userDB.getEmail());
-        userDB.setPassword(requestDTO.password() != null ? passwordEncoder.encode(requestDTO.password()) : userDB.getPassword());
+        userDB.setPassword(requestDTO.password() != null
+                ? passwordHashingExecutor.execute(PasswordHashingExecutor.Priority.PASSWORD_CHANGE,
+                        () -> passwordEncoder.encode(requestDTO.password()))
+                : userDB.getPassword());
         userDB.setUpdatedAt(Instant.now());
 
         logger.info("User with ID {} updated successfully", id);
-        return UserMapper.toResponseDTO(userRepository.save(userDB));
+        return UserMapper.toResponseDTO(userRepository.save(userDB), highsCounter);
     }
 }
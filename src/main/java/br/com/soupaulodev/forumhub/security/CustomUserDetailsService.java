@@ -1,10 +1,12 @@
 package br.com.soupaulodev.forumhub.security;
 
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,26 +18,31 @@ import java.util.Collections;
  * during the authentication process. This service interacts with the database to retrieve user information
  * based on the provided username and is used by Spring Security during authentication.
  * <p>
- * The service also provides functionality to generate JWT tokens for authenticated users.
+ * The service also provides functionality to generate JWT tokens for authenticated users, and stores the
+ * passwords rehashed by Spring Security after a successful login when their BCrypt strength is outdated.
  * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final ForumMembership forumMembership;
 
     /**
      * Constructs a {@link CustomUserDetailsService} with the provided {@link UserRepository} and {@link JwtUtil}.
      *
      * @param userRepository The repository for querying user data from the database.
      * @param jwtUtil The utility class responsible for generating JWT tokens.
+     * @param forumMembership The membership of users in forums, carried in the generated tokens.
      */
-    public CustomUserDetailsService(UserRepository userRepository, JwtUtil jwtUtil) {
+    public CustomUserDetailsService(UserRepository userRepository, JwtUtil jwtUtil,
+                                    ForumMembership forumMembership) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
+        this.forumMembership = forumMembership;
     }
 
     /**
@@ -60,14 +67,38 @@ public class CustomUserDetailsService implements UserDetailsService {
         );
     }
 
+    /**
+     * Replaces the stored hash of a user's password with one made with the current BCrypt strength.
+     * Called by Spring Security after a successful login whose stored hash needs an upgrade.
+     *
+     * @param user The user who logged in.
+     * @param newPassword The new hash of the password.
+     * @return The user details with the new hash.
+     * @throws UsernameNotFoundException If the user cannot be found in the database.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserEntity entity = userRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        entity.setPassword(newPassword);
+        userRepository.save(entity);
+
+        return new User(
+                entity.getUsername(),
+                newPassword,
+                Collections.emptyList()
+        );
+    }
+
     /**
      * Generates a JWT token for the given user.
-     * This method uses the JwtUtil class to create a token that contains the user’s information.
+     * This method uses the JwtUtil class to create a token that contains the user’s information,
+     * including the forums the user participates in.
      *
      * @param user The user for whom the token is to be generated.
      * @return A JWT token as a string.
      */
     public String generateToken(UserEntity user) {
-        return jwtUtil.generateToken(user);
+        return jwtUtil.generateToken(user, forumMembership.snapshot(user.getId()));
     }
 }
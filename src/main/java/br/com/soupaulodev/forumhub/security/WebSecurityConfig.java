@@ -1,6 +1,8 @@
 package br.com.soupaulodev.forumhub.security;
 
+import br.com.soupaulodev.forumhub.modules.user.entity.UserRole;
 import br.com.soupaulodev.forumhub.security.filters.JwtAuthenticationFilter;
+import br.com.soupaulodev.forumhub.security.password.AdaptivePasswordEncoder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +13,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -35,6 +36,7 @@ import java.util.Arrays;
  * - Configures CORS (Cross-Origin Resource Sharing) with a custom set of allowed origins, methods, and headers.
  * - Configures session management to be stateless (i.e., no session is created).
  * - Customizes access rules for different routes, allowing public access to certain endpoints while protecting others.
+ * - Restricts the highs listing and export, which reveal who highed what, to administrators.
  * - Defines a password encoder and authentication manager to support secure login.
  * The class also integrates the {@link JwtAuthenticationFilter} for JWT validation in HTTP requests.
  *
@@ -89,6 +91,7 @@ public class WebSecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.GET, "/api/v1/highs/*", "/api/v1/highs/*/export").hasRole(UserRole.ADMIN.name())
                         .requestMatchers(HttpMethod.GET, "/api/v1/users/**", "/api/v1/forums/**", "/api/v1/topics/**", "/api/v1/comments/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/**").permitAll()
                         .requestMatchers(AUTH_WHITELIST).permitAll()
@@ -101,13 +104,19 @@ public class WebSecurityConfig {
     }
 
     /**
-     * Provides a {@link PasswordEncoder} for encoding passwords using BCrypt.
+     * Provides a {@link PasswordEncoder} for encoding passwords using BCrypt, with a work factor adapted to
+     * the configured hashing latency.
      *
+     * @param targetMillis The target time of a hash in milliseconds.
+     * @param minStrength The lowest BCrypt strength ever used.
+     * @param maxStrength The highest BCrypt strength ever used.
      * @return A {@link PasswordEncoder} instance.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password-hashing.target-ms:250}") long targetMillis,
+                                           @Value("${password-hashing.min-strength:10}") int minStrength,
+                                           @Value("${password-hashing.max-strength:14}") int maxStrength) {
+        return new AdaptivePasswordEncoder(targetMillis, minStrength, maxStrength);
     }
 
     /**
@@ -0,0 +1,93 @@
+package br.com.soupaulodev.forumhub.security.keys;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPrivateKeySpec;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Reads the P-256 keys of a JSON Web Key Set.
+ * <p>
+ * Besides the standard members, each key may carry {@code nbf} and {@code exp}, in epoch seconds, bounding the
+ * window in which it signs tokens, and {@code d} when the set holds private keys.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+final class JwksParser {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JwksParser() {
+    }
+
+    /**
+     * Parses a key set.
+     *
+     * @param json the key set
+     * @return the keys, in the order of the set
+     * @throws IOException if the set is malformed or holds keys other than P-256 signing keys
+     */
+    static List<JwtSigningKey> parse(byte[] json) throws IOException {
+        JsonNode keys = objectMapper.readTree(json).path("keys");
+        if (!keys.isArray()) {
+            throw new IOException("JWKS has no keys array");
+        }
+
+        List<JwtSigningKey> parsed = new ArrayList<>();
+        for (JsonNode key : keys) {
+            String kid = key.path("kid").asText(null);
+            if (kid == null || kid.isEmpty()) {
+                throw new IOException("JWKS key without kid");
+            }
+            if (!"EC".equals(key.path("kty").asText()) || !"P-256".equals(key.path("crv").asText())) {
+                throw new IOException("JWKS key " + kid + " is not a P-256 EC key");
+            }
+
+            try {
+                parsed.add(new JwtSigningKey(kid,
+                        publicKey(coordinate(key, "x"), coordinate(key, "y")),
+                        key.has("d") ? privateKey(coordinate(key, "d")) : null,
+                        key.has("nbf") ? Instant.ofEpochSecond(key.path("nbf").asLong()) : null,
+                        key.has("exp") ? Instant.ofEpochSecond(key.path("exp").asLong()) : null));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IOException("JWKS key " + kid + " is invalid", e);
+            }
+        }
+        return parsed;
+    }
+
+    private static BigInteger coordinate(JsonNode key, String member) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(key.path(member).asText()));
+    }
+
+    private static ECPublicKey publicKey(BigInteger x, BigInteger y) throws GeneralSecurityException {
+        ECPublicKeySpec spec = new ECPublicKeySpec(new ECPoint(x, y), p256());
+        return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(spec);
+    }
+
+    private static ECPrivateKey privateKey(BigInteger d) throws GeneralSecurityException {
+        return (ECPrivateKey) KeyFactory.getInstance("EC").generatePrivate(new ECPrivateKeySpec(d, p256()));
+    }
+
+    private static ECParameterSpec p256() throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+}
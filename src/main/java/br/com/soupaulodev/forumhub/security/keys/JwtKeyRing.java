@@ -0,0 +1,175 @@
+package br.com.soupaulodev.forumhub.security.keys;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * ES256 keys signing and verifying access tokens, loaded from local JWKS files and reloaded when they change.
+ * <p>
+ * The public key set is enough to verify tokens, so nodes that only serve requests never hold a signing key. Nodes
+ * issuing tokens also load a private key set, and sign with the most recent key whose signing window is open.
+ * </p>
+ * <p>
+ * To rotate, publish the new key in the public set ahead of its {@code nbf}, so every node can verify its tokens
+ * before any is issued, and keep the old key published until the last token it signed has expired. Verifiers are
+ * built once per {@code kid} and replaced together with the key set.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final Path jwksFile;
+    private final Path signingJwksFile;
+    private final String issuer;
+    private final Supplier<Instant> clock;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), List.of());
+    private long jwksModified = Long.MIN_VALUE;
+    private long signingJwksModified = Long.MIN_VALUE;
+
+    @Autowired
+    public JwtKeyRing(@Value("${jwt.keys.jwks-file:}") String jwksFile,
+                      @Value("${jwt.keys.signing-jwks-file:}") String signingJwksFile,
+                      @Value("${jwt.issuer}") String issuer) {
+        this(jwksFile.isBlank() ? null : Path.of(jwksFile),
+                signingJwksFile.isBlank() ? null : Path.of(signingJwksFile),
+                issuer, Instant::now);
+    }
+
+    JwtKeyRing(Path jwksFile, Path signingJwksFile, String issuer, Supplier<Instant> clock) {
+        this.jwksFile = jwksFile;
+        this.signingJwksFile = signingJwksFile;
+        this.issuer = issuer;
+        this.clock = clock;
+        reload();
+    }
+
+    /**
+     * Checks whether tokens are signed and verified with the key ring rather than the shared secret.
+     *
+     * @return true if a key set is configured
+     */
+    public boolean isEnabled() {
+        return jwksFile != null || signingJwksFile != null;
+    }
+
+    /**
+     * Returns the key currently signing tokens.
+     *
+     * @return the kid and algorithm of the signing key, or empty if no key may sign now
+     */
+    public Optional<Signer> signer() {
+        Instant now = clock.get();
+        for (Signer signer : snapshot.signers()) {
+            if (signer.key().canSign(now)) {
+                return Optional.of(signer);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the verifier of the tokens signed with a key.
+     *
+     * @param kid the key id from the token header
+     * @return the verifier, or null if the key is unknown
+     */
+    public JWTVerifier verifier(String kid) {
+        return snapshot.verifiers().get(kid);
+    }
+
+    /**
+     * Reloads the key sets if their files changed, keeping the current keys if a set cannot be read.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval-ms:10000}")
+    public synchronized void reload() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            long jwksModifiedNow = lastModified(jwksFile);
+            long signingJwksModifiedNow = lastModified(signingJwksFile);
+            if (jwksModifiedNow == jwksModified && signingJwksModifiedNow == signingJwksModified) {
+                return;
+            }
+
+            List<JwtSigningKey> keys = new ArrayList<>();
+            if (jwksFile != null) {
+                keys.addAll(JwksParser.parse(Files.readAllBytes(jwksFile)));
+            }
+            if (signingJwksFile != null) {
+                keys.addAll(JwksParser.parse(Files.readAllBytes(signingJwksFile)));
+            }
+            snapshot = build(keys);
+            jwksModified = jwksModifiedNow;
+            signingJwksModified = signingJwksModifiedNow;
+            logger.info("Loaded {} JWT verification keys and {} signing keys",
+                    snapshot.verifiers().size(), snapshot.signers().size());
+        } catch (IOException e) {
+            logger.error("Cannot load the JWT key sets, keeping the current keys", e);
+        }
+    }
+
+    private Snapshot build(List<JwtSigningKey> keys) {
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+        List<Signer> signers = new ArrayList<>();
+        for (JwtSigningKey key : keys) {
+            Algorithm algorithm = Algorithm.ECDSA256(key.publicKey(), key.privateKey());
+            verifiers.put(key.kid(), JWT.require(algorithm).withIssuer(issuer).build());
+            if (key.privateKey() != null) {
+                signers.add(new Signer(key, algorithm));
+            }
+        }
+        signers.sort(Comparator.comparing((Signer signer) -> signer.key().notBefore(),
+                Comparator.nullsFirst(Comparator.naturalOrder())).reversed());
+        return new Snapshot(Map.copyOf(verifiers), List.copyOf(signers));
+    }
+
+    private static long lastModified(Path file) throws IOException {
+        return file == null ? 0 : Files.getLastModifiedTime(file).toMillis();
+    }
+
+    /**
+     * A key able to sign tokens and its algorithm.
+     *
+     * @param key       the signing key
+     * @param algorithm the ES256 algorithm of the key
+     */
+    public record Signer(JwtSigningKey key, Algorithm algorithm) {
+
+        /**
+         * Returns the id of the key, to be set in the header of the tokens it signs.
+         *
+         * @return the key id
+         */
+        public String kid() {
+            return key.kid();
+        }
+    }
+
+    private record Snapshot(Map<String, JWTVerifier> verifiers, List<Signer> signers) {
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.soupaulodev.forumhub.security.keys;
+
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+
+/**
+ * A P-256 key of the {@link JwtKeyRing}, identified by its {@code kid}.
+ *
+ * @param kid        the key id, carried in the header of the tokens it signs
+ * @param publicKey  the public key verifying the tokens
+ * @param privateKey the private key signing the tokens, null on nodes that only verify
+ * @param notBefore  when the key starts signing tokens, null for no lower bound
+ * @param notAfter   when the key stops signing tokens, null for no upper bound
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record JwtSigningKey(String kid,
+                            ECPublicKey publicKey,
+                            ECPrivateKey privateKey,
+                            Instant notBefore,
+                            Instant notAfter) {
+
+    /**
+     * Checks whether the key may sign tokens at the given instant.
+     *
+     * @param now the instant
+     * @return true if the key has a private key and its signing window contains the instant
+     */
+    public boolean canSign(Instant now) {
+        return privateKey != null
+                && (notBefore == null || !now.isBefore(notBefore))
+                && (notAfter == null || now.isBefore(notAfter));
+    }
+}
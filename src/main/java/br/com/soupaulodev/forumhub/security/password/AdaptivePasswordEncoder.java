@@ -0,0 +1,156 @@
+package br.com.soupaulodev.forumhub.security.password;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt password encoder whose work factor follows a target hashing latency.
+ * <p>
+ * On startup the encoder times a hash at the minimum strength and picks the strength expected to take about the
+ * target latency, each step doubling the cost. It then keeps timing the hashes it runs, scaled to the current
+ * strength, and moves the strength one step towards the target whenever the average drifts by more than a factor
+ * of two. The strength never leaves the configured bounds, so a loaded machine cannot weaken new hashes below the
+ * minimum.
+ * </p>
+ * <p>
+ * Hashes keep the strength they were made with. {@link #upgradeEncoding(String)} reports those weaker than the
+ * current strength, so they are rehashed on the next successful login. Stronger hashes are kept: a strength lowered
+ * under load never weakens a stored hash, and an overloaded machine is not handed extra hashing work.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+    private static final double SMOOTHING = 0.2;
+
+    private final long targetNanos;
+    private final int minStrength;
+    private final int maxStrength;
+    private final BCryptPasswordEncoder[] encoders = new BCryptPasswordEncoder[32];
+    private volatile int strength;
+    private double averageNanos;
+
+    /**
+     * Constructor, calibrating the strength on this machine.
+     *
+     * @param targetMillis the target time of a hash in milliseconds
+     * @param minStrength  the lowest strength ever used
+     * @param maxStrength  the highest strength ever used
+     */
+    public AdaptivePasswordEncoder(long targetMillis, int minStrength, int maxStrength) {
+        this(targetMillis, minStrength, maxStrength, minStrength);
+        calibrate();
+    }
+
+    AdaptivePasswordEncoder(long targetMillis, int minStrength, int maxStrength, int strength) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strengths must be within 4 and 31.");
+        }
+        this.targetNanos = targetMillis * 1_000_000L;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+        for (int i = minStrength; i <= maxStrength; i++) {
+            encoders[i] = new BCryptPasswordEncoder(i);
+        }
+        this.strength = Math.min(maxStrength, Math.max(minStrength, strength));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        int current = strength;
+        long start = System.nanoTime();
+        String encoded = encoders[current].encode(rawPassword);
+        record(System.nanoTime() - start, current);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        int stored = strengthOf(encodedPassword);
+        if (stored < 0) {
+            logger.warn("Encoded password does not look like BCrypt");
+            return false;
+        }
+        long start = System.nanoTime();
+        boolean matches = encoders[minStrength].matches(rawPassword, encodedPassword);
+        record(System.nanoTime() - start, stored);
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int stored = strengthOf(encodedPassword);
+        return stored >= 0 && stored < strength;
+    }
+
+    /**
+     * Returns the strength new hashes are made with.
+     *
+     * @return the current strength
+     */
+    public int strength() {
+        return strength;
+    }
+
+    /**
+     * Moves the strength one step towards the target latency, based on the hashes timed since the last call.
+     */
+    @Scheduled(fixedDelayString = "${password-hashing.adapt-interval-ms:60000}")
+    public synchronized void adapt() {
+        if (averageNanos == 0) {
+            return;
+        }
+        int current = strength;
+        if (averageNanos > 2.0 * targetNanos && current > minStrength) {
+            setStrength(current - 1);
+        } else if (averageNanos < targetNanos / 2.0 && current < maxStrength) {
+            setStrength(current + 1);
+        }
+    }
+
+    /**
+     * Records the time of a hash, scaled to the cost of the current strength.
+     *
+     * @param nanos        how long the hash took
+     * @param hashStrength the strength of the hash
+     */
+    synchronized void record(long nanos, int hashStrength) {
+        double scaled = Math.scalb((double) nanos, strength - hashStrength);
+        averageNanos = averageNanos == 0 ? scaled : averageNanos + SMOOTHING * (scaled - averageNanos);
+    }
+
+    private void calibrate() {
+        encoders[minStrength].encode("warm-up");
+        long start = System.nanoTime();
+        encoders[minStrength].encode("calibration");
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        int steps = (int) Math.round(Math.log((double) targetNanos / elapsed) / Math.log(2));
+        setStrength(minStrength + Math.max(0, steps));
+    }
+
+    private synchronized void setStrength(int next) {
+        int bounded = Math.min(maxStrength, Math.max(minStrength, next));
+        if (bounded != strength) {
+            averageNanos = Math.scalb(averageNanos, bounded - strength);
+            logger.info("BCrypt strength changed from {} to {}", strength, bounded);
+            strength = bounded;
+        }
+    }
+
+    private static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT.matcher(encodedPassword);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
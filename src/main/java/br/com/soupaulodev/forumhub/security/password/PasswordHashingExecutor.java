@@ -0,0 +1,168 @@
+package br.com.soupaulodev.forumhub.security.password;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs the password hashing of logins, signups and password changes on a few dedicated threads.
+ * <p>
+ * BCrypt is made to be slow, so a burst of logins run on the request threads would take every core and starve
+ * the cheap requests. Here at most {@code threads} hashes run at once, whatever the number of requests, and the
+ * others wait in a queue ordered by {@link Priority}, logins first. Once the queue holds more tasks than a
+ * priority may wait behind, tasks of that priority are rejected at once with a {@link ServiceUnavailableException}
+ * instead of piling up, lower priorities first. A task still waiting after {@code maxWait} is dropped the same way.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final Duration maxWait;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param threads       the number of hashing threads, 0 for half of the available processors
+     * @param queueCapacity the maximum number of logins waiting for a thread
+     * @param maxWaitMillis how long a request waits for its hash before being shed
+     */
+    @Autowired
+    public PasswordHashingExecutor(@Value("${password-hashing.threads:0}") int threads,
+                                   @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${password-hashing.max-wait-ms:2000}") long maxWaitMillis) {
+        this(threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                queueCapacity, Duration.ofMillis(maxWaitMillis));
+    }
+
+    PasswordHashingExecutor(int threads, int queueCapacity, Duration maxWait) {
+        this.queueCapacity = queueCapacity;
+        this.maxWait = maxWait;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * Runs a task hashing or checking a password and waits for its outcome.
+     *
+     * @param priority the priority of the task
+     * @param task     the task
+     * @param <T>      the type of the outcome
+     * @return the outcome of the task
+     * @throws ServiceUnavailableException if the queue is full for the priority or the task waited too long
+     */
+    public <T> T execute(Priority priority, Supplier<T> task) {
+        int limit = priority.queueLimit(queueCapacity);
+        if (queued.incrementAndGet() > limit) {
+            queued.decrementAndGet();
+            logger.warn("Password hashing queue is full, shedding a {} request", priority);
+            throw new ServiceUnavailableException();
+        }
+
+        PrioritizedTask<T> future = new PrioritizedTask<>(priority, sequence.getAndIncrement(), task);
+        executor.execute(future);
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            logger.warn("Password hashing took longer than {}, shedding a {} request", maxWait, priority);
+            throw new ServiceUnavailableException();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of tasks waiting for a thread.
+     *
+     * @return the number of queued tasks
+     */
+    int queued() {
+        return queued.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The priority of a password hashing task. Lower ordinals run first and may wait behind more tasks.
+     */
+    public enum Priority {
+        /** Checking the password of an existing user logging in. */
+        LOGIN,
+        /** Hashing the new password of an existing user. */
+        PASSWORD_CHANGE,
+        /** Hashing the password of a new user. */
+        SIGNUP;
+
+        /**
+         * Returns how many tasks may be queued when a task of this priority is submitted: the whole capacity
+         * for logins, and a smaller share for each lower priority.
+         */
+        int queueLimit(int queueCapacity) {
+            int priorities = values().length;
+            return Math.max(1, queueCapacity * (priorities - ordinal()) / priorities);
+        }
+    }
+
+    private final class PrioritizedTask<T> extends FutureTask<T> implements Comparable<PrioritizedTask<?>> {
+
+        private final Priority priority;
+        private final long sequence;
+
+        PrioritizedTask(Priority priority, long sequence, Supplier<T> task) {
+            super(task::get);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            queued.decrementAndGet();
+            super.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            int cmp = priority.compareTo(other.priority);
+            return cmp != 0 ? cmp : Long.compare(sequence, other.sequence);
+        }
+    }
+}
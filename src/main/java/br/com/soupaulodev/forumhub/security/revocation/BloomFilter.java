@@ -0,0 +1,80 @@
+package br.com.soupaulodev.forumhub.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of token ids, answering "not revoked" without reaching the {@link RevocationStore}.
+ * <p>
+ * The bit count is rounded up to a power of two so probes are masked rather than divided, and the probes of a key
+ * are derived from two halves of a single 64-bit hash. Bits are set atomically, so tokens revoked on this node are
+ * added while other threads probe the filter.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long mask;
+    private final int probes;
+
+    /**
+     * Creates a filter sized for the expected number of keys.
+     *
+     * @param expectedKeys      the number of keys expected in the filter
+     * @param falsePositiveRate the share of absent keys reported as present once the filter holds the expected keys
+     */
+    BloomFilter(long expectedKeys, double falsePositiveRate) {
+        long n = Math.max(1, expectedKeys);
+        double optimalBits = -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long bits = Math.max(64, Long.highestOneBit((long) Math.ceil(optimalBits) - 1) << 1);
+        this.words = new AtomicLongArray((int) (bits >>> 6));
+        this.mask = bits - 1;
+        this.probes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+    }
+
+    void add(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < probes; i++) {
+            long bit = (h1 + (long) i * h2) & mask;
+            int word = (int) (bit >>> 6);
+            long bitMask = 1L << bit;
+            long current = words.get(word);
+            while ((current & bitMask) == 0 && !words.compareAndSet(word, current, current | bitMask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < probes; i++) {
+            long bit = (h1 + (long) i * h2) & mask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String key) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.soupaulodev.forumhub.security.revocation;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link RevocationStore}, standing in for Redis in tests and single node runs.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class LocalRevocationStore implements RevocationStore {
+
+    private final Map<String, Instant> revocations = new ConcurrentHashMap<>();
+    private final NavigableSet<Change> changes = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Change::revokedAt).thenComparing(Change::tokenId));
+
+    @Override
+    public void revoke(String tokenId, Instant revokedAt, Instant expiresAt) {
+        revocations.put(tokenId, expiresAt);
+        changes.add(new Change(revokedAt, tokenId));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, Instant now) {
+        Instant expiresAt = revocations.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(now);
+    }
+
+    @Override
+    public Set<String> revokedSince(Instant since) {
+        return changes.tailSet(new Change(since, ""), true).stream()
+                .map(Change::tokenId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> revokedTokens(Instant now) {
+        changes.headSet(new Change(now.minus(CHANGES_RETENTION), "")).clear();
+        revocations.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        return new HashSet<>(revocations.keySet());
+    }
+
+    private record Change(Instant revokedAt, String tokenId) {
+    }
+}
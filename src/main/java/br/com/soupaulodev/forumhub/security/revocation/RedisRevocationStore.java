@@ -0,0 +1,62 @@
+package br.com.soupaulodev.forumhub.security.revocation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * {@link RevocationStore} keeping the revoked tokens in a Redis sorted set, scored by their expiration in epoch
+ * milliseconds.
+ * <p>
+ * A single key holds every revocation, so a node loads them all with one range query, and expired entries are
+ * trimmed by score instead of expiring one key per token. A second sorted set scores the same tokens by their
+ * revocation instant, so a node reads the revocations made since its last sync with one range query from there.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.distributed.enabled", havingValue = "true")
+public class RedisRevocationStore implements RevocationStore {
+
+    private static final String KEY = "token-revocations";
+    private static final String CHANGES_KEY = "token-revocations:changes";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRevocationStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant revokedAt, Instant expiresAt) {
+        redisTemplate.opsForZSet().add(KEY, tokenId, expiresAt.toEpochMilli());
+        redisTemplate.opsForZSet().add(CHANGES_KEY, tokenId, revokedAt.toEpochMilli());
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, Instant now) {
+        Double expiresAt = redisTemplate.opsForZSet().score(KEY, tokenId);
+        return expiresAt != null && expiresAt > now.toEpochMilli();
+    }
+
+    @Override
+    public Set<String> revokedSince(Instant since) {
+        Set<String> tokenIds = redisTemplate.opsForZSet().rangeByScore(CHANGES_KEY, since.toEpochMilli(),
+                Double.POSITIVE_INFINITY);
+        return tokenIds == null ? Set.of() : tokenIds;
+    }
+
+    @Override
+    public Set<String> revokedTokens(Instant now) {
+        redisTemplate.opsForZSet().removeRangeByScore(CHANGES_KEY, Double.NEGATIVE_INFINITY,
+                now.minus(CHANGES_RETENTION).toEpochMilli());
+        redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, now.toEpochMilli());
+        Set<String> tokenIds = redisTemplate.opsForZSet().rangeByScore(KEY, now.toEpochMilli(),
+                Double.POSITIVE_INFINITY);
+        return tokenIds == null ? Set.of() : tokenIds;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.soupaulodev.forumhub.security.revocation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Store of the revoked tokens, shared by the {@link TokenRevocationService} of every node.
+ * <p>
+ * Tokens are identified by their {@code jti} and only kept until they expire, since an expired token is rejected
+ * anyway.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public interface RevocationStore {
+
+    /**
+     * How long a revocation stays listed by {@link #revokedSince(Instant)}.
+     */
+    Duration CHANGES_RETENTION = Duration.ofMinutes(10);
+
+    /**
+     * Revokes a token until it expires.
+     *
+     * @param tokenId   the id of the token
+     * @param revokedAt when the token was revoked
+     * @param expiresAt when the token expires
+     */
+    void revoke(String tokenId, Instant revokedAt, Instant expiresAt);
+
+    /**
+     * Checks whether a token is revoked.
+     *
+     * @param tokenId the id of the token
+     * @param now     the current instant
+     * @return true if the token was revoked and has not expired yet
+     */
+    boolean isRevoked(String tokenId, Instant now);
+
+    /**
+     * Returns the tokens revoked since an instant, expired or not.
+     * <p>
+     * Only the revocations of the last {@link #CHANGES_RETENTION} are listed.
+     * </p>
+     *
+     * @param since the earliest revocation instant to return
+     * @return the ids of the tokens revoked since the instant
+     */
+    Set<String> revokedSince(Instant since);
+
+    /**
+     * Drops the revocations of expired tokens, and the listed changes older than {@link #CHANGES_RETENTION}, and
+     * returns the revoked tokens left.
+     *
+     * @param now the current instant
+     * @return the ids of the revoked tokens not expired yet
+     */
+    Set<String> revokedTokens(Instant now);
+}
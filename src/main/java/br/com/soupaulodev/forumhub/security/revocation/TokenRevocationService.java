@@ -0,0 +1,162 @@
+package br.com.soupaulodev.forumhub.security.revocation;
+
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Revokes access tokens before they expire, and tells whether a verified token was revoked.
+ * <p>
+ * Revoked token ids are kept in the {@link RevocationStore} until the tokens expire, and mirrored in an in-process
+ * {@link BloomFilter}. Nearly every token checked was never revoked, and the filter answers so with a few bit probes
+ * and no round trip to the store; the store is only asked when the filter reports a possible revocation.
+ * </p>
+ * <p>
+ * At a short interval, the tokens revoked on any node since the last sync are read from the store and added to the
+ * filter, so a token revoked on another node is rejected here once the next sync has run, while tokens revoked on
+ * this node are rejected at once. The filter is only rebuilt from every revoked token by the expiry sweep, which runs
+ * at a longer interval and drops the tokens that expired since, or once the filter holds more tokens than it was
+ * sized for.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    /**
+     * How far before the last sync the next one reads, covering the clock skew between nodes.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevocationStore store;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Supplier<Instant> clock;
+
+    private volatile BloomFilter filter;
+    private long filterCapacity;
+    private long filterKeys;
+    private Instant syncedAt;
+
+    @Autowired
+    public TokenRevocationService(ObjectProvider<RevocationStore> sharedStore,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this(sharedStore.getIfAvailable(LocalRevocationStore::new), expectedRevocations, falsePositiveRate,
+                Instant::now);
+    }
+
+    TokenRevocationService(RevocationStore store, long expectedRevocations, double falsePositiveRate,
+                           Supplier<Instant> clock) {
+        this.store = store;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.filterCapacity = expectedRevocations;
+        sweep();
+    }
+
+    /**
+     * Revokes a token until it expires.
+     *
+     * @param token the verified token
+     */
+    public synchronized void revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            logger.warn("Token of user {} has no id and cannot be revoked", token.userId());
+            return;
+        }
+        store.revoke(token.tokenId(), clock.get(), token.expiresAt());
+        add(token.tokenId());
+    }
+
+    /**
+     * Checks whether a verified token was revoked.
+     * <p>
+     * If the store cannot be reached to confirm a possible revocation, the token is considered revoked.
+     * </p>
+     *
+     * @param token the verified token
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.tokenId() == null || !filter.mightContain(token.tokenId())) {
+            return false;
+        }
+        try {
+            return store.isRevoked(token.tokenId(), clock.get());
+        } catch (RuntimeException e) {
+            logger.warn("Cannot check the revocation of token {}, rejecting it: {}", token.tokenId(), e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Adds the tokens revoked since the last sync to the filter, keeping the current filter if the store cannot be
+     * read.
+     * <p>
+     * Sweeps instead if no sync succeeded within the {@link RevocationStore#CHANGES_RETENTION}, since the store no
+     * longer lists every revocation made since.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        Instant now = clock.get();
+        if (syncedAt == null || syncedAt.isBefore(now.minus(RevocationStore.CHANGES_RETENTION))) {
+            sweep();
+            return;
+        }
+        try {
+            store.revokedSince(syncedAt.minus(SYNC_OVERLAP)).forEach(this::add);
+            syncedAt = now;
+        } catch (RuntimeException e) {
+            logger.error("Cannot load the recently revoked tokens, keeping the current filter: {}", e.getMessage());
+        }
+        if (filterKeys > filterCapacity) {
+            sweep();
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the tokens revoked and not expired yet, keeping the current filter if the store
+     * cannot be read.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sweep-interval-ms:300000}",
+            initialDelayString = "${jwt.revocation.sweep-interval-ms:300000}")
+    public synchronized void sweep() {
+        Instant now = clock.get();
+        try {
+            Set<String> revoked = store.revokedTokens(now);
+            long capacity = Math.max(expectedRevocations, 2L * revoked.size());
+            BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+            revoked.forEach(rebuilt::add);
+            filter = rebuilt;
+            filterCapacity = capacity;
+            filterKeys = revoked.size();
+            syncedAt = now;
+        } catch (RuntimeException e) {
+            logger.error("Cannot load the revoked tokens, keeping the current filter: {}", e.getMessage());
+        }
+    }
+
+    private void add(String tokenId) {
+        if (!filter.mightContain(tokenId)) {
+            filter.add(tokenId);
+            filterKeys++;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+/**
+ * Utility class reading the authenticated user's unique identifier from the security context.
+ * <p>
+ * The {@link br.com.soupaulodev.forumhub.security.filters.JwtAuthenticationFilter} stores the user id as the
+ * principal of the authentication, so controllers read it here instead of parsing the principal themselves.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public final class AuthenticatedUser {
+
+    private AuthenticatedUser() {
+    }
+
+    /**
+     * Retrieves the authenticated user's unique identifier.
+     *
+     * @return the authenticated user's unique identifier
+     * @throws IllegalStateException if the principal is not a user id
+     */
+    public static UUID getId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        if (principal instanceof UUID) {
+            return (UUID) principal;
+        } else if (principal instanceof String) {
+            return UUID.fromString((String) principal);
+        }
+
+        throw new IllegalStateException("Unexpected principal type: " + principal.getClass().getName());
+    }
+
+    /**
+     * Retrieves the authenticated user's unique identifier, if the caller is authenticated.
+     *
+     * @return the authenticated user's unique identifier, or {@code null} for anonymous callers
+     */
+    public static UUID findId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return getId();
+    }
+}
@@ -5,6 +5,8 @@ import br.com.soupaulodev.forumhub.security.CustomUserDetailsService;
 import jakarta.servlet.http.Cookie;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Utility class responsible for generating and managing cookies related to authentication.
  * <p>
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Component;
  * <p>
  * This class relies on the {@link CustomUserDetailsService} to generate the JWT token for the
  * user. The cookie is configured to be HTTP-only, secure, and have a maximum age of 7 days.
+ * The refresh token is sent in its own cookie, restricted to the authentication endpoints.
  * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
@@ -23,6 +26,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class CookieUtil {
 
+    /**
+     * Name of the cookie holding the refresh token.
+     */
+    public static final String REFRESH_COOKIE = "REFRESH_TOKEN";
+
+    /**
+     * Path of the cookie holding the refresh token, so it is only sent to the authentication endpoints.
+     */
+    public static final String REFRESH_COOKIE_PATH = "/api/v1/auth";
+
     private final CustomUserDetailsService userDetailsService;
 
     /**
@@ -60,4 +73,25 @@ public class CookieUtil {
 
         return cookie;
     }
+
+    /**
+     * Generates a cookie containing a refresh token.
+     * <p>
+     * The cookie is HTTP-only, secure, and only sent to the authentication endpoints, so the refresh token never
+     * travels with the other requests.
+     * </p>
+     *
+     * @param refreshToken The refresh token.
+     * @param maxAge       How long the refresh token stays valid.
+     * @return A cookie containing the refresh token.
+     */
+    public Cookie generateRefreshCookie(String refreshToken, Duration maxAge) {
+        Cookie cookie = new Cookie(REFRESH_COOKIE, refreshToken);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(true);
+        cookie.setMaxAge((int) maxAge.toSeconds());
+        cookie.setPath(REFRESH_COOKIE_PATH);
+
+        return cookie;
+    }
 }
@@ -1,20 +1,27 @@
 package br.com.soupaulodev.forumhub.security.utils;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.TokenExpiredCustomException;
+import br.com.soupaulodev.forumhub.modules.membership.MembershipDigest;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserRole;
+import br.com.soupaulodev.forumhub.security.keys.JwtKeyRing;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Utility class for handling JWT (JSON Web Token) operations.
@@ -29,8 +36,11 @@ import java.util.Date;
  *
  * <p>
  * The JWT tokens generated include an expiration date, and the refresh token is configured with
- * a longer expiration time (30 days). The token is signed using the HMAC256 algorithm with a secret
- * key defined in the application properties.
+ * a longer expiration time (30 days). When a {@link JwtKeyRing} is configured, tokens are signed with its
+ * current ES256 key and verified with the key named by their {@code kid} header, and tokens without {@code kid}
+ * are rejected, unless {@code jwt.keys.hmac-accepted-until} sets the end of the migration window in which they are
+ * still accepted. Otherwise the HMAC256 algorithm with the secret key defined in the application properties is
+ * used, unless the secret is left empty.
  * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
@@ -39,34 +49,65 @@ import java.util.Date;
 public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+    private static final String MEMBERSHIP_CLAIM = "mbr";
+    private static final String ROLE_CLAIM = "role";
 
     @Value("${jwt.issuer}")
     private String issuer;
 
-    @Value("${jwt.secret}")
+    @Value("${jwt.secret:}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private int expirationDate;
 
+    @Value("${jwt.keys.hmac-accepted-until:}")
+    private String hmacAcceptedUntil;
+
+    @Autowired(required = false)
+    private JwtKeyRing keyRing;
+
+    private volatile Algorithm algorithm;
+    private volatile JWTVerifier verifier;
+
     /**
      * Generates a JWT token for the specified user.
      * <p>
      * The token contains the issuer, the user ID as the subject, the username as a custom claim,
-     * and an expiration date based on the configured expiration time (in days).
+     * a random ID so the token can be revoked, and an expiration date based on the configured
+     * expiration time (in seconds). Access tokens are meant to be short-lived and renewed with a refresh token.
      * </p>
      *
      * @param user The user for whom the token is generated.
      * @return The generated token as a string.
      */
     public String generateToken(UserEntity user) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        return JWT.create()
+        return generateToken(user, null);
+    }
+
+    /**
+     * Generates a JWT token for the specified user, carrying the forums the user participates in.
+     * <p>
+     * The membership digest is added as the {@code mbr} claim, so permission checks on forums can be answered
+     * from the token itself. It is omitted when null. The role of the user is added as the {@code role} claim.
+     * </p>
+     *
+     * @param user       The user for whom the token is generated.
+     * @param membership The forums the user participates in, or null.
+     * @return The generated token as a string.
+     */
+    public String generateToken(UserEntity user, MembershipDigest membership) {
+        JWTCreator.Builder builder = JWT.create()
                 .withIssuer(issuer)
                 .withSubject(user.getId().toString())
                 .withClaim("username", user.getUsername())
-                .withExpiresAt(generateExpirationDate())
-                .sign(algorithm);
+                .withClaim(ROLE_CLAIM, user.getRole().name())
+                .withJWTId(UUID.randomUUID().toString())
+                .withExpiresAt(generateExpirationDate());
+        if (membership != null) {
+            builder.withClaim(MEMBERSHIP_CLAIM, membership.encode());
+        }
+        return sign(builder);
     }
 
 
@@ -81,13 +122,11 @@ public class JwtUtil {
      * @return The generated refresh token as a string.
      */
     public String generateRefreshToken(UserEntity user) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        return JWT.create()
+        return sign(JWT.create()
                 .withIssuer(issuer)
                 .withSubject(user.getUsername())
                 .withExpiresAt(Date.from(Instant.now().plus(Duration.ofDays(30)))) // 30 dias
-                .withClaim("type", "refresh")
-                .sign(algorithm);
+                .withClaim("type", "refresh"));
     }
 
     /**
@@ -131,11 +170,8 @@ public class JwtUtil {
      */
     private DecodedJWT decodeToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(issuer)
-                    .build();
-            return verifier.verify(token);
+            DecodedJWT decoded = JWT.decode(token);
+            return verifierFor(decoded.getKeyId()).verify(decoded);
         } catch (TokenExpiredException e) {
             logger.warn("Token expired: {}", token);
             throw new TokenExpiredCustomException("Token has expired. Please refresh.");
@@ -145,16 +181,155 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Verifies the given JWT token and extracts its claims at once.
+     *
+     * @param token The JWT token.
+     * @return The claims of the verified token.
+     * @throws TokenExpiredCustomException If the token is expired.
+     * @throws IllegalArgumentException If the token is invalid.
+     */
+    public VerifiedToken verify(String token) {
+        DecodedJWT decoded = decodeToken(token);
+        return new VerifiedToken(decoded.getSubject(),
+                decoded.getClaim("username").asString(),
+                decoded.getId(),
+                decoded.getExpiresAtAsInstant(),
+                membership(decoded),
+                role(decoded));
+    }
+
+    /**
+     * Reads the role of a verified token.
+     *
+     * @param decoded The verified token.
+     * @return The role, or {@link UserRole#USER} if the token has none or it cannot be read.
+     */
+    private UserRole role(DecodedJWT decoded) {
+        String role = decoded.getClaim(ROLE_CLAIM).asString();
+        if (role == null) {
+            return UserRole.USER;
+        }
+        try {
+            return UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring unknown role claim of token {}", decoded.getId());
+            return UserRole.USER;
+        }
+    }
+
+    /**
+     * Reads the membership digest of a verified token.
+     *
+     * @param decoded The verified token.
+     * @return The membership digest, or null if the token has none or it cannot be read.
+     */
+    private MembershipDigest membership(DecodedJWT decoded) {
+        String encoded = decoded.getClaim(MEMBERSHIP_CLAIM).asString();
+        if (encoded == null) {
+            return null;
+        }
+        try {
+            return MembershipDigest.decode(encoded);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring unreadable membership claim of token {}", decoded.getId());
+            return null;
+        }
+    }
+
+    /**
+     * Signs a token with the current key of the key ring, or with the secret if no key ring is configured.
+     *
+     * @param builder The token to sign.
+     * @return The signed token.
+     * @throws IllegalStateException If no key may sign tokens.
+     */
+    private String sign(JWTCreator.Builder builder) {
+        if (keyRing != null && keyRing.isEnabled()) {
+            Optional<JwtKeyRing.Signer> signer = keyRing.signer();
+            if (signer.isEmpty()) {
+                throw new IllegalStateException("No JWT signing key is valid now.");
+            }
+            return builder.withKeyId(signer.get().kid()).sign(signer.get().algorithm());
+        }
+        return builder.sign(algorithm());
+    }
+
+    /**
+     * Returns the verifier of the tokens signed with the given key.
+     *
+     * @param kid The key id from the token header, null for tokens signed with the secret.
+     * @return The token verifier.
+     * @throws IllegalArgumentException If the key is unknown, or the token has none while the key ring is enabled
+     * and the HMAC migration window is over.
+     */
+    private JWTVerifier verifierFor(String kid) {
+        if (kid == null) {
+            if (keyRing != null && keyRing.isEnabled() && !acceptsSecretTokens()) {
+                throw new IllegalArgumentException("JWT without key id.");
+            }
+            return verifier();
+        }
+        JWTVerifier keyVerifier = keyRing != null ? keyRing.verifier(kid) : null;
+        if (keyVerifier == null) {
+            throw new IllegalArgumentException("Unknown JWT key: " + kid);
+        }
+        return keyVerifier;
+    }
+
+    /**
+     * Checks whether tokens signed with the secret are still accepted while the key ring is enabled.
+     *
+     * @return {@code true} until the configured end of the HMAC migration window, {@code false} if none is set.
+     */
+    private boolean acceptsSecretTokens() {
+        return hmacAcceptedUntil != null && !hmacAcceptedUntil.isBlank()
+                && Instant.now().isBefore(Instant.parse(hmacAcceptedUntil));
+    }
+
+    /**
+     * Returns the signing algorithm, created on first use since the secret is injected after construction.
+     *
+     * @return The HMAC256 algorithm of the configured secret.
+     */
+    private Algorithm algorithm() {
+        Algorithm current = algorithm;
+        if (current == null) {
+            if (secretKey == null || secretKey.isEmpty()) {
+                throw new IllegalStateException("No JWT secret is configured.");
+            }
+            current = Algorithm.HMAC256(secretKey);
+            algorithm = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the verifier of the configured algorithm and issuer, built once and shared by every thread.
+     *
+     * @return The token verifier.
+     */
+    private JWTVerifier verifier() {
+        JWTVerifier current = verifier;
+        if (current == null) {
+            current = JWT.require(algorithm())
+                    .withIssuer(issuer)
+                    .build();
+            verifier = current;
+        }
+        return current;
+    }
+
     /**
      * Generates the expiration date for the JWT token.
      * <p>
-     * The expiration date is calculated based on the configured expiration time (in days).
+     * The expiration date is calculated based on the configured expiration time (in seconds).
      * </p>
      *
      * @return The expiration date of the token.
      */
     private Date generateExpirationDate() {
-        return Date.from(Instant.now().plus(Duration.ofDays(expirationDate)));
+        return Date.from(Instant.now().plus(Duration.ofSeconds(expirationDate)));
     }
 
     /**
@@ -0,0 +1,155 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+import br.com.soupaulodev.forumhub.modules.auth.entity.RefreshTokenEntity;
+import br.com.soupaulodev.forumhub.modules.auth.repository.RefreshTokenRepository;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * Issues and rotates the refresh tokens renewing the access tokens of a session.
+ * <p>
+ * Refresh tokens are 256 random bits, so they are stored as a plain SHA-256 hash: unlike a password, there is
+ * nothing to guess, and a renewal costs one indexed lookup and two writes instead of a BCrypt check. Each token
+ * may be used once; using it issues the next token of its family. A token used a second time means the family
+ * was copied, so every token of the family is deleted and the session must log in again.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final SecureRandom random = new SecureRandom();
+    private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration expiration;
+    private final Supplier<Instant> clock;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh.expiration:2592000}") long expirationSeconds) {
+        this(refreshTokenRepository, Duration.ofSeconds(expirationSeconds), Instant::now);
+    }
+
+    RefreshTokenService(RefreshTokenRepository refreshTokenRepository, Duration expiration,
+                        Supplier<Instant> clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expiration = expiration;
+        this.clock = clock;
+    }
+
+    /**
+     * Issues the first refresh token of a new session.
+     *
+     * @param user the user logging in
+     * @return the refresh token
+     */
+    public String issue(UserEntity user) {
+        return issue(user, UlidGenerator.generate());
+    }
+
+    /**
+     * Consumes a refresh token and issues the next token of its family.
+     *
+     * @param token the refresh token
+     * @return the user of the session and the new refresh token
+     * @throws UnauthorizedException if the token is unknown, expired or was already used
+     */
+    @Transactional(dontRollbackOn = UnauthorizedException.class)
+    public Rotation rotate(String token) {
+        RefreshTokenEntity current = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token."));
+
+        Instant now = clock.get();
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new UnauthorizedException("Refresh token has expired.");
+        }
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            logger.warn("Refresh token reused, revoked the session {} of user {}",
+                    current.getFamilyId(), current.getUser().getId());
+            throw new UnauthorizedException("Refresh token has already been used.");
+        }
+
+        UserEntity user = current.getUser();
+        return new Rotation(user, issue(user, current.getFamilyId()));
+    }
+
+    /**
+     * Revokes every token of the session of a refresh token.
+     *
+     * @param token the refresh token
+     */
+    @Transactional
+    public void revoke(String token) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .ifPresent(current -> refreshTokenRepository.deleteByFamilyId(current.getFamilyId()));
+    }
+
+    /**
+     * Deletes the expired tokens, which can no longer be used nor reveal a reuse.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(clock.get());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    /**
+     * Returns how long a refresh token stays valid.
+     *
+     * @return the lifetime of a refresh token
+     */
+    public Duration expiration() {
+        return expiration;
+    }
+
+    private String issue(UserEntity user, String familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = encoder.encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshTokenEntity(hash(token), familyId, user,
+                clock.get().plus(expiration)));
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return encoder.encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The outcome of a refresh.
+     *
+     * @param user         the user of the session
+     * @param refreshToken the next refresh token of the session
+     */
+    public record Rotation(UserEntity user, String refreshToken) {
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Details of an authentication made with an access token, keeping the verified claims of the token next to the
+ * usual request details so they can be read later in the request without decoding the token again.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class TokenAuthenticationDetails extends WebAuthenticationDetails {
+
+    private final transient VerifiedToken token;
+
+    public TokenAuthenticationDetails(HttpServletRequest request, VerifiedToken token) {
+        super(request);
+        this.token = token;
+    }
+
+    /**
+     * Returns the verified claims of the access token of the request.
+     *
+     * @return the verified token
+     */
+    public VerifiedToken token() {
+        return token;
+    }
+}
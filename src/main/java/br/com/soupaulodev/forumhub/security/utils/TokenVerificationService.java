@@ -0,0 +1,156 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.security.revocation.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Verifies the access token of a request once, for every filter of the request.
+ * <p>
+ * The outcome is stored as a request attribute, so the rate limit and authentication filters share a single
+ * verification. Verified tokens are also kept in a bounded cache keyed by the SHA-256 digest of the token, until
+ * the token expires or the configured time to live elapses, so the following requests carrying the same token skip
+ * the signature check. Revocation is checked on every call, cached or not, through the
+ * {@link TokenRevocationService}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class TokenVerificationService {
+
+    /**
+     * Name of the request attribute holding the outcome of the verification.
+     */
+    public static final String REQUEST_ATTRIBUTE = TokenVerificationService.class.getName() + ".token";
+
+    private static final String TOKEN_COOKIE = "JWT_TOKEN";
+    private static final Object NO_TOKEN = new Object();
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Supplier<Instant> clock;
+
+    @Autowired
+    public TokenVerificationService(JwtUtil jwtUtil,
+                                    TokenRevocationService tokenRevocationService,
+                                    @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+                                    @Value("${jwt.verified-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this(jwtUtil, tokenRevocationService, maxSize, Duration.ofSeconds(maxTtlSeconds), Instant::now);
+    }
+
+    TokenVerificationService(JwtUtil jwtUtil, TokenRevocationService tokenRevocationService, long maxSize,
+                             Duration maxTtl, Supplier<Instant> clock) {
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        Duration untilExpiry = Duration.between(clock.get(), token.expiresAt());
+                        return Math.max(0, Math.min(untilExpiry.toNanos(), maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Verifies the token carried by the request, or returns the outcome of an earlier verification of the request.
+     *
+     * @param request the request
+     * @return the verified token, or empty if the request carries no token
+     * @throws RuntimeException the verification failure if the token is invalid, expired or revoked
+     */
+    public Optional<VerifiedToken> verify(HttpServletRequest request) {
+        Object outcome = request.getAttribute(REQUEST_ATTRIBUTE);
+        if (outcome == null) {
+            outcome = verifyCookie(request);
+            request.setAttribute(REQUEST_ATTRIBUTE, outcome);
+        }
+
+        if (outcome instanceof VerifiedToken token) {
+            return Optional.of(token);
+        }
+        if (outcome instanceof RuntimeException failure) {
+            throw failure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Verifies a token, skipping the signature check when the token was verified recently.
+     *
+     * @param token the token
+     * @return the verified token
+     * @throws RuntimeException the verification failure if the token is invalid, expired or revoked
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null || !verified.expiresAt().isAfter(clock.get())) {
+            verified = jwtUtil.verify(token);
+            verifiedTokens.put(digest, verified);
+        }
+
+        if (tokenRevocationService.isRevoked(verified)) {
+            throw new UnauthorizedException("Token has been revoked.");
+        }
+        return verified;
+    }
+
+    private Object verifyCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return NO_TOKEN;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (TOKEN_COOKIE.equals(cookie.getName()) && cookie.getValue() != null && !cookie.getValue().isBlank()) {
+                try {
+                    return verify(cookie.getValue());
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            }
+        }
+        return NO_TOKEN;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
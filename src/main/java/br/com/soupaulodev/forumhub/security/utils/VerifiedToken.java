@@ -0,0 +1,25 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import br.com.soupaulodev.forumhub.modules.membership.MembershipDigest;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserRole;
+
+import java.time.Instant;
+
+/**
+ * The claims of an access token whose signature, issuer and expiration were verified.
+ *
+ * @param userId     the id of the user the token was issued to
+ * @param username   the username of the user
+ * @param tokenId    the {@code jti} of the token, null for tokens issued before tokens had ids
+ * @param expiresAt  when the token expires
+ * @param membership the forums the user participated in when the token was issued, null if the token has none
+ * @param role       the role of the user when the token was issued
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record VerifiedToken(String userId, String username, String tokenId, Instant expiresAt,
+                            MembershipDigest membership, UserRole role) {
+
+    public VerifiedToken(String userId, String username, String tokenId, Instant expiresAt) {
+        this(userId, username, tokenId, expiresAt, null, UserRole.USER);
+    }
+}
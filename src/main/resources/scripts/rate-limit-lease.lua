@@ -0,0 +1,33 @@
+-- Takes up to ARGV[3] tokens from the GCRA bucket KEYS[1].
+-- ARGV[1]: emission interval in milliseconds, ARGV[2]: burst allowance in milliseconds.
+-- Returns the number of tokens granted and the milliseconds until the next token is available.
+local interval = tonumber(ARGV[1])
+local allowance = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local tat = tonumber(redis.call('GET', KEYS[1])) or now
+if tat < now then
+    tat = now
+end
+
+local granted = math.floor((allowance - (tat - now)) / interval)
+if granted > requested then
+    granted = requested
+end
+if granted < 0 then
+    granted = 0
+end
+
+if granted > 0 then
+    tat = tat + granted * interval
+    redis.call('SET', KEYS[1], tat, 'PX', tat - now)
+end
+
+local retry_after = tat + interval - allowance - now
+if retry_after < 0 then
+    retry_after = 0
+end
+return { granted, retry_after }
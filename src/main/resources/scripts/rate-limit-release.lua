@@ -0,0 +1,20 @@
+-- Gives back ARGV[2] unused tokens to the GCRA bucket KEYS[1].
+-- ARGV[1]: emission interval in milliseconds.
+local interval = tonumber(ARGV[1])
+local unused = tonumber(ARGV[2])
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if not tat then
+    return 0
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+tat = tat - unused * interval
+if tat <= now then
+    redis.call('DEL', KEYS[1])
+else
+    redis.call('SET', KEYS[1], tat, 'PX', tat - now)
+end
+return 0
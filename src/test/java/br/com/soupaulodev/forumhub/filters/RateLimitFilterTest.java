@@ -0,0 +1,128 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import br.com.soupaulodev.forumhub.filters.ratelimit.GcraRateLimiter;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RateLimitProperties;
+import br.com.soupaulodev.forumhub.filters.ratelimit.RoutePolicyMatcher;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.TokenExpiredCustomException;
+import br.com.soupaulodev.forumhub.security.revocation.TokenRevocationService;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import br.com.soupaulodev.forumhub.security.utils.TokenVerificationService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RateLimitFilterTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @Mock
+    private ServletOutputStream outputStream;
+
+    @Mock
+    private FilterChain chain;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        RateLimitProperties properties = new RateLimitProperties(
+                Map.of("write", new RateLimitProperties.Bucket(2, Duration.ofMinutes(1), null)),
+                List.of(new RateLimitProperties.Route("/api/v1/comments", List.of("POST"), "write", 1)));
+        rateLimitFilter = new RateLimitFilter(new TokenVerificationService(jwtUtil,
+                        mock(TokenRevocationService.class), 100, 300),
+                new GcraRateLimiter(1024),
+                RoutePolicyMatcher.compile(properties), 100);
+
+        when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/api/v1/comments");
+        when(request.getContextPath()).thenReturn("");
+        when(response.getOutputStream()).thenReturn(outputStream);
+    }
+
+    @Test
+    void doFilter_ShouldWriteTooManyRequestsWithoutReachingChain() throws Exception {
+        // Act
+        rateLimitFilter.doFilterInternal(request, response, chain);
+        rateLimitFilter.doFilterInternal(request, response, chain);
+        rateLimitFilter.doFilterInternal(request, response, chain);
+
+        // Assert
+        verify(chain, times(2)).doFilter(request, response);
+        verify(response).setStatus(429);
+        verify(response).setHeader("Retry-After", "30");
+        verify(response).setHeader("X-RateLimit-Limit", "2");
+        verify(outputStream).write(any(byte[].class));
+    }
+
+    @Test
+    void doFilter_ShouldChargeInvalidTokenAsAnonymous() throws Exception {
+        // Arrange
+        when(request.getCookies()).thenReturn(new Cookie[]{new Cookie("JWT_TOKEN", "garbage")});
+        when(jwtUtil.verify("garbage")).thenThrow(new IllegalArgumentException("Invalid token"));
+
+        // Act
+        rateLimitFilter.doFilterInternal(request, response, chain);
+        rateLimitFilter.doFilterInternal(request, response, chain);
+        rateLimitFilter.doFilterInternal(request, response, chain);
+
+        // Assert
+        verify(chain, times(2)).doFilter(request, response);
+        verify(response, never()).setStatus(401);
+        verify(response).setStatus(429);
+    }
+
+    @Test
+    void doFilter_ShouldChargeExpiredTokenAsAnonymous() throws Exception {
+        // Arrange
+        when(request.getCookies()).thenReturn(new Cookie[]{new Cookie("JWT_TOKEN", "expired")});
+        when(jwtUtil.verify("expired")).thenThrow(new TokenExpiredCustomException("Token has expired. Please refresh."));
+
+        // Act
+        rateLimitFilter.doFilterInternal(request, response, chain);
+
+        // Assert
+        verify(chain).doFilter(request, response);
+        verify(response, never()).setStatus(anyInt());
+    }
+
+    @Test
+    void doFilter_ShouldNotChargeRoutesWithoutPolicy() throws Exception {
+        // Arrange
+        when(request.getMethod()).thenReturn("GET");
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            rateLimitFilter.doFilterInternal(request, response, chain);
+        }
+
+        // Assert
+        verify(chain, times(5)).doFilter(request, response);
+        verify(response, never()).setStatus(anyInt());
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class DistributedRateLimiterTest {
+
+    private static final GcraLimit TEN_PER_MINUTE = GcraLimit.of(10, Duration.ofMinutes(1));
+    private static final long LEASE_TTL = 1_000;
+    private static final long STORE_BACKOFF = 5_000;
+
+    private AtomicLong clock;
+    private LocalTokenStore tokenStore;
+    private GcraRateLimiter fallback;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000L);
+        tokenStore = new LocalTokenStore(clock::get);
+        fallback = new GcraRateLimiter(64, clock::get);
+    }
+
+    @Test
+    void tryAcquire_ShouldSpendLeasedTokensWithoutStoreRoundTrips() {
+        // Arrange
+        TokenStore store = mock(TokenStore.class);
+        when(store.lease(anyString(), any(), anyInt())).thenReturn(new TokenGrant(5, 0));
+        DistributedRateLimiter rateLimiter = limiter(store, RateLimitFailurePolicy.OPEN);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1));
+        }
+
+        // Assert
+        verify(store, times(1)).lease("ip:10.0.0.1", TEN_PER_MINUTE, 5);
+    }
+
+    @Test
+    void tryAcquire_ShouldShareLimitAcrossNodes() {
+        // Arrange
+        DistributedRateLimiter node1 = limiter(tokenStore, RateLimitFailurePolicy.OPEN);
+        DistributedRateLimiter node2 = limiter(tokenStore, RateLimitFailurePolicy.OPEN);
+
+        // Act
+        int admitted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (node1.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1) == 0) {
+                admitted++;
+            }
+            if (node2.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1) == 0) {
+                admitted++;
+            }
+        }
+
+        // Assert
+        assertEquals(10, admitted);
+        assertTrue(node1.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1) > 0);
+    }
+
+    @Test
+    void releaseExpired_ShouldGiveBackUnusedTokens() {
+        // Arrange
+        DistributedRateLimiter node1 = limiter(tokenStore, RateLimitFailurePolicy.OPEN);
+        DistributedRateLimiter node2 = limiter(tokenStore, RateLimitFailurePolicy.OPEN);
+        DistributedRateLimiter node3 = limiter(tokenStore, RateLimitFailurePolicy.OPEN);
+        node1.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1);
+        for (int i = 0; i < 5; i++) {
+            node2.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1);
+        }
+
+        // Act
+        clock.addAndGet(LEASE_TTL);
+        node1.releaseExpired();
+
+        // Assert
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, node3.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1));
+        }
+        assertTrue(node3.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldFallBackToLocalLimiterWhenStoreIsDownAndPolicyIsOpen() {
+        // Arrange
+        TokenStore store = mock(TokenStore.class);
+        when(store.lease(anyString(), any(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        DistributedRateLimiter rateLimiter = limiter(store, RateLimitFailurePolicy.OPEN);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1));
+        }
+
+        // Assert
+        assertTrue(rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldSkipStoreDuringBackoffAndProbeItAfterwards() {
+        // Arrange
+        TokenStore store = mock(TokenStore.class);
+        when(store.lease(anyString(), any(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenReturn(new TokenGrant(5, 0));
+        DistributedRateLimiter rateLimiter = limiter(store, RateLimitFailurePolicy.OPEN);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip", "10.0.0." + i, TEN_PER_MINUTE, 1);
+        }
+        verify(store, times(1)).lease(anyString(), any(), anyInt());
+        clock.addAndGet(STORE_BACKOFF);
+        rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1);
+        rateLimiter.tryAcquire("ip", "10.0.0.2", TEN_PER_MINUTE, 1);
+
+        // Assert
+        verify(store, times(3)).lease(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectWhenStoreIsDownAndPolicyIsClosed() {
+        // Arrange
+        TokenStore store = mock(TokenStore.class);
+        when(store.lease(anyString(), any(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        DistributedRateLimiter rateLimiter = limiter(store, RateLimitFailurePolicy.CLOSED);
+
+        // Act
+        long retryAfter = rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1);
+
+        // Assert
+        assertEquals(TEN_PER_MINUTE.emissionIntervalMillis(), retryAfter);
+    }
+
+    private DistributedRateLimiter limiter(TokenStore store, RateLimitFailurePolicy failurePolicy) {
+        return new DistributedRateLimiter(store, fallback, failurePolicy, 5, LEASE_TTL, STORE_BACKOFF, clock::get);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class GcraRateLimiterTest {
+
+    private static final GcraLimit TEN_PER_MINUTE = GcraLimit.of(10, Duration.ofMinutes(1));
+
+    private AtomicLong clock;
+    private GcraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000L);
+        rateLimiter = new GcraRateLimiter(64, clock::get);
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitBurstThenReject() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1));
+        }
+
+        assertEquals(6_000, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1));
+        assertEquals(0, rateLimiter.tryAcquire("ip", "10.0.0.2", TEN_PER_MINUTE, 1));
+        assertEquals(0, rateLimiter.tryAcquire("user", "10.0.0.1", TEN_PER_MINUTE, 1));
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitAgainAfterEmissionInterval() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1);
+        }
+
+        clock.addAndGet(5_999);
+        assertEquals(1, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1));
+
+        clock.addAndGet(1);
+        assertEquals(0, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1));
+        assertTrue(rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldChargeCost() {
+        assertEquals(0, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 7));
+        assertEquals(0, rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 3));
+        assertTrue(rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1) > 0);
+    }
+
+    @Test
+    void evictIdle_ShouldClearKeysBackToFullAllowance() {
+        rateLimiter.tryAcquire("ip", "10.0.0.1", TEN_PER_MINUTE, 1);
+        rateLimiter.tryAcquire("ip", "10.0.0.2", TEN_PER_MINUTE, 5);
+        assertEquals(2, rateLimiter.size());
+
+        clock.addAndGet(6_000);
+        rateLimiter.evictIdle();
+        assertEquals(1, rateLimiter.size());
+
+        clock.addAndGet(24_000);
+        rateLimiter.evictIdle();
+        assertEquals(0, rateLimiter.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldStayWithinCapacity() {
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("ip", "client-" + i, TEN_PER_MINUTE, 1));
+        }
+
+        assertTrue(rateLimiter.size() <= 64);
+    }
+
+    @Test
+    void constructor_ShouldRejectCapacityNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new GcraRateLimiter(100, clock::get));
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.soupaulodev.forumhub.filters.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RoutePolicyMatcherTest {
+
+    private static final Map<String, RateLimitProperties.Bucket> BUCKETS = Map.of(
+            "read", new RateLimitProperties.Bucket(120, Duration.ofMinutes(1), 60),
+            "write", new RateLimitProperties.Bucket(30, Duration.ofMinutes(1), null));
+
+    private RoutePolicyMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = RoutePolicyMatcher.compile(new RateLimitProperties(BUCKETS, List.of(
+                new RateLimitProperties.Route("/api/v1/**", List.of("GET"), "read", 1),
+                new RateLimitProperties.Route("/api/v1/**", List.of("POST", "DELETE"), "write", 1),
+                new RateLimitProperties.Route("/api/v1/comments", List.of("POST"), "write", 3),
+                new RateLimitProperties.Route("/api/v1/highs/{type}/export", List.of("GET"), "read", 20),
+                new RateLimitProperties.Route("/api/v1/highs/batch", List.of(), "write", 5))));
+    }
+
+    @Test
+    void match_ShouldPreferMostSpecificRoute() {
+        assertEquals(3, matcher.match("POST", "/api/v1/comments").cost());
+        assertEquals(1, matcher.match("POST", "/api/v1/comments/high/42").cost());
+        assertEquals(20, matcher.match("GET", "/api/v1/highs/topic/export").cost());
+        assertEquals(1, matcher.match("GET", "/api/v1/highs/topic").cost());
+        assertEquals(5, matcher.match("GET", "/api/v1/highs/batch").cost());
+    }
+
+    @Test
+    void match_ShouldSeparateReadAndWriteBuckets() {
+        RoutePolicy read = matcher.match("GET", "/api/v1/forums/42");
+        RoutePolicy write = matcher.match("DELETE", "/api/v1/forums/42");
+
+        assertEquals("read", read.bucket());
+        assertEquals(60, read.limit().burst());
+        assertEquals("write", write.bucket());
+        assertEquals(30, write.limit().burst());
+        assertEquals(2_000, write.limit().emissionIntervalMillis());
+    }
+
+    @Test
+    void match_ShouldReturnNullWhenNoRouteMatches() {
+        assertNull(matcher.match("PUT", "/api/v1/forums/42"));
+        assertNull(matcher.match("GET", "/swagger-ui/index.html"));
+    }
+
+    @Test
+    void compile_ShouldRejectUnknownBucket() {
+        RateLimitProperties properties = new RateLimitProperties(BUCKETS, List.of(
+                new RateLimitProperties.Route("/api/v1/auth/login", List.of("POST"), "auth", 1)));
+
+        assertThrows(IllegalArgumentException.class, () -> RoutePolicyMatcher.compile(properties));
+    }
+
+    @Test
+    void compile_ShouldRejectDuplicateRoute() {
+        RateLimitProperties properties = new RateLimitProperties(BUCKETS, List.of(
+                new RateLimitProperties.Route("/api/v1/forums/{id}", List.of("GET"), "read", 1),
+                new RateLimitProperties.Route("/api/v1/forums/*", List.of("GET"), "read", 2)));
+
+        assertThrows(IllegalArgumentException.class, () -> RoutePolicyMatcher.compile(properties));
+    }
+
+    @Test
+    void properties_ShouldRejectRouteCostingMoreThanTheBurstOfItsBucket() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties(BUCKETS, List.of(
+                new RateLimitProperties.Route("/api/v1/forums/*", List.of("GET"), "read", 61))));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties(BUCKETS, List.of(
+                new RateLimitProperties.Route("/api/v1/forums", List.of("POST"), "write", 31))));
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.soupaulodev.forumhub.modules.activity;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ActivityRatesTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+
+    private AtomicLong clock;
+    private ActivityRates activityRates;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000 * HOUR);
+        activityRates = new ActivityRates(clock::get, 3, 60);
+    }
+
+    @Test
+    void rate_ShouldSlideOutOldActivity() {
+        UUID topicId = UUID.randomUUID();
+
+        activityRates.record(CounterTarget.TOPIC, topicId, ActivityKind.HIGH);
+        clock.addAndGet(10 * MINUTE);
+        activityRates.record(CounterTarget.TOPIC, topicId, ActivityKind.HIGH);
+        activityRates.record(CounterTarget.TOPIC, topicId, ActivityKind.HIGH);
+
+        assertEquals(2, activityRates.rate(CounterTarget.TOPIC, topicId, ActivityKind.HIGH, ActivityWindow.FIVE_MINUTES));
+        assertEquals(3, activityRates.rate(CounterTarget.TOPIC, topicId, ActivityKind.HIGH, ActivityWindow.HOUR));
+        assertEquals(0, activityRates.rate(CounterTarget.TOPIC, topicId, ActivityKind.COMMENT, ActivityWindow.HOUR));
+
+        clock.addAndGet(55 * MINUTE);
+        assertEquals(0, activityRates.rate(CounterTarget.TOPIC, topicId, ActivityKind.HIGH, ActivityWindow.FIVE_MINUTES));
+        assertEquals(2, activityRates.rate(CounterTarget.TOPIC, topicId, ActivityKind.HIGH, ActivityWindow.HOUR));
+        assertEquals(3, activityRates.rate(CounterTarget.TOPIC, topicId, ActivityKind.HIGH, ActivityWindow.DAY));
+
+        clock.addAndGet(25 * HOUR);
+        assertEquals(0, activityRates.rate(CounterTarget.TOPIC, topicId, ActivityKind.HIGH, ActivityWindow.DAY));
+    }
+
+    @Test
+    void hottest_ShouldRankByActivityWithinWindow() {
+        UUID quiet = UUID.randomUUID();
+        UUID busy = UUID.randomUUID();
+
+        activityRates.record(CounterTarget.FORUM, quiet, ActivityKind.COMMENT);
+        activityRates.record(CounterTarget.FORUM, busy, ActivityKind.COMMENT);
+        activityRates.record(CounterTarget.FORUM, busy, ActivityKind.COMMENT);
+
+        assertEquals(List.of(busy, quiet), List.copyOf(
+                activityRates.hottest(CounterTarget.FORUM, ActivityKind.COMMENT, ActivityWindow.HOUR, 10).keySet()));
+        assertEquals(List.of(busy), List.copyOf(
+                activityRates.hottest(CounterTarget.FORUM, ActivityKind.COMMENT, ActivityWindow.HOUR, 1).keySet()));
+        assertTrue(activityRates.hottest(CounterTarget.TOPIC, ActivityKind.COMMENT, ActivityWindow.HOUR, 10).isEmpty());
+    }
+
+    @Test
+    void record_ShouldEvictLeastRecentlyActiveWhenFull() {
+        UUID first = UUID.randomUUID();
+
+        activityRates.record(CounterTarget.TOPIC, first, ActivityKind.HIGH);
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(MINUTE);
+            activityRates.record(CounterTarget.TOPIC, UUID.randomUUID(), ActivityKind.HIGH);
+        }
+
+        assertTrue(activityRates.size() <= 3);
+        assertEquals(0, activityRates.rate(CounterTarget.TOPIC, first, ActivityKind.HIGH, ActivityWindow.HOUR));
+    }
+
+    @Test
+    void evictIdle_ShouldDropIdleEntities() {
+        activityRates.record(CounterTarget.TOPIC, UUID.randomUUID(), ActivityKind.HIGH);
+
+        clock.addAndGet(2 * HOUR);
+        activityRates.evictIdle();
+
+        assertEquals(0, activityRates.size());
+    }
+}
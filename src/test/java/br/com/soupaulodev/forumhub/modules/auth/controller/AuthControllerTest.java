@@ -3,6 +3,7 @@ package br.com.soupaulodev.forumhub.modules.auth.controller;
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LoginUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LogoutUseCase;
+import br.com.soupaulodev.forumhub.modules.auth.usecase.RefreshTokenUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.SignUpUseCase;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.OwnerOfDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.ParticipatesInDTO;
@@ -52,6 +53,9 @@ class AuthControllerTest {
     @Mock
     private LogoutUseCase logoutUseCase;
 
+    @Mock
+    private RefreshTokenUseCase refreshTokenUseCase;
+
     @InjectMocks
     private AuthController authController;
 
@@ -69,7 +73,7 @@ class AuthControllerTest {
     void shouldLoginUserSuccessfully() {
         LoginRequestDTO loginRequestDTO = new LoginRequestDTO("username", "password");
         Cookie cookie = new Cookie("JWT_TOKEN", "mock-token");
-        when(loginUseCase.execute(any(LoginRequestDTO.class))).thenReturn(cookie);
+        when(loginUseCase.execute(any(LoginRequestDTO.class))).thenReturn(List.of(cookie));
 
         MockHttpServletResponse response = new MockHttpServletResponse();
 
@@ -104,7 +108,8 @@ class AuthControllerTest {
         Cookie cookie = new Cookie("JWT_TOKEN", "mock-token");
         Map<String, Object> String = Map.of(
                 "user", userDetailsResponseDTO,
-                "cookie", cookie
+                "cookie", cookie,
+                "refreshCookie", new Cookie("REFRESH_TOKEN", "mock-refresh-token")
         );
 
         when(signUpUseCase.execute(any(UserCreateRequestDTO.class))).thenReturn(String);
@@ -124,14 +129,31 @@ class AuthControllerTest {
     void shouldLogoutUserSuccessfully() {
         Cookie logoutCookie = new Cookie("JWT_TOKEN", null);
         logoutCookie.setMaxAge(0);
-        when(logoutUseCase.execute()).thenReturn(logoutCookie);
+        when(logoutUseCase.execute("token", null)).thenReturn(List.of(logoutCookie));
 
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        ResponseEntity<Void> result = authController.logout(response);
+        ResponseEntity<Void> result = authController.logout("token", null, response);
 
         assertEquals(200, result.getStatusCode().value(), "Response status should be 200 OK");
         assertTrue(response.containsHeader("Set-Cookie"), "Response should contain Set-Cookie header for logout");
         assertNull(Objects.requireNonNull(response.getCookie("JWT_TOKEN")).getValue(), "Logout cookie value should be null");
     }
+
+    @Test
+    void shouldRefreshSessionSuccessfully() {
+        Cookie cookie = new Cookie("JWT_TOKEN", "new-token");
+        Cookie refreshCookie = new Cookie("REFRESH_TOKEN", "new-refresh-token");
+        when(refreshTokenUseCase.execute("refresh-token")).thenReturn(List.of(cookie, refreshCookie));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<String> result = authController.refresh("refresh-token", response);
+
+        assertEquals(200, result.getStatusCode().value(), "Response status should be 200 OK");
+        assertEquals("new-token", Objects.requireNonNull(response.getCookie("JWT_TOKEN")).getValue(),
+                "Cookie value should match the renewed token");
+        assertEquals("new-refresh-token", Objects.requireNonNull(response.getCookie("REFRESH_TOKEN")).getValue(),
+                "Refresh cookie value should match the next refresh token");
+    }
 }
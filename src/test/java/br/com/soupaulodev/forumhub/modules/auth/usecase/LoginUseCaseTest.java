@@ -1,21 +1,27 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ServiceUnavailableException;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.password.PasswordHashingExecutor;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +48,12 @@ class LoginUseCaseTest {
     @Mock
     private CookieUtil cookieUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Spy
+    private PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 8, 2000);
+
     @InjectMocks
     private LoginUseCase loginUseCase;
 
@@ -56,20 +68,26 @@ class LoginUseCaseTest {
         UserEntity userEntity = new UserEntity();
         userEntity.setUsername("validUser");
         Cookie mockCookie = new Cookie("auth", "mockToken");
+        Cookie mockRefreshCookie = new Cookie("refresh", "mockRefreshToken");
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(null);
         when(userRepository.findByUsername("validUser")).thenReturn(Optional.of(userEntity));
         when(cookieUtil.generateCookieWithToken(userEntity)).thenReturn(mockCookie);
+        when(refreshTokenService.issue(userEntity)).thenReturn("mockRefreshToken");
+        when(refreshTokenService.expiration()).thenReturn(Duration.ofDays(30));
+        when(cookieUtil.generateRefreshCookie("mockRefreshToken", Duration.ofDays(30))).thenReturn(mockRefreshCookie);
 
-        Cookie result = loginUseCase.execute(requestDTO);
+        List<Cookie> result = loginUseCase.execute(requestDTO);
 
         assertNotNull(result);
-        assertEquals("auth", result.getName());
-        assertEquals("mockToken", result.getValue());
+        assertEquals(List.of(mockCookie, mockRefreshCookie), result);
+        assertEquals("auth", result.get(0).getName());
+        assertEquals("mockToken", result.get(0).getValue());
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository).findByUsername("validUser");
         verify(cookieUtil).generateCookieWithToken(userEntity);
+        verify(refreshTokenService).issue(userEntity);
     }
 
     @Test
@@ -123,4 +141,16 @@ class LoginUseCaseTest {
         verify(userRepository, never()).findByUsername(anyString());
         verify(cookieUtil, never()).generateCookieWithToken(any());
     }
+
+    @Test
+    void execute_HashingQueueFull_ThrowsServiceUnavailableException() {
+        LoginRequestDTO requestDTO = new LoginRequestDTO("user", "password");
+
+        doThrow(new ServiceUnavailableException())
+                .when(passwordHashingExecutor).execute(eq(PasswordHashingExecutor.Priority.LOGIN), any());
+
+        assertThrows(ServiceUnavailableException.class, () -> loginUseCase.execute(requestDTO));
+        verify(authenticationManager, never()).authenticate(any());
+        verify(userRepository, never()).findByUsername(anyString());
+    }
 }
@@ -1,10 +1,19 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
+import br.com.soupaulodev.forumhub.security.revocation.TokenRevocationService;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.utils.TokenVerificationService;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class for the LogoutUseCase class.
@@ -17,16 +26,22 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class LogoutUseCaseTest {
 
+    private TokenVerificationService tokenVerificationService;
+    private TokenRevocationService tokenRevocationService;
+    private RefreshTokenService refreshTokenService;
     private LogoutUseCase logoutUseCase;
 
     @BeforeEach
     void setUp() {
-        logoutUseCase = new LogoutUseCase();
+        tokenVerificationService = mock(TokenVerificationService.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        logoutUseCase = new LogoutUseCase(tokenVerificationService, tokenRevocationService, refreshTokenService);
     }
 
     @Test
     void execute_ReturnsExpiredCookie() {
-        Cookie cookie = logoutUseCase.execute();
+        Cookie cookie = logoutUseCase.execute(null, null).get(0);
 
         assertNotNull(cookie, "Cookie should not be null");
         assertEquals("JWT_TOKEN", cookie.getName(), "Cookie name should be JWT_TOKEN");
@@ -36,4 +51,35 @@ class LogoutUseCaseTest {
         assertTrue(cookie.getSecure(), "Cookie should have Secure flag set to true");
         assertEquals("/", cookie.getPath(), "Cookie should be accessible for the root path");
     }
+
+    @Test
+    void execute_RevokesToken() {
+        VerifiedToken token = new VerifiedToken("user-id", "testuser", "token-id", Instant.now().plusSeconds(60));
+        when(tokenVerificationService.verify("token")).thenReturn(token);
+
+        logoutUseCase.execute("token", null);
+
+        verify(tokenRevocationService).revoke(token);
+    }
+
+    @Test
+    void execute_ClearsCookieOfInvalidTokenWithoutRevoking() {
+        when(tokenVerificationService.verify("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token."));
+
+        Cookie cookie = logoutUseCase.execute("invalid-token", null).get(0);
+
+        assertEquals(0, cookie.getMaxAge(), "Cookie should have max age set to 0 (expired)");
+        verify(tokenRevocationService, never()).revoke(any());
+    }
+
+    @Test
+    void execute_RevokesRefreshTokensAndClearsTheirCookie() {
+        List<Cookie> cookies = logoutUseCase.execute(null, "refresh-token");
+
+        verify(refreshTokenService).revoke("refresh-token");
+        assertEquals(2, cookies.size(), "Both the JWT and the refresh cookies should be cleared");
+        assertEquals("REFRESH_TOKEN", cookies.get(1).getName(), "Second cookie should be the refresh cookie");
+        assertEquals(0, cookies.get(1).getMaxAge(), "Refresh cookie should have max age set to 0 (expired)");
+        assertEquals("/api/v1/auth", cookies.get(1).getPath(), "Refresh cookie should keep its path to be cleared");
+    }
 }
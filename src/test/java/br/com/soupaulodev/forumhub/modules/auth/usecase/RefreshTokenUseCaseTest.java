@@ -0,0 +1,70 @@
+package br.com.soupaulodev.forumhub.modules.auth.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the RefreshTokenUseCase class.
+ * <p>
+ * This class contains the test methods for the RefreshTokenUseCase class.
+ * It tests the behavior of the use case when renewing a session.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RefreshTokenUseCaseTest {
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private CookieUtil cookieUtil;
+
+    @InjectMocks
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void execute_ValidRefreshToken_ReturnsNewCookies() {
+        UserEntity user = new UserEntity();
+        user.setUsername("testuser");
+        Cookie jwtCookie = new Cookie("JWT_TOKEN", "new-token");
+        Cookie refreshCookie = new Cookie("REFRESH_TOKEN", "next-refresh-token");
+
+        when(refreshTokenService.rotate("refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(user, "next-refresh-token"));
+        when(refreshTokenService.expiration()).thenReturn(Duration.ofDays(30));
+        when(cookieUtil.generateCookieWithToken(user)).thenReturn(jwtCookie);
+        when(cookieUtil.generateRefreshCookie("next-refresh-token", Duration.ofDays(30))).thenReturn(refreshCookie);
+
+        List<Cookie> result = refreshTokenUseCase.execute("refresh-token");
+
+        assertEquals(List.of(jwtCookie, refreshCookie), result);
+    }
+
+    @Test
+    void execute_MissingRefreshToken_ThrowsUnauthorizedException() {
+        assertThrows(UnauthorizedException.class, () -> refreshTokenUseCase.execute(null));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenUseCase.execute(" "));
+        verify(refreshTokenService, never()).rotate(anyString());
+    }
+}
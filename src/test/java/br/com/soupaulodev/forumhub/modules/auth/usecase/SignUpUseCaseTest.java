@@ -4,15 +4,19 @@ import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExis
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.password.PasswordHashingExecutor;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenService;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +42,12 @@ class SignUpUseCaseTest {
     @Mock
     private CookieUtil cookieUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Spy
+    private PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 8, 2000);
+
     @InjectMocks
     private SignUpUseCase signUpUseCase;
 
@@ -53,6 +63,10 @@ class SignUpUseCaseTest {
         when(userRepository.existsByUsername(requestDTO.username())).thenReturn(false);
         when(passwordEncoder.encode(requestDTO.password())).thenReturn("encodedPassword");
         when(cookieUtil.generateCookieWithToken(any(UserEntity.class))).thenReturn(new Cookie("token", "jwtToken"));
+        when(refreshTokenService.issue(any(UserEntity.class))).thenReturn("refreshToken");
+        when(refreshTokenService.expiration()).thenReturn(Duration.ofDays(30));
+        when(cookieUtil.generateRefreshCookie("refreshToken", Duration.ofDays(30)))
+                .thenReturn(new Cookie("refresh", "refreshToken"));
 
         UserEntity savedUser = new UserEntity();
         savedUser.setUsername(requestDTO.username());
@@ -65,6 +79,7 @@ class SignUpUseCaseTest {
         assertNotNull(result);
         assertTrue(result.containsKey("user"));
         assertTrue(result.containsKey("cookie"));
+        assertTrue(result.containsKey("refreshCookie"));
 
         verify(userRepository, times(1)).save(any(UserEntity.class));
         verify(cookieUtil, times(1)).generateCookieWithToken(any(UserEntity.class));
@@ -84,5 +99,6 @@ class SignUpUseCaseTest {
 
         verify(userRepository, never()).save(any(UserEntity.class));
         verify(cookieUtil, never()).generateCookieWithToken(any(UserEntity.class));
+        verify(refreshTokenService, never()).issue(any(UserEntity.class));
     }
 }
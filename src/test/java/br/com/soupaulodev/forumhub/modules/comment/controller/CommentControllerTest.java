@@ -1,9 +1,11 @@
 package br.com.soupaulodev.forumhub.modules.comment.controller;
 
+import br.com.soupaulodev.forumhub.modules.comment.RepliesCursor;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,9 @@ class CommentControllerTest {
     @Mock
     private ListCommentsUseCase listCommentsUseCase;
 
+    @Mock
+    private ListRepliesUseCase listRepliesUseCase;
+
     @Mock
     private UpdateCommentUseCase updateCommentUseCase;
 
@@ -115,13 +120,43 @@ class CommentControllerTest {
         );
 
         when(authentication.getPrincipal()).thenReturn(userId.toString());
-        when(listCommentsUseCase.execute(0, 10)).thenReturn(List.of(responseDTO));
+        CursorPageDTO<CommentResponseDTO> page = new CursorPageDTO<>(List.of(responseDTO), null);
+        when(listCommentsUseCase.execute(null, 10, userId)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<CommentResponseDTO>> response = commentController.listComments(null, 10);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(page, response.getBody());
+        verify(listCommentsUseCase, times(1)).execute(null, 10, userId);
+    }
+
+    @Test
+    void listReplies_Success() {
+        UUID userId = UUID.randomUUID();
+        UUID parentCommentId = UUID.randomUUID();
+        Instant now = Instant.now();
+        String cursor = new RepliesCursor(parentCommentId, null).encode();
+        CommentResponseDTO reply = new CommentResponseDTO(
+                UUID.randomUUID(),
+                "Reply",
+                userId,
+                UUID.randomUUID(),
+                0L,
+                parentCommentId,
+                new ArrayList<>(),
+                now,
+                now
+        );
+
+        when(authentication.getPrincipal()).thenReturn(userId.toString());
+        CursorPageDTO<CommentResponseDTO> page = new CursorPageDTO<>(List.of(reply), null);
+        when(listRepliesUseCase.execute(cursor, 20, userId)).thenReturn(page);
 
-        ResponseEntity<List<CommentResponseDTO>> response = commentController.listComments(0, 10);
+        ResponseEntity<CursorPageDTO<CommentResponseDTO>> response = commentController.listReplies(cursor, 20);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(List.of(responseDTO), response.getBody());
-        verify(listCommentsUseCase, times(1)).execute(0, 10);
+        assertEquals(page, response.getBody());
+        verify(listRepliesUseCase, times(1)).execute(cursor, 20, userId);
     }
 
     @Test
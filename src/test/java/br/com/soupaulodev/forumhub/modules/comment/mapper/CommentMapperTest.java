@@ -0,0 +1,118 @@
+package br.com.soupaulodev.forumhub.modules.comment.mapper;
+
+import br.com.soupaulodev.forumhub.modules.comment.RepliesCursor;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class CommentMapperTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private HighsCounter highsCounter;
+    private CommentMapper commentMapper;
+
+    @BeforeEach
+    void setUp() {
+        highsCounter = new HighsCounter();
+        commentMapper = new CommentMapper(highsCounter);
+    }
+
+    @Test
+    void toTrees_ShouldNestRepliesUnderTheirParentsInOrder() {
+        CommentResponseDTO root = comment(null, 2);
+        CommentResponseDTO first = comment(root.id(), 1);
+        CommentResponseDTO second = comment(root.id(), 0);
+        CommentResponseDTO nested = comment(first.id(), 0);
+
+        List<CommentResponseDTO> trees = commentMapper.toTrees(List.of(root), List.of(first, second, nested));
+
+        assertEquals(1, trees.size());
+        CommentResponseDTO tree = trees.get(0);
+        assertEquals(List.of(first.id(), second.id()), tree.replies().stream().map(CommentResponseDTO::id).toList());
+        assertEquals(List.of(nested.id()),
+                tree.replies().get(0).replies().stream().map(CommentResponseDTO::id).toList());
+        assertNull(tree.repliesCursor());
+        assertNull(tree.replies().get(0).repliesCursor());
+    }
+
+    @Test
+    void toTrees_ShouldGiveACursorToCommentsWhoseRepliesWereNotRead() {
+        CommentResponseDTO root = comment(null, 1);
+        CommentResponseDTO deepest = comment(root.id(), 4);
+
+        CommentResponseDTO tree = commentMapper.toTrees(List.of(root), List.of(deepest)).get(0);
+        CommentResponseDTO leaf = tree.replies().get(0);
+
+        assertTrue(leaf.replies().isEmpty());
+        assertEquals(new RepliesCursor(deepest.id(), null), RepliesCursor.decode(leaf.repliesCursor()));
+        assertEquals(4L, leaf.repliesCount());
+    }
+
+    @Test
+    void toTrees_ShouldLeaveOutPartiallyReadRepliesBehindACursor() {
+        CommentResponseDTO root = comment(null, 3);
+        CommentResponseDTO onlyReadReply = comment(root.id(), 0);
+
+        CommentResponseDTO tree = commentMapper.toTrees(List.of(root), List.of(onlyReadReply)).get(0);
+
+        assertTrue(tree.replies().isEmpty());
+        assertEquals(new RepliesCursor(root.id(), null), RepliesCursor.decode(tree.repliesCursor()));
+    }
+
+    @Test
+    void toTrees_ShouldIncludePendingHighs() {
+        CommentResponseDTO root = comment(null, 1);
+        CommentResponseDTO reply = comment(root.id(), 0);
+        highsCounter.increment(CounterTarget.COMMENT, reply.id());
+
+        CommentResponseDTO tree = commentMapper.toTrees(List.of(root), List.of(reply)).get(0);
+
+        assertEquals(0L, tree.highs());
+        assertEquals(1L, tree.replies().get(0).highs());
+    }
+
+    @Test
+    void toResponseDTO_ShouldNotLoadRepliesAndGiveACursorToCommentsWithReplies() {
+        UUID commentId = UUID.randomUUID();
+        UserEntity user = mock(UserEntity.class);
+        TopicEntity topic = mock(TopicEntity.class);
+        CommentEntity comment = mock(CommentEntity.class);
+        when(user.getId()).thenReturn(UUID.randomUUID());
+        when(topic.getId()).thenReturn(UUID.randomUUID());
+        when(comment.getId()).thenReturn(commentId);
+        when(comment.getUser()).thenReturn(user);
+        when(comment.getTopic()).thenReturn(topic);
+        when(comment.getHighsCount()).thenReturn(0L);
+        when(comment.getRepliesCount()).thenReturn(2L);
+        when(comment.getCreatedAt()).thenReturn(NOW);
+        when(comment.getUpdatedAt()).thenReturn(NOW);
+
+        CommentResponseDTO responseDTO = commentMapper.toResponseDTO(comment);
+
+        assertTrue(responseDTO.replies().isEmpty());
+        assertEquals(2L, responseDTO.repliesCount());
+        assertEquals(new RepliesCursor(commentId, null), RepliesCursor.decode(responseDTO.repliesCursor()));
+        verify(comment, never()).getReplies();
+    }
+
+    private static CommentResponseDTO comment(UUID parentCommentId, long repliesCount) {
+        return new CommentResponseDTO(UUID.randomUUID(), "Content", UUID.randomUUID(), UUID.randomUUID(), 0L,
+                parentCommentId, repliesCount, NOW, NOW);
+    }
+}
@@ -1,14 +1,21 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
+import br.com.soupaulodev.forumhub.modules.activity.ActivityKind;
+import br.com.soupaulodev.forumhub.modules.activity.ActivityRates;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentTreeRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,12 +42,24 @@ class CreateCommentUseCaseTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private CommentTreeRepository commentTreeRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private TopicRepository topicRepository;
 
+    @Mock
+    private TrendingEngine trendingEngine;
+
+    @Mock
+    private ActivityRates activityRates;
+
+    @Mock
+    private ForumMembership forumMembership;
+
     @InjectMocks
     private CreateCommentUseCase createCommentUseCase;
 
@@ -53,10 +72,12 @@ class CreateCommentUseCaseTest {
     void execute_ShouldCreateComment_WhenDataIsValid() {
         UUID userId = UUID.randomUUID();
         UUID topicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
         UUID commentId = UUID.randomUUID();
 
         UserEntity user = mock(UserEntity.class);
         TopicEntity topic = mock(TopicEntity.class);
+        ForumEntity forum = mock(ForumEntity.class);
         CommentEntity comment = mock(CommentEntity.class);
         CommentCreateRequestDTO requestDTO = mock(CommentCreateRequestDTO.class);
         CommentResponseDTO responseDTO = mock(CommentResponseDTO.class);
@@ -64,40 +85,73 @@ class CreateCommentUseCaseTest {
         when(requestDTO.topicId()).thenReturn(topicId.toString());
         when(user.getId()).thenReturn(userId);
         when(topic.getId()).thenReturn(topicId);
+        when(topic.getForum()).thenReturn(forum);
+        when(forum.getId()).thenReturn(forumId);
         when(comment.getId()).thenReturn(commentId);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
         when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
-        when(user.participatingInForum(any())).thenReturn(true);
+        when(forumMembership.isParticipant(userId, forumId)).thenReturn(true);
         when(commentMapper.toEntity(requestDTO, user, topic, null)).thenReturn(comment);
         when(commentMapper.toResponseDTO(comment)).thenReturn(responseDTO);
 
         CommentResponseDTO result = createCommentUseCase.execute(requestDTO, userId);
 
-        verify(commentRepository).save(comment);
+        verify(commentRepository).saveAndFlush(comment);
+        verify(commentTreeRepository).insertPaths(commentId, null);
+        verify(commentRepository, never()).addToRepliesCount(any(), anyLong());
         verify(topic).incrementComments();
         verify(topicRepository).save(topic);
+        verify(trendingEngine).topicCommented(forum.getId(), topicId);
+        verify(activityRates).record(CounterTarget.TOPIC, topicId, ActivityKind.COMMENT);
+        verify(activityRates).record(CounterTarget.FORUM, forum.getId(), ActivityKind.COMMENT);
+        verify(userRepository, never()).findById(any());
         assertNotNull(result);
     }
 
     @Test
-    void execute_ShouldThrowResourceNotFoundException_WhenUserNotFound() {
+    void execute_ShouldAddPathsUnderParentAndCountReply_WhenCommentIsAReply() {
         UUID userId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
+        UUID commentId = UUID.randomUUID();
+        UUID parentCommentId = UUID.randomUUID();
+
+        UserEntity user = mock(UserEntity.class);
+        TopicEntity topic = mock(TopicEntity.class);
+        ForumEntity forum = mock(ForumEntity.class);
+        CommentEntity parentComment = mock(CommentEntity.class);
+        CommentEntity comment = mock(CommentEntity.class);
         CommentCreateRequestDTO requestDTO = mock(CommentCreateRequestDTO.class);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(requestDTO.topicId()).thenReturn(topicId.toString());
+        when(requestDTO.parentCommentId()).thenReturn(parentCommentId.toString());
+        when(topic.getId()).thenReturn(topicId);
+        when(topic.getForum()).thenReturn(forum);
+        when(forum.getId()).thenReturn(forumId);
+        when(parentComment.getId()).thenReturn(parentCommentId);
+        when(parentComment.getTopic()).thenReturn(topic);
+        when(comment.getId()).thenReturn(commentId);
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
+        when(commentRepository.findById(parentCommentId)).thenReturn(Optional.of(parentComment));
+        when(forumMembership.isParticipant(userId, forumId)).thenReturn(true);
+        when(commentMapper.toEntity(requestDTO, user, topic, parentComment)).thenReturn(comment);
+        when(commentMapper.toResponseDTO(comment)).thenReturn(mock(CommentResponseDTO.class));
 
-        assertThrows(ResourceNotFoundException.class, () -> createCommentUseCase.execute(requestDTO, userId));
+        createCommentUseCase.execute(requestDTO, userId);
+
+        verify(commentRepository).saveAndFlush(comment);
+        verify(commentTreeRepository).insertPaths(commentId, parentCommentId);
+        verify(commentRepository).addToRepliesCount(parentCommentId, 1);
     }
 
     @Test
     void execute_ShouldThrowResourceNotFoundException_WhenTopicNotFound() {
         UUID userId = UUID.randomUUID();
         UUID topicId = UUID.randomUUID();
-        UserEntity user = mock(UserEntity.class);
         CommentCreateRequestDTO requestDTO = mock(CommentCreateRequestDTO.class);
 
         when(requestDTO.topicId()).thenReturn(topicId.toString());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(topicRepository.findById(topicId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> createCommentUseCase.execute(requestDTO, userId));
@@ -107,16 +161,19 @@ class CreateCommentUseCaseTest {
     void execute_ShouldThrowForbiddenException_WhenUserNotAuthorized() {
         UUID userId = UUID.randomUUID();
         UUID topicId = UUID.randomUUID();
-        UserEntity user = mock(UserEntity.class);
+        UUID forumId = UUID.randomUUID();
         TopicEntity topic = mock(TopicEntity.class);
+        ForumEntity forum = mock(ForumEntity.class);
         CommentCreateRequestDTO requestDTO = mock(CommentCreateRequestDTO.class);
 
         when(requestDTO.topicId()).thenReturn(topicId.toString());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
-        when(user.participatingInForum(any())).thenReturn(false);
+        when(topic.getForum()).thenReturn(forum);
+        when(forum.getId()).thenReturn(forumId);
+        when(forumMembership.isParticipant(userId, forumId)).thenReturn(false);
 
         assertThrows(ForbiddenException.class, () -> createCommentUseCase.execute(requestDTO, userId));
+        verify(commentRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -124,16 +181,18 @@ class CreateCommentUseCaseTest {
         UUID userId = UUID.randomUUID();
         UUID topicId = UUID.randomUUID();
         UUID parentCommentId = UUID.randomUUID();
-        UserEntity user = mock(UserEntity.class);
+        UUID forumId = UUID.randomUUID();
         TopicEntity topic = mock(TopicEntity.class);
+        ForumEntity forum = mock(ForumEntity.class);
         CommentEntity parentComment = mock(CommentEntity.class);
         CommentCreateRequestDTO requestDTO = mock(CommentCreateRequestDTO.class);
 
         when(requestDTO.topicId()).thenReturn(topicId.toString());
         when(requestDTO.parentCommentId()).thenReturn(parentCommentId.toString());
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
-        when(user.participatingInForum(any())).thenReturn(true);
+        when(topic.getForum()).thenReturn(forum);
+        when(forum.getId()).thenReturn(forumId);
+        when(forumMembership.isParticipant(userId, forumId)).thenReturn(true);
         when(commentRepository.findById(parentCommentId)).thenReturn(Optional.of(parentComment));
         when(parentComment.getTopic()).thenReturn(mock(TopicEntity.class));
 
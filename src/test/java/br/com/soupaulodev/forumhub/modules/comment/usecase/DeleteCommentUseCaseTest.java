@@ -0,0 +1,113 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class DeleteCommentUseCaseTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    @Mock
+    private ForumMembership forumMembership;
+
+    @Mock
+    private HighsMembershipIndex highsMembershipIndex;
+
+    @InjectMocks
+    private DeleteCommentUseCase deleteCommentUseCase;
+
+    private UUID userId;
+    private UUID commentId;
+    private CommentEntity comment;
+    private TopicEntity topic;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        userId = UUID.randomUUID();
+        commentId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
+
+        UserEntity user = mock(UserEntity.class);
+        ForumEntity forum = mock(ForumEntity.class);
+        topic = mock(TopicEntity.class);
+        comment = mock(CommentEntity.class);
+        when(user.getId()).thenReturn(userId);
+        when(forum.getId()).thenReturn(forumId);
+        when(topic.getId()).thenReturn(topicId);
+        when(topic.getForum()).thenReturn(forum);
+        when(comment.getId()).thenReturn(commentId);
+        when(comment.getUser()).thenReturn(user);
+        when(comment.getTopic()).thenReturn(topic);
+
+        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+        when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
+        when(forumMembership.isParticipant(userId, forumId)).thenReturn(true);
+    }
+
+    @Test
+    void execute_ShouldDecrementRepliesCountOfParent_WhenCommentIsAReply() {
+        // Arrange
+        UUID parentId = UUID.randomUUID();
+        CommentEntity parent = mock(CommentEntity.class);
+        when(parent.getId()).thenReturn(parentId);
+        when(comment.getParentComment()).thenReturn(parent);
+
+        // Act
+        deleteCommentUseCase.execute(commentId, userId);
+
+        // Assert
+        verify(commentRepository).delete(comment);
+        verify(commentRepository).addToRepliesCount(parentId, -1);
+        verify(topic).decrementComments();
+        verify(topicRepository).save(topic);
+        verify(highsMembershipIndex).evict(CounterTarget.COMMENT, commentId);
+    }
+
+    @Test
+    void execute_ShouldNotTouchRepliesCounts_WhenCommentIsTopLevel() {
+        // Act
+        deleteCommentUseCase.execute(commentId, userId);
+
+        // Assert
+        verify(commentRepository).delete(comment);
+        verify(commentRepository, never()).addToRepliesCount(any(), anyLong());
+        verify(topic).decrementComments();
+    }
+
+    @Test
+    void execute_ShouldThrowForbiddenException_WhenUserIsNotTheAuthor() {
+        assertThrows(ForbiddenException.class, () -> deleteCommentUseCase.execute(commentId, UUID.randomUUID()));
+
+        verify(commentRepository, never()).delete(any());
+        verify(commentRepository, never()).addToRepliesCount(any(), anyLong());
+    }
+}
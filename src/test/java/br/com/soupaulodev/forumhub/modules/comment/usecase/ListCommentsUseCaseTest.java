@@ -0,0 +1,136 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.RepliesCursor;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentTreeRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ListCommentsUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CommentTreeRepository commentTreeRepository;
+
+    @Mock
+    private HighsMembershipIndex highsMembershipIndex;
+
+    @Mock
+    private CommentHighsRepository commentHighsRepository;
+
+    private ListCommentsUseCase listCommentsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        listCommentsUseCase = new ListCommentsUseCase(new CommentMapper(new HighsCounter()), commentRepository,
+                commentTreeRepository, highsMembershipIndex, commentHighsRepository);
+    }
+
+    @Test
+    void execute_ShouldReadTheRepliesOfThePageWithASingleQuery() {
+        // Arrange
+        CommentResponseDTO comment = comment(null, 1);
+        CommentResponseDTO otherComment = comment(null, 0);
+        CommentResponseDTO reply = comment(comment.id(), 1);
+        CommentResponseDTO nested = comment(reply.id(), 0);
+        when(commentRepository.findNewest(Limit.of(11))).thenReturn(List.of(comment, otherComment));
+        when(commentTreeRepository.findDescendants(List.of(comment.id(), otherComment.id()),
+                CommentMapper.REPLY_DEPTH, Limit.of(CommentMapper.MAX_REPLIES))).thenReturn(List.of(reply, nested));
+
+        // Act
+        CursorPageDTO<CommentResponseDTO> page = listCommentsUseCase.execute(null, 10);
+
+        // Assert
+        assertEquals(List.of(comment.id(), otherComment.id()),
+                page.items().stream().map(CommentResponseDTO::id).toList());
+        CommentResponseDTO tree = page.items().get(0);
+        assertEquals(List.of(reply.id()), tree.replies().stream().map(CommentResponseDTO::id).toList());
+        assertEquals(List.of(nested.id()),
+                tree.replies().get(0).replies().stream().map(CommentResponseDTO::id).toList());
+        assertTrue(page.items().get(1).replies().isEmpty());
+        assertNull(page.next());
+        verify(commentTreeRepository, times(1)).findDescendants(any(), anyInt(), any());
+        verifyNoInteractions(highsMembershipIndex);
+    }
+
+    @Test
+    void execute_ShouldGiveARepliesCursor_WhenRepliesWereLeftOut() {
+        // Arrange
+        CommentResponseDTO comment = comment(null, 2);
+        CommentResponseDTO reply = comment(comment.id(), 0);
+        when(commentRepository.findNewest(Limit.of(11))).thenReturn(List.of(comment));
+        when(commentTreeRepository.findDescendants(any(), anyInt(), any())).thenReturn(List.of(reply));
+
+        // Act
+        CommentResponseDTO tree = listCommentsUseCase.execute(null, 10).items().get(0);
+
+        // Assert
+        assertTrue(tree.replies().isEmpty());
+        assertEquals(new RepliesCursor(comment.id(), null), RepliesCursor.decode(tree.repliesCursor()));
+    }
+
+    @Test
+    void execute_ShouldFlagCommentsAndRepliesHighedByViewer_WhenViewerIsAuthenticated() {
+        // Arrange
+        UUID viewerId = UUID.randomUUID();
+        CommentResponseDTO comment = comment(null, 1);
+        CommentResponseDTO reply = comment(comment.id(), 0);
+        when(commentRepository.findNewest(Limit.of(11))).thenReturn(List.of(comment));
+        when(commentTreeRepository.findDescendants(any(), anyInt(), any())).thenReturn(List.of(reply));
+        when(highsMembershipIndex.findHighed(eq(CounterTarget.COMMENT), eq(List.of(comment.id(), reply.id())), eq(viewerId), any()))
+                .thenAnswer(invocation -> invocation.<Function<List<UUID>, Set<UUID>>>getArgument(3)
+                        .apply(List.of(comment.id(), reply.id())));
+        when(commentHighsRepository.findHighedCommentIds(viewerId, List.of(comment.id(), reply.id())))
+                .thenReturn(Set.of(reply.id()));
+
+        // Act
+        CommentResponseDTO tree = listCommentsUseCase.execute(null, 10, viewerId).items().get(0);
+
+        // Assert
+        assertFalse(tree.highedByMe());
+        assertTrue(tree.replies().get(0).highedByMe());
+        verify(highsMembershipIndex, times(1)).findHighed(any(), any(), any(), any());
+    }
+
+    @Test
+    void execute_ShouldNotReadReplies_WhenPageIsEmpty() {
+        when(commentRepository.findNewest(Limit.of(11))).thenReturn(List.of());
+
+        CursorPageDTO<CommentResponseDTO> page = listCommentsUseCase.execute(null, 10, UUID.randomUUID());
+
+        assertTrue(page.items().isEmpty());
+        verifyNoInteractions(commentTreeRepository, highsMembershipIndex, commentHighsRepository);
+    }
+
+    private static CommentResponseDTO comment(UUID parentCommentId, long repliesCount) {
+        return new CommentResponseDTO(UUID.randomUUID(), "Content", UUID.randomUUID(), UUID.randomUUID(), 0L,
+                parentCommentId, repliesCount, NOW, NOW);
+    }
+}
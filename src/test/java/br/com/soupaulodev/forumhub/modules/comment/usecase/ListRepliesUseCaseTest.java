@@ -0,0 +1,158 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.RepliesCursor;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentTreeRepository;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ListRepliesUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CommentTreeRepository commentTreeRepository;
+
+    @Mock
+    private HighsMembershipIndex highsMembershipIndex;
+
+    @Mock
+    private CommentHighsRepository commentHighsRepository;
+
+    private ListRepliesUseCase listRepliesUseCase;
+    private UUID commentId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        listRepliesUseCase = new ListRepliesUseCase(new CommentMapper(new HighsCounter()), commentRepository,
+                commentTreeRepository, highsMembershipIndex, commentHighsRepository);
+        commentId = UUID.randomUUID();
+    }
+
+    @Test
+    void execute_ShouldReturnFirstPageWithNextCursor_WhenMoreRepliesExist() {
+        // Arrange
+        CommentResponseDTO first = comment(commentId, 1, NOW);
+        CommentResponseDTO second = comment(commentId, 0, NOW.plusSeconds(1));
+        CommentResponseDTO third = comment(commentId, 0, NOW.plusSeconds(2));
+        CommentResponseDTO nested = comment(first.id(), 0, NOW.plusSeconds(3));
+        when(commentRepository.findOldestReplies(commentId, Limit.of(3))).thenReturn(List.of(first, second, third));
+        when(commentTreeRepository.findDescendants(List.of(first.id(), second.id()), CommentMapper.REPLY_DEPTH - 1,
+                Limit.of(CommentMapper.MAX_REPLIES))).thenReturn(List.of(nested));
+
+        // Act
+        CursorPageDTO<CommentResponseDTO> page = listRepliesUseCase.execute(
+                new RepliesCursor(commentId, null).encode(), 2, null);
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), page.items().stream().map(CommentResponseDTO::id).toList());
+        assertEquals(List.of(nested.id()),
+                page.items().get(0).replies().stream().map(CommentResponseDTO::id).toList());
+        assertEquals(new RepliesCursor(commentId, new Cursor(second.createdAt(), second.id())),
+                RepliesCursor.decode(page.next()));
+        verifyNoInteractions(highsMembershipIndex);
+    }
+
+    @Test
+    void execute_ShouldSeekPastTheLastReply_WhenCursorHasAPosition() {
+        // Arrange
+        Cursor after = new Cursor(NOW, UUID.randomUUID());
+        CommentResponseDTO reply = comment(commentId, 0, NOW.plusSeconds(1));
+        when(commentRepository.findOldestRepliesAfter(commentId, after.at(), after.id(), Limit.of(3)))
+                .thenReturn(List.of(reply));
+
+        // Act
+        CursorPageDTO<CommentResponseDTO> page = listRepliesUseCase.execute(
+                new RepliesCursor(commentId, after).encode(), 2, null);
+
+        // Assert
+        assertEquals(List.of(reply.id()), page.items().stream().map(CommentResponseDTO::id).toList());
+        assertNull(page.next());
+        verify(commentRepository, never()).findOldestReplies(any(), any());
+    }
+
+    @Test
+    void execute_ShouldFlagRepliesHighedByViewer_WhenViewerIsAuthenticated() {
+        // Arrange
+        UUID viewerId = UUID.randomUUID();
+        CommentResponseDTO reply = comment(commentId, 1, NOW);
+        CommentResponseDTO nested = comment(reply.id(), 0, NOW.plusSeconds(1));
+        when(commentRepository.findOldestReplies(commentId, Limit.of(21))).thenReturn(List.of(reply));
+        when(commentTreeRepository.findDescendants(any(), anyInt(), any())).thenReturn(List.of(nested));
+        when(highsMembershipIndex.findHighed(eq(CounterTarget.COMMENT), eq(List.of(reply.id(), nested.id())), eq(viewerId), any()))
+                .thenAnswer(invocation -> invocation.<Function<List<UUID>, Set<UUID>>>getArgument(3)
+                        .apply(List.of(reply.id(), nested.id())));
+        when(commentHighsRepository.findHighedCommentIds(viewerId, List.of(reply.id(), nested.id())))
+                .thenReturn(Set.of(nested.id()));
+
+        // Act
+        CommentResponseDTO flagged = listRepliesUseCase.execute(
+                new RepliesCursor(commentId, null).encode(), 20, viewerId).items().get(0);
+
+        // Assert
+        assertFalse(flagged.highedByMe());
+        assertTrue(flagged.replies().get(0).highedByMe());
+    }
+
+    @Test
+    void execute_ShouldThrowResourceNotFoundException_WhenCommentDoesNotExist() {
+        when(commentRepository.findOldestReplies(commentId, Limit.of(21))).thenReturn(List.of());
+        when(commentRepository.existsById(commentId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () ->
+                listRepliesUseCase.execute(new RepliesCursor(commentId, null).encode(), 20, null));
+        verifyNoInteractions(commentTreeRepository);
+    }
+
+    @Test
+    void execute_ShouldReturnEmptyPage_WhenCommentHasNoReplies() {
+        when(commentRepository.findOldestReplies(commentId, Limit.of(21))).thenReturn(List.of());
+        when(commentRepository.existsById(commentId)).thenReturn(true);
+
+        CursorPageDTO<CommentResponseDTO> page = listRepliesUseCase.execute(
+                new RepliesCursor(commentId, null).encode(), 20, UUID.randomUUID());
+
+        assertTrue(page.items().isEmpty());
+        assertNull(page.next());
+        verifyNoInteractions(commentTreeRepository, highsMembershipIndex, commentHighsRepository);
+    }
+
+    @Test
+    void execute_ShouldThrowIllegalArgumentException_WhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> listRepliesUseCase.execute("not-a-cursor", 20, null));
+        verifyNoInteractions(commentRepository, commentTreeRepository);
+    }
+
+    private static CommentResponseDTO comment(UUID parentCommentId, long repliesCount, Instant createdAt) {
+        return new CommentResponseDTO(UUID.randomUUID(), "Content", UUID.randomUUID(), UUID.randomUUID(), 0L,
+                parentCommentId, repliesCount, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+import br.com.soupaulodev.forumhub.modules.counter.repository.CounterReconciliationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class CounterReconcilerTest {
+
+    private CounterReconciliationRepository repository;
+    private HighsCounter highsCounter;
+    private CounterReconciler counterReconciler;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CounterReconciliationRepository.class);
+        highsCounter = new HighsCounter();
+        counterReconciler = new CounterReconciler(repository, highsCounter, 2, 0, 10, true);
+    }
+
+    @Test
+    void reconcile_ShouldScanInChunksAndCorrectDrift() {
+        CounterSnapshot first = new CounterSnapshot(UUID.randomUUID(), 3, 3);
+        CounterSnapshot second = new CounterSnapshot(UUID.randomUUID(), 5, 2);
+        CounterSnapshot third = new CounterSnapshot(UUID.randomUUID(), 0, 4);
+        when(repository.scan(CounterColumn.FORUM_TOPICS, null, 2)).thenReturn(List.of(first, second));
+        when(repository.scan(CounterColumn.FORUM_TOPICS, second.id(), 2)).thenReturn(List.of(third));
+        when(repository.applyCorrections(eq(CounterColumn.FORUM_TOPICS), anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(1).size());
+
+        ReconciliationReport report = counterReconciler.reconcile(CounterColumn.FORUM_TOPICS);
+
+        assertEquals(3, report.scanned());
+        assertEquals(2, report.drifted());
+        assertEquals(2, report.corrected());
+        assertEquals(0, report.deferred());
+        assertEquals(1, report.netDrift());
+        assertEquals(List.of(second, third), report.samples());
+        verify(repository).applyCorrections(CounterColumn.FORUM_TOPICS, List.of(second));
+        verify(repository).applyCorrections(CounterColumn.FORUM_TOPICS, List.of(third));
+        verify(repository, never()).recheck(any(), any());
+    }
+
+    @Test
+    void reconcile_ShouldDeferRowsChangedConcurrently() {
+        CounterSnapshot drifted = new CounterSnapshot(UUID.randomUUID(), 1, 2);
+        when(repository.scan(CounterColumn.TOPIC_COMMENTS, null, 2)).thenReturn(List.of(drifted));
+        when(repository.applyCorrections(CounterColumn.TOPIC_COMMENTS, List.of(drifted))).thenReturn(0);
+
+        ReconciliationReport report = counterReconciler.reconcile(CounterColumn.TOPIC_COMMENTS);
+
+        assertEquals(1, report.drifted());
+        assertEquals(0, report.corrected());
+        assertEquals(1, report.deferred());
+    }
+
+    @Test
+    void reconcile_ShouldDeferWriteBehindRowsWithUnflushedDeltas() {
+        CounterSnapshot pending = new CounterSnapshot(UUID.randomUUID(), 1, 2);
+        highsCounter.increment(CounterTarget.TOPIC, pending.id());
+        when(repository.scan(CounterColumn.TOPIC_HIGHS, null, 2)).thenReturn(List.of(pending));
+
+        ReconciliationReport report = counterReconciler.reconcile(CounterColumn.TOPIC_HIGHS);
+
+        assertEquals(0, report.drifted());
+        assertEquals(1, report.deferred());
+        verify(repository, never()).recheck(any(), any());
+        verify(repository).applyCorrections(CounterColumn.TOPIC_HIGHS, List.of());
+    }
+
+    @Test
+    void reconcile_ShouldOnlyCorrectWriteBehindRowsStableAcrossSettle() {
+        CounterSnapshot stable = new CounterSnapshot(UUID.randomUUID(), 4, 1);
+        CounterSnapshot flushed = new CounterSnapshot(UUID.randomUUID(), 1, 2);
+        when(repository.scan(CounterColumn.FORUM_HIGHS, null, 2)).thenReturn(List.of(stable, flushed));
+        when(repository.recheck(CounterColumn.FORUM_HIGHS, List.of(stable.id(), flushed.id())))
+                .thenReturn(List.of(stable, new CounterSnapshot(flushed.id(), 2, 2)));
+        when(repository.applyCorrections(CounterColumn.FORUM_HIGHS, List.of(stable))).thenReturn(1);
+
+        ReconciliationReport report = counterReconciler.reconcile(CounterColumn.FORUM_HIGHS);
+
+        assertEquals(1, report.drifted());
+        assertEquals(1, report.corrected());
+        assertEquals(1, report.deferred());
+        assertEquals(-3, report.netDrift());
+    }
+
+    @Test
+    void reconcile_ShouldOnlyReportWhenCorrectionIsDisabled() {
+        counterReconciler = new CounterReconciler(repository, highsCounter, 2, 0, 10, false);
+        CounterSnapshot drifted = new CounterSnapshot(UUID.randomUUID(), 2, 0);
+        when(repository.scan(CounterColumn.USER_HIGHS, null, 2)).thenReturn(List.of(drifted));
+        when(repository.recheck(CounterColumn.USER_HIGHS, List.of(drifted.id()))).thenReturn(List.of(drifted));
+
+        ReconciliationReport report = counterReconciler.reconcile(CounterColumn.USER_HIGHS);
+
+        assertEquals(1, report.drifted());
+        assertEquals(0, report.corrected());
+        verify(repository, never()).applyCorrections(any(), any());
+    }
+}
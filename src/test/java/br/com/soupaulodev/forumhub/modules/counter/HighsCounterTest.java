@@ -0,0 +1,102 @@
+package br.com.soupaulodev.forumhub.modules.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsCounterTest {
+
+    private HighsCounter highsCounter;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        highsCounter = new HighsCounter();
+        id = UUID.randomUUID();
+    }
+
+    @Test
+    void read_ShouldAddPendingDeltaToPersistedCount() {
+        highsCounter.increment(CounterTarget.TOPIC, id);
+        highsCounter.increment(CounterTarget.TOPIC, id);
+        highsCounter.decrement(CounterTarget.TOPIC, id);
+
+        assertEquals(6L, highsCounter.read(CounterTarget.TOPIC, id, 5L));
+        assertEquals(1L, highsCounter.read(CounterTarget.TOPIC, id, null));
+        assertEquals(5L, highsCounter.read(CounterTarget.FORUM, id, 5L));
+    }
+
+    @Test
+    void drain_ShouldKeepDeltaVisibleUntilAcknowledged() {
+        highsCounter.increment(CounterTarget.FORUM, id);
+
+        Map<UUID, Long> batch = highsCounter.drain(CounterTarget.FORUM, 10);
+
+        assertEquals(Map.of(id, 1L), batch);
+        assertFalse(highsCounter.hasPending());
+        assertEquals(1L, highsCounter.pending(CounterTarget.FORUM, id));
+
+        highsCounter.acknowledge(CounterTarget.FORUM, batch);
+
+        assertEquals(0L, highsCounter.pending(CounterTarget.FORUM, id));
+    }
+
+    @Test
+    void restore_ShouldPutFailedBatchBackInPending() {
+        highsCounter.increment(CounterTarget.COMMENT, id);
+        Map<UUID, Long> batch = highsCounter.drain(CounterTarget.COMMENT, 10);
+        highsCounter.increment(CounterTarget.COMMENT, id);
+
+        highsCounter.restore(CounterTarget.COMMENT, batch);
+
+        assertEquals(2L, highsCounter.pending(CounterTarget.COMMENT, id));
+        assertEquals(Map.of(id, 2L), highsCounter.drain(CounterTarget.COMMENT, 10));
+    }
+
+    @Test
+    void drain_ShouldRespectBatchSize() {
+        for (int i = 0; i < 5; i++) {
+            highsCounter.increment(CounterTarget.USER, UUID.randomUUID());
+        }
+
+        assertEquals(3, highsCounter.drain(CounterTarget.USER, 3).size());
+        assertEquals(2, highsCounter.drain(CounterTarget.USER, 3).size());
+        assertTrue(highsCounter.drain(CounterTarget.USER, 3).isEmpty());
+    }
+
+    @Test
+    void increment_ShouldNotLoseConcurrentUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    highsCounter.increment(CounterTarget.TOPIC, id);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(8000L, highsCounter.pending(CounterTarget.TOPIC, id));
+    }
+
+    @Test
+    void add_ShouldThrowException_WhenIdIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> highsCounter.increment(CounterTarget.TOPIC, null));
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -77,6 +78,17 @@ class ExceptionHandlerControllerTest {
         assertEquals("Too many requests", response.getBody());
     }
 
+    @Test
+    void shouldHandleServiceUnavailableException() {
+        ServiceUnavailableException exception = new ServiceUnavailableException("Server is busy");
+
+        ResponseEntity<?> response = exceptionHandlerController.handleServiceUnavailableException(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Server is busy", response.getBody());
+    }
+
     @Test
     void shouldHandleResourceAlreadyExistsException() {
         ResourceAlreadyExistsException exception = new ResourceAlreadyExistsException("Resource already exists");
@@ -4,9 +4,11 @@ import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExis
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateRequestDTO;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumMemberResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,6 +56,18 @@ class ForumControllerTest {
     @Mock
     private UnHighForumUseCase unHighForumUseCase;
 
+    @Mock
+    private ListTrendingForumsUseCase listTrendingForumsUseCase;
+
+    @Mock
+    private JoinForumUseCase joinForumUseCase;
+
+    @Mock
+    private LeaveForumUseCase leaveForumUseCase;
+
+    @Mock
+    private ListForumMembersUseCase listForumMembersUseCase;
+
     @InjectMocks
     private ForumController forumController;
 
@@ -114,7 +128,7 @@ class ForumControllerTest {
 
     @Test
     void shouldListForumsSuccessfully() {
-        int page = 0;
+        String cursor = null;
         int size = 2;
 
         UUID forumId = UUID.randomUUID();
@@ -141,14 +155,15 @@ class ForumControllerTest {
                         now,
                         now));
 
-        when(listForumsUseCase.execute(page, size))
-                .thenReturn(responseDTOS);
+        when(listForumsUseCase.execute(cursor, size, null))
+                .thenReturn(new CursorPageDTO<>(responseDTOS, "next-cursor"));
 
-        ResponseEntity<List<ForumResponseDTO>> response = forumController.listForums(page, size);
+        ResponseEntity<CursorPageDTO<ForumResponseDTO>> response = forumController.listForums(cursor, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTOS, response.getBody());
-        assertEquals(2, Objects.requireNonNull(response.getBody()).size());
+        assertEquals(responseDTOS, Objects.requireNonNull(response.getBody()).items());
+        assertEquals(2, response.getBody().items().size());
+        assertEquals("next-cursor", response.getBody().next());
     }
 
     @Test
@@ -309,4 +324,46 @@ class ForumControllerTest {
         assertEquals(204, response.getStatusCode().value());
         assertNull(response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldJoinForumSuccessfully() {
+        UUID forumId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null));
+
+        ResponseEntity<Void> response = forumController.joinForum(forumId.toString());
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(joinForumUseCase).execute(forumId, userId);
+    }
+
+    @Test
+    void shouldLeaveForumSuccessfully() {
+        UUID forumId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null));
+
+        ResponseEntity<Void> response = forumController.leaveForum(forumId.toString());
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(leaveForumUseCase).execute(forumId, userId);
+    }
+
+    @Test
+    void shouldListForumMembersSuccessfully() {
+        UUID forumId = UUID.randomUUID();
+        CursorPageDTO<ForumMemberResponseDTO> page = new CursorPageDTO<>(
+                List.of(new ForumMemberResponseDTO(UUID.randomUUID(), "Name Example", "username", Instant.now())),
+                null);
+
+        when(listForumMembersUseCase.execute(forumId, null, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<ForumMemberResponseDTO>> response =
+                forumController.listForumMembers(forumId, null, 20);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(page, response.getBody());
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.forum.mapper;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumUpdateRequestDTO;
@@ -16,7 +17,7 @@ class ForumMapperTest {
 
     @BeforeEach
     void setUp() {
-        forumMapper = new ForumMapper();
+        forumMapper = new ForumMapper(new HighsCounter());
     }
 
     @Test
@@ -107,6 +108,7 @@ class ForumMapperTest {
                 "Forum Example",
                 "This is a example forum.",
                 owner);
+        forumEntity.incrementParticipantsCount();
 
         ForumResponseDTO dto = forumMapper.toResponseDTO(forumEntity);
 
@@ -114,6 +116,7 @@ class ForumMapperTest {
         assertEquals(forumEntity.getName(), dto.name());
         assertEquals(forumEntity.getDescription(), dto.description());
         assertEquals(owner.getId(), dto.owner());
+        assertEquals(1, dto.participants());
     }
 
     @Test
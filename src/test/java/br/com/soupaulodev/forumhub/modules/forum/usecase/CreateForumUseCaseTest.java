@@ -6,7 +6,9 @@ import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateReque
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,9 +35,15 @@ class CreateForumUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ForumMemberRepository forumMemberRepository;
+
     @Mock
     private ForumMapper forumMapper;
 
+    @Mock
+    private ForumMembership forumMembership;
+
     @InjectMocks
     private CreateForumUseCase createForumUseCase;
 
@@ -81,7 +89,10 @@ class CreateForumUseCaseTest {
 
         verify(userRepository).findById(authenticatedUserId);
         verify(forumRepository).existsByName(requestDTO.name());
-        verify(userRepository).save(mockUser);
+        verify(userRepository).saveAndFlush(mockUser);
+        verify(forumMemberRepository).insertIfAbsent(forumEntity.getId(), authenticatedUserId);
+        assertEquals(1L, forumEntity.getParticipantsCount());
+        verify(forumMembership).joined(eq(authenticatedUserId), any());
     }
 
     @Test
@@ -92,7 +103,7 @@ class CreateForumUseCaseTest {
 
         verify(userRepository).findById(authenticatedUserId);
         verify(forumRepository, never()).existsByName(anyString());
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
     }
 
     @Test
@@ -104,6 +115,6 @@ class CreateForumUseCaseTest {
 
         verify(userRepository).findById(authenticatedUserId);
         verify(forumRepository).existsByName(requestDTO.name());
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
     }
 }
@@ -1,9 +1,13 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.trending.TrendingEngine;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +33,15 @@ class DeleteForumUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ForumMembership forumMembership;
+
+    @Mock
+    private HighsMembershipIndex highsMembershipIndex;
+
+    @Mock
+    private TrendingEngine trendingEngine;
+
     @InjectMocks
     private DeleteForumUseCase deleteForumUseCase;
 
@@ -61,8 +74,10 @@ class DeleteForumUseCaseTest {
         verify(forumRepository).findById(forumId);
         verify(userRepository).findById(userId);
         verify(forumRepository).delete(forumEntity);
+        verify(forumMembership).left(userId, forumId);
+        verify(highsMembershipIndex).evict(CounterTarget.FORUM, forumId);
+        verify(trendingEngine).forumDeleted(forumId);
         assertTrue(userEntity.getOwnedForums().isEmpty());
-        assertTrue(userEntity.getParticipatingForums().isEmpty());
     }
 
     @Test
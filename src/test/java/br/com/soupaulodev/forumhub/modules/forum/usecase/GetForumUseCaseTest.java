@@ -2,7 +2,6 @@ package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,26 +32,14 @@ class GetForumUseCaseTest {
     private GetForumUseCase getForumUseCase;
 
     private UUID forumId;
-    private ForumEntity mockForum;
+    private ForumResponseDTO forum;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         forumId = UUID.randomUUID();
 
-        mockForum = new ForumEntity();
-        mockForum.setId(forumId);
-        mockForum.setName("Test Forum");
-        mockForum.setDescription("A test forum description");
-        mockForum.setCreatedAt(Instant.now());
-        mockForum.setUpdatedAt(Instant.now());
-    }
-
-    @Test
-    void execute_ShouldRetrieveForumSuccessfully() {
-        when(forumRepository.findById(forumId)).thenReturn(Optional.of(mockForum));
-
-        ForumResponseDTO responseMock = new ForumResponseDTO(
+        forum = new ForumResponseDTO(
                 forumId,
                 "Test Forum",
                 "A test forum description",
@@ -63,24 +50,31 @@ class GetForumUseCaseTest {
                 Instant.now(),
                 Instant.now()
         );
-        when(forumMapper.toResponseDTO(mockForum)).thenReturn(responseMock);
+    }
+
+    @Test
+    void execute_ShouldRetrieveForumSuccessfully() {
+        when(forumRepository.findResponseById(forumId)).thenReturn(Optional.of(forum));
+        when(forumMapper.withPendingHighs(forum)).thenReturn(forum.withHighs(2L));
 
         ForumResponseDTO responseDTO = getForumUseCase.execute(forumId);
         assertNotNull(responseDTO);
         assertEquals("Test Forum", responseDTO.name());
         assertEquals("A test forum description", responseDTO.description());
+        assertEquals(2L, responseDTO.highs());
 
-        verify(forumRepository).findById(forumId);
-        verify(forumMapper).toResponseDTO(mockForum);
+        verify(forumRepository).findResponseById(forumId);
+        verify(forumRepository, never()).findById(any());
+        verify(forumMapper).withPendingHighs(forum);
     }
 
     @Test
     void execute_ShouldThrowResourceNotFoundException_WhenForumNotFound() {
-        when(forumRepository.findById(forumId)).thenReturn(Optional.empty());
+        when(forumRepository.findResponseById(forumId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> getForumUseCase.execute(forumId));
 
-        verify(forumRepository).findById(forumId);
-        verify(forumMapper, never()).toResponseDTO(any());
+        verify(forumRepository).findResponseById(forumId);
+        verify(forumMapper, never()).withPendingHighs(any());
     }
 }
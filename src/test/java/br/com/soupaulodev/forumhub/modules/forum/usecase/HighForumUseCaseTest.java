@@ -1,18 +1,18 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
-import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,55 +27,41 @@ class HighForumUseCaseTest {
     private ForumHighsRepository forumHighsRepository;
 
     @Mock
-    private ForumRepository forumRepository;
+    private HighEffects highEffects;
 
     @Mock
-    private UserRepository userRepository;
+    private HighsWriteAheadLog highsWriteAheadLog;
 
     @InjectMocks
     private HighForumUseCase highForumUseCase;
 
     private UUID forumId;
     private UUID userId;
-    private ForumEntity forumEntity;
-    private UserEntity userEntity;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         forumId = UUID.randomUUID();
         userId = UUID.randomUUID();
-
-        forumEntity = new ForumEntity();
-        forumEntity.setId(forumId);
-
-        userEntity = new UserEntity();
-        userEntity.setId(userId);
     }
 
     @Test
     void execute_ShouldHighForumSuccessfully() {
         // Arrange
-        when(forumHighsRepository.findByForum_IdAndUser_Id(forumId, userId)).thenReturn(Optional.empty());
-        when(forumRepository.findById(forumId)).thenReturn(Optional.of(forumEntity));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
+        when(forumHighsRepository.insertIfAbsent(forumId, userId)).thenReturn(true);
 
         // Act
         highForumUseCase.execute(forumId, userId);
 
         // Assert
-        verify(forumHighsRepository).findByForum_IdAndUser_Id(forumId, userId);
-        verify(forumRepository).findById(forumId);
-        verify(userRepository).findById(userId);
-        verify(forumHighsRepository).save(any(ForumHighsEntity.class));
-        assertEquals(1L, forumEntity.getHighsCount());
+        verify(forumHighsRepository).insertIfAbsent(forumId, userId);
+        verify(highEffects).highed(CounterTarget.FORUM, forumId, userId);
     }
 
     @Test
     void execute_ShouldThrowException_WhenForumAlreadyHighed() {
         // Arrange
-        when(forumHighsRepository.findByForum_IdAndUser_Id(forumId, userId))
-                .thenReturn(Optional.of(new ForumHighsEntity()));
+        when(forumHighsRepository.insertIfAbsent(forumId, userId)).thenReturn(false);
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
@@ -83,17 +69,15 @@ class HighForumUseCaseTest {
         );
 
         assertEquals("Forum already highed", exception.getMessage());
-        verify(forumHighsRepository).findByForum_IdAndUser_Id(forumId, userId);
-        verify(forumRepository, never()).findById(any());
-        verify(userRepository, never()).findById(any());
-        verify(forumHighsRepository, never()).save(any());
+        verify(forumHighsRepository).insertIfAbsent(forumId, userId);
+        verifyNoInteractions(highEffects);
     }
 
     @Test
-    void execute_ShouldThrowException_WhenForumNotFound() {
+    void execute_ShouldThrowException_WhenForumOrUserNotFound() {
         // Arrange
-        when(forumHighsRepository.findByForum_IdAndUser_Id(forumId, userId)).thenReturn(Optional.empty());
-        when(forumRepository.findById(forumId)).thenReturn(Optional.empty());
+        when(forumHighsRepository.insertIfAbsent(forumId, userId))
+                .thenThrow(new DataIntegrityViolationException("fk violation"));
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
@@ -101,28 +85,32 @@ class HighForumUseCaseTest {
         );
 
         assertEquals("Forum not found", exception.getMessage());
-        verify(forumHighsRepository).findByForum_IdAndUser_Id(forumId, userId);
-        verify(forumRepository).findById(forumId);
-        verify(userRepository, never()).findById(any());
-        verify(forumHighsRepository, never()).save(any());
+        verifyNoInteractions(highEffects);
     }
 
     @Test
-    void execute_ShouldThrowException_WhenUserNotFound() {
+    void execute_ShouldDeferHigh_WhenDatabaseUnavailable() {
         // Arrange
-        when(forumHighsRepository.findByForum_IdAndUser_Id(forumId, userId)).thenReturn(Optional.empty());
-        when(forumRepository.findById(forumId)).thenReturn(Optional.of(forumEntity));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        CannotCreateTransactionException failure = new CannotCreateTransactionException("connection refused");
+        when(forumHighsRepository.insertIfAbsent(forumId, userId)).thenThrow(failure);
 
-        // Act & Assert
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-                highForumUseCase.execute(forumId, userId)
-        );
+        // Act
+        highForumUseCase.execute(forumId, userId);
 
-        assertEquals("Forum not found", exception.getMessage());
-        verify(forumHighsRepository).findByForum_IdAndUser_Id(forumId, userId);
-        verify(forumRepository).findById(forumId);
-        verify(userRepository).findById(userId);
-        verify(forumHighsRepository, never()).save(any());
+        // Assert
+        verify(highsWriteAheadLog).deferOrRethrow(failure, HighAction.HIGH, CounterTarget.FORUM, forumId, userId);
+        verifyNoInteractions(highEffects);
+    }
+
+    @Test
+    void execute_ShouldNotTouchDatabase_WhenHighsAreDeferred() {
+        // Arrange
+        when(highsWriteAheadLog.deferIfPending(HighAction.HIGH, CounterTarget.FORUM, forumId, userId)).thenReturn(true);
+
+        // Act
+        highForumUseCase.execute(forumId, userId);
+
+        // Assert
+        verifyNoInteractions(forumHighsRepository, highEffects);
     }
 }
@@ -0,0 +1,70 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class JoinForumUseCaseTest {
+
+    private ForumMemberRepository forumMemberRepository;
+    private ForumRepository forumRepository;
+    private ForumMembership forumMembership;
+    private JoinForumUseCase joinForumUseCase;
+
+    private UUID forumId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        forumMemberRepository = mock(ForumMemberRepository.class);
+        forumRepository = mock(ForumRepository.class);
+        forumMembership = mock(ForumMembership.class);
+        joinForumUseCase = new JoinForumUseCase(forumMemberRepository, forumRepository, forumMembership);
+
+        forumId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        when(forumRepository.existsById(forumId)).thenReturn(true);
+    }
+
+    @Test
+    void shouldJoinForumSuccessfully() {
+        when(forumMemberRepository.insertIfAbsent(forumId, userId)).thenReturn(true);
+
+        joinForumUseCase.execute(forumId, userId);
+
+        verify(forumRepository, times(1)).addToParticipantsCount(forumId, 1);
+        verify(forumMembership, times(1)).joined(userId, forumId);
+    }
+
+    @Test
+    void shouldDoNothingIfForumIsAlreadyJoined() {
+        when(forumMemberRepository.insertIfAbsent(forumId, userId)).thenReturn(false);
+
+        joinForumUseCase.execute(forumId, userId);
+
+        verify(forumRepository, never()).addToParticipantsCount(any(), anyLong());
+        verify(forumMembership, never()).joined(any(), any());
+    }
+
+    @Test
+    void shouldThrowNotFoundIfForumDoesNotExist() {
+        when(forumRepository.existsById(forumId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> joinForumUseCase.execute(forumId, userId));
+        verify(forumMemberRepository, never()).insertIfAbsent(any(), any());
+        verify(forumRepository, never()).addToParticipantsCount(any(), anyLong());
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class LeaveForumUseCaseTest {
+
+    private ForumMemberRepository forumMemberRepository;
+    private ForumRepository forumRepository;
+    private ForumMembership forumMembership;
+    private LeaveForumUseCase leaveForumUseCase;
+
+    private UUID forumId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        forumMemberRepository = mock(ForumMemberRepository.class);
+        forumRepository = mock(ForumRepository.class);
+        forumMembership = mock(ForumMembership.class);
+        leaveForumUseCase = new LeaveForumUseCase(forumMemberRepository, forumRepository, forumMembership);
+
+        forumId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        when(forumRepository.existsById(forumId)).thenReturn(true);
+    }
+
+    @Test
+    void shouldLeaveForumSuccessfully() {
+        when(forumMemberRepository.deleteIfPresent(forumId, userId)).thenReturn(1);
+
+        leaveForumUseCase.execute(forumId, userId);
+
+        verify(forumRepository, times(1)).addToParticipantsCount(forumId, -1);
+        verify(forumMembership, times(1)).left(userId, forumId);
+    }
+
+    @Test
+    void shouldDoNothingIfForumIsNotJoined() {
+        when(forumMemberRepository.deleteIfPresent(forumId, userId)).thenReturn(0);
+
+        leaveForumUseCase.execute(forumId, userId);
+
+        verify(forumRepository, never()).addToParticipantsCount(any(), anyLong());
+        verify(forumMembership, never()).left(any(), any());
+    }
+
+    @Test
+    void shouldThrowExceptionIfForumDoesNotExist() {
+        when(forumRepository.existsById(forumId)).thenReturn(false);
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> leaveForumUseCase.execute(forumId, userId));
+
+        assertEquals("Forum not found.", exception.getMessage());
+        verify(forumMemberRepository, never()).deleteIfPresent(any(), any());
+    }
+}
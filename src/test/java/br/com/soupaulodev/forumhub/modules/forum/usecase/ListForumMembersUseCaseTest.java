@@ -0,0 +1,92 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumMemberResponseDTO;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumMemberRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ListForumMembersUseCaseTest {
+
+    private ForumMemberRepository forumMemberRepository;
+    private ForumRepository forumRepository;
+    private ListForumMembersUseCase listForumMembersUseCase;
+
+    private UUID forumId;
+
+    @BeforeEach
+    void setUp() {
+        forumMemberRepository = mock(ForumMemberRepository.class);
+        forumRepository = mock(ForumRepository.class);
+        listForumMembersUseCase = new ListForumMembersUseCase(forumMemberRepository, forumRepository);
+
+        forumId = UUID.randomUUID();
+    }
+
+    @Test
+    void execute_ShouldReturnCursorOfLastMember_WhenThereIsANextPage() {
+        // Arrange
+        ForumMemberResponseDTO first = member(Instant.parse("2025-01-01T10:00:00Z"));
+        ForumMemberResponseDTO second = member(Instant.parse("2025-01-01T11:00:00Z"));
+        ForumMemberResponseDTO third = member(Instant.parse("2025-01-01T12:00:00Z"));
+        when(forumMemberRepository.findMembers(forumId, Limit.of(3))).thenReturn(List.of(first, second, third));
+
+        // Act
+        CursorPageDTO<ForumMemberResponseDTO> page = listForumMembersUseCase.execute(forumId, null, 2);
+
+        // Assert
+        assertEquals(List.of(first, second), page.items());
+        assertEquals(second.cursor(), Cursor.decode(page.next()));
+        verifyNoInteractions(forumRepository);
+    }
+
+    @Test
+    void execute_ShouldSeekPastTheCursor() {
+        // Arrange
+        ForumMemberResponseDTO last = member(Instant.parse("2025-01-01T12:00:00Z"));
+        Cursor cursor = new Cursor(Instant.parse("2025-01-01T11:00:00Z"), UUID.randomUUID());
+        when(forumMemberRepository.findMembersAfter(forumId, cursor.at(), cursor.id(), Limit.of(3)))
+                .thenReturn(List.of(last));
+
+        // Act
+        CursorPageDTO<ForumMemberResponseDTO> page = listForumMembersUseCase.execute(forumId, cursor.encode(), 2);
+
+        // Assert
+        assertEquals(List.of(last), page.items());
+        assertNull(page.next());
+        verify(forumMemberRepository, never()).findMembers(any(), any());
+    }
+
+    @Test
+    void execute_ShouldThrowNotFound_WhenForumDoesNotExist() {
+        when(forumMemberRepository.findMembers(forumId, Limit.of(21))).thenReturn(List.of());
+        when(forumRepository.existsById(forumId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> listForumMembersUseCase.execute(forumId, null, 20));
+    }
+
+    @Test
+    void execute_ShouldRejectInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> listForumMembersUseCase.execute(forumId, "not-a-cursor", 20));
+        verifyNoInteractions(forumMemberRepository);
+    }
+
+    private static ForumMemberResponseDTO member(Instant joinedAt) {
+        return new ForumMemberResponseDTO(UUID.randomUUID(), "Name Example", "username", joinedAt);
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumMemberEntity;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumMemberId;
+import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.membership.UserOrdinals;
+import br.com.soupaulodev.forumhub.modules.membership.repository.HighsMembershipRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Regression test for the statements issued by {@code GET /forums/all}: a page of forums must be read with a single
+ * statement, without a count and straight into its DTOs, so neither the forums nor their owners or members are
+ * loaded as entities, whatever their number.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ListForumsUseCaseQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ForumRepository forumRepository;
+
+    @Autowired
+    private ForumHighsRepository forumHighsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private HighsMembershipRepository highsMembershipRepository;
+    private ListForumsUseCase listForumsUseCase;
+    private Statistics statistics;
+    private UserEntity viewer;
+
+    @BeforeEach
+    void setUp() {
+        highsMembershipRepository = spy(new HighsMembershipRepository(jdbcTemplate));
+        listForumsUseCase = new ListForumsUseCase(forumRepository,
+                new HighsMembershipIndex(highsMembershipRepository, new UserOrdinals(100), 100, 10),
+                forumHighsRepository, new ForumMapper(new HighsCounter()));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        viewer = entityManager.persist(new UserEntity("Viewer", "viewer", "viewer@example.mail", "password"));
+        List<UserEntity> members = List.of(
+                entityManager.persist(new UserEntity("Member 1", "member1", "member1@example.mail", "password")),
+                entityManager.persist(new UserEntity("Member 2", "member2", "member2@example.mail", "password")));
+
+        for (int i = 0; i < 3; i++) {
+            UserEntity owner = entityManager.persist(
+                    new UserEntity("Owner " + i, "owner" + i, "owner" + i + "@example.mail", "password"));
+            ForumEntity forum = entityManager.persist(new ForumEntity("Forum " + i, "Forum number " + i, owner));
+            join(forum, owner);
+            members.forEach(member -> join(forum, member));
+            entityManager.persist(new ForumHighsEntity(forum, viewer));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void join(ForumEntity forum, UserEntity user) {
+        entityManager.persist(new ForumMemberEntity(new ForumMemberId(forum.getId(), user.getId())));
+        forum.incrementParticipantsCount();
+    }
+
+    @Test
+    void execute_ShouldReadPageOnly() {
+        // Act
+        CursorPageDTO<ForumResponseDTO> forums = listForumsUseCase.execute(null, 2);
+
+        // Assert
+        assertEquals(2, forums.items().size());
+        assertTrue(forums.items().stream().allMatch(forum -> forum.participants() == 3));
+        assertNotNull(forums.next());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    void execute_ShouldFlagHighedForumsWithOneMoreStatement_WhenViewerIsAuthenticated() {
+        // Act
+        CursorPageDTO<ForumResponseDTO> forums = listForumsUseCase.execute(null, 2, viewer.getId());
+
+        // Assert
+        assertEquals(2, forums.items().size());
+        assertTrue(forums.items().stream().allMatch(ForumResponseDTO::highedByMe));
+        verifyNoInteractions(highsMembershipRepository);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    void execute_ShouldSeekTheNextPageWithASingleStatement() {
+        // Arrange
+        CursorPageDTO<ForumResponseDTO> first = listForumsUseCase.execute(null, 2);
+        statistics.clear();
+
+        // Act
+        CursorPageDTO<ForumResponseDTO> second = listForumsUseCase.execute(first.next(), 2);
+
+        // Assert
+        assertEquals(1, second.items().size());
+        assertNull(second.next());
+        assertTrue(first.items().stream().noneMatch(forum -> forum.id().equals(second.items().get(0).id())));
+        assertEquals(Cursor.decode(first.next()).id(), first.items().get(1).id());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
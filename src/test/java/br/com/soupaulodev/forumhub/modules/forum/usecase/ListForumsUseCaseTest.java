@@ -1,22 +1,25 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,70 +32,105 @@ class ListForumsUseCaseTest {
     @Mock
     private ForumRepository forumRepository;
 
+    @Mock
+    private HighsMembershipIndex highsMembershipIndex;
+
+    @Mock
+    private ForumHighsRepository forumHighsRepository;
+
     @Mock
     private ForumMapper forumMapper;
 
     @InjectMocks
     private ListForumsUseCase listForumsUseCase;
 
-    private ForumEntity forumEntity;
+    private ForumResponseDTO forum;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        forumEntity = new ForumEntity();
-        forumEntity.setId(UUID.randomUUID());
-        forumEntity.setName("Test Forum");
-        forumEntity.setDescription("A test forum description");
-        forumEntity.setCreatedAt(Instant.now());
-        forumEntity.setUpdatedAt(Instant.now());
+        forum = forum("Test Forum", Instant.parse("2025-01-01T11:00:00Z"));
+        when(forumMapper.withPendingHighs(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
     void execute_ShouldReturnListOfForums() {
-        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<ForumEntity> forumPage = new PageImpl<>(List.of(forumEntity));
-
-        when(forumRepository.findAll(pageable)).thenReturn(forumPage);
-
-        ForumResponseDTO responseMock = new ForumResponseDTO(
-                forumEntity.getId(),
-                forumEntity.getName(),
-                forumEntity.getDescription(),
-                UUID.randomUUID(),
-                0L,
-                10,
-                5L,
-                forumEntity.getCreatedAt(),
-                forumEntity.getUpdatedAt()
-        );
+        when(forumRepository.findNewest(Limit.of(11))).thenReturn(List.of(forum));
+        when(forumMapper.withPendingHighs(forum)).thenReturn(forum.withHighs(3L));
 
-        when(forumMapper.toResponseDTO(forumEntity)).thenReturn(responseMock);
-
-        List<ForumResponseDTO> responseList = listForumsUseCase.execute(0, 10);
+        CursorPageDTO<ForumResponseDTO> page = listForumsUseCase.execute(null, 10);
+        List<ForumResponseDTO> responseList = page.items();
 
         assertNotNull(responseList);
         assertEquals(1, responseList.size());
         assertEquals("Test Forum", responseList.getFirst().name());
+        assertEquals(3L, responseList.get(0).highs());
+        assertNull(page.next());
 
-        verify(forumRepository).findAll(pageable);
-        verify(forumMapper).toResponseDTO(forumEntity);
+        verify(forumRepository).findNewest(Limit.of(11));
+        verifyNoInteractions(highsMembershipIndex);
+    }
+
+    @Test
+    void execute_ShouldFlagHighedForumsWithSingleLookup_WhenViewerIsAuthenticated() {
+        UUID viewerId = UUID.randomUUID();
+        ForumResponseDTO otherForum = forum("Other Forum", Instant.parse("2025-01-01T10:00:00Z"));
+
+        when(forumRepository.findNewest(Limit.of(11))).thenReturn(List.of(forum, otherForum));
+        when(highsMembershipIndex.findHighed(eq(CounterTarget.FORUM), eq(List.of(forum.id(), otherForum.id())),
+                eq(viewerId), any())).thenAnswer(invocation -> invocation.<Function<List<UUID>, Set<UUID>>>getArgument(3)
+                .apply(List.of(otherForum.id(), forum.id())));
+        when(forumHighsRepository.findHighedForumIds(viewerId, List.of(otherForum.id(), forum.id())))
+                .thenReturn(Set.of(forum.id()));
+
+        List<ForumResponseDTO> responseList = listForumsUseCase.execute(null, 10, viewerId).items();
+
+        assertEquals(2, responseList.size());
+        assertTrue(responseList.get(0).highedByMe());
+        assertFalse(responseList.get(1).highedByMe());
+        verify(highsMembershipIndex, times(1)).findHighed(any(), any(), any(), any());
+        verify(forumHighsRepository, times(1)).findHighedForumIds(any(), any());
     }
 
     @Test
     void execute_ShouldReturnEmptyList_WhenNoForumsExist() {
-        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<ForumEntity> emptyPage = new PageImpl<>(List.of());
+        when(forumRepository.findNewest(Limit.of(11))).thenReturn(List.of());
 
-        when(forumRepository.findAll(pageable)).thenReturn(emptyPage);
+        CursorPageDTO<ForumResponseDTO> page = listForumsUseCase.execute(null, 10);
 
-        List<ForumResponseDTO> responseList = listForumsUseCase.execute(0, 10);
+        assertNotNull(page.items());
+        assertTrue(page.items().isEmpty());
+        assertNull(page.next());
 
-        assertNotNull(responseList);
-        assertTrue(responseList.isEmpty());
+        verify(forumRepository).findNewest(Limit.of(11));
+        verify(forumMapper, never()).withPendingHighs(any());
+    }
+
+    @Test
+    void execute_ShouldSeekPastTheCursorAndReturnCursorOfLastForum_WhenThereIsANextPage() {
+        Cursor cursor = new Cursor(Instant.parse("2025-01-01T12:00:00Z"), UUID.randomUUID());
+        ForumResponseDTO olderForum = forum("Older Forum", Instant.parse("2025-01-01T10:00:00Z"));
+
+        when(forumRepository.findNewestBefore(cursor.at(), cursor.id(), Limit.of(2)))
+                .thenReturn(List.of(forum, olderForum));
+
+        CursorPageDTO<ForumResponseDTO> page = listForumsUseCase.execute(cursor.encode(), 1);
+
+        assertEquals(List.of(forum), page.items());
+        assertEquals(new Cursor(forum.createdAt(), forum.id()), Cursor.decode(page.next()));
+        verify(forumRepository, never()).findNewest(any());
+        verify(forumMapper, never()).withPendingHighs(olderForum);
+    }
+
+    @Test
+    void execute_ShouldRejectInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> listForumsUseCase.execute("not-a-cursor", 10));
+        verifyNoInteractions(forumRepository);
+    }
 
-        verify(forumRepository).findAll(pageable);
-        verify(forumMapper, never()).toResponseDTO(any());
+    private static ForumResponseDTO forum(String name, Instant createdAt) {
+        return new ForumResponseDTO(UUID.randomUUID(), name, "Description", UUID.randomUUID(), 0L, 1, 0L,
+                createdAt, createdAt);
     }
 }
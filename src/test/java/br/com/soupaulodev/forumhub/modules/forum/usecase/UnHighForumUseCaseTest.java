@@ -1,14 +1,12 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
-import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -21,54 +19,42 @@ import static org.mockito.Mockito.*;
 class UnHighForumUseCaseTest {
 
     private ForumHighsRepository forumHighsRepository;
-    private ForumRepository forumRepository;
+    private HighEffects highEffects;
+    private HighsWriteAheadLog highsWriteAheadLog;
     private UnHighForumUseCase unHighForumUseCase;
 
     private UUID forumId;
     private UUID userId;
-    private ForumEntity forumEntity;
-    private UserEntity userEntity;
 
     @BeforeEach
     void setUp() {
         forumHighsRepository = mock(ForumHighsRepository.class);
-        forumRepository = mock(ForumRepository.class);
-        unHighForumUseCase = new UnHighForumUseCase(forumHighsRepository, forumRepository);
+        highEffects = mock(HighEffects.class);
+        highsWriteAheadLog = mock(HighsWriteAheadLog.class);
+        unHighForumUseCase = new UnHighForumUseCase(forumHighsRepository, highEffects, highsWriteAheadLog);
 
         forumId = UUID.randomUUID();
         userId = UUID.randomUUID();
-        userEntity = new UserEntity();
-        forumEntity = new ForumEntity("Forum", "Description", userEntity);
     }
 
     @Test
     void shouldUnHighForumSuccessfully() {
-        forumEntity.incrementHighs();
-        ForumHighsEntity forumHighsEntity = new ForumHighsEntity(forumEntity, userEntity);
-        when(forumHighsRepository.findByForum_IdAndUser_Id(forumId, userId)).thenReturn(Optional.of(forumHighsEntity));
-        when(forumRepository.findById(forumId)).thenReturn(Optional.of(forumEntity));
+        when(forumHighsRepository.deleteIfPresent(forumId, userId)).thenReturn(1);
 
         unHighForumUseCase.execute(forumId, userId);
 
-        verify(forumHighsRepository, times(1)).delete(forumHighsEntity);
-        verify(forumRepository, times(1)).save(forumEntity);
-        assertEquals(0, forumEntity.getHighsCount());
+        verify(forumHighsRepository, times(1)).deleteIfPresent(forumId, userId);
+        verify(highEffects, times(1)).unHighed(CounterTarget.FORUM, forumId, userId);
     }
 
     @Test
     void shouldThrowExceptionIfForumIsNotHighed() {
-        when(forumHighsRepository.findByForum_IdAndUser_Id(forumId, userId)).thenReturn(Optional.empty());
+        when(forumHighsRepository.deleteIfPresent(forumId, userId)).thenReturn(0);
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> unHighForumUseCase.execute(forumId, userId));
 
         assertEquals("Forum not highed", exception.getMessage());
-    }
-
-    @Test
-    void shouldThrowExceptionIfForumDoesNotExist() {
-        when(forumHighsRepository.findByForum_IdAndUser_Id(forumId, userId)).thenThrow(IllegalArgumentException.class);
-
-        assertThrows(IllegalArgumentException.class, () -> unHighForumUseCase.execute(forumId, userId));
+        verifyNoInteractions(highEffects);
     }
 }
@@ -0,0 +1,88 @@
+package br.com.soupaulodev.forumhub.modules.high.log;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.repository.HighsBatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsLogReplayerTest {
+
+    private static final Instant ACCEPTED_AT = Instant.ofEpochMilli(1_000L);
+
+    @TempDir
+    Path directory;
+
+    private HighsWriteAheadLog highsLog;
+    private HighsBatchRepository highsBatchRepository;
+    private HighEffects highEffects;
+    private HighsLogReplayer replayer;
+
+    private UUID userId;
+    private CannotCreateTransactionException unavailable;
+
+    @BeforeEach
+    void setUp() {
+        highsLog = new HighsWriteAheadLog(true, directory, 4096, 65536, FsyncPolicy.NONE, ACCEPTED_AT::toEpochMilli);
+        highsBatchRepository = mock(HighsBatchRepository.class);
+        highEffects = mock(HighEffects.class);
+        replayer = new HighsLogReplayer(highsLog, highsBatchRepository, highEffects, 10);
+        userId = UUID.randomUUID();
+        unavailable = new CannotCreateTransactionException("connection refused");
+    }
+
+    @AfterEach
+    void tearDown() {
+        highsLog.close();
+    }
+
+    @Test
+    void replay_ShouldApplyRecordsInOrderAndPropagateActualChanges() {
+        UUID topicId = UUID.randomUUID();
+        UUID highedTopicId = UUID.randomUUID();
+        highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, topicId, userId);
+        highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, highedTopicId, userId);
+        highsLog.deferOrRethrow(unavailable, HighAction.UNHIGH, CounterTarget.TOPIC, topicId, userId);
+        when(highsBatchRepository.insertAll(CounterTarget.TOPIC, userId, List.of(topicId), ACCEPTED_AT))
+                .thenReturn(Set.of(topicId));
+        when(highsBatchRepository.insertAll(CounterTarget.TOPIC, userId, List.of(highedTopicId), ACCEPTED_AT))
+                .thenReturn(Set.of());
+        when(highsBatchRepository.deleteAll(CounterTarget.TOPIC, userId, List.of(topicId))).thenReturn(Set.of(topicId));
+
+        replayer.replay();
+
+        verify(highEffects).highed(CounterTarget.TOPIC, topicId, userId);
+        verify(highEffects).unHighed(CounterTarget.TOPIC, topicId, userId);
+        verify(highEffects, never()).highed(CounterTarget.TOPIC, highedTopicId, userId);
+        assertEquals(0, highsLog.pending());
+    }
+
+    @Test
+    void replay_ShouldStop_WhenDatabaseIsStillUnavailable() {
+        UUID forumId = UUID.randomUUID();
+        highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.FORUM, forumId, userId);
+        when(highsBatchRepository.insertAll(CounterTarget.FORUM, userId, List.of(forumId), ACCEPTED_AT))
+                .thenThrow(unavailable);
+
+        replayer.replay();
+
+        assertEquals(1, highsLog.pending());
+        verifyNoInteractions(highEffects);
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.soupaulodev.forumhub.modules.high.log;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsWriteAheadLogTest {
+
+    private static final int RECORD = HighsLogSegment.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private HighsWriteAheadLog highsLog;
+    private UUID userId;
+    private CannotCreateTransactionException unavailable;
+
+    @BeforeEach
+    void setUp() {
+        highsLog = open(2 * RECORD, 4 * RECORD);
+        userId = UUID.randomUUID();
+        unavailable = new CannotCreateTransactionException("connection refused");
+    }
+
+    @AfterEach
+    void tearDown() {
+        highsLog.close();
+    }
+
+    @Test
+    void deferOrRethrow_ShouldLogAndKeepDeferringUntilReplayed() {
+        UUID topicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
+
+        assertFalse(highsLog.deferIfPending(HighAction.HIGH, CounterTarget.TOPIC, topicId, userId));
+        highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, topicId, userId);
+        assertTrue(highsLog.deferIfPending(HighAction.UNHIGH, CounterTarget.FORUM, forumId, userId));
+
+        List<HighsLogRecord> records = highsLog.peek(10);
+        assertEquals(2, records.size());
+        assertEquals(HighAction.HIGH, records.get(0).action());
+        assertEquals(topicId, records.get(0).targetId());
+        assertEquals(CounterTarget.FORUM, records.get(1).target());
+        assertEquals(userId, records.get(1).userId());
+
+        highsLog.acknowledge(2);
+        assertEquals(0, highsLog.pending());
+        assertFalse(highsLog.deferIfPending(HighAction.HIGH, CounterTarget.TOPIC, topicId, userId));
+    }
+
+    @Test
+    void deferOrRethrow_ShouldRethrowFailuresUnrelatedToAvailability() {
+        DataIntegrityViolationException failure = new DataIntegrityViolationException("fk violation");
+
+        assertThrows(DataIntegrityViolationException.class, () ->
+                highsLog.deferOrRethrow(failure, HighAction.HIGH, CounterTarget.TOPIC, UUID.randomUUID(), userId));
+        assertEquals(0, highsLog.pending());
+    }
+
+    @Test
+    void deferOrRethrow_ShouldRethrow_WhenDiskBudgetIsUsed() {
+        for (int i = 0; i < 4; i++) {
+            highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, UUID.randomUUID(), userId);
+        }
+
+        assertThrows(CannotCreateTransactionException.class, () ->
+                highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, UUID.randomUUID(), userId));
+        assertEquals(4, highsLog.pending());
+    }
+
+    @Test
+    void recover_ShouldResumeFromCheckpointAndDeleteReplayedSegments() throws IOException {
+        UUID[] topics = {UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()};
+        for (UUID topicId : topics) {
+            highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, topicId, userId);
+        }
+        highsLog.acknowledge(2);
+        highsLog.close();
+
+        highsLog = open(2 * RECORD, 4 * RECORD);
+
+        assertEquals(1, highsLog.pending());
+        assertEquals(topics[2], highsLog.peek(10).get(0).targetId());
+        assertEquals(1, segmentFiles().size());
+    }
+
+    @Test
+    void recover_ShouldStopAtTornRecord() throws IOException {
+        highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, UUID.randomUUID(), userId);
+        highsLog.deferOrRethrow(unavailable, HighAction.HIGH, CounterTarget.TOPIC, UUID.randomUUID(), userId);
+        highsLog.close();
+
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            file.seek(RECORD + 20);
+            file.write(0x7F);
+        }
+        highsLog = open(2 * RECORD, 4 * RECORD);
+
+        assertEquals(1, highsLog.pending());
+    }
+
+    @Test
+    void constructor_ShouldFailFast_WhenDirectoryCannotBeCreated() throws IOException {
+        Path file = Files.createFile(directory.resolve("not-a-directory"));
+
+        assertThrows(UncheckedIOException.class, () -> new HighsWriteAheadLog(
+                true, file.resolve("highs-log"), 2 * RECORD, 4 * RECORD, FsyncPolicy.ALWAYS, () -> 1_000L));
+    }
+
+    private HighsWriteAheadLog open(int segmentBytes, long maxBytes) {
+        return new HighsWriteAheadLog(true, directory, segmentBytes, maxBytes, FsyncPolicy.ALWAYS, () -> 1_000L);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.soupaulodev.forumhub.modules.high.repository;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsBatchRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private HighsBatchRepository highsBatchRepository;
+
+    private UUID userId;
+    private UUID first;
+    private UUID second;
+    private UUID third;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        highsBatchRepository = new HighsBatchRepository(jdbcTemplate);
+        userId = UUID.randomUUID();
+
+        List<UUID> ordered = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()).stream()
+                .sorted().toList();
+        first = ordered.get(0);
+        second = ordered.get(1);
+        third = ordered.get(2);
+    }
+
+    @Test
+    void insertAll_ShouldReturnOnlyTheTargetsTheStatementReturned() {
+        // Arrange
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        when(jdbcTemplate.queryForList(sql.capture(), eq(UUID.class), args.capture()))
+                .thenReturn(List.of(first, third));
+
+        // Act
+        Set<UUID> highed = highsBatchRepository.insertAll(CounterTarget.TOPIC, userId, List.of(third, first, second));
+
+        // Assert
+        assertEquals(Set.of(first, third), highed);
+        assertTrue(sql.getValue().endsWith("DO NOTHING RETURNING topic_id"));
+        Object[] values = args.getValue();
+        assertEquals(userId, values[0]);
+        assertEquals(List.of(first, second, third), List.of(values[4], values[6], values[8]));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+    }
+
+    @Test
+    void insertAll_ShouldStampHighsWithTheGivenInstant() {
+        // Arrange
+        Instant highedAt = Instant.parse("2025-01-01T12:00:00Z");
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), args.capture())).thenReturn(List.of(first));
+
+        // Act
+        highsBatchRepository.insertAll(CounterTarget.TOPIC, userId, List.of(first), highedAt);
+
+        // Assert
+        Object[] values = args.getValue();
+        assertEquals(Timestamp.from(highedAt), values[1]);
+        assertEquals(Timestamp.from(highedAt), values[2]);
+        assertEquals(UlidGenerator.lowerBound(highedAt).substring(0, 10), ((String) values[3]).substring(0, 10));
+    }
+
+    @Test
+    void deleteAll_ShouldReturnOnlyTheTargetsTheStatementReturned() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(userId), eq(first), eq(second), eq(third)))
+                .thenReturn(List.of(second));
+
+        // Act
+        Set<UUID> unhighed = highsBatchRepository.deleteAll(CounterTarget.TOPIC, userId, List.of(second, third, first));
+
+        // Assert
+        assertEquals(Set.of(second), unhighed);
+    }
+
+    @Test
+    void insertAll_ShouldNotRunAStatement_WhenThereAreNoTargets() {
+        assertTrue(highsBatchRepository.insertAll(CounterTarget.TOPIC, userId, List.of()).isEmpty());
+        assertTrue(highsBatchRepository.deleteAll(CounterTarget.TOPIC, userId, List.of()).isEmpty());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.soupaulodev.forumhub.modules.high.usecase;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighAction;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighBatchRequestDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighBatchResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighOperationRequestDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighOperationStatus;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
+import br.com.soupaulodev.forumhub.modules.high.repository.HighsBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulode.com.br>soupaulodev</a>
+ */
+class ApplyHighsBatchUseCaseTest {
+
+    @Mock
+    private HighsBatchRepository highsBatchRepository;
+
+    @Mock
+    private HighEffects highEffects;
+
+    @Mock
+    private HighsWriteAheadLog highsWriteAheadLog;
+
+    @InjectMocks
+    private ApplyHighsBatchUseCase applyHighsBatchUseCase;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userId = UUID.randomUUID();
+        when(highsWriteAheadLog.deferIfPending(any(), any(), any(), any())).thenReturn(false);
+    }
+
+    @Test
+    void execute_ShouldApplyGroupedOperationsAndReportEachOne() {
+        // Arrange
+        UUID topicId = UUID.randomUUID();
+        UUID highedTopicId = UUID.randomUUID();
+        UUID missingTopicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
+        HighBatchRequestDTO request = new HighBatchRequestDTO(List.of(
+                operation(CounterTarget.TOPIC, topicId, HighAction.HIGH),
+                operation(CounterTarget.TOPIC, highedTopicId, HighAction.HIGH),
+                operation(CounterTarget.TOPIC, missingTopicId, HighAction.HIGH),
+                operation(CounterTarget.FORUM, forumId, HighAction.UNHIGH)
+        ));
+        when(highsBatchRepository.findExistingIds(eq(CounterTarget.TOPIC), anyCollection()))
+                .thenReturn(Set.of(topicId, highedTopicId));
+        when(highsBatchRepository.insertAll(CounterTarget.TOPIC, userId, List.of(topicId, highedTopicId)))
+                .thenReturn(Set.of(topicId));
+        when(highsBatchRepository.deleteAll(eq(CounterTarget.FORUM), eq(userId), anyCollection()))
+                .thenReturn(Set.of(forumId));
+
+        // Act
+        HighBatchResponseDTO response = applyHighsBatchUseCase.execute(request, userId);
+
+        // Assert
+        assertEquals(2, response.applied());
+        assertEquals(HighOperationStatus.APPLIED, response.results().get(0).status());
+        assertEquals(HighOperationStatus.ALREADY_HIGHED, response.results().get(1).status());
+        assertEquals(HighOperationStatus.NOT_FOUND, response.results().get(2).status());
+        assertEquals(HighOperationStatus.APPLIED, response.results().get(3).status());
+        verify(highEffects).highed(CounterTarget.TOPIC, topicId, userId);
+        verify(highEffects).unHighed(CounterTarget.FORUM, forumId, userId);
+        verify(highEffects, never()).highed(CounterTarget.TOPIC, highedTopicId, userId);
+    }
+
+    @Test
+    void execute_ShouldKeepOnlyTheLastOperationPerTarget() {
+        // Arrange
+        UUID commentId = UUID.randomUUID();
+        HighBatchRequestDTO request = new HighBatchRequestDTO(List.of(
+                operation(CounterTarget.COMMENT, commentId, HighAction.HIGH),
+                operation(CounterTarget.COMMENT, commentId, HighAction.UNHIGH)
+        ));
+        when(highsBatchRepository.deleteAll(eq(CounterTarget.COMMENT), eq(userId), anyCollection()))
+                .thenReturn(Set.of());
+
+        // Act
+        HighBatchResponseDTO response = applyHighsBatchUseCase.execute(request, userId);
+
+        // Assert
+        assertEquals(0, response.applied());
+        assertEquals(HighOperationStatus.SUPERSEDED, response.results().get(0).status());
+        assertEquals(HighOperationStatus.NOT_HIGHED, response.results().get(1).status());
+        verify(highsBatchRepository, never()).insertAll(any(), any(), anyCollection());
+        verifyNoInteractions(highEffects);
+    }
+
+    @Test
+    void execute_ShouldForbidHighingYourself() {
+        // Arrange
+        HighBatchRequestDTO request = new HighBatchRequestDTO(List.of(
+                operation(CounterTarget.USER, userId, HighAction.HIGH)
+        ));
+
+        // Act
+        HighBatchResponseDTO response = applyHighsBatchUseCase.execute(request, userId);
+
+        // Assert
+        assertEquals(HighOperationStatus.FORBIDDEN, response.results().get(0).status());
+        verifyNoInteractions(highsBatchRepository, highEffects);
+    }
+
+    @Test
+    void execute_ShouldDeferOperations_WhenEarlierOperationsArePendingInTheLog() {
+        // Arrange
+        UUID topicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
+        HighBatchRequestDTO request = new HighBatchRequestDTO(List.of(
+                operation(CounterTarget.TOPIC, topicId, HighAction.HIGH),
+                operation(CounterTarget.FORUM, forumId, HighAction.UNHIGH)
+        ));
+        when(highsWriteAheadLog.deferIfPending(any(), any(), any(), any())).thenReturn(true);
+
+        // Act
+        HighBatchResponseDTO response = applyHighsBatchUseCase.execute(request, userId);
+
+        // Assert
+        assertEquals(0, response.applied());
+        assertEquals(HighOperationStatus.DEFERRED, response.results().get(0).status());
+        assertEquals(HighOperationStatus.DEFERRED, response.results().get(1).status());
+        verify(highsWriteAheadLog).deferIfPending(HighAction.HIGH, CounterTarget.TOPIC, topicId, userId);
+        verify(highsWriteAheadLog).deferIfPending(HighAction.UNHIGH, CounterTarget.FORUM, forumId, userId);
+        verifyNoInteractions(highsBatchRepository, highEffects);
+    }
+
+    @Test
+    void execute_ShouldDeferGroup_WhenDatabaseIsUnavailable() {
+        // Arrange
+        UUID topicId = UUID.randomUUID();
+        HighBatchRequestDTO request = new HighBatchRequestDTO(List.of(
+                operation(CounterTarget.TOPIC, topicId, HighAction.HIGH)
+        ));
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("Database is down");
+        when(highsBatchRepository.findExistingIds(eq(CounterTarget.TOPIC), anyCollection())).thenThrow(failure);
+
+        // Act
+        HighBatchResponseDTO response = applyHighsBatchUseCase.execute(request, userId);
+
+        // Assert
+        assertEquals(HighOperationStatus.DEFERRED, response.results().get(0).status());
+        verify(highsWriteAheadLog).deferOrRethrow(failure, HighAction.HIGH, CounterTarget.TOPIC, topicId, userId);
+        verifyNoInteractions(highEffects);
+    }
+
+    private HighOperationRequestDTO operation(CounterTarget type, UUID id, HighAction action) {
+        return new HighOperationRequestDTO(type, id.toString(), action);
+    }
+}
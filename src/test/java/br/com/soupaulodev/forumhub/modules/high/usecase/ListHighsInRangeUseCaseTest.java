@@ -0,0 +1,87 @@
+package br.com.soupaulodev.forumhub.modules.high.usecase;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighRecordResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.controller.dto.HighsPageResponseDTO;
+import br.com.soupaulodev.forumhub.modules.high.repository.HighsRangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulode.com.br>soupaulodev</a>
+ */
+class ListHighsInRangeUseCaseTest {
+
+    @Mock
+    private HighsRangeRepository highsRangeRepository;
+
+    @InjectMocks
+    private ListHighsInRangeUseCase listHighsInRangeUseCase;
+
+    private Instant from;
+    private Instant to;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        from = Instant.parse("2025-01-01T00:00:00Z");
+        to = Instant.parse("2025-02-01T00:00:00Z");
+    }
+
+    @Test
+    void execute_ShouldScanUlidBoundsAndReturnNextCursor() {
+        // Arrange
+        String fromId = UlidGenerator.lowerBound(from);
+        String toId = UlidGenerator.lowerBound(to);
+        List<HighRecordResponseDTO> rows = List.of(high(), high(), high());
+        when(highsRangeRepository.findPage(CounterTarget.TOPIC, fromId, null, toId, 3)).thenReturn(rows);
+
+        // Act
+        HighsPageResponseDTO page = listHighsInRangeUseCase.execute(CounterTarget.TOPIC, from, to, null, 2);
+
+        // Assert
+        assertEquals(2, page.highs().size());
+        assertEquals(rows.get(1).id(), page.nextCursor());
+    }
+
+    @Test
+    void execute_ShouldReturnNoCursorOnLastPage() {
+        // Arrange
+        String cursor = UlidGenerator.generate();
+        when(highsRangeRepository.findPage(eq(CounterTarget.FORUM), anyString(), eq(cursor), anyString(), eq(11)))
+                .thenReturn(List.of(high()));
+
+        // Act
+        HighsPageResponseDTO page = listHighsInRangeUseCase.execute(CounterTarget.FORUM, from, to, cursor, 10);
+
+        // Assert
+        assertEquals(1, page.highs().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void execute_ShouldRejectInvalidRequests() {
+        assertThrows(IllegalArgumentException.class,
+                () -> listHighsInRangeUseCase.execute(CounterTarget.TOPIC, to, from, null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> listHighsInRangeUseCase.execute(CounterTarget.TOPIC, from, to, "not-a-ulid", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> listHighsInRangeUseCase.execute(CounterTarget.TOPIC, from, to, null, 0));
+        verifyNoInteractions(highsRangeRepository);
+    }
+
+    private HighRecordResponseDTO high() {
+        return new HighRecordResponseDTO(UlidGenerator.generate(), UUID.randomUUID(), UUID.randomUUID(), Instant.now());
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class CompressedBitmapTest {
+
+    @Test
+    void add_ShouldReportWhetherValueWasNew() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        assertTrue(bitmap.add(42));
+        assertFalse(bitmap.add(42));
+        assertTrue(bitmap.add(70_000));
+
+        assertTrue(bitmap.contains(42));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(43));
+        assertFalse(bitmap.contains(-1));
+        assertEquals(2, bitmap.cardinality());
+    }
+
+    @Test
+    void add_ShouldRejectNegativeValues() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    void remove_ShouldDropValueAndEmptyChunk() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(1);
+        bitmap.add(1 << 20);
+
+        assertTrue(bitmap.remove(1 << 20));
+        assertFalse(bitmap.remove(1 << 20));
+        assertFalse(bitmap.contains(1 << 20));
+        assertTrue(bitmap.contains(1));
+        assertEquals(1, bitmap.cardinality());
+    }
+
+    @Test
+    void add_ShouldSwitchToBitsetWhenChunkIsDenseAndBackWhenSparse() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i <= CompressedBitmap.ARRAY_MAX_SIZE; i++) {
+            bitmap.add(i * 2);
+        }
+        long denseSize = bitmap.sizeInBytes();
+
+        for (int i = 0; i <= CompressedBitmap.ARRAY_MAX_SIZE; i++) {
+            assertTrue(bitmap.contains(i * 2));
+            assertFalse(bitmap.contains(i * 2 + 1));
+        }
+
+        for (int i = 0; i < CompressedBitmap.ARRAY_MAX_SIZE; i++) {
+            assertTrue(bitmap.remove(i * 2));
+        }
+
+        assertEquals(1, bitmap.cardinality());
+        assertTrue(bitmap.contains(CompressedBitmap.ARRAY_MAX_SIZE * 2));
+        assertTrue(bitmap.sizeInBytes() < denseSize);
+    }
+
+    @Test
+    void operations_ShouldMatchHashSet() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(200_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), bitmap.remove(value));
+            } else {
+                assertEquals(expected.add(value), bitmap.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), bitmap.cardinality());
+        for (int value = 0; value < 200_000; value++) {
+            assertEquals(expected.contains(value), bitmap.contains(value));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import br.com.soupaulodev.forumhub.modules.membership.repository.ForumMembershipRepository;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserRole;
+import br.com.soupaulodev.forumhub.security.utils.TokenAuthenticationDetails;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ForumMembershipTest {
+
+    private ForumMembershipRepository repository;
+    private AtomicLong clock;
+    private ForumMembership forumMembership;
+    private UUID userId;
+    private UUID forumId;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ForumMembershipRepository.class);
+        clock = new AtomicLong(1_000L);
+        forumMembership = new ForumMembership(repository, 100, Duration.ofMinutes(10), 2,
+                Duration.ofMinutes(15), clock::get);
+        userId = UUID.randomUUID();
+        forumId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void isParticipant_ShouldTrustDigestOfTheToken() {
+        // Arrange
+        authenticate(userId, MembershipDigest.of(clock.get(), List.of(forumId)));
+
+        // Act & Assert
+        assertTrue(forumMembership.isParticipant(userId, forumId));
+        verify(repository, never()).findForumIds(any());
+    }
+
+    @Test
+    void isParticipant_ShouldLoadForumsOnceWithoutDigest() {
+        // Arrange
+        when(repository.findForumIds(userId)).thenReturn(List.of(forumId));
+
+        // Act & Assert
+        assertTrue(forumMembership.isParticipant(userId, forumId));
+        assertFalse(forumMembership.isParticipant(userId, UUID.randomUUID()));
+        verify(repository, times(1)).findForumIds(userId);
+    }
+
+    @Test
+    void left_ShouldStopTrustingOlderDigests() {
+        // Arrange
+        authenticate(userId, MembershipDigest.of(clock.get(), List.of(forumId)));
+        when(repository.findForumIds(userId)).thenReturn(List.of());
+        clock.incrementAndGet();
+
+        // Act
+        forumMembership.left(userId, forumId);
+
+        // Assert
+        assertFalse(forumMembership.isParticipant(userId, forumId));
+        verify(repository, times(1)).findForumIds(userId);
+    }
+
+    @Test
+    void joined_ShouldReloadCachedForums() {
+        // Arrange
+        UUID otherForum = UUID.randomUUID();
+        when(repository.findForumIds(userId))
+                .thenReturn(List.of(forumId))
+                .thenReturn(List.of(forumId, otherForum));
+        assertFalse(forumMembership.isParticipant(userId, otherForum));
+
+        // Act
+        forumMembership.joined(userId, otherForum);
+
+        // Assert
+        assertTrue(forumMembership.isParticipant(userId, otherForum));
+        verify(repository, times(2)).findForumIds(userId);
+    }
+
+    @Test
+    void snapshot_ShouldLeaveLargeMembershipsOutOfTheToken() {
+        // Arrange
+        when(repository.findForumIds(userId))
+                .thenReturn(List.of(forumId))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        // Act & Assert
+        MembershipDigest digest = forumMembership.snapshot(userId);
+        assertEquals(digest, MembershipDigest.decode(digest.encode()));
+        assertTrue(digest.contains(forumId));
+        assertNull(forumMembership.snapshot(userId));
+    }
+
+    private void authenticate(UUID userId, MembershipDigest membership) {
+        VerifiedToken token = new VerifiedToken(userId.toString(), "testuser", "token-id",
+                Instant.now().plusSeconds(60), membership, UserRole.USER);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+        authentication.setDetails(new TokenAuthenticationDetails(new MockHttpServletRequest(), token));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.soupaulodev.forumhub.modules.membership;
+
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.membership.repository.HighsMembershipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsMembershipIndexTest {
+
+    private HighsMembershipRepository repository;
+    private HighsMembershipIndex highsMembershipIndex;
+    private UUID topicId;
+    private UUID highingUser;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(HighsMembershipRepository.class);
+        highsMembershipIndex = new HighsMembershipIndex(repository, new UserOrdinals(100), 100, 10);
+        topicId = UUID.randomUUID();
+        highingUser = UUID.randomUUID();
+
+        doAnswer(invocation -> {
+            Consumer<UUID> consumer = invocation.getArgument(2);
+            consumer.accept(highingUser);
+            return null;
+        }).when(repository).forEachHighingUser(eq(CounterTarget.TOPIC), eq(topicId), any());
+    }
+
+    @Test
+    void isHighed_ShouldLoadBitmapOnce() {
+        assertTrue(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser));
+        assertFalse(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, UUID.randomUUID()));
+
+        verify(repository, times(1)).forEachHighingUser(eq(CounterTarget.TOPIC), eq(topicId), any());
+    }
+
+    @Test
+    void highed_ShouldUpdateLoadedBitmap() {
+        UUID otherUser = UUID.randomUUID();
+        highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, otherUser);
+
+        highsMembershipIndex.highed(CounterTarget.TOPIC, topicId, otherUser);
+        highsMembershipIndex.unHighed(CounterTarget.TOPIC, topicId, highingUser);
+
+        assertTrue(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, otherUser));
+        assertFalse(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser));
+        verify(repository, times(1)).forEachHighingUser(eq(CounterTarget.TOPIC), eq(topicId), any());
+    }
+
+    @Test
+    void isHighed_ShouldStayRight_WhenUsersAreEvictedFromTheOrdinals() {
+        highsMembershipIndex = new HighsMembershipIndex(repository, new UserOrdinals(2), 100, 10);
+        when(repository.existsHigh(CounterTarget.TOPIC, topicId, highingUser)).thenReturn(true);
+        assertTrue(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser));
+
+        for (int i = 0; i < 100; i++) {
+            highsMembershipIndex.highed(CounterTarget.TOPIC, UUID.randomUUID(), UUID.randomUUID());
+        }
+
+        assertTrue(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser));
+    }
+
+    @Test
+    void highed_ShouldNotLoadBitmap() {
+        highsMembershipIndex.highed(CounterTarget.TOPIC, topicId, UUID.randomUUID());
+        highsMembershipIndex.unHighed(CounterTarget.TOPIC, topicId, highingUser);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void findHighed_ShouldLookUpOnlyTheTargetsWithoutAResidentBitmap() {
+        UUID otherTopicId = UUID.randomUUID();
+        UUID unknownTopicId = UUID.randomUUID();
+        highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser);
+        List<Collection<UUID>> lookups = new ArrayList<>();
+
+        Set<UUID> highed = highsMembershipIndex.findHighed(CounterTarget.TOPIC,
+                List.of(topicId, otherTopicId, unknownTopicId), highingUser, targetIds -> {
+                    lookups.add(targetIds);
+                    return Set.of(otherTopicId);
+                });
+
+        assertEquals(Set.of(topicId, otherTopicId), highed);
+        assertEquals(List.of(List.of(otherTopicId, unknownTopicId)), lookups);
+        verify(repository, times(1)).forEachHighingUser(any(), any(), any());
+    }
+
+    @Test
+    void findHighed_ShouldLookUpEveryTarget_WhenViewerHasNoOrdinal() {
+        highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser);
+        UUID viewerId = UUID.randomUUID();
+
+        Set<UUID> highed = highsMembershipIndex.findHighed(CounterTarget.TOPIC, List.of(topicId), viewerId,
+                targetIds -> Set.copyOf(targetIds));
+
+        assertEquals(Set.of(topicId), highed);
+    }
+
+    @Test
+    void findHighed_ShouldLookUpTheTarget_WhenViewerGotItsOrdinalAfterTheBitmapWasLoaded() {
+        highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser);
+        UUID returningUser = UUID.randomUUID();
+        highsMembershipIndex.highed(CounterTarget.TOPIC, UUID.randomUUID(), returningUser);
+
+        Set<UUID> highed = highsMembershipIndex.findHighed(CounterTarget.TOPIC, List.of(topicId), returningUser,
+                targetIds -> Set.copyOf(targetIds));
+
+        assertEquals(Set.of(topicId), highed);
+    }
+
+    @Test
+    void isHighed_ShouldCheckTheDatabaseOnce_WhenUserGotItsOrdinalAfterTheBitmapWasLoaded() {
+        highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser);
+        UUID returningUser = UUID.randomUUID();
+        highsMembershipIndex.highed(CounterTarget.TOPIC, UUID.randomUUID(), returningUser);
+        when(repository.existsHigh(CounterTarget.TOPIC, topicId, returningUser)).thenReturn(true);
+
+        assertTrue(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, returningUser));
+        assertTrue(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, returningUser));
+
+        verify(repository, times(1)).existsHigh(CounterTarget.TOPIC, topicId, returningUser);
+        verify(repository, times(1)).forEachHighingUser(eq(CounterTarget.TOPIC), eq(topicId), any());
+    }
+
+    @Test
+    void evict_ShouldReloadBitmap() {
+        highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser);
+
+        highsMembershipIndex.evict(CounterTarget.TOPIC, topicId);
+
+        assertTrue(highsMembershipIndex.isHighed(CounterTarget.TOPIC, topicId, highingUser));
+        verify(repository, times(2)).forEachHighingUser(eq(CounterTarget.TOPIC), eq(topicId), any());
+    }
+}
@@ -2,6 +2,7 @@ package br.com.soupaulodev.forumhub.modules.topic.controller;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
@@ -55,6 +56,9 @@ class TopicControllerTest {
     @Mock
     private UnHighTopicUseCase unHighTopicUseCase;
 
+    @Mock
+    private ListTrendingTopicsUseCase listTrendingTopicsUseCase;
+
     @InjectMocks
     private TopicController topicController;
 
@@ -138,7 +142,7 @@ class TopicControllerTest {
 
     @Test
     void shouldListTopicsSuccessfully() {
-        int Page = 0;
+        String cursor = null;
         int Size = 10;
 
         List<TopicResponseDTO> topics = List.of(
@@ -156,13 +160,13 @@ class TopicControllerTest {
                 )
         );
 
-        when(listTopicsUseCase.execute(Page, Size)).thenReturn(topics);
+        when(listTopicsUseCase.execute(cursor, Size, userId)).thenReturn(new CursorPageDTO<>(topics, null));
 
-        ResponseEntity<List<TopicResponseDTO>> listedTopics = topicController.listForumsPageable(Page, Size);
+        ResponseEntity<CursorPageDTO<TopicResponseDTO>> listedTopics = topicController.listForumsPageable(cursor, Size);
 
         assertEquals(200, listedTopics.getStatusCode().value());
-        assertEquals(topics, listedTopics.getBody());
-        assertEquals(topics.size(), Objects.requireNonNull(listedTopics.getBody()).size());
+        assertEquals(topics, Objects.requireNonNull(listedTopics.getBody()).items());
+        assertEquals(topics.size(), listedTopics.getBody().items().size());
     }
 
     @Test
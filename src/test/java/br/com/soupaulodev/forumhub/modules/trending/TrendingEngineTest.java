@@ -0,0 +1,165 @@
+package br.com.soupaulodev.forumhub.modules.trending;
+
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class TrendingEngineTest {
+
+    private static final long HOUR = 60 * 60_000L;
+
+    private TopicRepository topicRepository;
+    private AtomicLong clock;
+    private TrendingEngine trendingEngine;
+
+    @BeforeEach
+    void setUp() {
+        topicRepository = mock(TopicRepository.class);
+        clock = new AtomicLong(1_000_000L);
+        trendingEngine = new TrendingEngine(topicRepository, clock::get, 60, 3);
+    }
+
+    @Test
+    void trendingTopics_ShouldRankByActivity() {
+        UUID forumId = UUID.randomUUID();
+        UUID quiet = UUID.randomUUID();
+        UUID busy = UUID.randomUUID();
+
+        trendingEngine.topicCreated(forumId, quiet);
+        trendingEngine.topicCreated(forumId, busy);
+        trendingEngine.topicCommented(forumId, busy);
+
+        assertEquals(List.of(busy, quiet), trendingEngine.trendingTopics(null, 10));
+        assertEquals(List.of(busy, quiet), trendingEngine.trendingTopics(forumId, 10));
+        assertEquals(List.of(busy), trendingEngine.trendingTopics(forumId, 1));
+        assertEquals(List.of(forumId), trendingEngine.trendingForums(10));
+    }
+
+    @Test
+    void trendingTopics_ShouldFavourRecentActivity() {
+        UUID forumId = UUID.randomUUID();
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+
+        trendingEngine.topicCommented(forumId, old);
+        trendingEngine.topicCommented(forumId, old);
+        clock.addAndGet(3 * HOUR);
+        trendingEngine.topicCommented(forumId, recent);
+
+        assertEquals(List.of(recent, old), trendingEngine.trendingTopics(null, 10));
+    }
+
+    @Test
+    void trendingTopics_ShouldKeepRankingAfterRebase() {
+        UUID forumId = UUID.randomUUID();
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+
+        clock.addAndGet(72 * HOUR);
+        trendingEngine.topicCommented(forumId, old);
+        clock.addAndGet(HOUR);
+        trendingEngine.topicCommented(forumId, recent);
+
+        assertEquals(List.of(recent, old), trendingEngine.trendingTopics(forumId, 10));
+        assertEquals(List.of(recent, old), trendingEngine.trendingTopics(null, 10));
+    }
+
+    @Test
+    void trendingTopics_ShouldDropForumsWhoseActivityDecayedAway() {
+        UUID idleForumId = UUID.randomUUID();
+        UUID idleTopicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+
+        trendingEngine.topicCommented(idleForumId, idleTopicId);
+        clock.addAndGet(100 * HOUR);
+        trendingEngine.topicCreated(forumId, topicId);
+
+        assertTrue(trendingEngine.trendingTopics(idleForumId, 10).isEmpty());
+        assertEquals(List.of(topicId), trendingEngine.trendingTopics(null, 10));
+        assertEquals(List.of(forumId), trendingEngine.trendingForums(10));
+    }
+
+    @Test
+    void trendingTopics_ShouldEvictColdestWhenFull() {
+        UUID forumId = UUID.randomUUID();
+        UUID coldest = UUID.randomUUID();
+        trendingEngine.topicCreated(forumId, coldest);
+        for (int i = 0; i < 3; i++) {
+            trendingEngine.topicCommented(forumId, UUID.randomUUID());
+        }
+
+        List<UUID> trending = trendingEngine.trendingTopics(null, 10);
+
+        assertEquals(3, trending.size());
+        assertFalse(trending.contains(coldest));
+    }
+
+    @Test
+    void topicDeleted_ShouldDropTopicFromRankings() {
+        UUID forumId = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        trendingEngine.topicCreated(forumId, deleted);
+        trendingEngine.topicCreated(forumId, kept);
+
+        trendingEngine.topicDeleted(forumId, deleted);
+        trendingEngine.topicHighed(deleted);
+
+        assertEquals(List.of(kept), trendingEngine.trendingTopics(null, 10));
+        assertEquals(List.of(kept), trendingEngine.trendingTopics(forumId, 10));
+    }
+
+    @Test
+    void forumDeleted_ShouldDropForumAndItsTopicsFromRankings() {
+        UUID deletedForumId = UUID.randomUUID();
+        UUID deletedTopicId = UUID.randomUUID();
+        UUID forumId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+        trendingEngine.topicCommented(deletedForumId, deletedTopicId);
+        trendingEngine.topicCreated(forumId, topicId);
+
+        trendingEngine.forumDeleted(deletedForumId);
+
+        assertEquals(List.of(forumId), trendingEngine.trendingForums(10));
+        assertEquals(List.of(topicId), trendingEngine.trendingTopics(null, 10));
+        assertTrue(trendingEngine.trendingTopics(deletedForumId, 10).isEmpty());
+    }
+
+    @Test
+    void topicHighed_ShouldResolveForumOnce() {
+        UUID forumId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+        when(topicRepository.findForumIdById(topicId)).thenReturn(Optional.of(forumId));
+
+        trendingEngine.topicHighed(topicId);
+        trendingEngine.topicHighed(topicId);
+
+        assertEquals(List.of(topicId), trendingEngine.trendingTopics(forumId, 10));
+        verify(topicRepository, times(1)).findForumIdById(topicId);
+    }
+
+    @Test
+    void topicUnHighed_ShouldDropTopicWhenScoreIsGone() {
+        UUID forumId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+        when(topicRepository.findForumIdById(topicId)).thenReturn(Optional.of(forumId));
+
+        trendingEngine.topicHighed(topicId);
+        trendingEngine.topicUnHighed(topicId);
+
+        assertTrue(trendingEngine.trendingTopics(null, 10).isEmpty());
+        assertTrue(trendingEngine.trendingTopics(UUID.randomUUID(), 10).isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package br.com.soupaulodev.forumhub.modules.user.controller;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.usecase.*;
@@ -84,61 +85,58 @@ class UserControllerTest {
         List<UserResponseDTO> responseDTO = List.of(
                 new UserResponseDTO(userId, "test-name", "test-username", 0L, now, now),
                 new UserResponseDTO(UUID.randomUUID(), "test-name", "test-username",0L, now, now));
-        int page = 0;
         int size = 10;
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(null, size)).thenReturn(new CursorPageDTO<>(responseDTO, null));
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPageDTO<UserResponseDTO>> response = userController.listUsers(null, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(responseDTO.size(), Objects.requireNonNull(response.getBody()).size());
+        assertEquals(responseDTO, Objects.requireNonNull(response.getBody()).items());
+        assertEquals(responseDTO.size(), response.getBody().items().size());
     }
 
     @Test
     void testGetAllUsers_shouldReturnVoidListWhenNoUsersFound() {
         List<UserResponseDTO> responseDTO = List.of();
-        int page = 0;
         int size = 10;
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(null, size)).thenReturn(new CursorPageDTO<>(responseDTO, null));
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPageDTO<UserResponseDTO>> response = userController.listUsers(null, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(0, Objects.requireNonNull(response.getBody()).size());
+        assertEquals(responseDTO, Objects.requireNonNull(response.getBody()).items());
+        assertEquals(0, response.getBody().items().size());
     }
 
     @Test
-    void testGetUserDetails_shouldReturnVoidListWhenPageIsNegative() {
-        List<UserResponseDTO> responseDTO = List.of();
-        int page = -1;
+    void testGetAllUsers_shouldPassCursorOfPreviousPage() {
+        String cursor = "cursor-of-previous-page";
         int size = 10;
+        CursorPageDTO<UserResponseDTO> page = new CursorPageDTO<>(List.of(), null);
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(cursor, size)).thenReturn(page);
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPageDTO<UserResponseDTO>> response = userController.listUsers(cursor, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(0, response.getBody().size());
+        assertEquals(page, response.getBody());
+        verify(listUsersUseCase).execute(cursor, size);
     }
 
     @Test
     void testGetUserDetails_shouldReturnVoidListWhenSizeIsNegative() {
         List<UserResponseDTO> responseDTO = List.of();
-        int page = 0;
         int size = -1;
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(null, size)).thenReturn(new CursorPageDTO<>(responseDTO, null));
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPageDTO<UserResponseDTO>> response = userController.listUsers(null, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(0, response.getBody().size());
+        assertEquals(responseDTO, Objects.requireNonNull(response.getBody()).items());
+        assertEquals(0, response.getBody().items().size());
     }
 
     @Test
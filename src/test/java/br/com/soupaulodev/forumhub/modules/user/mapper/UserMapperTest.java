@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.user.mapper;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserDetailsResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
@@ -90,7 +91,7 @@ class UserMapperTest {
 
     @Test
     void testToResponseDTO_shouldConvertUserEntityToUserResponseDTO() {
-        UserResponseDTO result = UserMapper.toResponseDTO(userEntity);
+        UserResponseDTO result = UserMapper.toResponseDTO(userEntity, new HighsCounter());
 
         assertEquals(responseDTO.id(), result.id());
         assertEquals(responseDTO.name(), result.name());
@@ -1,7 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.membership.HighsMembershipIndex;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -27,6 +30,12 @@ class DeleteUserUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ForumRepository forumRepository;
+
+    @Mock
+    private HighsMembershipIndex highsMembershipIndex;
+
     @InjectMocks
     private DeleteUserUseCase deleteUserUseCase;
 
@@ -57,7 +66,9 @@ class DeleteUserUseCaseTest {
 
         deleteUserUseCase.execute(userId, userId);
 
+        verify(forumRepository, times(1)).decrementParticipantsCountOfMember(userEntity.getId());
         verify(userRepository, times(1)).delete(userEntity);
+        verify(highsMembershipIndex, times(1)).evict(CounterTarget.USER, userEntity.getId());
     }
 
     @Test
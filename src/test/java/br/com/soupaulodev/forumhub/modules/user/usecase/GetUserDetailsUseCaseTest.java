@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +27,9 @@ class GetUserDetailsUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private HighsCounter highsCounter = new HighsCounter();
+
     @InjectMocks
     private GetUserDetailsUseCase getUserDetailsUseCase;
 
@@ -43,7 +48,7 @@ class GetUserDetailsUseCaseTest {
                 "johndoe",
                 "johndoe@mail.com",
                 "password");
-        UserResponseDTO responseDTO = UserMapper.toResponseDTO(userEntity);
+        UserResponseDTO responseDTO = UserMapper.toResponseDTO(userEntity, highsCounter);
 
         when(userRepository.findById(userId))
                 .thenReturn(Optional.of(userEntity));
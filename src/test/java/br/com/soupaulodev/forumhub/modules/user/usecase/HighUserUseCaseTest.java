@@ -1,21 +1,21 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExistsException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserHighsEntity;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,7 +31,10 @@ class HighUserUseCaseTest {
     private UserHighsRepository userHighsRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private HighEffects highEffects;
+
+    @Mock
+    private HighsWriteAheadLog highsWriteAheadLog;
 
     @InjectMocks
     private HighUserUseCase highUserUseCase;
@@ -52,64 +55,44 @@ class HighUserUseCaseTest {
 
     @Test
     void testExecute_shouldHighUserSuccessfully() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.of(new UserEntity()));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.of(new UserEntity()));
-        when(userHighsRepository.save(new UserHighsEntity(new UserEntity(), new UserEntity()))).thenReturn(new UserHighsEntity());
+        when(userHighsRepository.insertIfAbsent(highedUser, authenticatedUserId)).thenReturn(true);
 
         highUserUseCase.execute(highedUser, authenticatedUserId);
 
-        verify(userHighsRepository, times(1)).findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId);
+        verify(userHighsRepository, times(1)).insertIfAbsent(highedUser, authenticatedUserId);
+        verify(highEffects, times(1)).highed(CounterTarget.USER, highedUser, authenticatedUserId);
     }
 
     @Test
     void testExecute_shouldThrowIllegalArgumentException_whenHighedUserIsEqualToAuthenticatedUserId() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.of(new UserEntity()));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.of(new UserEntity()));
-
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> highUserUseCase.execute(authenticatedUserId, authenticatedUserId));
 
         assertEquals("User cannot high himself", exception.getMessage());
+        verifyNoInteractions(userHighsRepository, highEffects);
     }
 
     @Test
     void testExecute_shouldThrowIllegalArgumentException_whenUserAlreadyHighed() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.of(new UserHighsEntity()));
+        when(userHighsRepository.insertIfAbsent(highedUser, authenticatedUserId)).thenReturn(false);
 
         ResourceAlreadyExistsException exception = assertThrows(ResourceAlreadyExistsException.class,
                 () -> highUserUseCase.execute(highedUser, authenticatedUserId));
 
         assertEquals("User already highed", exception.getMessage());
+        verifyNoInteractions(highEffects);
     }
 
     @Test
-    void testExecute_shouldThrowIllegalArgumentException_whenHighedUserNotFound() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.empty());
-
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> highUserUseCase.execute(highedUser, authenticatedUserId));
-
-        assertEquals("User not found", exception.getMessage());
-    }
-
-    @Test
-    void testExecute_shouldThrowU_whenAuthenticatedUserNotFound() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.of(new UserEntity()));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.empty());
+    void testExecute_shouldThrowResourceNotFoundException_whenUserNotFound() {
+        when(userHighsRepository.insertIfAbsent(highedUser, authenticatedUserId))
+                .thenThrow(new DataIntegrityViolationException("fk violation"));
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> highUserUseCase.execute(highedUser, authenticatedUserId));
 
         assertEquals("User not found", exception.getMessage());
+        verifyNoInteractions(highEffects);
     }
 
     @Test
@@ -118,4 +101,4 @@ class HighUserUseCaseTest {
                         highUserUseCase.execute(highedUser, null),
                 "User not authenticated");
     }
-}
\ No newline at end of file
+}
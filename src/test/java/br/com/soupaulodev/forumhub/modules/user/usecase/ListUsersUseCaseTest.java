@@ -1,5 +1,9 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
+import br.com.soupaulodev.forumhub.modules.counter.HighsCounter;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPageDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
@@ -9,12 +13,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.*;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -25,6 +33,9 @@ class ListUsersUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private HighsCounter highsCounter = new HighsCounter();
+
     @InjectMocks
     private ListUsersUseCase listUsersUseCase;
 
@@ -41,59 +52,84 @@ class ListUsersUseCaseTest {
                 "johndoe@mail.com",
                 "password");
 
-        Page<UserEntity> userEntities = new PageImpl<>(List.of(userEntity, userEntity, userEntity));
+        List<UserEntity> userEntities = List.of(userEntity, userEntity, userEntity);
 
         List<UserResponseDTO> usersDTOs = new ArrayList<>();
         for(int i = 0; i < 3; i++) {
-            usersDTOs.add(UserMapper.toResponseDTO(userEntities.getContent().get(i)));
+            usersDTOs.add(UserMapper.toResponseDTO(userEntities.get(i), highsCounter));
         }
 
-        int pageNumber = 0;
         int pageSize = 3;
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        when(userRepository.findAll(pageable)).thenReturn(userEntities);
+        when(userRepository.findNewest(Limit.of(pageSize + 1))).thenReturn(usersDTOs);
 
-        List<UserResponseDTO> result = listUsersUseCase.execute(pageNumber, pageSize);
+        CursorPageDTO<UserResponseDTO> result = listUsersUseCase.execute(null, pageSize);
 
-        assertEquals(usersDTOs, result);
-        assertEquals(usersDTOs.size(), result.size());
+        assertEquals(usersDTOs, result.items());
+        assertEquals(usersDTOs.size(), result.items().size());
+        assertNull(result.next());
     }
 
     @Test
     void testExecute_shouldReturnEmptyList() {
-        Page<UserEntity> userEntities = new PageImpl<>(List.of());
-
-        int pageNumber = 0;
         int pageSize = 3;
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        when(userRepository.findAll(pageable)).thenReturn(userEntities);
+        when(userRepository.findNewest(Limit.of(pageSize + 1))).thenReturn(List.of());
 
-        List<UserResponseDTO> result = listUsersUseCase.execute(pageNumber, pageSize);
+        CursorPageDTO<UserResponseDTO> result = listUsersUseCase.execute(null, pageSize);
 
-        assertEquals(0, result.size());
+        assertEquals(0, result.items().size());
+        assertNull(result.next());
     }
 
     @Test
-    void testExecute_shouldThrowIllegalArgumentException_whenPageIsNegative() {
-        int pageNumber = -1;
-        int pageSize = 3;
+    void testExecute_shouldReturnCursorOfLastUser_whenThereIsANextPage() {
+        UserEntity newer = new UserEntity("John Doe", "johndoe", "johndoe@mail.com", "password");
+        newer.setId(UUID.randomUUID());
+        newer.setCreatedAt(Instant.parse("2025-01-01T12:00:00Z"));
+        UserEntity older = new UserEntity("Jane Doe", "janedoe", "janedoe@mail.com", "password");
+        older.setId(UUID.randomUUID());
+        older.setCreatedAt(Instant.parse("2025-01-01T11:00:00Z"));
+        Cursor cursor = new Cursor(Instant.parse("2025-01-01T13:00:00Z"), UUID.randomUUID());
 
-        IllegalArgumentException exception = org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class,
-                () -> listUsersUseCase.execute(pageNumber, pageSize));
+        UserResponseDTO newerDTO = UserMapper.toResponseDTO(newer, highsCounter);
+        UserResponseDTO olderDTO = UserMapper.toResponseDTO(older, highsCounter);
+
+        when(userRepository.findNewestBefore(cursor.at(), cursor.id(), Limit.of(2)))
+                .thenReturn(List.of(newerDTO, olderDTO));
+
+        CursorPageDTO<UserResponseDTO> result = listUsersUseCase.execute(cursor.encode(), 1);
+
+        assertEquals(List.of(newerDTO), result.items());
+        assertEquals(new Cursor(newer.getCreatedAt(), newer.getId()), Cursor.decode(result.next()));
+    }
 
-        assertEquals("Page and size must be positive numbers.", exception.getMessage());
+    @Test
+    void testExecute_shouldAddHighsNotYetFlushed() {
+        UserResponseDTO user = new UserResponseDTO(UUID.randomUUID(), "John Doe", "johndoe", 2L,
+                Instant.now(), Instant.now());
+        highsCounter.increment(CounterTarget.USER, user.id());
+
+        when(userRepository.findNewest(Limit.of(4))).thenReturn(List.of(user));
+
+        CursorPageDTO<UserResponseDTO> result = listUsersUseCase.execute(null, 3);
+
+        assertEquals(3L, result.items().get(0).highs());
+    }
+
+    @Test
+    void testExecute_shouldThrowIllegalArgumentException_whenCursorIsInvalid() {
+        org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class,
+                () -> listUsersUseCase.execute("not-a-cursor", 3));
     }
 
     @Test
     void testExecute_shouldThrowIllegalArgumentException_whenSizeIsZero() {
-        int pageNumber = 0;
         int pageSize = 0;
 
         IllegalArgumentException exception = org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class,
-                () -> listUsersUseCase.execute(pageNumber, pageSize));
+                () -> listUsersUseCase.execute(null, pageSize));
 
-        assertEquals("Page and size must be positive numbers.", exception.getMessage());
+        assertEquals("Size must be a positive number.", exception.getMessage());
     }
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.counter.CounterTarget;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserHighsEntity;
+import br.com.soupaulodev.forumhub.modules.high.HighEffects;
+import br.com.soupaulodev.forumhub.modules.high.log.HighsWriteAheadLog;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +14,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -29,7 +28,10 @@ class UnHighUserUseCaseTest {
     private UserHighsRepository userHighsRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private HighEffects highEffects;
+
+    @Mock
+    private HighsWriteAheadLog highsWriteAheadLog;
 
     @InjectMocks
     private UnHighUserUseCase unHighUserUseCase;
@@ -50,17 +52,13 @@ class UnHighUserUseCaseTest {
 
     @Test
     void testExecute_shouldUnHighUserSuccessfully() {
-        UserHighsEntity userHighsEntity = mock(UserHighsEntity.class);
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId))
-                .thenReturn(Optional.of(userHighsEntity));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.of(new UserEntity()));
+        when(userHighsRepository.deleteIfPresent(unHighedUser, authenticatedUserId)).thenReturn(1);
 
         unHighUserUseCase.execute(unHighedUser, authenticatedUserId);
 
-        verify(userHighsRepository, times(1))
-                .findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId);
-        verify(userHighsRepository, times(1)).delete(userHighsEntity);
+        verify(userHighsRepository, times(1)).deleteIfPresent(unHighedUser, authenticatedUserId);
         verifyNoMoreInteractions(userHighsRepository);
+        verify(highEffects, times(1)).unHighed(CounterTarget.USER, unHighedUser, authenticatedUserId);
     }
 
     @Test
@@ -83,15 +81,15 @@ class UnHighUserUseCaseTest {
 
     @Test
     void testExecute_shouldThrowExceptionWhenUserNotHighed() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
+        when(userHighsRepository.deleteIfPresent(unHighedUser, authenticatedUserId)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () ->
                         unHighUserUseCase.execute(unHighedUser, authenticatedUserId),
                 "User not highed");
 
-        verify(userHighsRepository, times(1))
-                .findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId);
+        verifyNoInteractions(highEffects);
+
+        verify(userHighsRepository, times(1)).deleteIfPresent(unHighedUser, authenticatedUserId);
         verifyNoMoreInteractions(userHighsRepository);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.security;
 
+import br.com.soupaulodev.forumhub.modules.membership.ForumMembership;
+import br.com.soupaulodev.forumhub.modules.membership.MembershipDigest;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
@@ -8,7 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -18,12 +22,14 @@ class CustomUserDetailsServiceTest {
     private CustomUserDetailsService customUserDetailsService;
     private UserRepository userRepository;
     private JwtUtil jwtUtil;
+    private ForumMembership forumMembership;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
         jwtUtil = mock(JwtUtil.class);
-        customUserDetailsService = new CustomUserDetailsService(userRepository, jwtUtil);
+        forumMembership = mock(ForumMembership.class);
+        customUserDetailsService = new CustomUserDetailsService(userRepository, jwtUtil, forumMembership);
     }
 
     @Test
@@ -54,14 +60,32 @@ class CustomUserDetailsServiceTest {
     @Test
     void testGenerateToken_Success() {
         UserEntity mockUser = new UserEntity();
+        mockUser.setId(UUID.randomUUID());
         mockUser.setUsername("testuser");
         mockUser.setPassword("testpassword");
-        when(jwtUtil.generateToken(mockUser)).thenReturn("mock-jwt-token");
+        MembershipDigest membership = MembershipDigest.of(1L, List.of(UUID.randomUUID()));
+        when(forumMembership.snapshot(mockUser.getId())).thenReturn(membership);
+        when(jwtUtil.generateToken(mockUser, membership)).thenReturn("mock-jwt-token");
 
         String token = customUserDetailsService.generateToken(mockUser);
 
         assertNotNull(token, "Token should not be null");
         assertEquals("mock-jwt-token", token, "Generated token should match the mocked value");
-        verify(jwtUtil, times(1)).generateToken(mockUser);
+        verify(jwtUtil, times(1)).generateToken(mockUser, membership);
+    }
+
+    @Test
+    void testUpdatePassword_StoresRehashedPassword() {
+        UserEntity mockUser = new UserEntity();
+        mockUser.setUsername("testuser");
+        mockUser.setPassword("old-hash");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(mockUser));
+        UserDetails details = customUserDetailsService.loadUserByUsername("testuser");
+
+        UserDetails updated = customUserDetailsService.updatePassword(details, "new-hash");
+
+        assertEquals("new-hash", updated.getPassword(), "Returned details should hold the new hash");
+        assertEquals("new-hash", mockUser.getPassword(), "Stored user should hold the new hash");
+        verify(userRepository, times(1)).save(mockUser);
     }
 }
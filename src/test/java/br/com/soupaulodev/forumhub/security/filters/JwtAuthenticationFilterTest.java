@@ -1,6 +1,10 @@
 package br.com.soupaulodev.forumhub.security.filters;
 
+import br.com.soupaulodev.forumhub.modules.user.entity.UserRole;
+import br.com.soupaulodev.forumhub.security.revocation.TokenRevocationService;
 import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import br.com.soupaulodev.forumhub.security.utils.TokenVerificationService;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -9,10 +13,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,7 +41,8 @@ class JwtAuthenticationFilterTest {
     void setUp() {
         jwtUtil = mock(JwtUtil.class);
         UserDetailsService userDetailsService = mock(UserDetailsService.class);
-        filter = new JwtAuthenticationFilter(userDetailsService, jwtUtil);
+        filter = new JwtAuthenticationFilter(userDetailsService, new TokenVerificationService(jwtUtil,
+                mock(TokenRevocationService.class), 100, 300));
         request = mock(HttpServletRequest.class);
         response = mock(HttpServletResponse.class);
         chain = mock(FilterChain.class);
@@ -46,8 +53,8 @@ class JwtAuthenticationFilterTest {
     void testDoFilterInternal_SuccessfulAuthentication() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "valid-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUserId("valid-token")).thenReturn(UUID.randomUUID().toString());
-        when(jwtUtil.isTokenExpired("valid-token")).thenReturn(false);
+        when(jwtUtil.verify("valid-token")).thenReturn(
+                new VerifiedToken(UUID.randomUUID().toString(), "testuser", "token-id", Instant.now().plusSeconds(60)));
 
         filter.doFilterInternal(request, response, chain);
 
@@ -56,11 +63,24 @@ class JwtAuthenticationFilterTest {
         assertInstanceOf(UsernamePasswordAuthenticationToken.class, SecurityContextHolder.getContext().getAuthentication(), "Authentication should be of type UsernamePasswordAuthenticationToken");
     }
 
+    @Test
+    void testDoFilterInternal_GrantsTheRoleOfTheToken() throws ServletException, IOException {
+        Cookie jwtCookie = new Cookie("JWT_TOKEN", "admin-token");
+        when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
+        when(jwtUtil.verify("admin-token")).thenReturn(new VerifiedToken(UUID.randomUUID().toString(), "admin",
+                "token-id", Instant.now().plusSeconds(60), null, UserRole.ADMIN));
+
+        filter.doFilterInternal(request, response, chain);
+
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN"),
+                SecurityContextHolder.getContext().getAuthentication().getAuthorities());
+    }
+
     @Test
     void testDoFilterInternal_ExpiredToken() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "expired-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUsername("expired-token")).thenThrow(new RuntimeException("Token expired"));
+        when(jwtUtil.verify("expired-token")).thenThrow(new RuntimeException("Token expired"));
 
         filter.doFilterInternal(request, response, chain);
 
@@ -82,7 +102,7 @@ class JwtAuthenticationFilterTest {
     void testDoFilterInternal_InvalidToken() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "invalid-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUsername("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token"));
+        when(jwtUtil.verify("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token"));
 
         filter.doFilterInternal(request, response, chain);
 
@@ -94,7 +114,7 @@ class JwtAuthenticationFilterTest {
     void testDoFilterInternal_ExceptionHandling() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "valid-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUsername("valid-token")).thenThrow(new RuntimeException("Unexpected error"));
+        when(jwtUtil.verify("valid-token")).thenThrow(new RuntimeException("Unexpected error"));
 
         filter.doFilterInternal(request, response, chain);
 
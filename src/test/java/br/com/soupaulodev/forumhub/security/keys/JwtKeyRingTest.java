@@ -0,0 +1,169 @@
+package br.com.soupaulodev.forumhub.security.keys;
+
+import com.auth0.jwt.JWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class JwtKeyRingTest {
+
+    private static final String ISSUER = "forum-hub";
+
+    @TempDir
+    Path directory;
+
+    private AtomicReference<Instant> clock;
+    private Path jwksFile;
+    private Path signingJwksFile;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+        jwksFile = directory.resolve("jwks.json");
+        signingJwksFile = directory.resolve("signing-jwks.json");
+    }
+
+    @Test
+    void signer_ShouldSignWithNewestActiveKey() throws Exception {
+        // Arrange
+        KeyPair current = generateKeyPair();
+        KeyPair next = generateKeyPair();
+        long now = clock.get().getEpochSecond();
+        writeKeySets(jwk("current", current, now - 3600, null), jwk("next", next, now + 3600, null));
+        JwtKeyRing keyRing = new JwtKeyRing(jwksFile, signingJwksFile, ISSUER, clock::get);
+
+        // Act & Assert
+        assertEquals("current", keyRing.signer().orElseThrow().kid());
+        clock.set(clock.get().plusSeconds(3600));
+        assertEquals("next", keyRing.signer().orElseThrow().kid());
+    }
+
+    @Test
+    void verifier_ShouldVerifyTokenSignedByKeyRing() throws Exception {
+        // Arrange
+        writeKeySets(jwk("key-1", generateKeyPair(), null, null));
+        JwtKeyRing keyRing = new JwtKeyRing(jwksFile, signingJwksFile, ISSUER, clock::get);
+        JwtKeyRing.Signer signer = keyRing.signer().orElseThrow();
+
+        // Act
+        String token = JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject("testuser")
+                .withKeyId(signer.kid())
+                .sign(signer.algorithm());
+
+        // Assert
+        assertEquals("testuser", keyRing.verifier("key-1").verify(token).getSubject());
+        assertNull(keyRing.verifier("unknown"));
+    }
+
+    @Test
+    void signer_ShouldBeEmptyOnNodeWithoutPrivateKeys() throws Exception {
+        // Arrange
+        Files.writeString(jwksFile, jwks(jwk("key-1", generateKeyPair(), null, null)));
+
+        // Act
+        JwtKeyRing keyRing = new JwtKeyRing(jwksFile, null, ISSUER, clock::get);
+
+        // Assert
+        assertTrue(keyRing.signer().isEmpty());
+        assertNotNull(keyRing.verifier("key-1"));
+    }
+
+    @Test
+    void reload_ShouldPickUpChangedKeySetsAndKeepKeysWhenUnreadable() throws Exception {
+        // Arrange
+        writeKeySets(jwk("key-1", generateKeyPair(), null, null));
+        JwtKeyRing keyRing = new JwtKeyRing(jwksFile, signingJwksFile, ISSUER, clock::get);
+
+        // Act
+        writeKeySets(jwk("key-2", generateKeyPair(), null, null));
+        touch(jwksFile, 1);
+        touch(signingJwksFile, 1);
+        keyRing.reload();
+
+        Files.writeString(jwksFile, "not json");
+        touch(jwksFile, 2);
+        keyRing.reload();
+
+        // Assert
+        assertEquals("key-2", keyRing.signer().orElseThrow().kid());
+        assertNull(keyRing.verifier("key-1"));
+        assertNotNull(keyRing.verifier("key-2"));
+    }
+
+    private void writeKeySets(Jwk... keys) throws Exception {
+        StringBuilder publicKeys = new StringBuilder();
+        StringBuilder privateKeys = new StringBuilder();
+        for (Jwk key : keys) {
+            publicKeys.append(publicKeys.isEmpty() ? "" : ",").append(key.publicJson());
+            privateKeys.append(privateKeys.isEmpty() ? "" : ",").append(key.privateJson());
+        }
+        Files.writeString(jwksFile, "{\"keys\":[" + publicKeys + "]}");
+        Files.writeString(signingJwksFile, "{\"keys\":[" + privateKeys + "]}");
+    }
+
+    private static String jwks(Jwk key) {
+        return "{\"keys\":[" + key.publicJson() + "]}";
+    }
+
+    private static void touch(Path file, int minutes) throws Exception {
+        FileTime modified = Files.getLastModifiedTime(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + minutes * 60_000L));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static Jwk jwk(String kid, KeyPair keyPair, Long notBefore, Long notAfter) {
+        return new Jwk(kid, keyPair, notBefore, notAfter);
+    }
+
+    private record Jwk(String kid, KeyPair keyPair, Long notBefore, Long notAfter) {
+
+        String publicJson() {
+            ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+            return "{\"kty\":\"EC\",\"crv\":\"P-256\",\"kid\":\"" + kid + "\""
+                    + ",\"x\":\"" + encode(publicKey.getW().getAffineX()) + "\""
+                    + ",\"y\":\"" + encode(publicKey.getW().getAffineY()) + "\""
+                    + (notBefore == null ? "" : ",\"nbf\":" + notBefore)
+                    + (notAfter == null ? "" : ",\"exp\":" + notAfter)
+                    + "}";
+        }
+
+        String privateJson() {
+            ECPrivateKey privateKey = (ECPrivateKey) keyPair.getPrivate();
+            String json = publicJson();
+            return json.substring(0, json.length() - 1) + ",\"d\":\"" + encode(privateKey.getS()) + "\"}";
+        }
+
+        private static String encode(BigInteger value) {
+            byte[] bytes = value.toByteArray();
+            byte[] coordinate = new byte[32];
+            int offset = Math.max(0, bytes.length - 32);
+            System.arraycopy(bytes, offset, coordinate, 32 - (bytes.length - offset), bytes.length - offset);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(coordinate);
+        }
+    }
+}
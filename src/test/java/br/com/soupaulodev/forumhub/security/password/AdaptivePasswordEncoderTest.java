@@ -0,0 +1,59 @@
+package br.com.soupaulodev.forumhub.security.password;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class AdaptivePasswordEncoderTest {
+
+    @Test
+    void matches_ShouldCheckHashesOfAnyStrength() {
+        // Arrange
+        AdaptivePasswordEncoder weak = new AdaptivePasswordEncoder(100, 4, 6, 4);
+        AdaptivePasswordEncoder strong = new AdaptivePasswordEncoder(100, 4, 6, 5);
+        String weakHash = weak.encode("password");
+
+        // Act & Assert
+        assertTrue(strong.matches("password", weakHash));
+        assertFalse(strong.matches("wrong", weakHash));
+        assertFalse(strong.matches("password", "not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldOnlyReportWeakerHashes() {
+        // Arrange
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(100, 4, 6, 5);
+        String current = encoder.encode("password");
+        String weaker = new AdaptivePasswordEncoder(100, 4, 6, 4).encode("password");
+        String stronger = new AdaptivePasswordEncoder(100, 4, 6, 6).encode("password");
+
+        // Act & Assert
+        assertFalse(encoder.upgradeEncoding(current));
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertFalse(encoder.upgradeEncoding(stronger));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void adapt_ShouldStepTowardsTargetWithinBounds() {
+        // Arrange
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(100, 4, 6, 5);
+
+        // Act & Assert
+        encoder.record(1_000_000_000L, 5);
+        encoder.adapt();
+        assertEquals(4, encoder.strength());
+        encoder.adapt();
+        assertEquals(4, encoder.strength());
+
+        AdaptivePasswordEncoder fast = new AdaptivePasswordEncoder(100, 4, 6, 5);
+        fast.record(1_000_000L, 5);
+        fast.adapt();
+        assertEquals(6, fast.strength());
+        fast.adapt();
+        assertEquals(6, fast.strength());
+    }
+}
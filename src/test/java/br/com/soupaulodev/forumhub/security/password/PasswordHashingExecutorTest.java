@@ -0,0 +1,124 @@
+package br.com.soupaulodev.forumhub.security.password;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService requests = Executors.newCachedThreadPool();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        requests.shutdownNow();
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_ShouldReturnOutcomeAndRethrowFailures() {
+        // Arrange
+        executor = new PasswordHashingExecutor(1, 3, Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertEquals("hash", executor.execute(PasswordHashingExecutor.Priority.SIGNUP, () -> "hash"));
+        assertThrows(IllegalArgumentException.class, () -> executor.execute(PasswordHashingExecutor.Priority.LOGIN,
+                () -> {
+                    throw new IllegalArgumentException("bad password");
+                }));
+    }
+
+    @Test
+    void execute_ShouldShedLowerPrioritiesFirstWhenQueueIsFull() throws Exception {
+        // Arrange
+        executor = new PasswordHashingExecutor(1, 3, Duration.ofSeconds(5));
+        occupyThread();
+        CompletableFuture<String> queuedSignUp = submit(PasswordHashingExecutor.Priority.SIGNUP, "signup");
+        await(() -> executor.queued() == 1);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class,
+                () -> executor.execute(PasswordHashingExecutor.Priority.SIGNUP, () -> "shed"));
+        CompletableFuture<String> queuedLogin = submit(PasswordHashingExecutor.Priority.LOGIN, "login");
+        await(() -> executor.queued() == 2);
+
+        release.countDown();
+        assertEquals("signup", queuedSignUp.get(5, TimeUnit.SECONDS));
+        assertEquals("login", queuedLogin.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_ShouldRunLoginsBeforeSignUps() throws Exception {
+        // Arrange
+        executor = new PasswordHashingExecutor(1, 6, Duration.ofSeconds(5));
+        List<String> order = new CopyOnWriteArrayList<>();
+        occupyThread();
+        CompletableFuture<Void> signUp = CompletableFuture.runAsync(() -> executor.execute(
+                PasswordHashingExecutor.Priority.SIGNUP, () -> order.add("signup")), requests);
+        await(() -> executor.queued() == 1);
+        CompletableFuture<Void> login = CompletableFuture.runAsync(() -> executor.execute(
+                PasswordHashingExecutor.Priority.LOGIN, () -> order.add("login")), requests);
+        await(() -> executor.queued() == 2);
+
+        // Act
+        release.countDown();
+        CompletableFuture.allOf(signUp, login).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("login", "signup"), order);
+    }
+
+    @Test
+    void execute_ShouldShedTasksWaitingTooLong() {
+        // Arrange
+        executor = new PasswordHashingExecutor(1, 3, Duration.ofMillis(50));
+        occupyThread();
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class,
+                () -> executor.execute(PasswordHashingExecutor.Priority.LOGIN, () -> "late"));
+    }
+
+    private void occupyThread() {
+        requests.execute(() -> executor.execute(PasswordHashingExecutor.Priority.LOGIN, () -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        await(() -> started.getCount() == 0);
+    }
+
+    private CompletableFuture<String> submit(PasswordHashingExecutor.Priority priority, String outcome) {
+        return CompletableFuture.supplyAsync(() -> executor.execute(priority, () -> outcome), requests);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.soupaulodev.forumhub.security.revocation;
+
+import br.com.soupaulodev.forumhub.security.utils.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class TokenRevocationServiceTest {
+
+    private AtomicReference<Instant> clock;
+    private RevocationStore store;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+        store = spy(new LocalRevocationStore());
+        tokenRevocationService = new TokenRevocationService(store, 1000, 0.001, clock::get);
+    }
+
+    @Test
+    void isRevoked_ShouldNotReachStoreForTokensNeverRevoked() {
+        // Arrange
+        tokenRevocationService.revoke(token("revoked"));
+
+        // Act
+        int revoked = 0;
+        for (int i = 0; i < 1000; i++) {
+            revoked += tokenRevocationService.isRevoked(token("token-" + i)) ? 1 : 0;
+        }
+
+        // Assert
+        assertEquals(0, revoked);
+        verify(store, atMost(5)).isRevoked(anyString(), any());
+        assertTrue(tokenRevocationService.isRevoked(token("revoked")));
+    }
+
+    @Test
+    void isRevoked_ShouldForgetRevokedTokenOnceExpired() {
+        // Arrange
+        tokenRevocationService.revoke(token("revoked"));
+
+        // Act
+        clock.set(clock.get().plusSeconds(61));
+        tokenRevocationService.sweep();
+
+        // Assert
+        assertFalse(tokenRevocationService.isRevoked(token("revoked")));
+        assertTrue(store.revokedTokens(clock.get()).isEmpty());
+    }
+
+    @Test
+    void isRevoked_ShouldSeeTokensRevokedByOtherNodesAfterSync() {
+        // Arrange
+        TokenRevocationService otherNode = new TokenRevocationService(store, 1000, 0.001, clock::get);
+
+        // Act
+        otherNode.revoke(token("revoked"));
+        boolean beforeSync = tokenRevocationService.isRevoked(token("revoked"));
+        tokenRevocationService.sync();
+
+        // Assert
+        assertFalse(beforeSync);
+        assertTrue(tokenRevocationService.isRevoked(token("revoked")));
+    }
+
+    @Test
+    void sync_ShouldReadOnlyTheRecentRevocations() {
+        // Arrange
+        TokenRevocationService otherNode = new TokenRevocationService(store, 1000, 0.001, clock::get);
+        clock.set(clock.get().plusSeconds(5));
+        otherNode.revoke(token("revoked"));
+        clearInvocations(store);
+
+        // Act
+        tokenRevocationService.sync();
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(token("revoked")));
+        verify(store).revokedSince(Instant.parse("2024-12-31T23:59:30Z"));
+        verify(store, never()).revokedTokens(any());
+    }
+
+    @Test
+    void sync_ShouldCatchUpOnRevocationsMissedWhileStoreWasDown() {
+        // Arrange
+        TokenRevocationService otherNode = new TokenRevocationService(store, 1000, 0.001, clock::get);
+        doThrow(new IllegalStateException("Redis is down")).when(store).revokedSince(any());
+        clock.set(clock.get().plusSeconds(5));
+        otherNode.revoke(token("revoked"));
+        tokenRevocationService.sync();
+        doCallRealMethod().when(store).revokedSince(any());
+
+        // Act
+        clock.set(clock.get().plusSeconds(5));
+        tokenRevocationService.sync();
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(token("revoked")));
+    }
+
+    @Test
+    void sync_ShouldRebuildTheFilter_WhenItHoldsMoreTokensThanItWasSizedFor() {
+        // Arrange
+        tokenRevocationService = new TokenRevocationService(store, 2, 0.001, clock::get);
+        TokenRevocationService otherNode = new TokenRevocationService(store, 2, 0.001, clock::get);
+        for (int i = 0; i < 3; i++) {
+            otherNode.revoke(token("revoked-" + i));
+        }
+        clearInvocations(store);
+
+        // Act
+        tokenRevocationService.sync();
+
+        // Assert
+        verify(store).revokedTokens(any());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(tokenRevocationService.isRevoked(token("revoked-" + i)));
+        }
+    }
+
+    @Test
+    void isRevoked_ShouldRejectPossiblyRevokedTokenWhenStoreFails() {
+        // Arrange
+        tokenRevocationService.revoke(token("revoked"));
+        doThrow(new IllegalStateException("Redis is down")).when(store).isRevoked(anyString(), any());
+
+        // Act & Assert
+        assertTrue(tokenRevocationService.isRevoked(token("revoked")));
+        assertFalse(tokenRevocationService.isRevoked(token("other")));
+    }
+
+    private VerifiedToken token(String tokenId) {
+        return new VerifiedToken("user-id", "testuser", tokenId, clock.get().plusSeconds(60));
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class AuthenticatedUserTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getId_ShouldReturnUserId_WhenPrincipalIsAUuidOrAString() {
+        UUID userId = UUID.randomUUID();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null));
+        assertEquals(userId, AuthenticatedUser.getId());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null));
+        assertEquals(userId, AuthenticatedUser.getId());
+    }
+
+    @Test
+    void getId_ShouldThrowIllegalStateException_WhenPrincipalIsUnexpected() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(42L, null));
+
+        assertThrows(IllegalStateException.class, AuthenticatedUser::getId);
+    }
+
+    @Test
+    void findId_ShouldReturnNull_WhenCallerIsAnonymous() {
+        assertNull(AuthenticatedUser.findId());
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertNull(AuthenticatedUser.findId());
+    }
+}
@@ -2,6 +2,8 @@ package br.com.soupaulodev.forumhub.security.utils;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.TokenExpiredCustomException;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserRole;
+import br.com.soupaulodev.forumhub.security.keys.JwtKeyRing;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
@@ -14,6 +16,8 @@ import java.util.Date;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for the {@link JwtUtil} class.
@@ -53,6 +57,30 @@ class JwtUtilTest {
     }
 
 
+    @Test
+    void testVerify_ShouldReadTheRoleOfTheUser() {
+        UserEntity user = new UserEntity();
+        user.setUsername("admin");
+        user.setId(UUID.randomUUID());
+        user.setRole(UserRole.ADMIN);
+
+        VerifiedToken verified = jwtUtil.verify(jwtUtil.generateToken(user));
+
+        assertEquals(UserRole.ADMIN, verified.role(), "Role should match the role of the user");
+    }
+
+    @Test
+    void testVerify_ShouldDefaultToUserRole_WhenTokenHasNoRole() {
+        String token = JWT.create()
+                .withIssuer("test-issuer")
+                .withSubject(UUID.randomUUID().toString())
+                .withClaim("username", "testuser")
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .sign(Algorithm.HMAC256("test-secret-key"));
+
+        assertEquals(UserRole.USER, jwtUtil.verify(token).role(), "Tokens issued before roles should be users");
+    }
+
     @Test
     void testGenerateRefreshToken_Success() {
         UserEntity user = new UserEntity();
@@ -165,4 +193,27 @@ class JwtUtilTest {
 
         assertEquals("Invalid token.", exception.getMessage(), "Exception message should match");
     }
+
+    @Test
+    void testVerify_ShouldRejectTokenWithoutKeyId_WhenKeyRingIsEnabled() {
+        String token = JWT.create()
+                .withIssuer("test-issuer")
+                .withSubject("12345")
+                .withExpiresAt(Date.from(Instant.now().plusSeconds(3600)))
+                .sign(Algorithm.HMAC256("test-secret-key"));
+        JwtKeyRing keyRing = mock(JwtKeyRing.class);
+        when(keyRing.isEnabled()).thenReturn(true);
+        ReflectionTestUtils.setField(jwtUtil, "keyRing", keyRing);
+
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.extractUserId(token),
+                "Should reject tokens signed with the secret once the key ring is enabled");
+
+        ReflectionTestUtils.setField(jwtUtil, "hmacAcceptedUntil", Instant.now().minusSeconds(60).toString());
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.extractUserId(token),
+                "Should reject tokens signed with the secret after the migration window");
+
+        ReflectionTestUtils.setField(jwtUtil, "hmacAcceptedUntil", Instant.now().plusSeconds(60).toString());
+        assertEquals("12345", jwtUtil.extractUserId(token),
+                "Should accept tokens signed with the secret during the migration window");
+    }
 }
@@ -0,0 +1,104 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import br.com.soupaulodev.forumhub.modules.auth.entity.RefreshTokenEntity;
+import br.com.soupaulodev.forumhub.modules.auth.repository.RefreshTokenRepository;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private AtomicReference<Instant> clock;
+    private RefreshTokenService refreshTokenService;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        clock = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, Duration.ofDays(30), clock::get);
+        user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setUsername("testuser");
+    }
+
+    @Test
+    void issue_ShouldStoreOnlyTheHashOfTheToken() {
+        // Act
+        String token = refreshTokenService.issue(user);
+
+        // Assert
+        RefreshTokenEntity stored = saved();
+        assertEquals(43, token.length());
+        assertNotEquals(token, stored.getTokenHash());
+        assertEquals(clock.get().plus(Duration.ofDays(30)), stored.getExpiresAt());
+        assertSame(user, stored.getUser());
+    }
+
+    @Test
+    void rotate_ShouldIssueNextTokenOfTheSameFamily() {
+        // Arrange
+        RefreshTokenEntity current = new RefreshTokenEntity("hash", "family", user, clock.get().plusSeconds(60));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.markUsed(current.getId(), clock.get())).thenReturn(1);
+
+        // Act
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("token");
+
+        // Assert
+        assertSame(user, rotation.user());
+        assertNotEquals("token", rotation.refreshToken());
+        assertEquals("family", saved().getFamilyId());
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    void rotate_ShouldRevokeFamilyWhenTokenIsReused() {
+        // Arrange
+        RefreshTokenEntity current = new RefreshTokenEntity("hash", "family", user, clock.get().plusSeconds(60));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.markUsed(current.getId(), clock.get())).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("token"));
+        verify(refreshTokenRepository).deleteByFamilyId("family");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_ShouldRejectExpiredAndUnknownTokens() {
+        // Arrange
+        RefreshTokenEntity expired = new RefreshTokenEntity("hash", "family", user, clock.get());
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(expired))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("expired-token"));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("unknown-token"));
+        verify(refreshTokenRepository, never()).markUsed(anyString(), any());
+    }
+
+    private RefreshTokenEntity saved() {
+        ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.TokenExpiredCustomException;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.security.revocation.TokenRevocationService;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class TokenVerificationServiceTest {
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+    private AtomicReference<Instant> clock;
+    private TokenVerificationService tokenVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JwtUtil.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        clock = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+        tokenVerificationService = new TokenVerificationService(jwtUtil, tokenRevocationService, 100,
+                Duration.ofMinutes(5), clock::get);
+    }
+
+    @Test
+    void verify_ShouldSkipSignatureCheckForRecentlyVerifiedToken() {
+        // Arrange
+        VerifiedToken verified = new VerifiedToken("user-id", "testuser", "token-id", clock.get().plusSeconds(60));
+        when(jwtUtil.verify("token")).thenReturn(verified);
+
+        // Act
+        VerifiedToken first = tokenVerificationService.verify("token");
+        VerifiedToken second = tokenVerificationService.verify("token");
+
+        // Assert
+        assertEquals(verified, first);
+        assertEquals(verified, second);
+        verify(jwtUtil, times(1)).verify("token");
+    }
+
+    @Test
+    void verify_ShouldVerifyAgainOnceTokenExpired() {
+        // Arrange
+        when(jwtUtil.verify("token"))
+                .thenReturn(new VerifiedToken("user-id", "testuser", "token-id", clock.get().plusSeconds(60)))
+                .thenThrow(new TokenExpiredCustomException("Token has expired. Please refresh."));
+        tokenVerificationService.verify("token");
+
+        // Act
+        clock.set(clock.get().plusSeconds(61));
+
+        // Assert
+        assertThrows(TokenExpiredCustomException.class, () -> tokenVerificationService.verify("token"));
+        verify(jwtUtil, times(2)).verify("token");
+    }
+
+    @Test
+    void verify_ShouldRejectRevokedTokenEvenWhenCached() {
+        // Arrange
+        VerifiedToken verified = new VerifiedToken("user-id", "testuser", "token-id", clock.get().plusSeconds(60));
+        when(jwtUtil.verify("token")).thenReturn(verified);
+        tokenVerificationService.verify("token");
+
+        // Act
+        when(tokenRevocationService.isRevoked(verified)).thenReturn(true);
+
+        // Assert
+        assertThrows(UnauthorizedException.class, () -> tokenVerificationService.verify("token"));
+        verify(jwtUtil, times(1)).verify("token");
+    }
+
+    @Test
+    void verify_ShouldVerifyRequestTokenOnce() {
+        // Arrange
+        HttpServletRequest request = requestWithToken("invalid-token");
+        when(jwtUtil.verify("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token."));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> tokenVerificationService.verify(request));
+        assertThrows(IllegalArgumentException.class, () -> tokenVerificationService.verify(request));
+        verify(jwtUtil, times(1)).verify("invalid-token");
+    }
+
+    @Test
+    void verify_ShouldReturnEmptyWhenRequestHasNoToken() {
+        // Arrange
+        HttpServletRequest request = requestWithToken(null);
+
+        // Act & Assert
+        assertTrue(tokenVerificationService.verify(request).isEmpty());
+        verify(jwtUtil, never()).verify(anyString());
+    }
+
+    private static HttpServletRequest requestWithToken(String token) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        Map<String, Object> attributes = new HashMap<>();
+        when(request.getCookies()).thenReturn(token == null ? null : new Cookie[]{new Cookie("JWT_TOKEN", token)});
+        when(request.getAttribute(anyString())).thenAnswer(invocation -> attributes.get(invocation.getArgument(0)));
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setAttribute(anyString(), any());
+        return request;
+    }
+}